@@ -1,6 +1,9 @@
 package owlmoney;
 
+import owlmoney.commons.log.LogsCenter;
+import owlmoney.commons.metrics.MetricsCenter;
 import owlmoney.logic.command.Command;
+import owlmoney.logic.parser.ParseBatch;
 import owlmoney.logic.parser.ParseCommand;
 import owlmoney.logic.parser.exception.ParserException;
 import owlmoney.logic.regex.RegexUtil;
@@ -9,12 +12,19 @@ import owlmoney.model.bond.exception.BondException;
 import owlmoney.model.card.exception.CardException;
 import owlmoney.model.goals.exception.GoalsException;
 import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.ProfileUpdateScheduler;
 import owlmoney.model.profile.exception.ProfileException;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.storage.Storage;
+import owlmoney.storage.StorageJournal;
+import owlmoney.storage.StorageWriter;
+import owlmoney.storage.exception.LoadException;
 import owlmoney.ui.Ui;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
@@ -27,14 +37,26 @@ class Main {
     private ParseCommand parser;
     private Profile profile;
     private Storage storage;
+    private StorageJournal journal;
+    private StorageWriter storageWriter;
+    private ProfileUpdateScheduler scheduler;
     private static final String FILE_PATH = "data/";
     private static final String PROFILE_FILE_NAME = "profile.csv";
+    private static final String BATCH_FLAG = "--batch";
+    private static final String HOST_FLAG = "--host";
+    private static final String FORMAT_FLAG = "--format";
+    private static final int FORMAT_ARGUMENT_COUNT = 2;
+    private static final int BATCH_ARGUMENT_COUNT = 2;
+    private static final int BATCH_FLUSH_INTERVAL = 500;
 
     /**
      * Initializes a new OwlMoney session.
+     *
+     * @param outputFormat The output format of the session.
      */
-    private Main() {
+    private Main(String outputFormat) {
         ui = new Ui();
+        ui.setOutputFormat(outputFormat);
         parser = new ParseCommand();
         storage = new Storage(FILE_PATH);
     }
@@ -45,7 +67,7 @@ class Main {
      * @param name Profile user name.
      * @throws MainException If name is empty or if name contain special characters
      */
-    private void checkUserName(String name) throws MainException {
+    static void checkUserName(String name) throws MainException {
         if (name == null || name.isBlank()) {
             throw new MainException("Name cannot be empty!");
         }
@@ -64,7 +86,7 @@ class Main {
                 Scanner scanner = new Scanner(System.in);
                 String username = scanner.nextLine();
                 checkUserName(username);
-                profile = new Profile(username, ui);
+                profile = new Profile(username, ui, storage);
                 check = false;
             } catch (MainException e) {
                 ui.printError(e.toString());
@@ -73,17 +95,61 @@ class Main {
     }
 
     /**
-     * Starts up the initialized OwlMoney session.
+     * Opens the storage journal so that changes are appended to it instead of rewriting whole files.
      */
-    private void run() {
-        boolean hasExited = false;
+    private void openStorageJournal() {
+        try {
+            journal = StorageJournal.open(FILE_PATH);
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to open the storage journal, changes will be saved directly to disk");
+        }
+    }
+
+    /**
+     * Opens the storage writer so that changes are saved on a background thread instead of by each command.
+     */
+    private void openStorageWriter() {
+        storageWriter = StorageWriter.open(FILE_PATH);
+    }
+
+    /**
+     * Saves every change that has not been saved yet and closes the storage writer.
+     */
+    private void closeStorageWriter() {
+        try {
+            storageWriter.close();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Error trying to save your changes to disk before exiting."
+                    + " Your latest changes may be lost.");
+        }
+    }
+
+    /**
+     * Compacts and closes the storage journal so that all changes are in the data files.
+     */
+    private void closeStorageJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to compact the storage journal, your changes will be recovered"
+                    + " from it the next time the program starts.");
+        }
+    }
+
+    /**
+     * Loads the profile of the user, or creates a new one if there is none, and greets the user.
+     */
+    private void startSession() {
         try {
             List<String[]> importData = storage.readFile(PROFILE_FILE_NAME);
             String userName = importData.get(0)[0];
-            profile = new Profile(userName, ui);
+            profile = new Profile(userName, ui, storage);
             try {
                 profile.profileUpdate(ui);
-            } catch (BankException exceptionMessage) {
+            } catch (BankException | LoadException exceptionMessage) {
                 ui.printError("Error updating outdated recurring transactions");
             }
             ui.greet(profile.profileGetUsername());
@@ -104,22 +170,189 @@ class Main {
                         + " try saving again, feel free to continue using the program.");
             }
         }
+    }
+
+    /**
+     * Starts up the initialized OwlMoney session.
+     * Transactions that fall due while the session is running are added by the profile update scheduler
+     * in the background, and the profile locks the accounts that each command and update uses.
+     * Changes are saved to disk by the storage writer in the background, and all of them are saved
+     * before OwlMoney terminates. The output of each command is written at once when the command completes.
+     */
+    private void run() {
+        boolean hasExited = false;
+        openStorageJournal();
+        openStorageWriter();
+        startSession();
+        ui.startBuffering();
+        scheduler = new ProfileUpdateScheduler(profile, ui);
+        scheduler.reschedule();
         while (parser.hasNextLine()) {
             try {
                 Command command = parser.parseLine();
-                hasExited = command.execute(profile, ui);
+                hasExited = executeAndReschedule(command);
+                if (hasExited) {
+                    break;
+                }
+            } catch (ParserException | BankException | TransactionException | BondException | CardException
+                    | GoalsException | ProfileException | LoadException exceptionMessage) {
+                ui.printError(exceptionMessage.toString());
+            } finally {
+                ui.flush();
+            }
+        }
+        scheduler.stop();
+        closeStorageWriter();
+        closeStorageJournal();
+        ui.flush();
+    }
+
+    /**
+     * Executes a command and reschedules the next profile update
+     * in case the command changed when a transaction falls due.
+     *
+     * @param command The command to execute.
+     * @return True if OwlMoney should terminate.
+     * @throws BankException        If the command fails on a bank account.
+     * @throws TransactionException If the command fails on a transaction.
+     * @throws BondException        If the command fails on a bond.
+     * @throws CardException        If the command fails on a card.
+     * @throws GoalsException       If the command fails on a goal.
+     * @throws ProfileException     If the command fails on the profile.
+     */
+    private boolean executeAndReschedule(Command command) throws BankException, TransactionException,
+            BondException, CardException, GoalsException, ProfileException {
+        try {
+            boolean hasExited = command.executeAndRecord(profile, ui);
+            profile.profileAddAchievement();
+            return hasExited;
+        } finally {
+            scheduler.reschedule();
+        }
+    }
+
+    /**
+     * Starts up the initialized OwlMoney session and executes every command in the script file in order.
+     * The whole script is parsed first, and the changes of the commands are only written to the storage
+     * journal every few hundred commands and at the end of the script instead of after every command.
+     * The output of each command is written at once when the command completes, and log records are
+     * dropped rather than waited for if the log file falls behind.
+     *
+     * @param scriptFileName The path of the script file containing one command per line.
+     */
+    private void runBatch(String scriptFileName) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(scriptFileName));
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to read the batch file: " + scriptFileName);
+            return;
+        }
+        ParseBatch batch = new ParseBatch(lines, parser);
+        LogsCenter.setBlockingWhenFull(false);
+        openStorageJournal();
+        startSession();
+        if (journal != null) {
+            journal.deferWrites();
+        }
+        ui.startBuffering();
+        for (int i = 0; i < batch.getNumberOfLines(); i++) {
+            try {
+                Command command = batch.getCommand(i);
+                boolean hasExited = command.executeAndRecord(profile, ui);
                 profile.profileAddAchievement();
                 if (hasExited) {
                     break;
                 }
             } catch (ParserException | BankException | TransactionException | BondException | CardException
-                    | GoalsException | ProfileException exceptionMessage) {
+                    | GoalsException | ProfileException | LoadException exceptionMessage) {
                 ui.printError(exceptionMessage.toString());
+            } finally {
+                ui.flush();
             }
+            if ((i + 1) % BATCH_FLUSH_INTERVAL == 0) {
+                applyDeferredWrites();
+            }
+        }
+        stopDeferringWrites();
+        closeStorageJournal();
+        ui.flush();
+    }
+
+    /**
+     * Writes the changes deferred during a batch to the storage journal.
+     */
+    private void applyDeferredWrites() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.applyDeferredWrites();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Error trying to save your changes to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
+    }
+
+    /**
+     * Writes the changes deferred during a batch to the storage journal and stops deferring later changes.
+     */
+    private void stopDeferringWrites() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.stopDeferringWrites();
+        } catch (IOException exceptionMessage) {
+            ui.printError("Error trying to save your changes to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
         }
     }
 
+    /**
+     * Serves the profiles of many users from this process, each in its own directory under profiles/.
+     *
+     * @param port         The port to accept sessions on.
+     * @param outputFormat The output format of every session.
+     */
+    private static void runHost(String port, String outputFormat) {
+        Ui ui = new Ui();
+        try {
+            new ProfileHost(Integer.parseInt(port), ui, outputFormat).run();
+        } catch (NumberFormatException exceptionMessage) {
+            ui.printError("Invalid port: " + port);
+        }
+    }
+
+    /**
+     * Starts OwlMoney, executing the commands of a script file instead of user input if
+     * {@code --batch <file>} is given, or serving the profiles of many users over connections to a port
+     * if {@code --host <port>} is given. Output is printed as tables unless {@code --format <table|json|csv>}
+     * is given first, in which case lists and search results are printed as JSON lines or CSV rows instead.
+     * A snapshot of the metrics recorded is saved every minute and when OwlMoney terminates.
+     *
+     * @param args The command line arguments.
+     */
     public static void main(String[] args) {
-        new Main().run();
+        String outputFormat = Ui.TABLE_FORMAT;
+        if (args.length >= FORMAT_ARGUMENT_COUNT && FORMAT_FLAG.equals(args[0])) {
+            outputFormat = args[1];
+            args = Arrays.copyOfRange(args, FORMAT_ARGUMENT_COUNT, args.length);
+            if (!Ui.isOutputFormat(outputFormat)) {
+                new Ui().printError("Invalid output format: " + outputFormat
+                        + ". Use " + Ui.TABLE_FORMAT + ", " + Ui.JSON_FORMAT + " or " + Ui.CSV_FORMAT);
+                return;
+            }
+        }
+        MetricsCenter.startSnapshots();
+        if (args.length == BATCH_ARGUMENT_COUNT && BATCH_FLAG.equals(args[0])) {
+            new Main(outputFormat).runBatch(args[1]);
+            return;
+        }
+        if (args.length == BATCH_ARGUMENT_COUNT && HOST_FLAG.equals(args[0])) {
+            runHost(args[1], outputFormat);
+            return;
+        }
+        new Main(outputFormat).run();
     }
 }
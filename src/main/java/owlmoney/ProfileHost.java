@@ -0,0 +1,276 @@
+package owlmoney;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.parser.ParseCommand;
+import owlmoney.logic.parser.exception.ParserException;
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.card.exception.CardException;
+import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.profile.Profile;
+import owlmoney.model.profile.ProfileUpdateScheduler;
+import owlmoney.model.profile.exception.ProfileException;
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.Storage;
+import owlmoney.storage.StorageWriter;
+import owlmoney.storage.exception.LoadException;
+import owlmoney.ui.Ui;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+/**
+ * Serves many users from one OwlMoney process, keeping the profile of each user in its own data directory.
+ * Every connection is a session: the first line sent is the username, and every later line is a command
+ * for the profile of that user, whose output is sent back over the same connection.
+ * Sessions of the same user share one profile, which locks the accounts each command uses.
+ * Changes are saved in the background, and all changes to a profile are saved when one of its sessions exits.
+ * The output of each command is sent back at once when the command completes.
+ */
+class ProfileHost {
+    private static final Logger logger = getLogger(ProfileHost.class);
+    private static final String PROFILES_PATH = "profiles/";
+    private static final String PROFILE_FILE_NAME = "profile.csv";
+    private static final String DIRECTORY_SEPARATOR = "/";
+    private static final String SESSION_THREAD_NAME = "profile-session-";
+
+    private final int port;
+    private final Ui ui;
+    private final String outputFormat;
+    private final Map<String, HostedProfile> profiles = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final ExecutorService sessionExecutor;
+
+    /**
+     * Creates a host that accepts sessions on the port specified.
+     *
+     * @param port         The port to accept sessions on.
+     * @param ui           Used for printing messages of the host and of scheduled profile updates.
+     * @param outputFormat The output format of every session.
+     */
+    ProfileHost(int port, Ui ui, String outputFormat) {
+        this.port = port;
+        this.ui = ui;
+        this.outputFormat = outputFormat;
+        this.sessionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, SESSION_THREAD_NAME + sessionCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accepts sessions until the host can no longer listen on its port, serving each session on its own thread.
+     */
+    void run() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+        try (ServerSocket serverSocket = new ServerSocket(port)) {
+            ui.printMessage("Serving profiles on port " + serverSocket.getLocalPort());
+            while (!serverSocket.isClosed()) {
+                Socket connection = serverSocket.accept();
+                sessionExecutor.execute(() -> serveSession(connection));
+            }
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to serve profiles on port " + port);
+            logger.warning("Error accepting sessions: " + exceptionMessage.getMessage());
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * Stops accepting sessions, stops the scheduled updates of every profile and saves all their changes.
+     */
+    void stop() {
+        sessionExecutor.shutdownNow();
+        for (HostedProfile hostedProfile : profiles.values()) {
+            hostedProfile.scheduler.stop();
+            try {
+                hostedProfile.storageWriter.close();
+            } catch (IOException exceptionMessage) {
+                logger.warning("Error saving profile changes on shutdown: " + exceptionMessage.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Serves one session, reading the username and then executing commands on the profile of that user
+     * until the session sends /exit or disconnects.
+     *
+     * @param connection The connection of the session.
+     */
+    private void serveSession(Socket connection) {
+        try (Socket session = connection;
+                PrintStream output = new PrintStream(session.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            Ui sessionUi = new Ui(output);
+            sessionUi.setOutputFormat(outputFormat);
+            ParseCommand parser = new ParseCommand(session.getInputStream());
+            sessionUi.startBuffering();
+            sessionUi.firstTimeRun();
+            sessionUi.flush();
+            if (!parser.hasNextLine()) {
+                return;
+            }
+            String username = parser.readLine().trim();
+            try {
+                Main.checkUserName(username);
+            } catch (MainException exceptionMessage) {
+                sessionUi.printError(exceptionMessage.toString());
+                sessionUi.flush();
+                return;
+            }
+            HostedProfile hostedProfile = getHostedProfile(username);
+            sessionUi.greet(hostedProfile.profile.profileGetUsername());
+            sessionUi.flush();
+            logger.info("Started a session for " + username);
+            executeCommands(hostedProfile, parser, sessionUi);
+            logger.info("Ended a session for " + username);
+        } catch (IOException exceptionMessage) {
+            logger.warning("Error serving a session: " + exceptionMessage.getMessage());
+        }
+    }
+
+    /**
+     * Executes the commands of a session on a profile, rescheduling the next update of the profile
+     * after every command in case the command changed when a transaction falls due.
+     *
+     * @param hostedProfile The profile of the user of the session.
+     * @param parser        Reads the commands of the session.
+     * @param sessionUi     Prints to the session.
+     */
+    private void executeCommands(HostedProfile hostedProfile, ParseCommand parser, Ui sessionUi) {
+        Profile profile = hostedProfile.profile;
+        while (parser.hasNextLine()) {
+            try {
+                Command command = parser.parseLine();
+                boolean hasExited = command.executeAndRecord(profile, sessionUi);
+                profile.profileAddAchievement();
+                if (hasExited) {
+                    flushProfile(hostedProfile, sessionUi);
+                    return;
+                }
+            } catch (ParserException | BankException | TransactionException | BondException | CardException
+                    | GoalsException | ProfileException | LoadException exceptionMessage) {
+                sessionUi.printError(exceptionMessage.toString());
+            } finally {
+                sessionUi.flush();
+                hostedProfile.scheduler.reschedule();
+            }
+        }
+    }
+
+    /**
+     * Saves every change to a profile that has not been saved yet, when a session of the profile exits.
+     *
+     * @param hostedProfile The profile to save.
+     * @param sessionUi     Prints to the session.
+     */
+    private void flushProfile(HostedProfile hostedProfile, Ui sessionUi) {
+        try {
+            hostedProfile.storageWriter.flush();
+        } catch (IOException exceptionMessage) {
+            sessionUi.printError("Error trying to save your changes to disk. Your data is"
+                    + " at risk, but we will try again.");
+            logger.warning("Error saving profile changes on exit: " + exceptionMessage.getMessage());
+        }
+    }
+
+    /**
+     * Gets the profile of a user, loading it from its data directory or creating it the first time it is needed.
+     * Usernames are matched ignoring case, as they are also the names of the data directories.
+     *
+     * @param username The username of the user.
+     * @return The profile of the user and its update scheduler.
+     */
+    private HostedProfile getHostedProfile(String username) {
+        return profiles.computeIfAbsent(username.toLowerCase(), key -> loadProfile(username, key));
+    }
+
+    /**
+     * Loads the profile of a user from its data directory and brings it up to date,
+     * or creates a new profile if the directory has none.
+     *
+     * @param username      The username of the user.
+     * @param directoryName The name of the data directory of the user.
+     * @return The profile of the user and its update scheduler.
+     */
+    private HostedProfile loadProfile(String username, String directoryName) {
+        String path = PROFILES_PATH + directoryName + DIRECTORY_SEPARATOR;
+        Storage storage = new Storage(path);
+        storage.createDirectoryIfNotExist(path);
+        StorageWriter storageWriter = StorageWriter.open(path);
+        Profile profile;
+        if (storage.isFileExist(PROFILE_FILE_NAME)) {
+            profile = new Profile(readSavedUsername(storage, username), ui, storage);
+            try {
+                profile.profileUpdate(ui);
+            } catch (BankException | LoadException exceptionMessage) {
+                ui.printError("Error updating outdated recurring transactions");
+            }
+        } else {
+            profile = new Profile(username, ui, storage);
+            try {
+                storage.writeProfileFile(new String[]{username}, PROFILE_FILE_NAME);
+            } catch (IOException exceptionMessage) {
+                ui.printError("Unable to save profile now, your data is at risk, but we will"
+                        + " try saving again, feel free to continue using the program.");
+                logger.warning("Error exporting new profile of " + username);
+            }
+        }
+        ProfileUpdateScheduler scheduler = new ProfileUpdateScheduler(profile, ui);
+        scheduler.reschedule();
+        logger.info("Loaded profile from " + path);
+        return new HostedProfile(profile, scheduler, storageWriter);
+    }
+
+    /**
+     * Reads the username saved in the data directory of a profile.
+     *
+     * @param storage         The storage of the data directory.
+     * @param enteredUsername The username entered, used if the saved username cannot be read.
+     * @return The saved username.
+     */
+    private String readSavedUsername(Storage storage, String enteredUsername) {
+        try {
+            List<String[]> importData = storage.readFile(PROFILE_FILE_NAME);
+            return importData.get(0)[0];
+        } catch (IOException | IndexOutOfBoundsException exceptionMessage) {
+            logger.warning("Unable to read the saved username of " + enteredUsername);
+            return enteredUsername;
+        }
+    }
+
+    /**
+     * Holds a profile served by the host together with the scheduler of its updates.
+     */
+    private static class HostedProfile {
+        private final Profile profile;
+        private final ProfileUpdateScheduler scheduler;
+        private final StorageWriter storageWriter;
+
+        /**
+         * Creates a hosted profile.
+         *
+         * @param profile       The profile of the user.
+         * @param scheduler     The scheduler of the updates of the profile.
+         * @param storageWriter The writer that saves the changes to the profile in the background.
+         */
+        HostedProfile(Profile profile, ProfileUpdateScheduler scheduler, StorageWriter storageWriter) {
+            this.profile = profile;
+            this.scheduler = scheduler;
+            this.storageWriter = storageWriter;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package owlmoney.commons.log;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Publishes log records to another handler on a single background writer thread, so that logging
+ * does not wait for the log file to be written.
+ *
+ * <p>Records are held in a bounded ring buffer until the writer publishes them in the order they were logged.
+ * When the buffer is full, logging either blocks until the writer makes room or drops the record, and the
+ * number of records dropped is logged once the writer catches up. Closing the handler publishes every record
+ * still in the buffer before closing the handler it publishes to.</p>
+ */
+public class AsyncLogHandler extends Handler {
+    private static final String WRITER_THREAD_NAME = "log-writer";
+    private static final long CLOSE_TIMEOUT_IN_MILLISECONDS = 5000;
+    private static final int ISZERO = 0;
+
+    private final Handler target;
+    private final LogRecord[] records;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasRecords = lock.newCondition();
+    private final Condition hasRoom = lock.newCondition();
+    private final Condition isIdle = lock.newCondition();
+    private final Thread writerThread;
+    private int head;
+    private int count;
+    private int publishingCount;
+    private long droppedCount;
+    private boolean isBlockingWhenFull;
+    private boolean isClosed;
+    private long reportedDroppedCount;
+
+    /**
+     * Creates a handler that publishes records to the target handler on its own writer thread.
+     *
+     * @param target             The handler the records are published to.
+     * @param capacity           The number of records the buffer holds before it is full.
+     * @param isBlockingWhenFull True if logging waits for room when the buffer is full, false if it drops the record.
+     */
+    public AsyncLogHandler(Handler target, int capacity, boolean isBlockingWhenFull) {
+        if (capacity <= ISZERO) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.target = target;
+        this.records = new LogRecord[capacity];
+        this.isBlockingWhenFull = isBlockingWhenFull;
+        writerThread = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Sets whether logging waits for room or drops the record when the buffer is full.
+     *
+     * @param isBlockingWhenFull True if logging waits for room, false if it drops the record.
+     */
+    public void setBlockingWhenFull(boolean isBlockingWhenFull) {
+        lock.lock();
+        try {
+            this.isBlockingWhenFull = isBlockingWhenFull;
+            hasRoom.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of records dropped because the buffer was full.
+     *
+     * @return The number of records dropped since the handler was created.
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the record to the buffer to be published by the writer thread.
+     * The class and method that logged the record are found first, as they can only be found on this thread.
+     *
+     * @param record The record logged.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        record.getSourceClassName();
+        lock.lock();
+        try {
+            while (count == records.length && isBlockingWhenFull && !isClosed) {
+                hasRoom.awaitUninterruptibly();
+            }
+            if (isClosed) {
+                return;
+            }
+            if (count == records.length) {
+                droppedCount++;
+                return;
+            }
+            records[(head + count) % records.length] = record;
+            count++;
+            hasRecords.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every record added so far is published, then flushes the handler they are published to.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            while ((count > ISZERO || publishingCount > ISZERO) && writerThread.isAlive()) {
+                isIdle.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        target.flush();
+    }
+
+    /**
+     * Publishes every record still in the buffer, stops the writer thread and closes the handler they
+     * are published to. Records logged afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            hasRecords.signal();
+            hasRoom.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join(CLOSE_TIMEOUT_IN_MILLISECONDS);
+        } catch (InterruptedException exceptionMessage) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    /**
+     * Takes every record in the buffer at once and publishes them to the target handler,
+     * until the handler is closed and the buffer is empty.
+     */
+    private void writeRecords() {
+        LogRecord[] batch = new LogRecord[records.length];
+        while (true) {
+            int batchSize;
+            long totalDroppedCount;
+            lock.lock();
+            try {
+                publishingCount = ISZERO;
+                isIdle.signalAll();
+                while (count == ISZERO && !isClosed) {
+                    hasRecords.awaitUninterruptibly();
+                }
+                if (count == ISZERO) {
+                    return;
+                }
+                for (int i = 0; i < count; i++) {
+                    batch[i] = records[(head + i) % records.length];
+                    records[(head + i) % records.length] = null;
+                }
+                batchSize = count;
+                publishingCount = batchSize;
+                head = (head + batchSize) % records.length;
+                count = ISZERO;
+                totalDroppedCount = droppedCount;
+                hasRoom.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            for (int i = 0; i < batchSize; i++) {
+                target.publish(batch[i]);
+                batch[i] = null;
+            }
+            publishDroppedCount(totalDroppedCount);
+        }
+    }
+
+    /**
+     * Logs how many records were dropped since the last time this was reported, if any.
+     *
+     * @param totalDroppedCount The number of records dropped since the handler was created.
+     */
+    private void publishDroppedCount(long totalDroppedCount) {
+        if (totalDroppedCount == reportedDroppedCount) {
+            return;
+        }
+        LogRecord record = new LogRecord(Level.WARNING, "Dropped " + (totalDroppedCount - reportedDroppedCount)
+                + " log records because the log buffer was full");
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("publish");
+        target.publish(record);
+        reportedDroppedCount = totalDroppedCount;
+    }
+}
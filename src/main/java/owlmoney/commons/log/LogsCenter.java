@@ -16,9 +16,11 @@ public class LogsCenter {
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_PATH = "data/logs/";
     private static final String LOG_FILE = LOG_PATH + "application.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
     private static Level currentLogLevel = Level.INFO;
     private static Level currentConsoleLogLevel = Level.SEVERE;
-    private static FileHandler fileHandler;
+    private static AsyncLogHandler fileHandler;
+    private static boolean isBlockingWhenFull = true;
     private static ConsoleHandler consoleHandler;
 
     /**
@@ -53,6 +55,19 @@ public class LogsCenter {
         return getLogger(generalClass.getSimpleName());
     }
 
+    /**
+     * Sets whether logging waits for the log file to catch up or drops records when too many are logged at once.
+     * Records are written to the log file on a background thread, so logging only waits when its buffer is full.
+     *
+     * @param isBlocking True if logging waits when the buffer is full, false if it drops the records.
+     */
+    public static synchronized void setBlockingWhenFull(boolean isBlocking) {
+        isBlockingWhenFull = isBlocking;
+        if (fileHandler != null) {
+            fileHandler.setBlockingWhenFull(isBlocking);
+        }
+    }
+
     /**
      * Adds a console handler and set appropriate console logging levels or create a console handler if null.
      *
@@ -84,7 +99,7 @@ public class LogsCenter {
      *
      * @param logger An instance of a Logger object.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized void addFileHandler(Logger logger) {
         assert logger != null;
 
         try {
@@ -98,11 +113,12 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a file handler for the log file and set the appropriate logging levels.
+     * Creates a file handler for the log file that writes on a background thread and set the appropriate
+     * logging levels.
      * @return fileHandler In charge of logging to files.
      * @throws IOException If there are errors adding creating or opening the file handler.
      */
-    private static FileHandler createFileHandler() throws IOException {
+    private static AsyncLogHandler createFileHandler() throws IOException {
         File dir = new File(LOG_PATH);
         if (!dir.exists()) {
             boolean result = dir.mkdirs();
@@ -111,7 +127,9 @@ public class LogsCenter {
                 MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
         fileHandler.setLevel(currentLogLevel);
-        return fileHandler;
+        AsyncLogHandler asyncFileHandler = new AsyncLogHandler(fileHandler, LOG_BUFFER_CAPACITY, isBlockingWhenFull);
+        asyncFileHandler.setLevel(currentLogLevel);
+        return asyncFileHandler;
     }
 
     /**
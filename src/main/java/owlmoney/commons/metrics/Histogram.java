@@ -0,0 +1,153 @@
+package owlmoney.commons.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of a value, such as the duration of a command or the size of a file,
+ * in buckets of powers of two so that recording never allocates or locks.
+ *
+ * <p>Percentiles are estimated as the upper bound of the bucket they fall in, capped at the largest value
+ * recorded, so they are at most twice the exact percentile.</p>
+ */
+public class Histogram {
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+    private static final int ISZERO = 0;
+
+    private final String name;
+    private final String unit;
+    private final double scale;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates a histogram of values that are divided by the scale specified when they are reported.
+     *
+     * @param name  The name of the histogram.
+     * @param unit  The unit the values are reported in.
+     * @param scale The number of recorded values in one unit reported.
+     */
+    Histogram(String name, String unit, double scale) {
+        this.name = name;
+        this.unit = unit;
+        this.scale = scale;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(ISZERO, value);
+        buckets.incrementAndGet(getBucket(recordedValue));
+        count.increment();
+        sum.add(recordedValue);
+        max.accumulateAndGet(recordedValue, Math::max);
+    }
+
+    /**
+     * Records the time elapsed since the start time specified.
+     *
+     * @param startTime The start time, from {@link System#nanoTime()}.
+     */
+    public void recordSince(long startTime) {
+        record(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Gets the name of the histogram.
+     *
+     * @return The name of the histogram.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the unit the values are reported in.
+     *
+     * @return The unit of the values.
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets the number of values recorded.
+     *
+     * @return The number of values recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of the values recorded.
+     *
+     * @return The mean in the unit reported, or zero if no value was recorded.
+     */
+    public double getMean() {
+        long currentCount = count.sum();
+        return currentCount == ISZERO ? ISZERO : sum.sum() / scale / currentCount;
+    }
+
+    /**
+     * Gets the largest value recorded.
+     *
+     * @return The largest value in the unit reported, or zero if no value was recorded.
+     */
+    public double getMax() {
+        return max.get() / scale;
+    }
+
+    /**
+     * Estimates the value below which the fraction of values specified fall.
+     *
+     * @param fraction The fraction of values, from 0 to 1.
+     * @return The estimated percentile in the unit reported, or zero if no value was recorded.
+     */
+    public double getPercentile(double fraction) {
+        long[] currentBuckets = new long[BUCKET_COUNT];
+        long total = ISZERO;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            currentBuckets[i] = buckets.get(i);
+            total += currentBuckets[i];
+        }
+        if (total == ISZERO) {
+            return ISZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = ISZERO;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += currentBuckets[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), max.get()) / scale;
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the bucket of a value, which is the number of bits needed to represent it.
+     *
+     * @param value The value, not negative.
+     * @return The bucket of the value.
+     */
+    private static int getBucket(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket.
+     *
+     * @param bucket The bucket.
+     * @return The largest value of the bucket.
+     */
+    private static long getBucketUpperBound(int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,150 @@
+package owlmoney.commons.metrics;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the histograms of the durations and sizes measured on the hot paths of OwlMoney,
+ * and saves a snapshot of them to a file periodically and when OwlMoney terminates.
+ */
+public class MetricsCenter {
+    private static final Logger logger = getLogger(MetricsCenter.class);
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final String DURATION_UNIT = "ms";
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000;
+    private static final double ONE = 1;
+    private static final String SNAPSHOT_PATH = "data/logs/";
+    private static final String SNAPSHOT_FILE = SNAPSHOT_PATH + "metrics.csv";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SNAPSHOT_HEADER = "name,unit,count,mean,p50,p90,p99,max";
+    private static final String SNAPSHOT_THREAD_NAME = "metrics-snapshot";
+    private static final long SNAPSHOT_INTERVAL_IN_SECONDS = 60;
+    private static final double MEDIAN = 0.5;
+    private static final double NINETIETH_PERCENTILE = 0.9;
+    private static final double NINETY_NINTH_PERCENTILE = 0.99;
+    private static ScheduledExecutorService snapshotExecutor;
+
+    /**
+     * Gets the histogram of durations with the given name, creating it if it does not exist yet.
+     * Durations are recorded in nanoseconds and reported in milliseconds.
+     *
+     * @param name The name of the histogram.
+     * @return The histogram of durations.
+     */
+    public static Histogram getTimer(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram(key, DURATION_UNIT, NANOSECONDS_PER_MILLISECOND));
+    }
+
+    /**
+     * Gets the histogram of values with the given name, creating it if it does not exist yet.
+     *
+     * @param name The name of the histogram.
+     * @param unit The unit the values are recorded and reported in.
+     * @return The histogram of values.
+     */
+    public static Histogram getHistogram(String name, String unit) {
+        return histograms.computeIfAbsent(name, key -> new Histogram(key, unit, ONE));
+    }
+
+    /**
+     * Gets every histogram that has recorded a value, ordered by name.
+     *
+     * @return The histograms that have recorded a value.
+     */
+    public static List<Histogram> getHistograms() {
+        List<Histogram> recordedHistograms = new ArrayList<>();
+        for (Histogram histogram : histograms.values()) {
+            if (histogram.getCount() > 0) {
+                recordedHistograms.add(histogram);
+            }
+        }
+        recordedHistograms.sort(Comparator.comparing(Histogram::getName));
+        return recordedHistograms;
+    }
+
+    /**
+     * Gets the statistics of a histogram in the order of the columns of the snapshot file.
+     *
+     * @param histogram The histogram.
+     * @return The name, unit, count, mean, median, 90th and 99th percentiles and maximum of the histogram.
+     */
+    public static String[] getSummary(Histogram histogram) {
+        return new String[] {histogram.getName(), histogram.getUnit(), Long.toString(histogram.getCount()),
+            formatValue(histogram.getMean()), formatValue(histogram.getPercentile(MEDIAN)),
+            formatValue(histogram.getPercentile(NINETIETH_PERCENTILE)),
+            formatValue(histogram.getPercentile(NINETY_NINTH_PERCENTILE)), formatValue(histogram.getMax())};
+    }
+
+    /**
+     * Starts saving a snapshot of every histogram to the snapshot file every minute and when OwlMoney terminates.
+     * Calling this again after the snapshots have started has no effect.
+     */
+    public static synchronized void startSnapshots() {
+        if (snapshotExecutor != null) {
+            return;
+        }
+        snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, SNAPSHOT_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotExecutor.scheduleWithFixedDelay(MetricsCenter::writeSnapshotQuietly, SNAPSHOT_INTERVAL_IN_SECONDS,
+                SNAPSHOT_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(MetricsCenter::writeSnapshotQuietly));
+    }
+
+    /**
+     * Saves a snapshot of every histogram to the snapshot file, replacing the previous snapshot.
+     *
+     * @throws IOException If there are errors writing the snapshot file.
+     */
+    public static synchronized void writeSnapshot() throws IOException {
+        Files.createDirectories(Paths.get(SNAPSHOT_PATH));
+        Path tempFilePath = Paths.get(SNAPSHOT_FILE + TEMP_SUFFIX);
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFilePath)) {
+            writer.write(SNAPSHOT_HEADER);
+            writer.newLine();
+            for (Histogram histogram : getHistograms()) {
+                writer.write(String.join(",", getSummary(histogram)));
+                writer.newLine();
+            }
+        }
+        Files.move(tempFilePath, Paths.get(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Saves a snapshot, logging instead of throwing so the snapshot thread keeps running.
+     */
+    private static void writeSnapshotQuietly() {
+        try {
+            writeSnapshot();
+        } catch (IOException exceptionMessage) {
+            logger.warning("Error writing metrics snapshot: " + exceptionMessage.getMessage());
+        }
+    }
+
+    /**
+     * Formats a statistic with three decimal places.
+     *
+     * @param value The statistic.
+     * @return The formatted statistic.
+     */
+    private static String formatValue(double value) {
+        return String.format("%.3f", value);
+    }
+}
@@ -1,5 +1,6 @@
 package owlmoney.logic.command;
 
+import owlmoney.commons.metrics.MetricsCenter;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.exception.BondException;
 import owlmoney.model.goals.exception.GoalsException;
@@ -13,6 +14,7 @@ import owlmoney.ui.Ui;
  * Executes the expected command and prints the results.
  */
 public abstract class Command {
+    private static final String METRIC_PREFIX = "command.";
     protected boolean isExit = false;
 
     /**
@@ -24,4 +26,21 @@ public abstract class Command {
      */
     public abstract boolean execute(Profile profile, Ui ui) throws BankException,
             TransactionException, BondException, CardException, GoalsException, ProfileException;
+
+    /**
+     * Executes the command and records how long it took in the metrics of its type of command.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return True if OwlMoney should terminate after execution.
+     */
+    public boolean executeAndRecord(Profile profile, Ui ui) throws BankException,
+            TransactionException, BondException, CardException, GoalsException, ProfileException {
+        long startTime = System.nanoTime();
+        try {
+            return execute(profile, ui);
+        } finally {
+            MetricsCenter.getTimer(METRIC_PREFIX + getClass().getSimpleName()).recordSince(startTime);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package owlmoney.logic.command;
+
+import java.util.List;
+
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
+import owlmoney.model.profile.Profile;
+import owlmoney.ui.Ui;
+
+/**
+ * Executes StatsCommand and prints the metrics recorded since OwlMoney started.
+ */
+public class StatsCommand extends Command {
+    private static final double MEDIAN = 0.5;
+    private static final double NINETY_NINTH_PERCENTILE = 0.99;
+
+    /**
+     * Executes the function to print the count, mean, percentiles and maximum of every metric recorded.
+     *
+     * @param profile Profile of the user.
+     * @param ui      Ui of OwlMoney.
+     * @return False so OwlMoney does not terminate yet.
+     */
+    @Override
+    public boolean execute(Profile profile, Ui ui) {
+        List<Histogram> histograms = MetricsCenter.getHistograms();
+        if (histograms.isEmpty()) {
+            ui.printMessage("No metrics have been recorded yet");
+            return isExit;
+        }
+        ui.printMetricHeader();
+        for (Histogram histogram : histograms) {
+            ui.printMetric(histogram.getName(), histogram.getUnit(), histogram.getCount(), histogram.getMean(),
+                    histogram.getPercentile(MEDIAN), histogram.getPercentile(NINETY_NINTH_PERCENTILE),
+                    histogram.getMax());
+        }
+        ui.printDivider();
+        return isExit;
+    }
+}
@@ -28,6 +28,8 @@ public class HelpCommand extends Command {
             + "/bonds" + NEWLINE + "--------------------" + NEWLINE;
     private static final String HEADER_GOALS = NEWLINE + "====================" + NEWLINE
             + "/goals" + NEWLINE + "--------------------" + NEWLINE;
+    private static final String HEADER_STATS = NEWLINE + "====================" + NEWLINE
+            + "/stats" + NEWLINE + "--------------------" + NEWLINE;
     private static final String PRINT_MOREINFO = NEWLINE + "====================" + NEWLINE
             + "For more information, please visit our User Guide on our Github at:"
             + NEWLINE
@@ -63,6 +65,8 @@ public class HelpCommand extends Command {
             + NEWLINE
             + "/find /banktransaction /name ACCOUNT_NAME [/desc DESCRIPTION] [/from DATE /to DATE] "
             + "[/category CATEGORY]"
+            + NEWLINE
+            + "/find /alltransaction [/desc DESCRIPTION] [/from DATE /to DATE] [/category CATEGORY]"
             + NEWLINE;
     private static final String PRINT_RECURBANKEXP = HEADER_RECURBANKEXP
             + "/add /recurbankexp /amount AMOUNT /from ACCOUNT_NAME /desc DESCRIPTION [/category CATEGORY]"
@@ -115,6 +119,8 @@ public class HelpCommand extends Command {
             + NEWLINE
             + "/find /cardtransaction /name CARD_NAME [/desc DESCRIPTION] [/from DATE /to DATE] "
             + "[/category CATEGORY]"
+            + NEWLINE
+            + "/find /alltransaction [/desc DESCRIPTION] [/from DATE /to DATE] [/category CATEGORY]"
             + NEWLINE;
     private static final String PRINT_CARDBILL = HEADER_CARDBILL
             + "/add /cardbill /card POBB Tomorrow Card /date 10/2019 /bank JunBank Savings Account"
@@ -166,6 +172,8 @@ public class HelpCommand extends Command {
             + NEWLINE
             + "/list /achievement"
             + NEWLINE;
+    private static final String PRINT_STATS = HEADER_STATS + "/stats"
+            + NEWLINE;
 
     /**
      * Executes the function to print help command.
@@ -177,7 +185,7 @@ public class HelpCommand extends Command {
     public boolean execute(Profile profile, Ui ui) {
         ui.printMessage(PRINT_PROFILE + PRINT_SAVINGS + PRINT_BANKEXPENDITURE + PRINT_RECURBANKEXP
                 + PRINT_DEPOSIT + PRINT_CARD + PRINT_CARDEXPENDITURE + PRINT_CARDBILL + PRINT_INVESTMENT
-                + PRINT_BONDS + PRINT_GOALS + PRINT_MOREINFO);
+                + PRINT_BONDS + PRINT_GOALS + PRINT_STATS + PRINT_MOREINFO);
         return this.isExit;
     }
 }
@@ -0,0 +1,67 @@
+package owlmoney.logic.parser;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import owlmoney.logic.command.Command;
+import owlmoney.logic.parser.exception.ParserException;
+
+/**
+ * Parses every line of a batch script before any of them is executed.
+ * Lines that fail to parse keep their error so that it is reported in the same order as in interactive mode.
+ */
+public class ParseBatch {
+    private final List<Command> commands;
+    private final List<ParserException> errors;
+    private static final Logger logger = getLogger(ParseBatch.class);
+
+    /**
+     * Creates an instance of ParseBatch by parsing every line of the script.
+     *
+     * @param lines        The lines of the script in the order they are to be executed.
+     * @param parseCommand The parser used for each line.
+     */
+    public ParseBatch(List<String> lines, ParseCommand parseCommand) {
+        commands = new ArrayList<>(lines.size());
+        errors = new ArrayList<>(lines.size());
+        int numberOfErrors = 0;
+        for (String line : lines) {
+            try {
+                commands.add(parseCommand.parseLine(line));
+                errors.add(null);
+            } catch (ParserException exceptionMessage) {
+                commands.add(null);
+                errors.add(exceptionMessage);
+                numberOfErrors++;
+            }
+        }
+        logger.info("Parsed batch script of " + lines.size() + " lines with " + numberOfErrors + " errors");
+    }
+
+    /**
+     * Gets the number of lines in the script.
+     *
+     * @return the number of lines.
+     */
+    public int getNumberOfLines() {
+        return commands.size();
+    }
+
+    /**
+     * Gets the command parsed from a line of the script.
+     *
+     * @param index The position of the line in the script, starting from 0.
+     * @return the Command object that is required to be executed.
+     * @throws ParserException if the line could not be parsed.
+     */
+    public Command getCommand(int index) throws ParserException {
+        ParserException error = errors.get(index);
+        if (error != null) {
+            throw error;
+        }
+        return commands.get(index);
+    }
+}
@@ -2,12 +2,16 @@ package owlmoney.logic.parser;
 
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
 import owlmoney.logic.command.Command;
 import owlmoney.logic.command.ExitCommand;
+import owlmoney.logic.command.StatsCommand;
 import owlmoney.logic.command.UpdateCommand;
 import owlmoney.logic.command.help.HelpCommand;
 import owlmoney.logic.parser.exception.ParserException;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
@@ -19,7 +23,7 @@ import java.util.logging.Logger;
  */
 public class ParseCommand extends Parser {
     private ParseType parseType = new ParseType();
-    private final Scanner scanner = new Scanner(System.in);
+    private final Scanner scanner;
     private static final String HELP_COMMAND = "/help";
     private static final String UNDO_COMMAND = "/undo";
     private static final String ADD_COMMAND = "/add";
@@ -30,12 +34,30 @@ public class ParseCommand extends Parser {
     private static final String TRANSFER_COMMAND = "/transfer";
     private static final String EXIT_COMMAND = "/exit";
     private static final String UPDATE_COMMAND = "/update";
+    private static final String STATS_COMMAND = "/stats";
     private static final String[] COMMAND_KEYWORDS = new String[] {
         HELP_COMMAND, UNDO_COMMAND, ADD_COMMAND,
         EDIT_COMMAND, DELETE_COMMAND, LIST_COMMAND,
-        FIND_COMMAND, TRANSFER_COMMAND, EXIT_COMMAND, UPDATE_COMMAND};
+        FIND_COMMAND, TRANSFER_COMMAND, EXIT_COMMAND, UPDATE_COMMAND, STATS_COMMAND};
     private static final List<String> COMMAND_KEYWORD_LISTS = Arrays.asList(COMMAND_KEYWORDS);
     private static final Logger logger = getLogger(ParseCommand.class);
+    private static final Histogram PARSE_TIME = MetricsCenter.getTimer("command.parse");
+
+    /**
+     * Creates a parser that reads the commands entered by the user on standard input.
+     */
+    public ParseCommand() {
+        this(System.in);
+    }
+
+    /**
+     * Creates a parser that reads commands from the input specified, such as the connection of a session.
+     *
+     * @param input The input to read commands from.
+     */
+    public ParseCommand(InputStream input) {
+        this.scanner = new Scanner(input);
+    }
 
     /**
      * Checks if there are any more user input if using I/O redirection.
@@ -46,6 +68,15 @@ public class ParseCommand extends Parser {
         return scanner.hasNextLine();
     }
 
+    /**
+     * Reads the next line of input as it is, such as the username entered at the start of a session.
+     *
+     * @return the next line of input.
+     */
+    public String readLine() {
+        return scanner.nextLine();
+    }
+
     /**
      * Takes in the user input and checks if it is blank first before extracting the command.
      * The command extracted is then check against a whitelist before removing it from the input.
@@ -55,15 +86,30 @@ public class ParseCommand extends Parser {
      * @throws ParserException if command is not in the whitelist.
      */
     public Command parseLine() throws ParserException {
-        String input = scanner.nextLine();
-        parseIsBlank(input);
-        String command = parseFirstField(input);
-        if (!COMMAND_KEYWORD_LISTS.contains(command)) {
-            logger.warning(command + " is an invalid command");
-            throw new ParserException(command + " is an invalid command");
+        return parseLine(scanner.nextLine());
+    }
+
+    /**
+     * Parses a line of input the same way as a line entered by the user.
+     *
+     * @param input The line of input.
+     * @return a Command object that is required to be executed.
+     * @throws ParserException if command is not in the whitelist.
+     */
+    public Command parseLine(String input) throws ParserException {
+        long startTime = System.nanoTime();
+        try {
+            parseIsBlank(input);
+            String command = parseFirstField(input);
+            if (!COMMAND_KEYWORD_LISTS.contains(command)) {
+                logger.warning(command + " is an invalid command");
+                throw new ParserException(command + " is an invalid command");
+            }
+            String data = removeFirstField(input, command);
+            return parseCommandMenu(command, data);
+        } finally {
+            PARSE_TIME.recordSince(startTime);
         }
-        String data = removeFirstField(input, command);
-        return parseCommandMenu(command, data);
     }
 
     /**
@@ -113,6 +159,12 @@ public class ParseCommand extends Parser {
                 throw new ParserException("/update cannot have trailing arguments");
             }
             return new UpdateCommand();
+        case STATS_COMMAND:
+            if (!data.isBlank()) {
+                logger.warning("/stats cannot have trailing arguments");
+                throw new ParserException("/stats cannot have trailing arguments");
+            }
+            return new StatsCommand();
         case HELP_COMMAND:
             if (!data.isBlank()) {
                 logger.warning("/help cannot have trailing arguments");
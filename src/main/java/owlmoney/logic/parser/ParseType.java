@@ -71,11 +71,12 @@ class ParseType extends Parser {
     private static final String[] TYPE_KEYWORDS = new String[] {
         "/savings", "/investment", "/cardexpenditure", "/bankexpenditure", "/goals", "/card",
         "/recurbankexp", "/bonds", "/profile", "/deposit", "/fund", "/banktransaction", "/cardtransaction", "/cardbill",
-        "/achievement"
+        "/achievement", "/alltransaction"
     };
     private static final List<String> TYPE_KEYWORD_LISTS = Arrays.asList(TYPE_KEYWORDS);
     private static final String BANK = "bank";
     private static final String CARD = "card";
+    private static final String ALL = "all";
     private static final String SAVING = "saving";
     private static final String INVESTMENT = "investment";
     private static final String BOND = "bonds";
@@ -99,6 +100,7 @@ class ParseType extends Parser {
     private static final String FUND_COMMANDTYPE = "/fund";
     private static final String BANKTRANSACTION_COMMANDTYPE = "/banktransaction";
     private static final String CARDTRANSACTION_COMMANDTYPE = "/cardtransaction";
+    private static final String ALLTRANSACTION_COMMANDTYPE = "/alltransaction";
     private static final String CARDBILL_COMMANDTYPE = "/cardbill";
     private static final String ACHIEVEMENT_COMMANDTYPE = "/achievement";
     private static final Logger logger = getLogger(ParseType.class);
@@ -539,6 +541,25 @@ class ParseType extends Parser {
         throw new ParserException("You entered an invalid type for cardtransaction");
     }
 
+    /**
+     * Checks which operation to be performed for transactions of all banks and cards.
+     *
+     * @param command The command extracted from the initial first field.
+     * @param rawData The remaining data after removing command and type.
+     * @return The command object that is required to be executed.
+     * @throws ParserException when an invalid type is specified.
+     */
+    private Command menuForAllTransaction(String command, String rawData) throws ParserException {
+        if (FIND_COMMAND.equals(command)) {
+            ParseFindTransaction parseFindAllTransaction = new ParseFindTransaction(rawData, ALL);
+            parseFindAllTransaction.fillHashTable();
+            parseFindAllTransaction.checkParameter();
+            return parseFindAllTransaction.getCommand();
+        }
+        logger.warning("You entered an invalid type for alltransaction");
+        throw new ParserException("You entered an invalid type for alltransaction");
+    }
+
     /**
      * Checks which operation to be performed for Card Bill.
      *
@@ -615,6 +636,8 @@ class ParseType extends Parser {
             return menuForBankTransaction(command, rawData);
         case CARDTRANSACTION_COMMANDTYPE:
             return menuForCardTransaction(command, rawData);
+        case ALLTRANSACTION_COMMANDTYPE:
+            return menuForAllTransaction(command, rawData);
         case CARDBILL_COMMANDTYPE:
             return menuForCardBill(command, rawData);
         case ACHIEVEMENT_COMMANDTYPE:
@@ -13,6 +13,7 @@ abstract class Parser {
     private static final String EXIT_COMMAND = "/exit";
     private static final String UPDATE_COMMAND = "/update";
     private static final String HELP_COMMAND = "/help";
+    private static final String STATS_COMMAND = "/stats";
     private static final int SPACE_LENGTH = 1;
     private static final Logger logger = getLogger(Parser.class);
 
@@ -37,7 +38,7 @@ abstract class Parser {
      */
     String removeFirstField(String input, String firstField) throws ParserException {
         if (EXIT_COMMAND.equals(firstField) || UPDATE_COMMAND.equals(firstField)
-                || HELP_COMMAND.equals(firstField)) {
+                || HELP_COMMAND.equals(firstField) || STATS_COMMAND.equals(firstField)) {
             return input.substring(firstField.length());
         } else if (firstField.length() + SPACE_LENGTH < input.length()) {
             return input.substring(firstField.length() + SPACE_LENGTH);
@@ -11,6 +11,7 @@ import owlmoney.logic.parser.exception.ParserException;
  * Represents the parsing of inputs for finding of transactions.
  */
 public class ParseFindTransaction extends ParseFind {
+    private static final String ALL = "all";
 
     /**
      * Creates an instance of ParseFindTransaction.
@@ -57,7 +58,12 @@ public class ParseFindTransaction extends ParseFind {
                 checkCategory(value);
                 findCounter++;
             }
-            if (NAME_PARAMETER.equals(key) && (value == null || value.isBlank())) {
+            if (NAME_PARAMETER.equals(key) && ALL.equals(this.type)) {
+                if (!(value == null || value.isBlank())) {
+                    logger.warning(key + " cannot be specified when finding transactions in all accounts");
+                    throw new ParserException(key + " cannot be specified when finding transactions in all accounts");
+                }
+            } else if (NAME_PARAMETER.equals(key) && (value == null || value.isBlank())) {
                 logger.warning(key + " cannot be empty when finding transaction");
                 throw new ParserException(key + " cannot be empty when finding transaction");
             } else if (NAME_PARAMETER.equals(key)) {
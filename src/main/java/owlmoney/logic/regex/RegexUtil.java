@@ -1,11 +1,32 @@
 package owlmoney.logic.regex;
 
+import java.util.regex.Pattern;
+
 /**
  * RegexUtil is used to validate user input to make sure it satisfies constraints set for user input.
+ * Text formats are checked against patterns that are compiled once, and numeric formats are checked
+ * character by character without creating any objects.
  */
 public final class RegexUtil {
 
-    private static final String INTEREST_RATE_REGEX = "^\\s*(?=.*[1-9])\\d{1,2}(\\.\\d{1,2})?$";
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9 ]{1,30}$");
+    private static final Pattern DESCRIPTION_PATTERN = Pattern.compile("^[a-zA-Z0-9 ]{1,50}$");
+    private static final Pattern CATEGORY_PATTERN = Pattern.compile("^[a-zA-Z ]{1,15}$");
+    private static final Pattern GOALS_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9 ]{1,20}$");
+    private static final Pattern DATE_PATTERN =
+            Pattern.compile("(0?[1-9]|[12][0-9]|3[01])/(0?[1-9]|1[012])/((19|20)\\d\\d)");
+    private static final Pattern MONTH_YEAR_PATTERN = Pattern.compile("(0?[1-9]|1[012])/((19|20)\\d\\d)");
+    private static final int MAX_AMOUNT_DIGITS = 9;
+    private static final int MAX_RATE_DIGITS = 2;
+    private static final int MAX_DECIMAL_PLACES = 2;
+    private static final int MAX_LIST_NUMBER_DIGITS = 9;
+    private static final int MAX_BOND_YEAR = 10;
+    private static final int MAX_DAY = 365;
+    private static final int MAX_DAY_DIGITS = 3;
+    private static final int MAX_CASHBACK_RATE_IN_HUNDREDTHS = 2000;
+    private static final int MAX_INTEREST_RATE_IN_HUNDREDTHS = 10000;
+    private static final int NOT_VALID = -1;
+    private static final int TENS = 10;
 
     /**
      * Checks whether amount input by user is within the 9 digit constraints with a max of 2 decimal places.
@@ -14,8 +35,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckMoney(String input) {
-        final String moneyRegex = "^\\s*(?=.*[1-9])\\d{1,9}(\\.\\d{1,2})?$";
-        return input.matches(moneyRegex);
+        return parseHundredths(input, MAX_AMOUNT_DIGITS) > 0;
     }
 
     /**
@@ -25,8 +45,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckBankAmount(String input) {
-        final String moneyRegex = "^\\s*(?=.*[0-9])\\d{1,9}(\\.\\d{1,2})?$";
-        return input.matches(moneyRegex);
+        return parseHundredths(input, MAX_AMOUNT_DIGITS) != NOT_VALID;
     }
 
     /**
@@ -38,12 +57,8 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckInterestRate(String input) {
-        if (input.matches(INTEREST_RATE_REGEX)) {
-            double parsedInput = Double.parseDouble(input);
-            return (parsedInput < 100.00);
-        } else {
-            return false;
-        }
+        long parsedInput = parseHundredths(input, MAX_RATE_DIGITS);
+        return parsedInput > 0 && parsedInput < MAX_INTEREST_RATE_IN_HUNDREDTHS;
     }
 
     /**
@@ -55,12 +70,8 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckCashbackRate(String input) {
-        if (input.matches(INTEREST_RATE_REGEX)) {
-            double parsedInput = Double.parseDouble(input);
-            return (parsedInput <= 20.00);
-        } else {
-            return false;
-        }
+        long parsedInput = parseHundredths(input, MAX_RATE_DIGITS);
+        return parsedInput > 0 && parsedInput <= MAX_CASHBACK_RATE_IN_HUNDREDTHS;
     }
 
     /**
@@ -70,13 +81,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckListNumber(String input) {
-        final String listRegex = "^[0-9]\\d{0,8}$";
-        if (input.matches(listRegex)) {
-            int parsedInput = Integer.parseInt(input);
-            return (parsedInput > 0);
-        } else {
-            return false;
-        }
+        return parseWholeNumber(input, MAX_LIST_NUMBER_DIGITS) > 0;
     }
 
     /**
@@ -86,13 +91,8 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckBondYear(String input) {
-        final String yearRegex = "^[1-9]\\d{0,1}$";
-        if (input.matches(yearRegex)) {
-            int parsedInput = Integer.parseInt(input);
-            return (parsedInput <= 10);
-        } else {
-            return false;
-        }
+        int parsedInput = parseWholeNumberWithoutLeadingZero(input, MAX_RATE_DIGITS);
+        return parsedInput > 0 && parsedInput <= MAX_BOND_YEAR;
     }
 
     /**
@@ -105,8 +105,7 @@ public final class RegexUtil {
         if (input == null || input.isBlank()) {
             return false;
         }
-        final String nameRegex = "^[a-zA-Z0-9 ]{1,30}$";
-        return input.matches(nameRegex);
+        return NAME_PATTERN.matcher(input).matches();
     }
 
     /**
@@ -119,8 +118,7 @@ public final class RegexUtil {
         if (input == null || input.isBlank()) {
             return false;
         }
-        final String descriptionRegex = "^[a-zA-Z0-9 ]{1,50}$";
-        return input.matches(descriptionRegex);
+        return DESCRIPTION_PATTERN.matcher(input).matches();
     }
 
     /**
@@ -134,8 +132,7 @@ public final class RegexUtil {
         if (input == null || input.isBlank()) {
             return false;
         }
-        final String categoryRegex = "^[a-zA-Z ]{1,15}$";
-        return input.matches(categoryRegex);
+        return CATEGORY_PATTERN.matcher(input).matches();
     }
 
     /**
@@ -145,13 +142,8 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckDay(String input) {
-        final String dayRegex = "^(?:[1-9]\\d?|[12]\\d{2}|3[0-5]\\d|36[0-5])$";
-        if (input.matches(dayRegex)) {
-            int parsedDay = Integer.parseInt(input);
-            return (parsedDay <= 365);
-        } else {
-            return false;
-        }
+        int parsedDay = parseWholeNumberWithoutLeadingZero(input, MAX_DAY_DIGITS);
+        return parsedDay > 0 && parsedDay <= MAX_DAY;
     }
 
     /**
@@ -162,8 +154,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckDateFormat(String input) {
-        String dateRegex = "(0?[1-9]|[12][0-9]|3[01])/(0?[1-9]|1[012])/((19|20)\\d\\d)";
-        return input.matches(dateRegex);
+        return DATE_PATTERN.matcher(input).matches();
     }
 
     /**
@@ -173,8 +164,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckMonthYearFormat(String input) {
-        String dateRegex = "(0?[1-9]|1[012])/((19|20)\\d\\d)";
-        return input.matches(dateRegex);
+        return MONTH_YEAR_PATTERN.matcher(input).matches();
     }
 
     /**
@@ -184,8 +174,7 @@ public final class RegexUtil {
      * @return the result of the check on whether it fulfills the criteria.
      */
     public static boolean regexCheckExactNumFormat(String input) {
-        String intRegex = "1";
-        return input.matches(intRegex);
+        return "1".equals(input);
     }
 
     /**
@@ -198,7 +187,105 @@ public final class RegexUtil {
         if (input.isBlank() || input.isEmpty()) {
             return false;
         }
-        final String nameRegex = "^[a-zA-Z0-9 ]{1,20}$";
-        return input.matches(nameRegex);
+        return GOALS_NAME_PATTERN.matcher(input).matches();
+    }
+
+    /**
+     * Parses a non-negative decimal number with up to two decimal places, which may be preceded by whitespace.
+     *
+     * @param input           The user input to parse.
+     * @param maxWholeDigits  The maximum number of digits before the decimal point.
+     * @return the number in hundredths, or -1 if the input is not in the format.
+     */
+    private static long parseHundredths(String input, int maxWholeDigits) {
+        int position = 0;
+        while (position < input.length() && isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        int wholeStart = position;
+        long value = 0;
+        while (position < input.length() && isDigit(input.charAt(position))) {
+            value = value * TENS + (input.charAt(position) - '0');
+            position++;
+        }
+        int wholeDigits = position - wholeStart;
+        if (wholeDigits < 1 || wholeDigits > maxWholeDigits) {
+            return NOT_VALID;
+        }
+        int decimalPlaces = 0;
+        if (position < input.length() && input.charAt(position) == '.') {
+            position++;
+            while (position < input.length() && isDigit(input.charAt(position))) {
+                value = value * TENS + (input.charAt(position) - '0');
+                decimalPlaces++;
+                position++;
+            }
+            if (decimalPlaces < 1 || decimalPlaces > MAX_DECIMAL_PLACES) {
+                return NOT_VALID;
+            }
+        }
+        if (position != input.length()) {
+            return NOT_VALID;
+        }
+        for (; decimalPlaces < MAX_DECIMAL_PLACES; decimalPlaces++) {
+            value = value * TENS;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a whole number made up of only digits.
+     *
+     * @param input     The user input to parse.
+     * @param maxDigits The maximum number of digits.
+     * @return the number, or -1 if the input is not in the format.
+     */
+    private static int parseWholeNumber(String input, int maxDigits) {
+        if (input.isEmpty() || input.length() > maxDigits) {
+            return NOT_VALID;
+        }
+        int value = 0;
+        for (int i = 0; i < input.length(); i++) {
+            if (!isDigit(input.charAt(i))) {
+                return NOT_VALID;
+            }
+            value = value * TENS + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Parses a whole number made up of only digits that does not start with zero.
+     *
+     * @param input     The user input to parse.
+     * @param maxDigits The maximum number of digits.
+     * @return the number, or -1 if the input is not in the format.
+     */
+    private static int parseWholeNumberWithoutLeadingZero(String input, int maxDigits) {
+        if (!input.isEmpty() && input.charAt(0) == '0') {
+            return NOT_VALID;
+        }
+        return parseWholeNumber(input, maxDigits);
+    }
+
+    /**
+     * Checks whether a character is a digit from 0 to 9.
+     *
+     * @param character The character to check.
+     * @return true if the character is a digit.
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Checks whether a character is whitespace as matched by \\s in a regular expression.
+     *
+     * @param character The character to check.
+     * @return true if the character is whitespace.
+     */
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == '\u000B'
+                || character == '\f' || character == '\r';
     }
 }
@@ -0,0 +1,15 @@
+package owlmoney.model.bank;
+
+/**
+ * Listens for changes to the amount of money in a bank account.
+ */
+@FunctionalInterface
+public interface BalanceListener {
+
+    /**
+     * Handles a change to the amount of money in a bank account.
+     *
+     * @param bank The bank account whose amount changed.
+     */
+    void balanceChanged(Bank bank);
+}
@@ -3,21 +3,24 @@ package owlmoney.model.bank;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
 import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.LazyHandle;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 /**
@@ -26,10 +29,15 @@ import owlmoney.ui.Ui;
 public abstract class Bank {
     String type;
     private String accountName;
-    private double currentAmount;
-    TransactionList transactions;
+    private Money currentAmount;
+    private final LazyHandle<TransactionList> transactions;
+    private BalanceListener balanceListener;
+    private Runnable dueDateListener;
+    private Date nextDueDate;
+    private boolean isNextDueDateKnown;
     private static final Logger logger = getLogger(Bank.class);
-    static final double MAX_AMOUNT = 999999999.99;
+    static final Money MAX_AMOUNT = Money.ofCents(99999999999L);
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     /**
      * Allows the child class to create an instance with name and current amount.
@@ -39,7 +47,37 @@ public abstract class Bank {
      */
     Bank(String name, double currentAmount) {
         this.accountName = name;
-        this.currentAmount = currentAmount;
+        this.currentAmount = Money.fromDouble(currentAmount);
+        this.transactions = new LazyHandle<>(new TransactionList());
+    }
+
+    /**
+     * Gets the transaction list of the bank account, loading it from persistent storage if needed.
+     *
+     * @return the transaction list of the bank account.
+     */
+    TransactionList getTransactions() {
+        return transactions.get();
+    }
+
+    /**
+     * Sets the loader that imports the transactions of the bank account the first time they are needed.
+     * The size of the transaction list is recorded once the import is done.
+     *
+     * @param loader the loader that imports the transactions.
+     */
+    public void setTransactionsLoader(Runnable loader) {
+        transactions.setLoader(loader == null ? null : () -> {
+            loader.run();
+            getTransactions().recordSize();
+        });
+    }
+
+    /**
+     * Loads all data of the bank account that has not been loaded from persistent storage.
+     */
+    void loadAllData() {
+        getTransactions();
     }
 
     /**
@@ -66,7 +104,56 @@ public abstract class Bank {
      * @param newAmount the new amount in the bank account.
      */
     void setCurrentAmount(double newAmount) {
+        setCurrentMoney(Money.fromDouble(newAmount));
+    }
+
+    /**
+     * Sets the bank account to a new exact amount.
+     *
+     * @param newAmount the new amount in the bank account.
+     */
+    void setCurrentMoney(Money newAmount) {
         this.currentAmount = newAmount;
+        notifyBalanceChanged();
+    }
+
+    /**
+     * Sets the listener that is notified whenever the amount in the bank account changes.
+     *
+     * @param balanceListener The listener to notify, or null to stop notifying.
+     */
+    void setBalanceListener(BalanceListener balanceListener) {
+        this.balanceListener = balanceListener;
+    }
+
+    /**
+     * Sets the listener that is notified whenever a recurring transaction of the bank account changes,
+     * so that the earliest due date of the bank account may have changed.
+     *
+     * @param dueDateListener The listener to notify, or null to stop notifying.
+     */
+    void setDueDateListener(Runnable dueDateListener) {
+        this.dueDateListener = dueDateListener;
+    }
+
+    /**
+     * Forgets the earliest due date of the bank account after its recurring transactions changed,
+     * and notifies the listener.
+     */
+    void dueDateChanged() {
+        isNextDueDateKnown = false;
+        if (dueDateListener != null) {
+            dueDateListener.run();
+        }
+    }
+
+    /**
+     * Notifies the listener that the amount in the bank account changed.
+     */
+    private void notifyBalanceChanged() {
+        if (balanceListener != null) {
+            balanceListener.balanceChanged(this);
+        }
     }
 
     /**
@@ -84,6 +171,15 @@ public abstract class Bank {
      * @return The currentAmount of money in the bank account.
      */
     public double getCurrentAmount() {
+        return this.currentAmount.toDouble();
+    }
+
+    /**
+     * Gets the exact amount of money in the instance of the bank account.
+     *
+     * @return The currentAmount of money in the bank account.
+     */
+    Money getCurrentMoney() {
         return this.currentAmount;
     }
 
@@ -93,7 +189,8 @@ public abstract class Bank {
      * @param amount Amount to be deducted.
      */
     void deductFromAmount(double amount) {
-        this.currentAmount -= amount;
+        this.currentAmount = this.currentAmount.minus(Money.fromDouble(amount));
+        notifyBalanceChanged();
     }
 
     /**
@@ -102,7 +199,21 @@ public abstract class Bank {
      * @param amount Amount to be added.
      */
     void addToAmount(double amount) {
-        this.currentAmount += amount;
+        this.currentAmount = this.currentAmount.plus(Money.fromDouble(amount));
+        notifyBalanceChanged();
+    }
+
+    /**
+     * Adds to and deducts from amount in bank as a single change.
+     * The listener is only notified of the final amount, never of the amount in between.
+     *
+     * @param addedAmount    Amount to be added.
+     * @param deductedAmount Amount to be deducted.
+     */
+    void adjustAmount(double addedAmount, double deductedAmount) {
+        this.currentAmount = this.currentAmount.plus(Money.fromDouble(addedAmount))
+                .minus(Money.fromDouble(deductedAmount));
+        notifyBalanceChanged();
     }
 
     /**
@@ -310,6 +421,51 @@ public abstract class Bank {
      */
     abstract void updateRecurringTransactions(Ui ui) throws BankException;
 
+    /**
+     * Gets the earliest date on which a recurring transaction of the bank account falls due.
+     * The date is only looked up again after the recurring transactions of the bank account change.
+     *
+     * @return The earliest due date, or null if the bank account has no recurring transactions.
+     */
+    synchronized Date getNextDueDate() {
+        if (!isNextDueDateKnown) {
+            nextDueDate = findNextDueDate();
+            isNextDueDateKnown = true;
+        }
+        return nextDueDate;
+    }
+
+    /**
+     * Looks up the earliest date on which a recurring transaction of the bank account falls due.
+     *
+     * @return The earliest due date, or null if the bank account has no recurring transactions.
+     */
+    abstract Date findNextDueDate();
+
+    /**
+     * Sets the storage that the data of the bank account is saved to once it is added to a bank list.
+     *
+     * @param storage The storage of the profile that the bank account belongs to.
+     */
+    abstract void setStorage(Storage storage);
+
+    /**
+     * Gets the earlier of two due dates, either of which may be null.
+     *
+     * @param firstDate  The first due date.
+     * @param secondDate The second due date.
+     * @return The earlier due date, or null if both are null.
+     */
+    static Date getEarlierDueDate(Date firstDate, Date secondDate) {
+        if (firstDate == null) {
+            return secondDate;
+        }
+        if (secondDate == null || firstDate.compareTo(secondDate) <= 0) {
+            return firstDate;
+        }
+        return secondDate;
+    }
+
     /**
      * Adds a new recurring expenditure to a savings account.
      *
@@ -398,7 +554,25 @@ public abstract class Bank {
      */
     void findTransaction(String fromDate, String toDate, String description, String category, Ui ui)
             throws TransactionException {
-        transactions.findMatchingTransaction(fromDate, toDate, description, category, ui);
+        getTransactions().findMatchingTransaction(fromDate, toDate, description, category, ui);
+    }
+
+    /**
+     * Adds the searches of the transaction lists in the bank object to the list of search tasks.
+     * The transaction lists are loaded before the tasks are created so that the tasks only read them.
+     *
+     * @param searchTasks The list of search tasks to add to.
+     * @param fromDate The date to search from.
+     * @param toDate The date to search until.
+     * @param description The description keyword to match against.
+     * @param category The category keyword to match against.
+     */
+    void addSearchTasks(List<TransactionSearchTask> searchTasks, String fromDate, String toDate,
+            String description, String category) {
+        TransactionList transactionList = getTransactions();
+        String sourceName = getAccountName() + " transactions";
+        searchTasks.add(() -> transactionList.searchMatchingTransaction(
+                sourceName, fromDate, toDate, description, category));
     }
 
     /**
@@ -420,35 +594,55 @@ public abstract class Bank {
      */
     ArrayList<String[]> prepareExportTransactionList() {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat("#.##");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
-        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
         exportArrayList.add(new String[]{"description","amount","date","category","spent","cardId","billDate"});
-        for (int i = 0; i < transactions.getSize(); i++) {
-            String description = transactions.get(i).getDescription();
-            double amount = transactions.get(i).getAmount();
-            String date = exportDateFormat.format(transactions.get(i).getDateInDateFormat());
-            String category = transactions.get(i).getCategory();
-            boolean spent = transactions.get(i).getSpent();
-            String stringAmount = decimalFormat.format(amount);
-            String stringSpent = String.valueOf(spent);
-            UUID cardId = transactions.get(i).getTransactionCardID();
-            YearMonth billDate = transactions.get(i).getBillDate();
-            String stringUuid = "";
-            if (cardId != null) {
-                stringUuid = cardId.toString();
-            }
-            String stringBillDate = "";
-            if (billDate != null) {
-                stringBillDate = billDate.toString();
-            }
-            exportArrayList.add(new String[] {description,stringAmount,date,category,stringSpent,
-                stringUuid,stringBillDate});
+        for (int i = 0; i < getTransactions().getSize(); i++) {
+            exportArrayList.add(prepareExportTransaction(getTransactions().get(i)));
         }
         logger.info("Successfully prepared transactionList for exporting");
         return exportArrayList;
     }
 
+    /**
+     * Prepares the details of one transaction of the bank account for exporting.
+     *
+     * @param transaction the transaction to export.
+     * @return the row of the transaction in the exported file.
+     */
+    String[] prepareExportTransaction(Transaction transaction) {
+        String description = transaction.getDescription();
+        String date = EXPORT_DATE_FORMAT.format(transaction.getLocalDate());
+        String category = transaction.getCategory();
+        boolean spent = transaction.getSpent();
+        String stringAmount = transaction.getMoney().toCompactString();
+        String stringSpent = String.valueOf(spent);
+        UUID cardId = transaction.getTransactionCardID();
+        YearMonth billDate = transaction.getBillDate();
+        String stringUuid = "";
+        if (cardId != null) {
+            stringUuid = cardId.toString();
+        }
+        String stringBillDate = "";
+        if (billDate != null) {
+            stringBillDate = billDate.toString();
+        }
+        return new String[] {description,stringAmount,date,category,stringSpent,stringUuid,stringBillDate};
+    }
+
+    /**
+     * Writes the transaction list of the bank account to its file, writing only the rows that changed
+     * since it was last written to the same file where possible.
+     *
+     * @param storage the storage the file is written to.
+     * @param fileName name of the file the transaction list is written to.
+     * @throws IOException if there are errors writing the file.
+     */
+    void writeTransactionList(Storage storage, String fileName) throws IOException {
+        TransactionList transactionList = transactions.getToSave();
+        storage.writeFile(transactionList.getExportChanges(fileName, this::prepareExportTransaction),
+                this::prepareExportTransactionList, fileName);
+        transactionList.setExported(fileName);
+    }
+
     /**
      * Prepares transaction details of the bank account for exporting.
      *
@@ -489,7 +683,7 @@ public abstract class Bank {
      * @param newBond an instance of the bond, contained in 1 line in the saved file.
      * @throws BankException if the bank account does not support this feature.
      */
-    void importNewBonds(Bond newBond) throws BankException {
+    public void importNewBonds(Bond newBond) throws BankException {
         logger.warning("This account does not support this feature");
         throw new BankException("This account does not support this feature");
     }
@@ -501,7 +695,7 @@ public abstract class Bank {
      * @param bankType the type of deposit and bank type.
      * @throws BankException if the bank account does not support this feature.
      */
-    void importNewDeposit(Transaction deposit, String bankType) throws BankException {
+    public void importNewDeposit(Transaction deposit, String bankType) throws BankException {
         logger.warning("This account does not support this feature");
         throw new BankException("This account does not support this feature");
     }
@@ -511,8 +705,9 @@ public abstract class Bank {
      *
      * @param expenditure an instance of the expenditure, contained in 1 line in the saved file.
      * @param type the type of expenditure.
-     * @throws BankException if the bank account does not support this feature.     */
-    void importNewExpenditure(Transaction expenditure, String type) throws BankException {
+     * @throws BankException if the bank account does not support this feature.
+     */
+    public void importNewExpenditure(Transaction expenditure, String type) throws BankException {
         logger.warning("This account does not support this feature");
         throw new BankException("This account does not support this feature");
     }
@@ -523,7 +718,7 @@ public abstract class Bank {
      * @param expenditure an instance of the recurring expenditure, contained in 1 line in the saved file.
      * @throws BankException if the bank account does not support this feature.
      */
-    void importNewRecurringExpenditure(Transaction expenditure) throws BankException {
+    public void importNewRecurringExpenditure(Transaction expenditure) throws BankException {
         logger.warning("This account does not support this feature");
         throw new BankException("This account does not support this feature");
     }
@@ -594,7 +789,7 @@ public abstract class Bank {
      * @throws BankException If the bank amount exceeds 9 digits.
      */
     public void enoughForTransfer(double amount) throws BankException {
-        if (this.currentAmount + amount > MAX_AMOUNT) {
+        if (this.currentAmount.plus(Money.fromDouble(amount)).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the receiving bank account cannot exceed 9 digits");
             throw new BankException("The amount in the receiving bank account cannot exceed 9 digits");
         }
@@ -3,20 +3,21 @@ package owlmoney.model.bank;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
-import java.math.RoundingMode;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
@@ -26,6 +27,9 @@ import owlmoney.ui.Ui;
  */
 public class BankList {
     private ArrayList<Bank> bankLists;
+    private HashMap<String, Integer> bankIndexByName;
+    private BalanceListener balanceListener;
+    private Runnable dueDateListener;
     private Storage storage;
     private static final String SAVING = "saving";
     private static final String INVESTMENT = "investment";
@@ -35,7 +39,7 @@ public class BankList {
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
     private static final int ISZERO = 0;
-    private static final String FILE_PATH = "data/";
+    private static final int OBJ_DOES_NOT_EXIST = -1;
     private static final String PROFILE_BANK_LIST_FILE_NAME = "profile_banklist.csv";
     private static final String INVESTMENT_BOND_LIST_FILE_NAME = "_investment_bondList.csv";
     private static final String INVESTMENT_TRANSACTION_LIST_FILE_NAME = "_investment_transactionList.csv";
@@ -50,9 +54,106 @@ public class BankList {
      */
     public BankList(Storage storage) {
         bankLists = new ArrayList<Bank>();
+        bankIndexByName = new HashMap<String, Integer>();
         this.storage = storage;
     }
 
+    /**
+     * Gets the position of the bank account with the specified name, ignoring case.
+     *
+     * @param bankName The name of the bank account.
+     * @return The position of the bank account in the bankList, or -1 if it does not exist.
+     */
+    private int getBankIndexByName(String bankName) {
+        if (bankName == null) {
+            return OBJ_DOES_NOT_EXIST;
+        }
+        return bankIndexByName.getOrDefault(bankName.toUpperCase(), OBJ_DOES_NOT_EXIST);
+    }
+
+    /**
+     * Gets the bank account with the specified name, ignoring case.
+     *
+     * @param bankName The name of the bank account.
+     * @return The bank account, or null if it does not exist.
+     */
+    private Bank getBankByName(String bankName) {
+        int index = getBankIndexByName(bankName);
+        if (index == OBJ_DOES_NOT_EXIST) {
+            return null;
+        }
+        return bankLists.get(index);
+    }
+
+    /**
+     * Sets the listener that is notified whenever the earliest due date of the bankList may have changed.
+     *
+     * @param dueDateListener The listener to notify.
+     */
+    public void setDueDateListener(Runnable dueDateListener) {
+        this.dueDateListener = dueDateListener;
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).setDueDateListener(dueDateListener);
+        }
+    }
+
+    /**
+     * Notifies the listener that a bank account was added or removed, so the earliest due date may have changed.
+     */
+    private void dueDateChanged() {
+        if (dueDateListener != null) {
+            dueDateListener.run();
+        }
+    }
+
+    /**
+     * Sets the listener that is notified whenever the amount in any bank account in the bankList changes.
+     *
+     * @param balanceListener The listener to notify.
+     */
+    public void setBalanceListener(BalanceListener balanceListener) {
+        this.balanceListener = balanceListener;
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).setBalanceListener(balanceListener);
+        }
+    }
+
+    /**
+     * Appends a bank account to the bankList and indexes it by name.
+     *
+     * @param newBank The bank account to append.
+     */
+    private void appendBank(Bank newBank) {
+        newBank.setBalanceListener(balanceListener);
+        newBank.setDueDateListener(dueDateListener);
+        newBank.setStorage(storage);
+        bankLists.add(newBank);
+        bankIndexByName.putIfAbsent(newBank.getAccountName().toUpperCase(), bankLists.size() - ONE_INDEX);
+        dueDateChanged();
+    }
+
+    /**
+     * Renames a bank account and moves it to its new name in the index.
+     *
+     * @param currentBank The bank account to rename.
+     * @param newName     The new name of the bank account.
+     */
+    private void renameBank(Bank currentBank, String newName) {
+        Integer index = bankIndexByName.remove(currentBank.getAccountName().toUpperCase());
+        currentBank.setAccountName(newName);
+        bankIndexByName.put(newName.toUpperCase(), index);
+    }
+
+    /**
+     * Rebuilds the name index after the positions of bank accounts have shifted.
+     */
+    private void reindexBanks() {
+        bankIndexByName.clear();
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankIndexByName.putIfAbsent(bankLists.get(i).getAccountName().toUpperCase(), i);
+        }
+    }
+
     /**
      * Gets the saving account with the specified name.
      *
@@ -60,16 +161,10 @@ public class BankList {
      * @return The name of the bank account.
      */
     public Bank bankListGetSavingAccount(String bankName) throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = 0; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            String currentBankType = currentBank.getType();
-            if (capitalBankName.equals(capitalCurrentBankName) && currentBankType.equals(SAVING)) {
-                logger.info("Obtained savings account of name: " + currentBank.getAccountName());
-                return currentBank;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null && currentBank.getType().equals(SAVING)) {
+            logger.info(() -> "Obtained savings account of name: " + currentBank.getAccountName());
+            return currentBank;
         }
         logger.warning("Cannot find savings account with the name: " + bankName);
         throw new BankException("Cannot find savings account with the name: " + bankName);
@@ -95,7 +190,7 @@ public class BankList {
             logger.warning("The maximum limit of 3 investment account has been reached");
             throw new BankException("The maximum limit of 3 investment account has been reached");
         }
-        bankLists.add(newBank);
+        appendBank(newBank);
         logger.info("Added bank account");
         ui.printMessage("Added new bank with following details: ");
         printOneBank(ONE_INDEX, newBank, ISSINGLE, ui);
@@ -151,16 +246,10 @@ public class BankList {
      * @return the result bankName is of bankType.
      */
     private boolean hasCorrectBankNameAndType(String bankName, String bankType) {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)
-                    && (bankType.equals(currentBank.getType()))) {
-                logger.info("Bank account has correct name and type");
-                return true;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null && (bankType.equals(currentBank.getType()))) {
+            logger.info("Bank account has correct name and type");
+            return true;
         }
         return false;
     }
@@ -172,15 +261,10 @@ public class BankList {
      * @return the result bankName exists.
      */
     private boolean bankAccountExists(String bankName) {
-        String capitalName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalNameInList = currentBankName.toUpperCase();
-            if (capitalName.equals(capitalNameInList)) {
-                logger.info("Bank account exists");
-                return true;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            logger.info("Bank account exists");
+            return true;
         }
         return false;
     }
@@ -224,39 +308,44 @@ public class BankList {
      * @throws BankException If bank account fails any criteria.
      */
     public void bankListDeleteBank(String bankName, String bankType, Ui ui) throws BankException {
-        String capitalBankName = bankName.toUpperCase();
         if (canPassDeleteBankRequirements(bankName, bankType)) {
-            for (int i = ISZERO; i < getBankListSize(); i++) {
+            loadAllBankData();
+            int i = getBankIndexByName(bankName);
+            if (i != OBJ_DOES_NOT_EXIST) {
                 Bank currentBank = bankLists.get(i);
-                String currentBankName = currentBank.getAccountName();
-                String capitalCurrentBankName = currentBankName.toUpperCase();
-                if (capitalBankName.equals(capitalCurrentBankName)) {
-                    bankLists.remove(i);
-                    logger.info("Successfully deleted bank");
-                    ui.printMessage("Removed bank with the following details: ");
-                    printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
-                    try {
-                        exportBankList();
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + INVESTMENT_BOND_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + INVESTMENT_TRANSACTION_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + SAVING_TRANSACTION_LIST_FILE_NAME));
-                        Files.deleteIfExists(Paths.get(FILE_PATH + Integer.toString(i)
-                                + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME));
-                        logger.info("Successfully saved all bank list");
-                    } catch (IOException e) {
-                        ui.printError("Error trying to save your deletions to disk."
-                                + " Your data is at risk, but we will try again,"
-                                + " feel free to continue using the program.");
-                    }
-                    break;
+                storage.captureDeferredWrites();
+                bankLists.remove(i);
+                reindexBanks();
+                dueDateChanged();
+                logger.info("Successfully deleted bank");
+                ui.printMessage("Removed bank with the following details: ");
+                printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
+                try {
+                    exportBankList();
+                    storage.deleteFile(Integer.toString(i) + INVESTMENT_BOND_LIST_FILE_NAME);
+                    storage.deleteFile(Integer.toString(i) + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
+                    storage.deleteFile(Integer.toString(i) + SAVING_TRANSACTION_LIST_FILE_NAME);
+                    storage.deleteFile(Integer.toString(i) + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME);
+                    logger.info("Successfully saved all bank list");
+                } catch (IOException e) {
+                    ui.printError("Error trying to save your deletions to disk."
+                            + " Your data is at risk, but we will try again,"
+                            + " feel free to continue using the program.");
                 }
             }
         }
     }
 
+    /**
+     * Loads the data of all bank accounts that have not been loaded from persistent storage.
+     * Data files are named after the position of the account, so they must be loaded before positions shift.
+     */
+    private void loadAllBankData() {
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            bankLists.get(i).loadAllData();
+        }
+    }
+
     /**
      * Edits the saving details.
      *
@@ -269,37 +358,31 @@ public class BankList {
      */
     public void bankListEditSavings(String bankName, String newName, String amount, String income, Ui ui)
             throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)
-                    && "saving".equals(currentBank.getType())) {
-                if (!(newName == null || newName.isBlank())) {
-                    compareBank(currentBank, newName);
-                    currentBank.setAccountName(newName);
-                }
-                if (!(amount == null || amount.isBlank())) {
-                    currentBank.setCurrentAmount(Double.parseDouble(amount));
-                }
-                if (!(income == null || income.isBlank())) {
-                    currentBank.setIncome(Double.parseDouble(income));
-                }
-                logger.info("Edited bank details");
-                ui.printMessage("New details of the account:");
-                printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
-                try {
-                    exportBankList();
-                    logger.info("Successfully exported bankList");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null && "saving".equals(currentBank.getType())) {
+            if (!(newName == null || newName.isBlank())) {
+                compareBank(currentBank, newName);
+                renameBank(currentBank, newName);
+            }
+            if (!(amount == null || amount.isBlank())) {
+                currentBank.setCurrentAmount(Double.parseDouble(amount));
+            }
+            if (!(income == null || income.isBlank())) {
+                currentBank.setIncome(Double.parseDouble(income));
+            }
+            logger.info("Edited bank details");
+            ui.printMessage("New details of the account:");
+            printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
+            try {
+                exportBankList();
+                logger.info("Successfully exported bankList");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("There are no savings account with the name: " + bankName);
         throw new BankException("There are no savings account with the name: " + bankName);
@@ -313,15 +396,10 @@ public class BankList {
      * @throws BankException If new name is not unique.
      */
     private void compareBank(Bank currentBank, String newBankName) throws BankException {
-        String capitalNewBankName = newBankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank checkBank = bankLists.get(i);
-            String checkBankName = checkBank.getAccountName();
-            String capitalCheckBankName = checkBankName.toUpperCase();
-            if (capitalCheckBankName.equals(capitalNewBankName) && !checkBank.equals(currentBank)) {
-                logger.warning("There is already a bank account with the name " + newBankName);
-                throw new BankException("There is already a bank account with the name " + newBankName);
-            }
+        Bank checkBank = getBankByName(newBankName);
+        if (checkBank != null && !checkBank.equals(currentBank)) {
+            logger.warning("There is already a bank account with the name " + newBankName);
+            throw new BankException("There is already a bank account with the name " + newBankName);
         }
     }
 
@@ -336,34 +414,28 @@ public class BankList {
      */
     public void bankListEditInvestment(String bankName, String newName, String amount, Ui ui)
             throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)
-                    && "investment".equals(bankLists.get(i).getType())) {
-                if (!(newName == null || newName.isBlank())) {
-                    compareBank(currentBank, newName);
-                    currentBank.setAccountName(newName);
-                }
-                if (!(amount == null || amount.isBlank())) {
-                    currentBank.setCurrentAmount(Double.parseDouble(amount));
-                }
-                logger.info("Edited investment details");
-                ui.printMessage("New details of the account:");
-                printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
-                try {
-                    exportBankList();
-                    logger.info("Successfully exported bankList");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null && "investment".equals(currentBank.getType())) {
+            if (!(newName == null || newName.isBlank())) {
+                compareBank(currentBank, newName);
+                renameBank(currentBank, newName);
             }
+            if (!(amount == null || amount.isBlank())) {
+                currentBank.setCurrentAmount(Double.parseDouble(amount));
+            }
+            logger.info("Edited investment details");
+            ui.printMessage("New details of the account:");
+            printOneBank(ONE_INDEX, currentBank, ISSINGLE, ui);
+            try {
+                exportBankList();
+                logger.info("Successfully exported bankList");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+            }
+            return;
         }
         logger.warning("There are no bank with the name: " + bankName);
         throw new BankException("There are no bank with the name: " + bankName);
@@ -407,16 +479,10 @@ public class BankList {
      */
     public void bankListListBankExpenditure(String bankToList, Ui ui, int expenditureToDisplay)
             throws TransactionException, BankException {
-        String capitalBankToList = bankToList.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankToList.equals(capitalCurrentBankName)) {
-                currentBank.listAllExpenditure(ui, expenditureToDisplay);
-                return;
-            }
-            logger.info("Successfully listed bank expenditures");
+        Bank currentBank = getBankByName(bankToList);
+        if (currentBank != null) {
+            currentBank.listAllExpenditure(ui, expenditureToDisplay);
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankToList);
         throw new BankException("Cannot find bank with name: " + bankToList);
@@ -433,16 +499,10 @@ public class BankList {
      */
     public void bankListListBankDeposit(String bankToList, Ui ui, int depositsToDisplay)
             throws TransactionException, BankException {
-        String capitalBankToList = bankToList.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankToList.equals(capitalCurrentBankName)) {
-                currentBank.listAllDeposit(ui, depositsToDisplay);
-                return;
-            }
-            logger.info("Successfully listed deposits");
+        Bank currentBank = getBankByName(bankToList);
+        if (currentBank != null) {
+            currentBank.listAllDeposit(ui, depositsToDisplay);
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankToList);
         throw new BankException("Cannot find bank with name: " + bankToList);
@@ -460,25 +520,22 @@ public class BankList {
      */
     public void bankListAddExpenditure(String accountName, Transaction expenditure, Ui ui, String type)
             throws BankException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                currentBank.addInExpenditure(expenditure, ui, type);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.addInExpenditure(expenditure, ui, type);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("There is no account with the name: " + accountName);
         throw new BankException("There is no account with the name: " + accountName);
@@ -499,25 +556,22 @@ public class BankList {
      */
     public void bankListEditExpenditure(int transactionNumber, String editFromBank, String description,
             String amount, String date, String category, Ui ui) throws BankException, TransactionException {
-        String capitalEditFromBank = editFromBank.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(editFromBank);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalCurrentBankName.equals(capitalEditFromBank)) {
-                currentBank.editExpenditureDetails(transactionNumber, description, amount, date, category, ui);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.editExpenditureDetails(transactionNumber, description, amount, date, category, ui);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + editFromBank);
         throw new BankException("Cannot find bank with name: " + editFromBank);
@@ -536,25 +590,22 @@ public class BankList {
     public void bankListDeleteExpenditure(
             int transactionNumber, String deleteFromBank, Ui ui, boolean isCreditCardBill)
             throws TransactionException, BankException {
-        String capitalDeleteFromBank = deleteFromBank.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(deleteFromBank);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalCurrentBankName.equals(capitalDeleteFromBank)) {
-                currentBank.deleteExpenditure(transactionNumber, ui, isCreditCardBill);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your deletes to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.deleteExpenditure(transactionNumber, ui, isCreditCardBill);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your deletes to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + deleteFromBank);
         throw new BankException("Cannot find bank with name: " + deleteFromBank);
@@ -572,25 +623,22 @@ public class BankList {
      */
     public void bankListAddDeposit(String accountName, Transaction deposit, Ui ui, String bankType)
             throws BankException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                currentBank.addDepositTransaction(deposit, ui, bankType);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.addDepositTransaction(deposit, ui, bankType);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + accountName);
         throw new BankException("Cannot find bank with name: " + accountName);
@@ -611,25 +659,22 @@ public class BankList {
      */
     public void bankListEditDeposit(int transactionNumber, String editFromBank, String description,
             String amount, String date, Ui ui) throws BankException, TransactionException {
-        String capitalEditFromBank = editFromBank.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(editFromBank);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalEditFromBank.equals(capitalCurrentBankName)) {
-                currentBank.editDepositDetails(transactionNumber, description, amount, date, ui);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.editDepositDetails(transactionNumber, description, amount, date, ui);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + editFromBank);
         throw new BankException("Cannot find bank with name: " + editFromBank);
@@ -647,25 +692,22 @@ public class BankList {
      */
     public void bankListDeleteDeposit(String accountName, int index, Ui ui, boolean isCardBill)
             throws BankException, TransactionException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                currentBank.deleteDepositTransaction(index, ui, isCardBill);
-                try {
-                    exportBankList();
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your deletions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.deleteDepositTransaction(index, ui, isCardBill);
+            try {
+                exportBankList();
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your deletions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + accountName);
         throw new BankException("Cannot find bank with name: " + accountName);
@@ -680,16 +722,11 @@ public class BankList {
      * @throws BondException If duplicate bond name found.
      */
     public void bankListIsBondExist(String accountName, Bond bond) throws BankException, BondException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                currentBank.investmentCheckBondExist(bond);
-                logger.info(bond.getName() + " exists");
-                return;
-            }
+        Bank currentBank = getBankByName(accountName);
+        if (currentBank != null) {
+            currentBank.investmentCheckBondExist(bond);
+            logger.info(() -> bond.getName() + " exists");
+            return;
         }
         logger.warning("Cannot find bank with name: " + accountName);
         throw new BankException("Cannot find bank with name: " + accountName);
@@ -704,26 +741,23 @@ public class BankList {
      * @throws BankException If bank account does not exist.
      */
     public void bankListAddBond(String accountName, Bond bond, Ui ui) throws BankException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                currentBank.addBondToInvestmentAccount(bond, ui);
-                try {
-                    exportBankList();
-                    currentBank.exportInvestmentBondList(Integer.toString(i));
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.addBondToInvestmentAccount(bond, ui);
+            try {
+                exportBankList();
+                currentBank.exportInvestmentBondList(Integer.toString(i));
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + accountName);
         throw new BankException("Cannot find bank with name: " + accountName);
@@ -741,26 +775,23 @@ public class BankList {
      */
     public void bankListEditBond(String bankName, String bondName, String year, String rate, Ui ui)
             throws BankException, BondException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(bankName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.investmentEditBond(bondName, year, rate, ui);
-                try {
-                    exportBankList();
-                    currentBank.exportInvestmentBondList(Integer.toString(i));
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.investmentEditBond(bondName, year, rate, ui);
+            try {
+                exportBankList();
+                currentBank.exportInvestmentBondList(Integer.toString(i));
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -775,26 +806,23 @@ public class BankList {
      * @throws BankException if the bank is not found.
      */
     public void bankListDeleteBond(String bankName, String bondName, Ui ui) throws BankException, BondException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(bankName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.investmentDeleteBond(bondName, ui);
-                try {
-                    exportBankList();
-                    currentBank.exportInvestmentBondList(Integer.toString(i));
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your deletions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                }
-                return;
+            currentBank.investmentDeleteBond(bondName, ui);
+            try {
+                exportBankList();
+                currentBank.exportInvestmentBondList(Integer.toString(i));
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your deletions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -810,14 +838,9 @@ public class BankList {
      * @throws BondException if the bond does not exist.
      */
     public Bond bankListGetBond(String bankName, String bondName) throws BankException, BondException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                return currentBank.investmentGetBond(bondName);
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            return currentBank.investmentGetBond(bondName);
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -833,15 +856,10 @@ public class BankList {
      * @throws BondException If there are no bonds.
      */
     public void bankListListBond(String bankName, Ui ui, int displayNum) throws BankException, BondException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.investmentListBond(displayNum, ui);
-                return;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            currentBank.investmentListBond(displayNum, ui);
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -862,12 +880,10 @@ public class BankList {
         }
 
         if (INVESTMENT.equals(bank.getType())) {
-            ui.printInvestment(num, bank.getAccountName(), bank.getType(),
-                    "$" + new DecimalFormat("0.00").format(bank.getCurrentAmount()));
+            ui.printInvestment(num, bank.getAccountName(), bank.getType(), bank.getCurrentMoney());
         } else if (SAVING.equals(bank.getType())) {
-            ui.printSaving(num, bank.getAccountName(), bank.getType(),
-                    "$" + new DecimalFormat("0.00").format(bank.getCurrentAmount()),
-                    "$" + new DecimalFormat("0.00").format(bank.getIncome()));
+            ui.printSaving(num, bank.getAccountName(), bank.getType(), bank.getCurrentMoney(),
+                    Money.fromDouble(bank.getIncome()));
         }
         if (!isMultiplePrinting) {
             ui.printDivider();
@@ -897,29 +913,26 @@ public class BankList {
      */
     public void bankListAddRecurringExpenditure(String bankName, Transaction newRecurringExpenditure, Ui ui)
             throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(bankName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.savingAddRecurringExpenditure(newRecurringExpenditure, ui);
-                try {
-                    exportBankList();
-                    if (currentBank.getType().equals(INVESTMENT)) {
-                        currentBank.exportInvestmentBondList(Integer.toString(i));
-                    }
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    currentBank.exportBankRecurringTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
+            currentBank.savingAddRecurringExpenditure(newRecurringExpenditure, ui);
+            try {
+                exportBankList();
+                if (currentBank.getType().equals(INVESTMENT)) {
+                    currentBank.exportInvestmentBondList(Integer.toString(i));
                 }
-                return;
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                currentBank.exportBankRecurringTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -936,29 +949,26 @@ public class BankList {
      */
     public void bankListDeleteRecurringExpenditure(String bankName, int index, Ui ui)
             throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(bankName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.savingDeleteRecurringExpenditure(index, ui);
-                try {
-                    exportBankList();
-                    if (currentBank.getType().equals(INVESTMENT)) {
-                        currentBank.exportInvestmentBondList(Integer.toString(i));
-                    }
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    currentBank.exportBankRecurringTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your deletions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
+            currentBank.savingDeleteRecurringExpenditure(index, ui);
+            try {
+                exportBankList();
+                if (currentBank.getType().equals(INVESTMENT)) {
+                    currentBank.exportInvestmentBondList(Integer.toString(i));
                 }
-                return;
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                currentBank.exportBankRecurringTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your deletions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -974,15 +984,10 @@ public class BankList {
      */
     public void bankListListRecurringExpenditure(String bankName, Ui ui)
             throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.savingListRecurringExpenditure(ui);
-                return;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            currentBank.savingListRecurringExpenditure(ui);
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -1000,30 +1005,27 @@ public class BankList {
     public void bankListEditRecurringExpenditure(
             String bankName, int index, String description, String amount, String category, Ui ui)
             throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(bankName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
             String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
             String currentBankType = currentBank.getType();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.savingEditRecurringExpenditure(index, description, amount, category, ui);
-                try {
-                    exportBankList();
-                    if (currentBankType.equals(INVESTMENT)) {
-                        currentBank.exportInvestmentBondList(Integer.toString(i));
-                    }
-                    currentBank.exportBankTransactionList(Integer.toString(i));
-                    currentBank.exportBankRecurringTransactionList(Integer.toString(i));
-                    logger.info("Successfully exported " + currentBankName + " details");
-                } catch (IOException e) {
-                    logger.warning("Error trying to save your additions to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
-                    ui.printError("Error trying to save your edits to disk. Your data is"
-                            + " at risk, but we will try again, feel free to continue using the program.");
+            currentBank.savingEditRecurringExpenditure(index, description, amount, category, ui);
+            try {
+                exportBankList();
+                if (currentBankType.equals(INVESTMENT)) {
+                    currentBank.exportInvestmentBondList(Integer.toString(i));
                 }
-                return;
+                currentBank.exportBankTransactionList(Integer.toString(i));
+                currentBank.exportBankRecurringTransactionList(Integer.toString(i));
+                logger.info(() -> "Successfully exported " + currentBankName + " details");
+            } catch (IOException e) {
+                logger.warning("Error trying to save your additions to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
+                ui.printError("Error trying to save your edits to disk. Your data is"
+                        + " at risk, but we will try again, feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -1056,6 +1058,19 @@ public class BankList {
         }
     }
 
+    /**
+     * Gets the earliest date on which a recurring transaction of any bank account falls due.
+     *
+     * @return The earliest due date, or null if no bank account has recurring transactions.
+     */
+    public Date getNextDueDate() {
+        Date nextDueDate = null;
+        for (int i = ISZERO; i < getBankListSize(); i++) {
+            nextDueDate = Bank.getEarlierDueDate(nextDueDate, bankLists.get(i).getNextDueDate());
+        }
+        return nextDueDate;
+    }
+
     /**
      * Checks whether the bank object to transfer the fund actually exist in the list.
      *
@@ -1064,16 +1079,12 @@ public class BankList {
      * @throws BankException If bank does not exist.
      */
     public String getTransferBankType(String accountName, double amount) throws BankException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                checkSufficientForTransfer(bankLists.get(i), amount);
-                logger.info("Successfully found bank type for transfer");
-                return currentBank.getType();
-            }
+            checkSufficientForTransfer(bankLists.get(i), amount);
+            logger.info("Successfully found bank type for transfer");
+            return currentBank.getType();
         }
         logger.warning("Unable to transfer fund as the sender bank account does not exist: "
                 + accountName);
@@ -1088,15 +1099,10 @@ public class BankList {
      * @throws BankException If bank does not exist.
      */
     public String getReceiveBankType(String accountName) throws BankException {
-        String capitalAccountName = accountName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalAccountName.equals(capitalCurrentBankName)) {
-                logger.info("Successfully found bank type for receive");
-                return bankLists.get(i).getType();
-            }
+        int i = getBankIndexByName(accountName);
+        if (i != OBJ_DOES_NOT_EXIST) {
+            logger.info("Successfully found bank type for receive");
+            return bankLists.get(i).getType();
         }
         logger.warning("Unable to transfer fund as the receiving bank account does not exist: "
                 + accountName);
@@ -1131,17 +1137,11 @@ public class BankList {
      */
     public void checkInvestmentAccountExist(String bondName, String investmentName, Ui ui)
             throws BankException, BondException {
-        String capitalInvestmentName = investmentName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalInvestmentName.equals(capitalCurrentBankName)
-                    && INVESTMENT.equals(currentBank.getType())) {
-                logger.info("Found Investment account to search for bonds");
-                currentBank.findBondInInvestment(bondName, ui);
-                return;
-            }
+        Bank currentBank = getBankByName(investmentName);
+        if (currentBank != null && INVESTMENT.equals(currentBank.getType())) {
+            logger.info("Found Investment account to search for bonds");
+            currentBank.findBondInInvestment(bondName, ui);
+            return;
         }
         logger.warning("Investment account with the following name "
                 + "does not exist for search: " + investmentName);
@@ -1190,6 +1190,23 @@ public class BankList {
         logger.info("Successfully found matching bank account.");
     }
 
+    /**
+     * Adds the searches of the transactions and recurring expenditures of every bank account
+     * to the list of search tasks.
+     *
+     * @param searchTasks The list of search tasks to add to.
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     */
+    public void bankListAddSearchTasks(List<TransactionSearchTask> searchTasks, String fromDate, String toDate,
+            String description, String category) {
+        for (int i = ISZERO; i < bankLists.size(); i++) {
+            bankLists.get(i).addSearchTasks(searchTasks, fromDate, toDate, description, category);
+        }
+    }
+
     /**
      * Finds matching bank transactions from the account specified by the user.
      *
@@ -1204,16 +1221,11 @@ public class BankList {
      */
     public void bankListFindTransaction(String bankName, String fromDate, String toDate,
             String description, String category, Ui ui) throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                logger.info("Found bank account to search for transaction");
-                currentBank.findTransaction(fromDate, toDate, description, category, ui);
-                return;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            logger.info("Found bank account to search for transaction");
+            currentBank.findTransaction(fromDate, toDate, description, category, ui);
+            return;
         }
         logger.warning("Bank with the following name does not exist: " + bankName);
         throw new BankException("Bank with the following name does not exist: " + bankName);
@@ -1231,17 +1243,11 @@ public class BankList {
      */
     public void bankListFindRecurringExpenditure(String bankName, String description, String category, Ui ui)
             throws BankException, TransactionException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            String currentBankType = currentBank.getType();
-            if (capitalBankName.equals(capitalCurrentBankName) && SAVING.equals(currentBankType)) {
-                logger.info("Found bank account to search for recurring expenditure");
-                currentBank.findRecurringExpenditure(description, category, ui);
-                return;
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null && SAVING.equals(currentBank.getType())) {
+            logger.info("Found bank account to search for recurring expenditure");
+            currentBank.findRecurringExpenditure(description, category, ui);
+            return;
         }
         logger.warning("Savings account with the following name does not exist: " + bankName);
         throw new BankException("Savings account with the following name does not exist: " + bankName);
@@ -1254,8 +1260,6 @@ public class BankList {
      */
     private ArrayList<String[]> prepareExportBankListNamesAndType() throws BankException {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat(".00");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
         SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
         String nextIncomeDate = "";
         exportArrayList.add(new String[]{"accountName","type","amount","income","nextIncomeDate"});
@@ -1265,16 +1269,15 @@ public class BankList {
             if (SAVING.equals(accountType)) {
                 nextIncomeDate = exportDateFormat.format(bankLists.get(i).getNextIncomeDate());
             }
-            double amount = bankLists.get(i).getCurrentAmount();
+            String stringAmount = bankLists.get(i).getCurrentMoney().toStorageString();
             double income = 0;
-            String stringAmount = decimalFormat.format(amount);
             try {
                 income = bankLists.get(i).getIncome();
             } catch (BankException e) {
                 income = 0;
             }
             String accountName = bankLists.get(i).getAccountName();
-            String stringIncome = decimalFormat.format(income);
+            String stringIncome = Money.fromDouble(income).toStorageString();
             exportArrayList.add(new String[]{accountName,accountType,stringAmount,stringIncome,
                 nextIncomeDate});
         }
@@ -1283,89 +1286,23 @@ public class BankList {
 
     /**
      * Writes the data of the bank list that was prepared to permanent storage.
+     * Accounts changed at the same time by different commands export the bank list one at a time,
+     * so that the last export written always includes every completed change.
      *
      * @throws IOException when unable to write to file.
      */
-    private void exportBankList() throws IOException, BankException {
+    private synchronized void exportBankList() throws IOException, BankException {
         ArrayList<String[]> inputData = prepareExportBankListNamesAndType();
         storage.writeFile(inputData,PROFILE_BANK_LIST_FILE_NAME);
     }
 
-    /**
-     * Imports bonds loaded from save file into respective investment accounts.
-     *
-     * @param bankName bank name the bond should be imported to.
-     * @param newBond an instance of the bond to be imported.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    public void bankListImportNewBonds(String bankName, Bond newBond) throws BankException {
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            if (bankName.equals(bankLists.get(i).getAccountName())) {
-                bankLists.get(i).importNewBonds(newBond);
-            }
-        }
-    }
-
-    /**
-     * Imports deposits loaded from save file into respective bank accounts.
-     *
-     * @param bankName bank name the deposits should be imported to.
-     * @param deposit an instance of the deposit to be imported.
-     * @param bankType the type of bank account.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    public void bankListImportNewDeposit(String bankName, Transaction deposit, String bankType)
-            throws BankException {
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            if (bankLists.get(i).getAccountName().equals(bankName)) {
-                bankLists.get(i).importNewDeposit(deposit, bankType);
-            }
-        }
-    }
-
-    /**
-     * Imports expenditures loaded from save file into respective bank accounts.
-     *
-     * @param bankName bank name the deposits should be imported to.
-     * @param expenditure an instance of the expenditure to be imported.
-     * @param type type of expenditure.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    public void bankListImportNewExpenditure(String bankName, Transaction expenditure, String type)
-            throws BankException {
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            if (bankLists.get(i).getAccountName().equals(bankName)) {
-                bankLists.get(i).importNewExpenditure(expenditure,type);
-                return;
-            }
-        }
-        logger.warning("There is no account with the name: " + bankName);
-        throw new BankException("There is no account with the name: " + bankName);
-    }
-
     /**
      * Imports banks loaded from save file into bankList.
      *
      * @param newBank an instance of the bank account to be imported.
      */
     public void bankListImportNewBank(Bank newBank) {
-        bankLists.add(newBank);
-    }
-
-    /**
-     * Imports recurring expenditures from save file into respective bank accounts.
-     *
-     * @param bankName bank name the deposits should be imported to.
-     * @param newRecurringExpenditure an instance of the expenditure to be imported.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    public void bankListImportNewRecurringExpenditure(String bankName, Transaction newRecurringExpenditure)
-            throws BankException {
-        for (int i = 0; i < getBankListSize(); i++) {
-            if (bankLists.get(i).getAccountName().equals(bankName)) {
-                bankLists.get(i).importNewRecurringExpenditure(newRecurringExpenditure);
-            }
-        }
+        appendBank(newBank);
     }
 
     /**
@@ -1376,14 +1313,9 @@ public class BankList {
      * @throws BankException If used on savings account or investment account does not exist.
      */
     public boolean bankListIsBondListFull(String bankName) throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = 0; i < getBankListSize(); i++) {
-            Bank account = bankLists.get(i);
-            String accountName = account.getAccountName();
-            String capitalAccountName = accountName.toUpperCase();
-            if (capitalAccountName.equals(capitalBankName)) {
-                return account.investmentIsBondListFull();
-            }
+        Bank account = getBankByName(bankName);
+        if (account != null) {
+            return account.investmentIsBondListFull();
         }
         logger.warning("Cannot find bank with name: " + bankName);
         throw new BankException("Cannot find bank with name: " + bankName);
@@ -1401,14 +1333,9 @@ public class BankList {
      */
     public int bankListGetCardBillExpenditureId(String bankName, UUID cardId, YearMonth billDate)
             throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                return currentBank.getCardBillExpenditureId(cardId, billDate);
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            return currentBank.getCardBillExpenditureId(cardId, billDate);
         }
         return -1;
     }
@@ -1425,14 +1352,9 @@ public class BankList {
      */
     public int bankListGetCardBillDepositId(String bankName, UUID cardId, YearMonth billDate)
             throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                return currentBank.getCardBillDepositId(cardId, billDate);
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            return currentBank.getCardBillDepositId(cardId, billDate);
         }
         return -1;
     }
@@ -1445,14 +1367,9 @@ public class BankList {
      * @throws BankException If bank amount overflows after receiving.
      */
     public void bankListCheckTransferExceed(String bankName, double amount) throws BankException {
-        String capitalBankName = bankName.toUpperCase();
-        for (int i = ISZERO; i < getBankListSize(); i++) {
-            Bank currentBank = bankLists.get(i);
-            String currentBankName = currentBank.getAccountName();
-            String capitalCurrentBankName = currentBankName.toUpperCase();
-            if (capitalBankName.equals(capitalCurrentBankName)) {
-                currentBank.enoughForTransfer(amount);
-            }
+        Bank currentBank = getBankByName(bankName);
+        if (currentBank != null) {
+            currentBank.enoughForTransfer(amount);
         }
     }
 }
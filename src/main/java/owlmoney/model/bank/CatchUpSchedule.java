@@ -0,0 +1,95 @@
+package owlmoney.model.bank;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Works out every occurrence of a periodic transaction that has fallen due since it was last recorded.
+ * Each occurrence is a fixed number of months after the previous one, so a day of month that does not exist
+ * in a shorter month is moved to its last day and stays there for later occurrences.
+ */
+class CatchUpSchedule {
+    private final List<LocalDate> dueDates;
+    private final LocalDate nextDate;
+
+    /**
+     * Creates the schedule of occurrences from the first outstanding one up to today.
+     *
+     * @param firstDate       The date of the first outstanding occurrence.
+     * @param monthsPerPeriod The number of months between occurrences.
+     * @param today           The last date on which an occurrence is due.
+     */
+    CatchUpSchedule(Date firstDate, int monthsPerPeriod, LocalDate today) {
+        dueDates = new ArrayList<>();
+        LocalDate date = toLocalDate(firstDate);
+        while (!date.isAfter(today)) {
+            dueDates.add(date);
+            date = date.plusMonths(monthsPerPeriod);
+        }
+        nextDate = date;
+    }
+
+    /**
+     * Gets the number of occurrences that are due.
+     *
+     * @return the number of occurrences due.
+     */
+    int getNumberOfDueDates() {
+        return dueDates.size();
+    }
+
+    /**
+     * Gets the date of an occurrence that is due.
+     *
+     * @param index The position of the occurrence, starting from 0 for the earliest.
+     * @return the date of the occurrence.
+     */
+    Date getDueDate(int index) {
+        return toDate(dueDates.get(index));
+    }
+
+    /**
+     * Gets the date of the occurrence after the specified one, which may not be due yet.
+     *
+     * @param index The position of the occurrence, starting from 0 for the earliest.
+     * @return the date of the following occurrence.
+     */
+    Date getDateAfter(int index) {
+        if (index + 1 < dueDates.size()) {
+            return getDueDate(index + 1);
+        }
+        return toDate(nextDate);
+    }
+
+    /**
+     * Gets today's date in the time zone of the system.
+     *
+     * @return today's date.
+     */
+    static LocalDate today() {
+        return LocalDate.now(ZoneId.systemDefault());
+    }
+
+    /**
+     * Converts a date to the calendar date in the time zone of the system.
+     *
+     * @param date The date to convert.
+     * @return the calendar date.
+     */
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Converts a calendar date to the start of that day in the time zone of the system.
+     *
+     * @param date The calendar date to convert.
+     * @return the date at the start of the day.
+     */
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
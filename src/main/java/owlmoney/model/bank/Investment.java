@@ -3,9 +3,10 @@ package owlmoney.model.bank;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -15,10 +16,12 @@ import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.BondList;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Deposit;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.LazyHandle;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -27,12 +30,13 @@ import owlmoney.ui.Ui;
  */
 public class Investment extends Bank {
 
-    private BondList bonds;
+    private final LazyHandle<BondList> bonds;
     private Storage storage;
-    private static final String FILE_PATH = "data/";
     private static final String INVESTMENT = "investment";
     private static final String INVESTMENT_BOND_LIST_FILE_NAME = "_investment_bondList.csv";
     private static final String INVESTMENT_TRANSACTION_LIST_FILE_NAME = "_investment_transactionList.csv";
+    private static final int MONTHS_BETWEEN_COUPONS = 6;
+    private static final int RATE_DECIMAL_PLACES = 2;
     private static final Logger logger = getLogger(Investment.class);
 
     /**
@@ -44,9 +48,44 @@ public class Investment extends Bank {
     public Investment(String name, double currentAmount) {
         super(name, currentAmount);
         this.type = INVESTMENT;
-        this.transactions = new TransactionList();
-        this.bonds = new BondList();
-        this.storage = new Storage(FILE_PATH);
+        this.bonds = new LazyHandle<>(new BondList());
+    }
+
+    /**
+     * Gets the bond list of the investment account, loading it from persistent storage if needed.
+     *
+     * @return the bond list of the investment account.
+     */
+    private BondList getBonds() {
+        return bonds.get();
+    }
+
+    /**
+     * Sets the loader that imports the bonds of the investment account the first time they are needed.
+     *
+     * @param loader the loader that imports the bonds.
+     */
+    public void setBondsLoader(Runnable loader) {
+        bonds.setLoader(loader);
+    }
+
+    /**
+     * Sets the storage that the data of the investment account is saved to once it is added to a bank list.
+     *
+     * @param storage The storage of the profile that the investment account belongs to.
+     */
+    @Override
+    void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Loads all data of the investment account that has not been loaded from persistent storage.
+     */
+    @Override
+    void loadAllData() {
+        super.loadAllData();
+        getBonds();
     }
 
     /**
@@ -67,7 +106,7 @@ public class Investment extends Bank {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         } else {
-            transactions.addExpenditureToList(expenditure, ui, bankType);
+            getTransactions().addExpenditureToList(expenditure, ui, bankType);
             deductFromAmount(expenditure.getAmount());
             logger.info("Expenditure added to bank account successfully");
         }
@@ -87,7 +126,7 @@ public class Investment extends Bank {
             logger.warning("This account does not support this feature");
             throw new BankException("This account does not support this feature");
         }
-        transactions.addDepositToList(deposit, ui, bankType);
+        getTransactions().addDepositToList(deposit, ui, bankType);
         addToAmount(deposit.getAmount());
         logger.info("Deposit added to bank account successfully");
     }
@@ -100,7 +139,8 @@ public class Investment extends Bank {
      */
     @Override
     void addBondToInvestmentAccount(Bond bond, Ui ui) {
-        bonds.addBondToList(bond, ui);
+        getBonds().addBondToList(bond, ui);
+        dueDateChanged();
     }
 
     /**
@@ -111,7 +151,7 @@ public class Investment extends Bank {
      */
     @Override
     void investmentCheckBondExist(Bond bond) throws BondException {
-        bonds.bondExist(bond);
+        getBonds().bondExist(bond);
     }
 
     /**
@@ -123,17 +163,18 @@ public class Investment extends Bank {
      */
     @Override
     void investmentDeleteBond(String bondName, Ui ui) throws BondException {
-        Bond targetBond = bonds.getBond(bondName);
+        Bond targetBond = getBonds().getBond(bondName);
         Calendar calendar = Calendar.getInstance();
-        if (this.getCurrentAmount() + targetBond.getAmount() > MAX_AMOUNT) {
+        if (getCurrentMoney().plus(Money.fromDouble(targetBond.getAmount())).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the bank cannot exceed 9 digits");
             throw new BondException("The amount in the bank cannot exceed 9 digits");
         }
         Transaction newDeposit = createNewDeposit(bondName,targetBond.getAmount(),calendar.getTime());
-        transactions.addDepositToList(newDeposit, ui, "bonds");
+        getTransactions().addDepositToList(newDeposit, ui, "bonds");
         addToAmount(targetBond.getAmount());
-        bonds.removeBondFromList(bondName, ui);
-        logger.info(bondName + " deleted from investment account successfully");
+        getBonds().removeBondFromList(bondName, ui);
+        dueDateChanged();
+        logger.info(() -> bondName + " deleted from investment account successfully");
     }
 
     /**
@@ -145,7 +186,7 @@ public class Investment extends Bank {
      */
     @Override
     Bond investmentGetBond(String bondName) throws BondException {
-        return bonds.getBond(bondName);
+        return getBonds().getBond(bondName);
     }
 
     /**
@@ -159,7 +200,8 @@ public class Investment extends Bank {
      */
     @Override
     void investmentEditBond(String bondName, String year, String rate, Ui ui) throws BondException {
-        bonds.editBond(bondName, year, rate, ui);
+        getBonds().editBond(bondName, year, rate, ui);
+        dueDateChanged();
     }
 
     /**
@@ -171,7 +213,7 @@ public class Investment extends Bank {
      */
     @Override
     void investmentListBond(int investmentsToDisplay, Ui ui) throws BondException {
-        bonds.listBond(investmentsToDisplay, ui);
+        getBonds().listBond(investmentsToDisplay, ui);
     }
 
     /**
@@ -188,39 +230,6 @@ public class Investment extends Bank {
         return newDeposit;
     }
 
-    /**
-     * Updates the bank amount with the interest generated from the bond and the corresponding deposit
-     * record in the transaction list.
-     *
-     * @param bond the bond that generated the interest.
-     * @param ui   required for printing.
-     */
-    private void addBondInterestDeposit(Bond bond, Ui ui) throws BankException {
-        double interestAmount = bond.getAmount() * bond.getHalfYearlyCouponRate() / 100;
-        if (this.getCurrentAmount() + interestAmount > MAX_AMOUNT) {
-            logger.warning("The amount in the bank cannot exceed 9 digits");
-            throw new BankException("The amount in the bank cannot exceed 9 digits");
-        }
-        Transaction newDeposit = createNewDeposit(bond.getName(), interestAmount,
-            bond.getNextDateToCreditInterest());
-        transactions.addDepositToList(newDeposit, ui, "bonds");
-        addToAmount(interestAmount);
-        logger.info("Interest added to investment account successfully");
-    }
-
-    /**
-     * Calculates the next interest rate date.
-     *
-     * @param currentInterestDate the current interest rate to calculate from.
-     * @return the next interest rate crediting date.
-     */
-    private Date calculateNextInterestDate(Date currentInterestDate) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(currentInterestDate);
-        calendar.add(Calendar.MONTH, 6);
-        return calendar.getTime();
-    }
-
     /**
      * Removes the bond if the bond has reached its maturity date.
      *
@@ -249,27 +258,13 @@ public class Investment extends Bank {
      */
     @Override
     public void updateRecurringTransactions(Ui ui) {
-        for (int i = 0; i < bonds.getSize(); i++) {
-            Bond targetBond = bonds.get(i);
+        dueDateChanged();
+        LocalDate today = CatchUpSchedule.today();
+        for (int i = 0; i < getBonds().getSize(); i++) {
+            Bond targetBond = getBonds().get(i);
             Date endDate = targetBond.getBondEndDate();
-            Calendar calendarCurrentDate = Calendar.getInstance();
-            Date currentDate = calendarCurrentDate.getTime();
-            Date nextDateToCreditInterest = targetBond.getNextDateToCreditInterest();
-            while (currentDate.compareTo(nextDateToCreditInterest) >= 0 && !targetBond.getMature()) {
-                try {
-                    addBondInterestDeposit(targetBond, ui);
-                    nextDateToCreditInterest = calculateNextInterestDate(nextDateToCreditInterest);
-                    targetBond.setNextDateToCreditInterest(nextDateToCreditInterest);
-                    if (nextDateToCreditInterest.compareTo(endDate) > 0) {
-                        targetBond.setMature();
-                        logger.info("Bond has matured, setting flag to true");
-                    }
-                } catch (BankException errorMessage) {
-                    ui.printError(errorMessage.toString());
-                    ui.printMessage("Unable to add the interest for: " + targetBond.getName());
-                    logger.warning("Unable to add the interest for: " + targetBond.getName());
-                    break;
-                }
+            if (!targetBond.getMature()) {
+                catchUpBondInterest(targetBond, endDate, today, ui);
             }
             if (removeBondIfMature(ui, targetBond, endDate)) {
                 i--;
@@ -277,6 +272,62 @@ public class Investment extends Bank {
         }
     }
 
+    /**
+     * Adds an interest deposit for every half year since the next interest date of the bond up to today
+     * or until the bond matures, and updates the bond to the next interest date.
+     * If the amount in the bank would exceed the limit, only the interest before it is added.
+     *
+     * @param targetBond The bond that generates the interest.
+     * @param endDate    The maturity date of the bond.
+     * @param today      The last date on which interest is due.
+     * @param ui         Used for printing.
+     */
+    private void catchUpBondInterest(Bond targetBond, Date endDate, LocalDate today, Ui ui) {
+        CatchUpSchedule schedule = new CatchUpSchedule(targetBond.getNextDateToCreditInterest(),
+                MONTHS_BETWEEN_COUPONS, today);
+        Money interestAmount = Money.fromDouble(
+                targetBond.getAmount() * targetBond.getHalfYearlyCouponRate() / 100);
+        ArrayList<Transaction> interestDeposits = new ArrayList<>();
+        Money newAmount = getCurrentMoney();
+        for (int period = 0; period < schedule.getNumberOfDueDates() && !targetBond.getMature(); period++) {
+            if (newAmount.plus(interestAmount).isGreaterThan(MAX_AMOUNT)) {
+                logger.warning("The amount in the bank cannot exceed 9 digits");
+                ui.printError("The amount in the bank cannot exceed 9 digits");
+                ui.printMessage("Unable to add the interest for: " + targetBond.getName());
+                logger.warning("Unable to add the interest for: " + targetBond.getName());
+                break;
+            }
+            interestDeposits.add(createNewDeposit(targetBond.getName(), interestAmount.toDouble(),
+                    schedule.getDueDate(period)));
+            newAmount = newAmount.plus(interestAmount);
+            Date nextDateToCreditInterest = schedule.getDateAfter(period);
+            targetBond.setNextDateToCreditInterest(nextDateToCreditInterest);
+            if (nextDateToCreditInterest.compareTo(endDate) > 0) {
+                targetBond.setMature();
+                logger.info("Bond has matured, setting flag to true");
+            }
+        }
+        if (!interestDeposits.isEmpty()) {
+            getTransactions().addTransactionsToList(interestDeposits);
+            setCurrentMoney(newAmount);
+            logger.info("Interest added to investment account successfully");
+        }
+    }
+
+    /**
+     * Gets the earliest date on which the interest of a bond in the investment account is credited.
+     *
+     * @return The earliest due date, or null if there are no bonds.
+     */
+    @Override
+    Date findNextDueDate() {
+        Date nextDueDate = null;
+        for (int i = 0; i < getBonds().getSize(); i++) {
+            nextDueDate = getEarlierDueDate(nextDueDate, getBonds().get(i).getNextDateToCreditInterest());
+        }
+        return nextDueDate;
+    }
+
     /**
      * Lists the deposits in the current bank account.
      *
@@ -286,7 +337,7 @@ public class Investment extends Bank {
      */
     @Override
     void listAllDeposit(Ui ui, int depositsToDisplay) throws TransactionException {
-        transactions.listDeposit(ui, depositsToDisplay);
+        getTransactions().listDeposit(ui, depositsToDisplay);
     }
 
     /**
@@ -298,7 +349,7 @@ public class Investment extends Bank {
      */
     @Override
     void listAllExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
-        transactions.listExpenditure(ui, expendituresToDisplay);
+        getTransactions().listExpenditure(ui, expendituresToDisplay);
     }
 
     /**
@@ -310,7 +361,18 @@ public class Investment extends Bank {
      */
     @Override
     public void findBondInInvestment(String bondName, Ui ui) throws BondException {
-        bonds.findBondInBondList(bondName, ui);
+        getBonds().findBondInBondList(bondName, ui);
+    }
+
+    /**
+     * Formats a yearly coupon rate for the bond list file, such as .50 or 2.75.
+     *
+     * @param rate the yearly coupon rate.
+     * @return the rate truncated to two decimal places without a leading zero.
+     */
+    private static String formatExportRate(double rate) {
+        String formatted = BigDecimal.valueOf(rate).setScale(RATE_DECIMAL_PLACES, RoundingMode.DOWN).toPlainString();
+        return formatted.startsWith("0.") ? formatted.substring(1) : formatted;
     }
 
     /**
@@ -320,22 +382,19 @@ public class Investment extends Bank {
      */
     private ArrayList<String[]> prepareExportBondList() {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat(".00");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
         SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
         exportArrayList.add(new String[]{"bondName","amount","rate","boughtDate","year",
             "nextDateToCreditInterest", "isMature"});
-        for (int i = 0; i < bonds.getSize(); i++) {
-            String bondName = bonds.get(i).getName();
-            double amount = bonds.get(i).getAmount();
-            double rate = bonds.get(i).getYearlyCouponRate();
-            String boughtDate = exportDateFormat.format(bonds.get(i).getDateInDateFormat());
-            int year = bonds.get(i).getYear();
-            String nextDateToCreditInterest = exportDateFormat.format(bonds.get(i).getNextDateToCreditInterest());
-            String stringAmount = decimalFormat.format(amount);
-            String stringRate = decimalFormat.format(rate);
+        for (int i = 0; i < getBonds().getSize(); i++) {
+            String bondName = getBonds().get(i).getName();
+            double rate = getBonds().get(i).getYearlyCouponRate();
+            String boughtDate = exportDateFormat.format(getBonds().get(i).getDateInDateFormat());
+            int year = getBonds().get(i).getYear();
+            String nextDateToCreditInterest = exportDateFormat.format(getBonds().get(i).getNextDateToCreditInterest());
+            String stringAmount = Money.fromDouble(getBonds().get(i).getAmount()).toStorageString();
+            String stringRate = formatExportRate(rate);
             String stringYear = Integer.toString(year);
-            boolean mature = bonds.get(i).getMature();
+            boolean mature = getBonds().get(i).getMature();
             String stringMature = String.valueOf(mature);
             exportArrayList.add(new String[]
                 {bondName, stringAmount, stringRate, boughtDate, stringYear, nextDateToCreditInterest, stringMature});
@@ -352,10 +411,10 @@ public class Investment extends Bank {
      */
     @Override
     public void exportInvestmentBondList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportBondList();
         try {
-            storage.writeFile(inputData,prependFileName + INVESTMENT_BOND_LIST_FILE_NAME);
-            logger.info("Successfully exported: " + prependFileName + INVESTMENT_BOND_LIST_FILE_NAME);
+            bonds.getToSave();
+            storage.writeFile(this::prepareExportBondList, prependFileName + INVESTMENT_BOND_LIST_FILE_NAME);
+            logger.info(() -> "Successfully exported: " + prependFileName + INVESTMENT_BOND_LIST_FILE_NAME);
         } catch (IOException exceptionMessage) {
             logger.warning("Error exporting: " + prependFileName + INVESTMENT_BOND_LIST_FILE_NAME);
             throw new IOException(exceptionMessage);
@@ -370,10 +429,9 @@ public class Investment extends Bank {
      */
     @Override
     public void exportBankTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportTransactionList();
         try {
-            storage.writeFile(inputData,prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
-            logger.info("Successfully exported: " + prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
+            writeTransactionList(storage, prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
+            logger.info(() -> "Successfully exported: " + prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
         } catch (IOException exceptionMessage) {
             logger.warning("Error exporting: " + prependFileName + INVESTMENT_TRANSACTION_LIST_FILE_NAME);
             throw new IOException(exceptionMessage);
@@ -387,7 +445,7 @@ public class Investment extends Bank {
      */
     @Override
     public void importNewBonds(Bond newBond) {
-        bonds.importBondToList(newBond);
+        getBonds().importBondToList(newBond);
     }
 
     /**
@@ -403,7 +461,7 @@ public class Investment extends Bank {
             logger.warning("This account does not support this feature");
             throw new BankException("This account does not support this feature");
         }
-        transactions.importDepositToList(deposit);
+        getTransactions().importDepositToList(deposit);
         logger.info("Successfully imported deposit");
     }
 
@@ -424,7 +482,7 @@ public class Investment extends Bank {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         } else {
-            transactions.importExpenditureToList(expenditure);
+            getTransactions().importExpenditureToList(expenditure);
             logger.info("Successfully imported expenditure");
         }
     }
@@ -435,6 +493,6 @@ public class Investment extends Bank {
      * @return if the bon list is full.
      */
     public boolean investmentIsBondListFull() {
-        return bonds.isListFull();
+        return getBonds().isListFull();
     }
 }
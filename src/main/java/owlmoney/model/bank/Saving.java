@@ -3,25 +3,26 @@ package owlmoney.model.bank;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
-import java.math.RoundingMode;
-import java.text.DateFormat;
-import java.text.DecimalFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 import owlmoney.model.bank.exception.BankException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Deposit;
 import owlmoney.model.transaction.Expenditure;
 import owlmoney.model.transaction.RecurringExpenditureList;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.LazyHandle;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -34,13 +35,13 @@ public class Saving extends Bank {
     private static final String SAVING = "saving";
     private static final String ACCOUNT_TYPE = "bank";
     private Date nextIncomeDate;
-    private RecurringExpenditureList recurringExpenditures;
+    private final LazyHandle<RecurringExpenditureList> recurringExpenditures;
     private static final String SAVING_TRANSACTION_LIST_FILE_NAME = "_saving_transactionList.csv";
     private static final String SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME = "_saving_recurring_transactionList.csv";
     private Storage storage;
-    private static final String FILE_PATH = "data/";
     private static final String INCOME_CATEGORY = "Income";
     private static final int OBJ_DOES_NOT_EXIST = -1;
+    private static final int ONE_MONTH = 1;
     private static final Logger logger = getLogger(Saving.class);
 
     /**
@@ -54,8 +55,7 @@ public class Saving extends Bank {
         super(name, currentAmount);
         this.income = income;
         this.type = SAVING;
-        this.transactions = new TransactionList();
-        this.recurringExpenditures = new RecurringExpenditureList();
+        this.recurringExpenditures = new LazyHandle<>(new RecurringExpenditureList());
         Calendar calendar = Calendar.getInstance();
         calendar.set(Calendar.DATE, 1);
         calendar.set(Calendar.HOUR_OF_DAY, 0);
@@ -63,7 +63,6 @@ public class Saving extends Bank {
         calendar.set(Calendar.SECOND, 0);
         calendar.add(Calendar.MONTH, 1);
         nextIncomeDate = calendar.getTime();
-        this.storage = new Storage(FILE_PATH);
     }
 
     /**
@@ -77,35 +76,46 @@ public class Saving extends Bank {
         super(name, currentAmount);
         this.income = income;
         this.type = SAVING;
-        this.transactions = new TransactionList();
-        this.recurringExpenditures = new RecurringExpenditureList();
+        this.recurringExpenditures = new LazyHandle<>(new RecurringExpenditureList());
         this.nextIncomeDate = nextIncomeDate;
-        this.storage = new Storage(FILE_PATH);
     }
 
     /**
-     * Updates the next income date and current amount if an income has been earned.
+     * Gets the recurring expenditure list of the savings account, loading it from persistent storage if needed.
      *
-     * @return If there is an update to the income.
-     * @throws BankException If unable to add income.
+     * @return the recurring expenditure list of the savings account.
      */
-    private boolean earnedIncome(Ui ui) throws BankException {
-        if (new Date().compareTo(nextIncomeDate) >= 0) {
-            if (this.getCurrentAmount() + this.income > MAX_AMOUNT) {
-                throw new BankException("Amount in bank account cannot exceed 9 digits");
-            }
-            if (income > 0) {
-                Deposit addIncome = new Deposit("Income", this.income, this.nextIncomeDate, INCOME_CATEGORY);
-                addDepositTransaction(addIncome, ui, ACCOUNT_TYPE);
-            }
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(nextIncomeDate);
-            calendar.add(Calendar.MONTH, 1);
-            nextIncomeDate = calendar.getTime();
-            logger.info("Successful added earned income");
-            return true;
-        }
-        return false;
+    private RecurringExpenditureList getRecurringExpenditures() {
+        return recurringExpenditures.get();
+    }
+
+    /**
+     * Sets the loader that imports the recurring expenditures of the savings account
+     * the first time they are needed.
+     *
+     * @param loader the loader that imports the recurring expenditures.
+     */
+    public void setRecurringExpendituresLoader(Runnable loader) {
+        recurringExpenditures.setLoader(loader);
+    }
+
+    /**
+     * Sets the storage that the data of the savings account is saved to once it is added to a bank list.
+     *
+     * @param storage The storage of the profile that the savings account belongs to.
+     */
+    @Override
+    void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Loads all data of the savings account that has not been loaded from persistent storage.
+     */
+    @Override
+    void loadAllData() {
+        super.loadAllData();
+        getRecurringExpenditures();
     }
 
     /**
@@ -136,7 +146,7 @@ public class Saving extends Bank {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         } else {
-            transactions.addExpenditureToList(expenditure, ui, bankType);
+            getTransactions().addExpenditureToList(expenditure, ui, bankType);
             deductFromAmount(expenditure.getAmount());
             logger.info("Successful adding of expenditure");
         }
@@ -151,7 +161,7 @@ public class Saving extends Bank {
      */
     @Override
     void listAllDeposit(Ui ui, int depositsToDisplay) throws TransactionException {
-        transactions.listDeposit(ui, depositsToDisplay);
+        getTransactions().listDeposit(ui, depositsToDisplay);
         logger.info("Successfully listed deposits");
     }
 
@@ -164,7 +174,7 @@ public class Saving extends Bank {
      */
     @Override
     void listAllExpenditure(Ui ui, int expendituresToDisplay) throws TransactionException {
-        transactions.listExpenditure(ui, expendituresToDisplay);
+        getTransactions().listExpenditure(ui, expendituresToDisplay);
         logger.info("Successfully listed expenditures");
     }
 
@@ -180,12 +190,12 @@ public class Saving extends Bank {
     @Override
     public void deleteExpenditure(int expenditureIndex, Ui ui, boolean isCreditCardBill)
             throws TransactionException, BankException {
-        double expenditureAmount = transactions.getExpenditureAmount(expenditureIndex, isCreditCardBill);
-        if (this.getCurrentAmount() + expenditureAmount > MAX_AMOUNT) {
+        double expenditureAmount = getTransactions().getExpenditureAmount(expenditureIndex, isCreditCardBill);
+        if (getCurrentMoney().plus(Money.fromDouble(expenditureAmount)).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the bank account cannot exceed 9 digits");
             throw new BankException("The amount in the bank account cannot exceed 9 digits");
         }
-        addToAmount(transactions.deleteExpenditureFromList(expenditureIndex, ui, isCreditCardBill));
+        addToAmount(getTransactions().deleteExpenditureFromList(expenditureIndex, ui, isCreditCardBill));
         logger.info("Successfully deleted expenditure");
     }
 
@@ -215,21 +225,20 @@ public class Saving extends Bank {
     void editExpenditureDetails(
             int expenditureIndex, String description, String amount, String date, String category, Ui ui)
             throws TransactionException, BankException {
-        if (!(amount == null || amount.isBlank()) && (this.getCurrentAmount()
-                + transactions.getExpenditureAmount(expenditureIndex, false) - Double.parseDouble(amount)
-                > MAX_AMOUNT)) {
+        if (!(amount == null || amount.isBlank()) && getCurrentMoney()
+                .plus(Money.fromDouble(getTransactions().getExpenditureAmount(expenditureIndex, false)))
+                .minus(Money.parse(amount)).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the bank cannot exceed 9 digits");
             throw new BankException("The amount in the bank cannot exceed 9 digits");
         }
         if (!(amount == null || amount.isBlank()) && this.getCurrentAmount()
-                + transactions.getExpenditureAmount(expenditureIndex, false) < Double.parseDouble(amount)) {
+                + getTransactions().getExpenditureAmount(expenditureIndex, false) < Double.parseDouble(amount)) {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         }
-        double oldAmount = transactions.getExpenditureAmount(expenditureIndex, false);
-        double newAmount = transactions.editExpenditure(expenditureIndex, description, amount, date, category, ui);
-        this.addToAmount(oldAmount);
-        this.deductFromAmount(newAmount);
+        double oldAmount = getTransactions().getExpenditureAmount(expenditureIndex, false);
+        double newAmount = getTransactions().editExpenditure(expenditureIndex, description, amount, date, category, ui);
+        this.adjustAmount(oldAmount, newAmount);
         logger.info("Successfully edited expenditure");
     }
 
@@ -247,20 +256,19 @@ public class Saving extends Bank {
     @Override
     void editDepositDetails(int depositIndex, String description, String amount, String date, Ui ui)
             throws TransactionException, BankException {
-        if (!(amount == null || amount.isBlank()) && (this.getCurrentAmount()
-                - transactions.getDepositValue(depositIndex, false) + Double.parseDouble(amount)
-                > MAX_AMOUNT)) {
+        if (!(amount == null || amount.isBlank()) && getCurrentMoney()
+                .minus(Money.fromDouble(getTransactions().getDepositValue(depositIndex, false)))
+                .plus(Money.parse(amount)).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the bank cannot exceed 9 digits");
             throw new BankException("The amount in the bank cannot exceed 9 digits");
         } else if (!(amount == null || amount.isBlank()) && this.getCurrentAmount()
-                + Double.parseDouble(amount) < transactions.getDepositValue(depositIndex, false)) {
+                + Double.parseDouble(amount) < getTransactions().getDepositValue(depositIndex, false)) {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         }
-        double oldAmount = transactions.getDepositValue(depositIndex, false);
-        double newAmount = transactions.editDeposit(depositIndex, description, amount, date, ui);
-        this.addToAmount(newAmount);
-        this.deductFromAmount(oldAmount);
+        double oldAmount = getTransactions().getDepositValue(depositIndex, false);
+        double newAmount = getTransactions().editDeposit(depositIndex, description, amount, date, ui);
+        this.adjustAmount(newAmount, oldAmount);
         logger.info("Successfully edited deposit");
     }
 
@@ -277,11 +285,11 @@ public class Saving extends Bank {
             logger.warning("This account does not support investment account deposits");
             throw new BankException("This account does not support investment account deposits");
         }
-        if (this.getCurrentAmount() + deposit.getAmount() > MAX_AMOUNT) {
+        if (getCurrentMoney().plus(deposit.getMoney()).isGreaterThan(MAX_AMOUNT)) {
             logger.warning("The amount in the bank cannot exceed 9 digits");
             throw new BankException("The amount in the bank cannot exceed 9 digits");
         }
-        transactions.addDepositToList(deposit, ui, bankType);
+        getTransactions().addDepositToList(deposit, ui, bankType);
         addToAmount(deposit.getAmount());
         logger.info("Successfully added deposit");
     }
@@ -297,79 +305,142 @@ public class Saving extends Bank {
      */
     @Override
     void deleteDepositTransaction(int index, Ui ui, boolean isCardBill) throws TransactionException, BankException {
-        double depositValue = transactions.getDepositValue(index, isCardBill);
+        double depositValue = getTransactions().getDepositValue(index, isCardBill);
         if (this.getCurrentAmount() < depositValue) {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         } else {
-            this.deductFromAmount(transactions.deleteDepositFromList(index, ui));
+            this.deductFromAmount(getTransactions().deleteDepositFromList(index, ui));
             logger.info("Successfully deleted deposit");
         }
     }
 
     /**
-     * Updates the recurring expenditure to the net date and add an expenditure to expenditure list if overdue.
+     * Updates all recurring expenditures in the bank.
+     * Every income and recurring expenditure that fell due since they were last recorded is added at once.
      *
-     * @param recurringExpenditure The recurring expenditure to check.
-     * @param ui                   Used for printing.
-     * @return Outdated state of the expenditure.
-     * @throws BankException If bank amount becomes negative.
+     * @param ui Used for printing.
+     * @throws BankException If unable to add income.
      */
-    private boolean savingUpdateRecurringExpenditure(Transaction recurringExpenditure, Ui ui)
-            throws BankException {
-        DateFormat dateOutputFormat = new SimpleDateFormat("dd MMMM yyyy");
-        Date expenditureDate = null;
-        try {
-            expenditureDate = dateOutputFormat.parse(recurringExpenditure.getDate());
-        } catch (ParseException e) {
-            //check is already done when adding expenditure
-        }
-        boolean currentState = false;
-        if (new Date().compareTo(expenditureDate) >= 0) {
-            Transaction newExpenditure = new Expenditure(
-                    recurringExpenditure.getDescription(), recurringExpenditure.getAmount(),
-                    expenditureDate, recurringExpenditure.getCategory());
-            addInExpenditure(newExpenditure, ui, ACCOUNT_TYPE);
-            Calendar calendar = Calendar.getInstance();
-            calendar.clear();
-            calendar.setTime(expenditureDate);
-            calendar.add(Calendar.MONTH, 1);
-            recurringExpenditure.setDate(calendar.getTime());
-            currentState = true;
-            logger.info("Successfully added recurring expenditure transaction");
+    @Override
+    void updateRecurringTransactions(Ui ui) throws BankException {
+        dueDateChanged();
+        LocalDate today = CatchUpSchedule.today();
+        int numberOfIncomes = catchUpIncome(today, ui);
+        int numberOfExpenditures = 0;
+        for (int i = 0; i < getRecurringExpenditures().getListSize(); i++) {
+            numberOfExpenditures += catchUpRecurringExpenditure(
+                    getRecurringExpenditures().getRecurringExpenditure(i), today, ui);
         }
-        return currentState;
+        printCaughtUpTransactions(numberOfIncomes, numberOfExpenditures, ui);
     }
 
     /**
-     * Updates all recurring expenditures in the bank.
+     * Adds an income deposit for every month since the next income date up to today.
+     * If the amount in the bank would exceed the limit, only the incomes before it are added.
      *
-     * @param ui Used for printing.
-     * @throws BankException If unable to add income.
+     * @param today The last date on which an income is due.
+     * @param ui    Used for printing.
+     * @return The number of income deposits added.
+     * @throws BankException If adding an income would make the amount exceed the limit.
      */
-    @Override
-    void updateRecurringTransactions(Ui ui) throws BankException {
-        boolean outdatedExpenditure;
-        while (true) {
-            if (!earnedIncome(ui)) {
+    private int catchUpIncome(LocalDate today, Ui ui) throws BankException {
+        CatchUpSchedule schedule = new CatchUpSchedule(nextIncomeDate, ONE_MONTH, today);
+        ArrayList<Transaction> incomeDeposits = new ArrayList<>();
+        Money incomeAmount = Money.fromDouble(this.income);
+        Money newAmount = getCurrentMoney();
+        int earnedPeriods = 0;
+        boolean isOverLimit = false;
+        for (; earnedPeriods < schedule.getNumberOfDueDates(); earnedPeriods++) {
+            if (newAmount.plus(incomeAmount).isGreaterThan(MAX_AMOUNT)) {
+                isOverLimit = true;
                 break;
             }
+            if (income > 0) {
+                incomeDeposits.add(new Deposit("Income", this.income, schedule.getDueDate(earnedPeriods),
+                        INCOME_CATEGORY));
+                newAmount = newAmount.plus(incomeAmount);
+            }
+        }
+        if (earnedPeriods > 0) {
+            nextIncomeDate = schedule.getDateAfter(earnedPeriods - 1);
+        }
+        if (!incomeDeposits.isEmpty()) {
+            getTransactions().addTransactionsToList(incomeDeposits);
+            setCurrentMoney(newAmount);
+            logger.info(() -> "Successful added " + incomeDeposits.size() + " earned income");
         }
-        for (int i = 0; i < recurringExpenditures.getListSize();) {
-            outdatedExpenditure = false;
-            try {
-                outdatedExpenditure = savingUpdateRecurringExpenditure(
-                        recurringExpenditures.getRecurringExpenditure(i), ui);
-            } catch (BankException errorMessage) {
+        if (isOverLimit) {
+            printCaughtUpTransactions(incomeDeposits.size(), 0, ui);
+            throw new BankException("Amount in bank account cannot exceed 9 digits");
+        }
+        return incomeDeposits.size();
+    }
+
+    /**
+     * Adds an expenditure for every month since the date of the recurring expenditure up to today,
+     * and moves the recurring expenditure to the month after the last one added.
+     * If there is not enough money in the bank, only the expenditures before it are added.
+     *
+     * @param recurringExpenditure The recurring expenditure to update.
+     * @param today                The last date on which an expenditure is due.
+     * @param ui                   Used for printing.
+     * @return The number of expenditures added.
+     */
+    private int catchUpRecurringExpenditure(Transaction recurringExpenditure, LocalDate today, Ui ui) {
+        CatchUpSchedule schedule = new CatchUpSchedule(recurringExpenditure.getDateInDateFormat(), ONE_MONTH, today);
+        ArrayList<Transaction> expenditures = new ArrayList<>();
+        Money expenditureAmount = recurringExpenditure.getMoney();
+        Money newAmount = getCurrentMoney();
+        for (int period = 0; period < schedule.getNumberOfDueDates(); period++) {
+            if (expenditureAmount.isGreaterThan(newAmount)) {
                 logger.warning("There is not enough money in the bank for: "
-                        + recurringExpenditures.getRecurringExpenditure(i).getDescription());
+                        + recurringExpenditure.getDescription());
                 ui.printError("There is not enough money in the bank for: "
-                        + recurringExpenditures.getRecurringExpenditure(i).getDescription());
-            }
-            if (!outdatedExpenditure) {
-                i++;
+                        + recurringExpenditure.getDescription());
+                break;
             }
+            expenditures.add(new Expenditure(recurringExpenditure.getDescription(),
+                    recurringExpenditure.getAmount(), schedule.getDueDate(period), recurringExpenditure.getCategory()));
+            newAmount = newAmount.minus(expenditureAmount);
+        }
+        if (!expenditures.isEmpty()) {
+            recurringExpenditure.setDate(schedule.getDateAfter(expenditures.size() - 1));
+            getTransactions().addTransactionsToList(expenditures);
+            setCurrentMoney(newAmount);
+            logger.info(() -> "Successfully added " + expenditures.size() + " recurring expenditure transactions");
         }
+        return expenditures.size();
+    }
+
+    /**
+     * Gets the earliest date on which an income or a recurring expenditure of the savings account falls due.
+     *
+     * @return The earliest due date.
+     */
+    @Override
+    Date findNextDueDate() {
+        Date nextDueDate = nextIncomeDate;
+        for (int i = 0; i < getRecurringExpenditures().getListSize(); i++) {
+            nextDueDate = getEarlierDueDate(nextDueDate,
+                    getRecurringExpenditures().getRecurringExpenditure(i).getDateInDateFormat());
+        }
+        return nextDueDate;
+    }
+
+    /**
+     * Prints the number of outdated transactions added to the bank account.
+     *
+     * @param numberOfIncomes      The number of income deposits added.
+     * @param numberOfExpenditures The number of recurring expenditures added.
+     * @param ui                   Used for printing.
+     */
+    private void printCaughtUpTransactions(int numberOfIncomes, int numberOfExpenditures, Ui ui) {
+        if (numberOfIncomes + numberOfExpenditures == 0) {
+            return;
+        }
+        ui.printMessage("Added " + numberOfIncomes + " income deposits and " + numberOfExpenditures
+                + " recurring expenditures to " + getAccountName());
     }
 
     /**
@@ -380,7 +451,8 @@ public class Saving extends Bank {
      * @throws TransactionException If the recurring expenditure list is full.
      */
     void savingAddRecurringExpenditure(Transaction newExpenditure, Ui ui) throws TransactionException {
-        recurringExpenditures.addRecurringExpenditure(newExpenditure, ui);
+        getRecurringExpenditures().addRecurringExpenditure(newExpenditure, ui);
+        dueDateChanged();
         logger.info("Successfully added recurring expenditure entry");
     }
 
@@ -392,7 +464,8 @@ public class Saving extends Bank {
      * @throws TransactionException If there are 0 recurring expenditures or index is out of range.
      */
     void savingDeleteRecurringExpenditure(int index, Ui ui) throws TransactionException {
-        recurringExpenditures.deleteRecurringExpenditure(index, ui);
+        getRecurringExpenditures().deleteRecurringExpenditure(index, ui);
+        dueDateChanged();
         logger.info("Successfully deleted recurring expenditure entry");
     }
 
@@ -408,7 +481,7 @@ public class Saving extends Bank {
      */
     void savingEditRecurringExpenditure(int index, String description, String amount, String category, Ui ui)
             throws TransactionException {
-        recurringExpenditures.editRecurringExpenditure(index, description, amount, category, ui);
+        getRecurringExpenditures().editRecurringExpenditure(index, description, amount, category, ui);
         logger.info("Successfully edited recurring expenditure entry");
     }
 
@@ -419,7 +492,7 @@ public class Saving extends Bank {
      * @throws TransactionException If there are 0 recurring expenditures.
      */
     void savingListRecurringExpenditure(Ui ui) throws TransactionException {
-        recurringExpenditures.listRecurringExpenditure(ui);
+        getRecurringExpenditures().listRecurringExpenditure(ui);
         logger.info("Successfully listed recurring expenditures");
     }
 
@@ -431,10 +504,9 @@ public class Saving extends Bank {
      */
     @Override
     public void exportBankTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportTransactionList();
         try {
-            storage.writeFile(inputData, prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
-            logger.warning("Successfully exported: " + prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
+            writeTransactionList(storage, prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
+            logger.info(() -> "Successfully exported: " + prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
         } catch (IOException exceptionMessage) {
             logger.warning("Error exporting: " + prependFileName + SAVING_TRANSACTION_LIST_FILE_NAME);
             throw new IOException(exceptionMessage);
@@ -449,18 +521,15 @@ public class Saving extends Bank {
     @Override
     ArrayList<String[]> prepareExportRecurringTransactionList() {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat("#.##");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
         SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
         exportArrayList.add(new String[] {"description", "amount", "date", "category", "spent"});
 
-        for (int i = 0; i < recurringExpenditures.getListSize(); i++) {
-            String description = recurringExpenditures.get(i).getDescription();
-            double amount = recurringExpenditures.get(i).getAmount();
-            String date = exportDateFormat.format(recurringExpenditures.get(i).getDateInDateFormat());
-            String category = recurringExpenditures.get(i).getCategory();
-            boolean spent = recurringExpenditures.get(i).getSpent();
-            String stringAmount = decimalFormat.format(amount);
+        for (int i = 0; i < getRecurringExpenditures().getListSize(); i++) {
+            String description = getRecurringExpenditures().get(i).getDescription();
+            String date = exportDateFormat.format(getRecurringExpenditures().get(i).getDateInDateFormat());
+            String category = getRecurringExpenditures().get(i).getCategory();
+            boolean spent = getRecurringExpenditures().get(i).getSpent();
+            String stringAmount = getRecurringExpenditures().get(i).getMoney().toCompactString();
             String stringSpent = String.valueOf(spent);
             exportArrayList.add(new String[] {description, stringAmount, date, category, stringSpent});
         }
@@ -476,11 +545,11 @@ public class Saving extends Bank {
      */
     @Override
     void exportBankRecurringTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportRecurringTransactionList();
         try {
-            storage.writeFile(inputData, prependFileName
+            recurringExpenditures.getToSave();
+            storage.writeFile(this::prepareExportRecurringTransactionList, prependFileName
                     + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME);
-            logger.info("Successfully exported: "
+            logger.info(() -> "Successfully exported: "
                     + prependFileName + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME);
         } catch (IOException e) {
             logger.warning("Error exporting: " + prependFileName + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME);
@@ -505,7 +574,7 @@ public class Saving extends Bank {
             logger.warning("Bank account cannot have a negative amount");
             throw new BankException("Bank account cannot have a negative amount");
         } else {
-            transactions.importExpenditureToList(expenditure);
+            getTransactions().importExpenditureToList(expenditure);
             logger.info("Successfully imported expenditure");
         }
     }
@@ -523,7 +592,7 @@ public class Saving extends Bank {
             logger.warning("This account does not support investment account deposits");
             throw new BankException("This account does not support investment account deposits");
         }
-        transactions.importDepositToList(deposit);
+        getTransactions().importDepositToList(deposit);
         logger.info("Successfully imported deposit");
     }
 
@@ -534,7 +603,7 @@ public class Saving extends Bank {
      */
     @Override
     public void importNewRecurringExpenditure(Transaction expenditure) {
-        recurringExpenditures.importRecurringExpenditureToList(expenditure);
+        getRecurringExpenditures().importRecurringExpenditureToList(expenditure);
         logger.info("Successfully imported recurring expenditure");
     }
 
@@ -557,22 +626,8 @@ public class Saving extends Bank {
      */
     @Override
     public boolean isTransactionCardBillExist(UUID cardId, YearMonth billDate) {
-        boolean isExpenditureFound = false;
-        boolean isDepositFound = false;
-        for (int i = 0; i < transactions.getSize(); i++) {
-            UUID transactionCardId = transactions.get(i).getTransactionCardID();
-            YearMonth transactionCardBillDate = transactions.get(i).getTransactionCardBillDate();
-            boolean isExpenditure = transactions.get(i).getSpent();
-            if (transactionCardId.equals(cardId) && transactionCardBillDate.equals(billDate)
-                    && isExpenditure) {
-                isExpenditureFound = true;
-            }
-            if (transactionCardId.equals(cardId) && transactionCardBillDate.equals(billDate)
-                    && !isExpenditure) {
-                isDepositFound = true;
-            }
-        }
-        return isExpenditureFound && isDepositFound;
+        return getCardBillExpenditureId(cardId, billDate) != OBJ_DOES_NOT_EXIST
+                && getCardBillDepositId(cardId, billDate) != OBJ_DOES_NOT_EXIST;
     }
 
     /**
@@ -585,20 +640,11 @@ public class Saving extends Bank {
      */
     @Override
     public int getCardBillExpenditureId(UUID cardId, YearMonth billDate) {
-        for (int i = 0; i < transactions.getSize(); i++) {
-            UUID transactionCardId = transactions.get(i).getTransactionCardID();
-            YearMonth transactionCardBillDate = transactions.get(i).getTransactionCardBillDate();
-            boolean isExpenditure = transactions.get(i).getSpent();
-            if (transactionCardId == null) {
-                continue;
-            }
-            if (transactionCardId.equals(cardId) && transactionCardBillDate.equals(billDate)
-                    && isExpenditure) {
-                return i;
-            }
+        int index = getTransactions().findCardBillTransaction(cardId, billDate, true);
+        if (index == OBJ_DOES_NOT_EXIST) {
+            logger.info("Card bill expenditure does not exist");
         }
-        logger.info("Card bill expenditure does not exist");
-        return OBJ_DOES_NOT_EXIST;
+        return index;
     }
 
     /**
@@ -611,20 +657,11 @@ public class Saving extends Bank {
      */
     @Override
     public int getCardBillDepositId(UUID cardId, YearMonth billDate) {
-        for (int i = 0; i < transactions.getSize(); i++) {
-            UUID transactionCardId = transactions.get(i).getTransactionCardID();
-            YearMonth transactionCardBillDate = transactions.get(i).getTransactionCardBillDate();
-            boolean isExpenditure = transactions.get(i).getSpent();
-            if (transactionCardId == null) {
-                continue;
-            }
-            if (transactionCardId.equals(cardId) && transactionCardBillDate.equals(billDate)
-                    && !isExpenditure) {
-                return i;
-            }
+        int index = getTransactions().findCardBillTransaction(cardId, billDate, false);
+        if (index == OBJ_DOES_NOT_EXIST) {
+            logger.info("Card bill rebate deposit does not exist");
         }
-        logger.info("Card bill rebate deposit does not exist");
-        return OBJ_DOES_NOT_EXIST;
+        return index;
     }
 
     /**
@@ -638,7 +675,27 @@ public class Saving extends Bank {
      */
     @Override
     public void findRecurringExpenditure(String description, String category, Ui ui) throws TransactionException {
-        recurringExpenditures.findMatchingRecurringExpenditure(description, category, ui);
+        getRecurringExpenditures().findMatchingRecurringExpenditure(description, category, ui);
         logger.info("Completed finding recurring expenditures");
     }
+
+    /**
+     * Adds the searches of the transactions and recurring expenditures in the savings account
+     * to the list of search tasks.
+     *
+     * @param searchTasks The list of search tasks to add to.
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     */
+    @Override
+    void addSearchTasks(List<TransactionSearchTask> searchTasks, String fromDate, String toDate,
+            String description, String category) {
+        super.addSearchTasks(searchTasks, fromDate, toDate, description, category);
+        RecurringExpenditureList recurringExpenditureList = getRecurringExpenditures();
+        String sourceName = getAccountName() + " recurring expenditures";
+        searchTasks.add(() -> recurringExpenditureList.searchMatchingRecurringExpenditure(
+                sourceName, description, category));
+    }
 }
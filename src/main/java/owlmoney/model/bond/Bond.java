@@ -3,6 +3,8 @@ package owlmoney.model.bond;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -128,6 +130,15 @@ public class Bond {
         return this.date;
     }
 
+    /**
+     * Gets the date the bond was purchased.
+     *
+     * @return the date the bond was purchased in LocalDate format.
+     */
+    LocalDate getLocalDate() {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
     /**
      * Gets the annual coupon rate of the bond.
      *
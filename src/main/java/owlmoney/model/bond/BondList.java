@@ -2,11 +2,11 @@ package owlmoney.model.bond;
 
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.model.money.Money;
 import owlmoney.ui.Ui;
 
 /**
@@ -228,10 +228,8 @@ public class BondList {
         if (!isMultiplePrinting) {
             ui.printBondHeader();
         }
-        ui.printBond(num, bond.getName(),
-                "$" + new DecimalFormat("0.00").format(bond.getAmount()),
-                new DecimalFormat("0.00").format(bond.getYearlyCouponRate()),
-                bond.getDate(), bond.getYear());
+        ui.printBond(num, bond.getName(), Money.fromDouble(bond.getAmount()), bond.getYearlyCouponRate(),
+                bond.getLocalDate(), bond.getYear());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -3,9 +3,7 @@ package owlmoney.model.card;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
-import java.math.RoundingMode;
 import java.text.DateFormat;
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -14,13 +12,18 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import owlmoney.model.card.exception.CardException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Transaction;
 import owlmoney.model.transaction.TransactionList;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.LazyHandle;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -31,17 +34,15 @@ public class Card {
     private String name;
     private double limit;
     private double rebate;
-    private TransactionList paid;
-    private TransactionList unpaid;
+    private final LazyHandle<TransactionList> paid;
+    private final LazyHandle<TransactionList> unpaid;
     private UUID id;
-    private static final int OBJ_DOES_NOT_EXIST = -1;
-    private static final int ONE_ARRAY_INDEX = 1;
     private static final int DIVIDE_BY_2 = 2;
     private Storage storage;
-    private static final String FILE_PATH = "data/";
     private static final String CARD_PAID_TRANSACTION_LIST_FILE_NAME = "_card_paid_transactionList.csv";
     private static final String CARD_UNPAID_TRANSACTION_LIST_FILE_NAME = "_card_unpaid_transactionList.csv";
     private static final Logger logger = getLogger(Card.class);
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
 
 
@@ -56,10 +57,9 @@ public class Card {
         this.name = name;
         this.limit = limit;
         this.rebate = rebate;
-        this.paid = new TransactionList();
-        this.unpaid = new TransactionList();
+        this.paid = new LazyHandle<>(new TransactionList());
+        this.unpaid = new LazyHandle<>(new TransactionList());
         this.id = UUID.randomUUID();
-        this.storage = new Storage(FILE_PATH);
     }
 
     /**
@@ -74,10 +74,70 @@ public class Card {
         this.name = name;
         this.limit = limit;
         this.rebate = rebate;
-        this.paid = new TransactionList();
-        this.unpaid = new TransactionList();
+        this.paid = new LazyHandle<>(new TransactionList());
+        this.unpaid = new LazyHandle<>(new TransactionList());
         this.id = uuid;
-        this.storage = new Storage(FILE_PATH);
+    }
+
+    /**
+     * Gets the paid expenditure list of the credit card, loading it from persistent storage if needed.
+     *
+     * @return the paid expenditure list of the credit card.
+     */
+    private TransactionList getPaidExpenditures() {
+        return paid.get();
+    }
+
+    /**
+     * Gets the unpaid expenditure list of the credit card, loading it from persistent storage if needed.
+     *
+     * @return the unpaid expenditure list of the credit card.
+     */
+    private TransactionList getUnpaidExpenditures() {
+        return unpaid.get();
+    }
+
+    /**
+     * Sets the loader that imports the paid expenditures of the credit card the first time they are needed.
+     * The size of the paid expenditure list is recorded once the import is done.
+     *
+     * @param loader the loader that imports the paid expenditures.
+     */
+    public void setPaidExpendituresLoader(Runnable loader) {
+        paid.setLoader(loader == null ? null : () -> {
+            loader.run();
+            getPaidExpenditures().recordSize();
+        });
+    }
+
+    /**
+     * Sets the loader that imports the unpaid expenditures of the credit card the first time they are needed.
+     * The size of the unpaid expenditure list is recorded once the import is done.
+     *
+     * @param loader the loader that imports the unpaid expenditures.
+     */
+    public void setUnpaidExpendituresLoader(Runnable loader) {
+        unpaid.setLoader(loader == null ? null : () -> {
+            loader.run();
+            getUnpaidExpenditures().recordSize();
+        });
+    }
+
+    /**
+     * Sets the storage that the expenditures of the credit card are saved to once it is added to a card list.
+     *
+     * @param storage The storage of the profile that the credit card belongs to.
+     */
+    void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Loads all expenditures of the credit card that have not been loaded from persistent storage.
+     */
+    void loadAllData() {
+        getPaidExpenditures();
+        getUnpaidExpenditures();
     }
 
     /**
@@ -151,10 +211,8 @@ public class Card {
      * @throws CardException If expenditure exceeds remaining card limit.
      */
     private void checkExpExceedRemainingLimit(Transaction expenditure) throws CardException {
-        LocalDate date = expenditure.getLocalDate();
-        double monthAmountSpent = unpaid.getMonthAmountSpent(date.getMonthValue(), date.getYear());
-        double remainingMonthAmount = limit - monthAmountSpent;
-        if (expenditure.getAmount() > remainingMonthAmount) {
+        Money remainingMonthAmount = getRemainingMoney(YearMonth.from(expenditure.getLocalDate()));
+        if (expenditure.getMoney().isGreaterThan(remainingMonthAmount)) {
             logger.warning("Expenditure to be added cannot exceed remaining limit of $"
                     + remainingMonthAmount);
             throw new CardException("Expenditure to be added cannot exceed remaining limit of $"
@@ -172,8 +230,8 @@ public class Card {
      */
     void addInExpenditure(Transaction expenditure, Ui ui, String type) throws CardException {
         this.checkExpExceedRemainingLimit(expenditure);
-        unpaid.addExpenditureToList(expenditure, ui, type);
-        logger.info("Successfully added expenditure in unpaid list in " + getName());
+        getUnpaidExpenditures().addExpenditureToList(expenditure, ui, type);
+        logger.info(() -> "Successfully added expenditure in unpaid list in " + getName());
     }
 
     /**
@@ -186,7 +244,7 @@ public class Card {
      */
     void addInPaidExpenditure(Transaction expenditure, Ui ui, String type) throws CardException {
         this.checkExpExceedRemainingLimit(expenditure);
-        paid.addExpenditureToList(expenditure, ui, type);
+        getPaidExpenditures().addExpenditureToList(expenditure, ui, type);
     }
 
     /**
@@ -199,18 +257,18 @@ public class Card {
         int displayNumHalf = displayNum / DIVIDE_BY_2;
         try {
             ui.printMessage("Paid Expenditures:");
-            paid.listExpenditure(ui, displayNumHalf);
+            getPaidExpenditures().listExpenditure(ui, displayNumHalf);
         } catch (TransactionException e) {
             ui.printMessage("There are no paid expenditures in this card.");
         }
         try {
             ui.printMessage("");
             ui.printMessage("Unpaid Expenditures:");
-            unpaid.listExpenditure(ui, displayNumHalf);
+            getUnpaidExpenditures().listExpenditure(ui, displayNumHalf);
         } catch (TransactionException e) {
             ui.printMessage("There are no unpaid expenditures in this card.");
         }
-        logger.info("Successfully listed paid and unpaid expenditure list in " + getName());
+        logger.info(() -> "Successfully listed paid and unpaid expenditure list in " + getName());
     }
 
     /**
@@ -221,8 +279,8 @@ public class Card {
      * @throws TransactionException If invalid transaction.
      */
     void deleteExpenditure(int exId, Ui ui) throws TransactionException {
-        unpaid.deleteExpenditureFromList(exId, ui, false);
-        logger.info("Successfully deleted expenditure in " + getName());
+        getUnpaidExpenditures().deleteExpenditureFromList(exId, ui, false);
+        logger.info(() -> "Successfully deleted expenditure in " + getName());
     }
 
     /**
@@ -239,11 +297,11 @@ public class Card {
      */
     void editExpenditureDetails(int expNum, String desc, String amount, String date, String category, Ui ui)
             throws TransactionException, CardException {
-        double remainingLimit = 0;
+        Money remainingLimit;
         if (date == null || date.isBlank()) {
-            int expMonth = unpaid.getTransactionMonthByIndex(expNum);
-            int expYear = unpaid.getTransactionYearByIndex(expNum);
-            remainingLimit = limit - unpaid.getMonthAmountSpent(expMonth, expYear);
+            int expMonth = getUnpaidExpenditures().getTransactionMonthByIndex(expNum);
+            int expYear = getUnpaidExpenditures().getTransactionYearByIndex(expNum);
+            remainingLimit = getRemainingMoney(YearMonth.of(expYear, expMonth));
         } else {
             DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
             Date simpleDate = null;
@@ -254,20 +312,18 @@ public class Card {
                 return;
             }
             LocalDate expDate = simpleDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-            int expMonth = expDate.getMonthValue();
-            int expYear = expDate.getYear();
-            remainingLimit = limit - unpaid.getMonthAmountSpent(expMonth, expYear);
+            remainingLimit = getRemainingMoney(YearMonth.from(expDate));
         }
 
-        double existingExpAmount = unpaid.getExpenditureAmount(expNum, false);
-        double limitLeftExcludeExistingExp = remainingLimit + existingExpAmount;
+        Money existingExpAmount = Money.fromDouble(getUnpaidExpenditures().getExpenditureAmount(expNum, false));
+        Money limitLeftExcludeExistingExp = remainingLimit.plus(existingExpAmount);
         if (!(amount == null || amount.isBlank())
-                && limitLeftExcludeExistingExp < Double.parseDouble(amount)) {
+                && limitLeftExcludeExistingExp.isLessThan(Money.fromDouble(Double.parseDouble(amount)))) {
             logger.warning("Edited expenditure cannot exceed $" + limitLeftExcludeExistingExp);
             throw new CardException("Edited expenditure cannot exceed $" + limitLeftExcludeExistingExp);
         }
-        unpaid.editExpenditure(expNum, desc, amount, date, category, ui);
-        logger.info("Successfully edited expenditure in " + getName());
+        getUnpaidExpenditures().editExpenditure(expNum, desc, amount, date, category, ui);
+        logger.info(() -> "Successfully edited expenditure in " + getName());
     }
 
     /** Returns remaining limit of this current month.
@@ -275,10 +331,26 @@ public class Card {
      * @return      Remaining limit of this current month.
      */
     public double getRemainingLimitNow() {
-        LocalDate currentDate = LocalDate.now();
-        int month = currentDate.getMonthValue();
-        int year = currentDate.getYear();
-        return limit - unpaid.getMonthAmountSpent(month, year);
+        return getRemainingMoneyNow().toDouble();
+    }
+
+    /**
+     * Returns the exact remaining limit of this current month.
+     *
+     * @return      Remaining limit of this current month.
+     */
+    public Money getRemainingMoneyNow() {
+        return getRemainingMoney(YearMonth.now());
+    }
+
+    /**
+     * Returns the exact remaining limit of the specified month.
+     *
+     * @param yearMonth The month of the remaining limit.
+     * @return      Remaining limit of the month.
+     */
+    private Money getRemainingMoney(YearMonth yearMonth) {
+        return Money.fromDouble(limit).minus(getUnpaidExpenditures().getMonthMoneySpent(yearMonth));
     }
 
     /**
@@ -287,7 +359,7 @@ public class Card {
      * @return True if unpaid expenditure list is empty.
      */
     public boolean isEmpty() {
-        return unpaid.expenditureListIsEmpty();
+        return getUnpaidExpenditures().expenditureListIsEmpty();
     }
 
     /**
@@ -305,7 +377,7 @@ public class Card {
         try {
             logger.info("Searching through: unpaid expenditure");
             ui.printMessage("Searching through: unpaid expenditure");
-            unpaid.findMatchingTransaction(fromDate, toDate, description, category, ui);
+            getUnpaidExpenditures().findMatchingTransaction(fromDate, toDate, description, category, ui);
         } catch (TransactionException errorMessage) {
             logger.warning(errorMessage.toString());
             ui.printError(errorMessage.getMessage());
@@ -313,13 +385,35 @@ public class Card {
         try {
             logger.info("Searching through: paid expenditure");
             ui.printMessage("Searching through: paid expenditure");
-            paid.findMatchingTransaction(fromDate, toDate, description, category, ui);
+            getPaidExpenditures().findMatchingTransaction(fromDate, toDate, description, category, ui);
         } catch (TransactionException errorMessage) {
             logger.warning(errorMessage.toString());
             ui.printError(errorMessage.getMessage());
         }
     }
 
+    /**
+     * Adds the searches of the unpaid and paid expenditures in the card to the list of search tasks.
+     * The expenditure lists are loaded before the tasks are created so that the tasks only read them.
+     *
+     * @param searchTasks The list of search tasks to add to.
+     * @param fromDate The date to search from.
+     * @param toDate The date to search until.
+     * @param description The description keyword to match against.
+     * @param category The category keyword to match against.
+     */
+    void addSearchTasks(List<TransactionSearchTask> searchTasks, String fromDate, String toDate,
+            String description, String category) {
+        TransactionList unpaidList = getUnpaidExpenditures();
+        TransactionList paidList = getPaidExpenditures();
+        String unpaidName = getName() + " unpaid expenditure";
+        String paidName = getName() + " paid expenditure";
+        searchTasks.add(() -> unpaidList.searchMatchingTransaction(
+                unpaidName, fromDate, toDate, description, category));
+        searchTasks.add(() -> paidList.searchMatchingTransaction(
+                paidName, fromDate, toDate, description, category));
+    }
+
     /**
      * Returns the total amount of all unpaid card expenditures of specified date.
      *
@@ -327,7 +421,7 @@ public class Card {
      * @return      The total amount of all unpaid card expenditures of specified date.
      */
     public double getUnpaidBillAmount(YearMonth date) {
-        return unpaid.getMonthAmountSpent(date.getMonthValue(), date.getYear());
+        return getUnpaidExpenditures().getMonthAmountSpent(date.getMonthValue(), date.getYear());
     }
 
     /**
@@ -337,26 +431,17 @@ public class Card {
      * @return      The total amount of all paid card expenditures of specified date.
      */
     public double getPaidBillAmount(YearMonth date) {
-        return paid.getMonthAmountSpent(date.getMonthValue(), date.getYear());
+        return getPaidExpenditures().getMonthAmountSpent(date.getMonthValue(), date.getYear());
     }
 
     /**
      * Transfers expenditures from unpaid list to paid list.
      *
      * @param cardDate      The YearMonth date of expenditures to transfer.
-     * @param type          Type of expenditure (card or bank).
      * @throws TransactionException If invalid transaction when deleting.
      */
-    void transferExpUnpaidToPaid(YearMonth cardDate, String type) throws TransactionException {
-        for (int i = 0; i < unpaid.getSize(); i++) {
-            int id = unpaid.getExpenditureIdByYearMonth(cardDate);
-            if (id != OBJ_DOES_NOT_EXIST) {
-                Transaction expenditure = unpaid.getExpenditureObjectByYearMonth(id);
-                paid.addExpenditureToList(expenditure, type);
-                unpaid.deleteExpenditureFromList(id + ONE_ARRAY_INDEX);
-                i -= ONE_ARRAY_INDEX;
-            }
-        }
+    void transferExpUnpaidToPaid(YearMonth cardDate) throws TransactionException {
+        getUnpaidExpenditures().moveExpendituresByYearMonth(cardDate, getPaidExpenditures());
         logger.info("Transfer unpaid to paid function completed");
     }
 
@@ -364,19 +449,10 @@ public class Card {
      * Transfers expenditures from paid list to unpaid list.
      *
      * @param cardDate      The YearMonth date of expenditures to transfer.
-     * @param type          Type of expenditure (card or bank).
      * @throws TransactionException If invalid transaction when deleting.
      */
-    void transferExpPaidToUnpaid(YearMonth cardDate, String type) throws TransactionException {
-        for (int i = 0; i < paid.getSize(); i++) {
-            int id = paid.getExpenditureIdByYearMonth(cardDate);
-            if (id != OBJ_DOES_NOT_EXIST) {
-                Transaction expenditure = paid.getExpenditureObjectByYearMonth(id);
-                unpaid.addExpenditureToList(expenditure, type);
-                paid.deleteExpenditureFromList(id + ONE_ARRAY_INDEX);
-                i -= ONE_ARRAY_INDEX;
-            }
-        }
+    void transferExpPaidToUnpaid(YearMonth cardDate) throws TransactionException {
+        getPaidExpenditures().moveExpendituresByYearMonth(cardDate, getUnpaidExpenditures());
         logger.info("Transfer paid to unpaid function completed");
     }
 
@@ -386,32 +462,8 @@ public class Card {
      * @return properly formatted paid transaction list in Arraylist that contains array of strings.
      */
     private ArrayList<String[]> prepareExportPaidTransactionList() {
-        ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat(".00");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
-        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        exportArrayList.add(new String[]{"description","amount","date","category","cardId","billDate",});
-        for (int i = 0; i < paid.getSize(); i++) {
-            String description = paid.get(i).getDescription();
-            double amount = paid.get(i).getAmount();
-            Date date = paid.get(i).getDateInDateFormat();
-            String category = paid.get(i).getCategory();
-            UUID cardId = paid.get(i).getTransactionCardID();
-            YearMonth billDate = paid.get(i).getTransactionCardBillDate();
-            String stringAmount = decimalFormat.format(amount);
-            String stringDate = exportDateFormat.format(date);
-            String stringUuid = "";
-            if (cardId != null) {
-                stringUuid = cardId.toString();
-            }
-            String stringBillDate = "";
-            if (billDate != null) {
-                stringBillDate = billDate.toString();
-            }
-            exportArrayList.add(new String[]
-                {description, stringAmount, stringDate, category, stringUuid, stringBillDate});
-        }
-        logger.info("Successfully prepared " + getName()
+        ArrayList<String[]> exportArrayList = prepareExportTransactionList(getPaidExpenditures());
+        logger.info(() -> "Successfully prepared " + getName()
                 + " credit card paid transaction list for exporting");
         return exportArrayList;
     }
@@ -423,10 +475,10 @@ public class Card {
      * @throws IOException if there are errors exporting the file.
      */
     void exportCardPaidTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportPaidTransactionList();
         try {
-            storage.writeFile(inputData,prependFileName + CARD_PAID_TRANSACTION_LIST_FILE_NAME);
-            logger.info("Successfully exported " + getName() + " credit card paid list to "
+            writeTransactionList(paid.getToSave(), this::prepareExportPaidTransactionList,
+                    prependFileName + CARD_PAID_TRANSACTION_LIST_FILE_NAME);
+            logger.info(() -> "Successfully exported " + getName() + " credit card paid list to "
                     + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
         } catch (IOException exceptionMessage) {
             logger.warning(exceptionMessage.toString());
@@ -440,32 +492,8 @@ public class Card {
      * @return properly formatted unpaid transaction list in Arraylist that contains array of strings.
      */
     private ArrayList<String[]> prepareExportUnpaidTransactionList() {
-        ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat(".00");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
-        SimpleDateFormat exportDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        exportArrayList.add(new String[]{"description","amount","date","category","cardId","billDate",});
-        for (int i = 0; i < unpaid.getSize(); i++) {
-            String description = unpaid.get(i).getDescription();
-            double amount = unpaid.get(i).getAmount();
-            Date date = unpaid.get(i).getDateInDateFormat();
-            String category = unpaid.get(i).getCategory();
-            UUID cardId = unpaid.get(i).getTransactionCardID();
-            YearMonth billDate = unpaid.get(i).getTransactionCardBillDate();
-            String stringAmount = decimalFormat.format(amount);
-            String stringDate = exportDateFormat.format(date);
-            String stringUuid = "";
-            if (cardId != null) {
-                stringUuid = cardId.toString();
-            }
-            String stringBillDate = "";
-            if (billDate != null) {
-                stringBillDate = billDate.toString();
-            }
-            exportArrayList.add(new String[]
-                {description, stringAmount, stringDate, category, stringUuid, stringBillDate});
-        }
-        logger.info("Successfully prepared " + getName()
+        ArrayList<String[]> exportArrayList = prepareExportTransactionList(getUnpaidExpenditures());
+        logger.info(() -> "Successfully prepared " + getName()
                 + " credit card unpaid transaction list for exporting");
         return exportArrayList;
     }
@@ -477,10 +505,10 @@ public class Card {
      * @throws IOException if there are errors exporting the file.
      */
     void exportCardUnpaidTransactionList(String prependFileName) throws IOException {
-        ArrayList<String[]> inputData = prepareExportUnpaidTransactionList();
         try {
-            storage.writeFile(inputData,prependFileName + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
-            logger.info("Successfully exported " + getName() + " credit card unpaid list to "
+            writeTransactionList(unpaid.getToSave(), this::prepareExportUnpaidTransactionList,
+                    prependFileName + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
+            logger.info(() -> "Successfully exported " + getName() + " credit card unpaid list to "
                 + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
         } catch (IOException exceptionMessage) {
             logger.warning(exceptionMessage.toString());
@@ -488,13 +516,68 @@ public class Card {
         }
     }
 
+    /**
+     * Prepares a transaction list of the card for exporting.
+     *
+     * @param expenditures the paid or unpaid transaction list.
+     * @return properly formatted transaction list in Arraylist that contains array of strings.
+     */
+    private ArrayList<String[]> prepareExportTransactionList(TransactionList expenditures) {
+        ArrayList<String[]> exportArrayList = new ArrayList<>();
+        exportArrayList.add(new String[]{"description","amount","date","category","cardId","billDate",});
+        for (int i = 0; i < expenditures.getSize(); i++) {
+            exportArrayList.add(prepareExportTransaction(expenditures.get(i)));
+        }
+        return exportArrayList;
+    }
+
+    /**
+     * Prepares the details of one expenditure of the card for exporting.
+     *
+     * @param expenditure the expenditure to export.
+     * @return the row of the expenditure in the exported file.
+     */
+    private String[] prepareExportTransaction(Transaction expenditure) {
+        String description = expenditure.getDescription();
+        String category = expenditure.getCategory();
+        UUID cardId = expenditure.getTransactionCardID();
+        YearMonth billDate = expenditure.getTransactionCardBillDate();
+        String stringAmount = expenditure.getMoney().toStorageString();
+        String stringDate = EXPORT_DATE_FORMAT.format(expenditure.getLocalDate());
+        String stringUuid = "";
+        if (cardId != null) {
+            stringUuid = cardId.toString();
+        }
+        String stringBillDate = "";
+        if (billDate != null) {
+            stringBillDate = billDate.toString();
+        }
+        return new String[] {description, stringAmount, stringDate, category, stringUuid, stringBillDate};
+    }
+
+    /**
+     * Writes a transaction list of the card to its file, writing only the rows that changed
+     * since it was last written to the same file where possible.
+     *
+     * @param expenditures the paid or unpaid transaction list.
+     * @param inputDataSupplier prepares the full content of the file.
+     * @param fileName name of the file the transaction list is written to.
+     * @throws IOException if there are errors writing the file.
+     */
+    private void writeTransactionList(TransactionList expenditures, Supplier<ArrayList<String[]>> inputDataSupplier,
+            String fileName) throws IOException {
+        storage.writeFile(expenditures.getExportChanges(fileName, this::prepareExportTransaction),
+                inputDataSupplier, fileName);
+        expenditures.setExported(fileName);
+    }
+
     /**
      * Imports paid expenditures one at a time.
      *
      * @param newExpenditure an instance of the expenditure, contained in 1 line in the save file.
      */
-    void importNewPaidExpenditure(Transaction newExpenditure) {
-        paid.importExpenditureToList(newExpenditure);
+    public void importNewPaidExpenditure(Transaction newExpenditure) {
+        getPaidExpenditures().importExpenditureToList(newExpenditure);
     }
 
     /**
@@ -502,7 +585,7 @@ public class Card {
      *
      * @param newExpenditure an instance of the expenditure, contained in 1 line in the save file.
      */
-    void importNewUnpaidExpenditure(Transaction newExpenditure) {
-        unpaid.importExpenditureToList(newExpenditure);
+    public void importNewUnpaidExpenditure(Transaction newExpenditure) {
+        getUnpaidExpenditures().importExpenditureToList(newExpenditure);
     }
 }
@@ -3,15 +3,19 @@ package owlmoney.model.card;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 import owlmoney.model.card.exception.CardException;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
@@ -21,11 +25,14 @@ import owlmoney.ui.Ui;
  */
 public class CardList {
     private ArrayList<Card> cardLists;
+    private HashMap<String, Integer> cardIndexByName;
     private static final int ONE_INDEX = 1;
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
     private static final int ISZERO = 0;
+    private static final int OBJ_DOES_NOT_EXIST = -1;
     private static final int MAX_CARD_LIMIT = 10;
+    private static final int REBATE_DECIMAL_PLACES = 2;
     private Storage storage;
     private static final String PROFILE_CARD_LIST_FILE_NAME = "profile_cardlist.csv";
     private static final Logger logger = getLogger(CardList.class);
@@ -38,9 +45,70 @@ public class CardList {
      */
     public CardList(Storage storage) {
         cardLists = new ArrayList<Card>();
+        cardIndexByName = new HashMap<String, Integer>();
         this.storage = storage;
     }
 
+    /**
+     * Gets the position of the credit card with the specified name, ignoring case.
+     *
+     * @param cardName The name of the credit card.
+     * @return The position of the credit card in the cardList, or -1 if it does not exist.
+     */
+    private int getCardIndexByName(String cardName) {
+        if (cardName == null) {
+            return OBJ_DOES_NOT_EXIST;
+        }
+        return cardIndexByName.getOrDefault(cardName.toUpperCase(), OBJ_DOES_NOT_EXIST);
+    }
+
+    /**
+     * Gets the credit card with the specified name, ignoring case.
+     *
+     * @param cardName The name of the credit card.
+     * @return The credit card, or null if it does not exist.
+     */
+    private Card getCardByName(String cardName) {
+        int index = getCardIndexByName(cardName);
+        if (index == OBJ_DOES_NOT_EXIST) {
+            return null;
+        }
+        return cardLists.get(index);
+    }
+
+    /**
+     * Appends a credit card to the cardList and indexes it by name.
+     *
+     * @param newCard The credit card to append.
+     */
+    private void appendCard(Card newCard) {
+        newCard.setStorage(storage);
+        cardLists.add(newCard);
+        cardIndexByName.putIfAbsent(newCard.getName().toUpperCase(), cardLists.size() - ONE_INDEX);
+    }
+
+    /**
+     * Renames a credit card and moves it to its new name in the index.
+     *
+     * @param currentCard The credit card to rename.
+     * @param newName     The new name of the credit card.
+     */
+    private void renameCard(Card currentCard, String newName) {
+        Integer index = cardIndexByName.remove(currentCard.getName().toUpperCase());
+        currentCard.setName(newName);
+        cardIndexByName.put(newName.toUpperCase(), index);
+    }
+
+    /**
+     * Rebuilds the name index after the positions of credit cards have shifted.
+     */
+    private void reindexCards() {
+        cardIndexByName.clear();
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            cardIndexByName.putIfAbsent(cardLists.get(i).getName().toUpperCase(), i);
+        }
+    }
+
     /**
      * Adds an instance of card into the CardList.
      *
@@ -57,7 +125,7 @@ public class CardList {
             logger.warning("The maximum limit of 10 credit cards has been reached.");
             throw new CardException("The maximum limit of 10 credit cards has been reached.");
         }
-        cardLists.add(newCard);
+        appendCard(newCard);
         ui.printMessage("Added a new card with the below details: ");
         printOneCard(ONE_INDEX, newCard, ISSINGLE, ui);
         logger.info("Successfully added a new card into the list.");
@@ -82,29 +150,27 @@ public class CardList {
     public void cardListDeleteCard(String cardName, Ui ui) throws CardException {
         cardListCheckListEmpty();
         boolean isDeleted = false;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+        loadAllCardData();
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                cardLists.remove(i);
-                ui.printMessage("Card with the following details has been removed:");
-                printOneCard(ONE_INDEX, currentCard, ISSINGLE, ui);
-                isDeleted = true;
-                logger.info("Successfully deleted the card from the list.");
-                try {
-                    exportCardList();
-                    logger.info("Successfully deleted the card from storage.");
-                } catch (IOException e) {
-                    ui.printError("Error trying to save your deletion of cards to disk. "
-                            + "Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    logger.warning("Error trying to save your deletion of cards to disk. "
-                            + "Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
-                break;
+            storage.captureDeferredWrites();
+            cardLists.remove(i);
+            reindexCards();
+            ui.printMessage("Card with the following details has been removed:");
+            printOneCard(ONE_INDEX, currentCard, ISSINGLE, ui);
+            isDeleted = true;
+            logger.info("Successfully deleted the card from the list.");
+            try {
+                exportCardList();
+                logger.info("Successfully deleted the card from storage.");
+            } catch (IOException e) {
+                ui.printError("Error trying to save your deletion of cards to disk. "
+                        + "Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                logger.warning("Error trying to save your deletion of cards to disk. "
+                        + "Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
         }
         if (!isDeleted) {
@@ -113,6 +179,16 @@ public class CardList {
         }
     }
 
+    /**
+     * Loads the expenditures of all cards that have not been loaded from persistent storage.
+     * Expenditure files are named after the position of the card, so they must be loaded before positions shift.
+     */
+    private void loadAllCardData() {
+        for (int i = ISZERO; i < getCardListSize(); i++) {
+            cardLists.get(i).loadAllData();
+        }
+    }
+
     /**
      * Throws CardException if CardList is empty.
      *
@@ -141,14 +217,9 @@ public class CardList {
      * @return the result specifying whether the credit card name already exists.
      */
     private boolean cardExists(String cardName) {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                return true;
-            }
+        Card currentCard = getCardByName(cardName);
+        if (currentCard != null) {
+            return true;
         }
         return false;
     }
@@ -160,17 +231,7 @@ public class CardList {
      * @throws CardException if the credit card name that the user specified does not exists.
      */
     public void checkCardExists(String cardName) throws CardException {
-        boolean isExist = false;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                isExist = true;
-            }
-        }
-        if (!isExist) {
+        if (!cardExists(cardName)) {
             logger.warning("Credit card " + cardName + " does not exist!");
             throw new CardException("Credit card " + cardName + " does not exist!");
         }
@@ -184,15 +245,10 @@ public class CardList {
      * @throws CardException If new card name is not unique.
      */
     private void compareCard(Card currentCard, String newCardName) throws CardException {
-        String capitalNewCardName = newCardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card checkCard = cardLists.get(i);
-            String checkCardName = checkCard.getName();
-            String capitalCheckCardName = checkCardName.toUpperCase();
-            if (capitalCheckCardName.equals(capitalNewCardName) && !checkCard.equals(currentCard)) {
-                logger.warning("There is already a credit card with the name: " + newCardName);
-                throw new CardException("There is already a credit card with the name: " + newCardName);
-            }
+        Card checkCard = getCardByName(newCardName);
+        if (checkCard != null && !checkCard.equals(currentCard)) {
+            logger.warning("There is already a credit card with the name: " + newCardName);
+            throw new CardException("There is already a credit card with the name: " + newCardName);
         }
     }
 
@@ -221,39 +277,35 @@ public class CardList {
      */
     public void cardListEditCard(String cardName, String newName, String limit, String rebate, Ui ui)
             throws CardException {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                if (!(newName == null || newName.isBlank())) {
-                    compareCard(currentCard, newName);
-                    currentCard.setName(newName);
-                }
-                if (!(limit == null || limit.isBlank())) {
-                    this.checkUnpaidCannotEditLimit(currentCard);
-                    currentCard.setLimit(Double.parseDouble(limit));
-                }
-                if (!(rebate == null || rebate.isBlank())) {
-                    currentCard.setRebate(Double.parseDouble(rebate));
-                }
-                ui.printMessage("New details of the cards: ");
-                printOneCard(ONE_INDEX, cardLists.get(i), ISSINGLE, ui);
-                logger.info("Successfully edited the card in the list.");
-                try {
-                    exportCardList();
-                    logger.info("Successfully edited the card in the storage.");
-                } catch (IOException e) {
-                    ui.printError("Error trying to save your editions of cards to disk. "
-                            + "Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    logger.warning("Error trying to save your editions of cards to disk. "
-                            + "Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
-                return;
+            if (!(newName == null || newName.isBlank())) {
+                compareCard(currentCard, newName);
+                renameCard(currentCard, newName);
+            }
+            if (!(limit == null || limit.isBlank())) {
+                this.checkUnpaidCannotEditLimit(currentCard);
+                currentCard.setLimit(Double.parseDouble(limit));
+            }
+            if (!(rebate == null || rebate.isBlank())) {
+                currentCard.setRebate(Double.parseDouble(rebate));
             }
+            ui.printMessage("New details of the cards: ");
+            printOneCard(ONE_INDEX, cardLists.get(i), ISSINGLE, ui);
+            logger.info("Successfully edited the card in the list.");
+            try {
+                exportCardList();
+                logger.info("Successfully edited the card in the storage.");
+            } catch (IOException e) {
+                ui.printError("Error trying to save your editions of cards to disk. "
+                        + "Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                logger.warning("Error trying to save your editions of cards to disk. "
+                        + "Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+            }
+            return;
         }
         logger.warning("Card could not be found for editing card details.");
         throw new CardException("Card could not be found for editing card details.");
@@ -287,28 +339,24 @@ public class CardList {
      */
     public void cardListAddExpenditure(String cardName, Transaction expenditure, Ui ui, String type)
             throws CardException {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                currentCard.addInExpenditure(expenditure, ui, type);
-                logger.info("Successfully added card expenditure to the list.");
-                try {
-                    cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
-                    cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
-                    logger.info("Successfully added card expenditure to the storage.");
-                } catch (IOException exceptionMessage) {
-                    ui.printError("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    logger.warning("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
-                return;
+            currentCard.addInExpenditure(expenditure, ui, type);
+            logger.info("Successfully added card expenditure to the list.");
+            try {
+                cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
+                cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
+                logger.info("Successfully added card expenditure to the storage.");
+            } catch (IOException exceptionMessage) {
+                ui.printError("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                logger.warning("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Card cannot be found for adding expenditure:" + cardName);
         throw new CardException("Card cannot be found for adding expenditure:" + cardName);
@@ -325,16 +373,11 @@ public class CardList {
      */
     public void cardListListCardExpenditure(String cardToList, Ui ui, int displayNum)
             throws TransactionException, CardException {
-        String capitalCardToList = cardToList.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardToList.equals(capitalCurrentCardName)) {
-                cardLists.get(i).listAllExpenditure(ui, displayNum);
-                logger.info("Listing card expenditure.");
-                return;
-            }
+        int i = getCardIndexByName(cardToList);
+        if (i != OBJ_DOES_NOT_EXIST) {
+            cardLists.get(i).listAllExpenditure(ui, displayNum);
+            logger.info("Listing card expenditure.");
+            return;
         }
         logger.warning("Card cannot be found to list expenditure: " + cardToList);
         throw new CardException("Card cannot be found to list expenditure: " + cardToList);
@@ -351,28 +394,24 @@ public class CardList {
      */
     public void cardListDeleteExpenditure(int transactionNumber, String deleteFromAccountCard, Ui ui)
             throws CardException, TransactionException {
-        String capitalDeleteFromAccountCard = deleteFromAccountCard.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+        int i = getCardIndexByName(deleteFromAccountCard);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalDeleteFromAccountCard.equals(capitalCurrentCardName)) {
-                currentCard.deleteExpenditure(transactionNumber, ui);
-                logger.info("Successfully deleted card expenditure from the list.");
-                try {
-                    cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
-                    cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
-                    logger.info("Successfully deleted card expenditure from the storage.");
-                } catch (IOException exceptionMessage) {
-                    ui.printError("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    logger.warning("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
-                return;
+            currentCard.deleteExpenditure(transactionNumber, ui);
+            logger.info("Successfully deleted card expenditure from the list.");
+            try {
+                cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
+                cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
+                logger.info("Successfully deleted card expenditure from the storage.");
+            } catch (IOException exceptionMessage) {
+                ui.printError("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                logger.warning("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Card cannot be found for deleting expenditure: " + deleteFromAccountCard);
         throw new CardException("Card cannot be found for deleting expenditure: " + deleteFromAccountCard);
@@ -393,29 +432,24 @@ public class CardList {
      */
     public void cardListEditExpenditure(int transactionNumber, String editFromCard, String description,
             String amount, String date, String category, Ui ui) throws CardException, TransactionException {
-        String capitalEditFromCard = editFromCard.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalEditFromCard.equals(capitalCurrentCardName)) {
-                cardLists.get(i).editExpenditureDetails(transactionNumber, description, amount, date,
-                        category, ui);
-                logger.info("Successfully edited card expenditure in the list.");
-                try {
-                    cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
-                    cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
-                    logger.info("Successfully edited card expenditure in the storage.");
-                } catch (IOException exceptionMessage) {
-                    ui.printError("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    logger.warning("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
-                return;
+        int i = getCardIndexByName(editFromCard);
+        if (i != OBJ_DOES_NOT_EXIST) {
+            cardLists.get(i).editExpenditureDetails(transactionNumber, description, amount, date,
+                    category, ui);
+            logger.info("Successfully edited card expenditure in the list.");
+            try {
+                cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
+                cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
+                logger.info("Successfully edited card expenditure in the storage.");
+            } catch (IOException exceptionMessage) {
+                ui.printError("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                logger.warning("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
+            return;
         }
         logger.warning("Card cannot be found for editing expenditure: " + editFromCard);
         throw new CardException("Card cannot be found for editing expenditure: " + editFromCard);
@@ -434,10 +468,8 @@ public class CardList {
         if (!isMultiplePrinting) {
             ui.printCardHeader();
         }
-        ui.printCard(num, card.getName(),
-                "$" + new DecimalFormat("0.00").format(card.getLimit()),
-                "$" + new DecimalFormat("0.00").format(card.getRemainingLimitNow()),
-                new DecimalFormat("0.00").format(card.getRebate()) + "%");
+        ui.printCard(num, card.getName(), Money.fromDouble(card.getLimit()), card.getRemainingMoneyNow(),
+                card.getRebate());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -488,6 +520,22 @@ public class CardList {
         logger.info("Successfully found matching card.");
     }
 
+    /**
+     * Adds the searches of the unpaid and paid expenditures of every card to the list of search tasks.
+     *
+     * @param searchTasks The list of search tasks to add to.
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     */
+    public void cardListAddSearchTasks(List<TransactionSearchTask> searchTasks, String fromDate, String toDate,
+            String description, String category) {
+        for (int i = ISZERO; i < cardLists.size(); i++) {
+            cardLists.get(i).addSearchTasks(searchTasks, fromDate, toDate, description, category);
+        }
+    }
+
     /**
      * Finds matching card transactions from the card specified by the user.
      *
@@ -502,16 +550,11 @@ public class CardList {
      */
     public void cardListFindTransaction(String cardName, String fromDate, String toDate,
             String description, String category, Ui ui) throws CardException, TransactionException {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                logger.info("Found card to search for matching transaction.");
-                currentCard.findTransaction(fromDate, toDate, description, category, ui);
-                return;
-            }
+        Card currentCard = getCardByName(cardName);
+        if (currentCard != null) {
+            logger.info("Found card to search for matching transaction.");
+            currentCard.findTransaction(fromDate, toDate, description, category, ui);
+            return;
         }
         logger.warning("Card with the following name does not exist: " + cardName);
         throw new CardException("Card with the following name does not exist: " + cardName);
@@ -528,14 +571,9 @@ public class CardList {
     public double getUnpaidBillAmount(String cardName, YearMonth date) throws CardException {
         checkCardExists(cardName);
         double billAmount = 0;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                billAmount = currentCard.getUnpaidBillAmount(date);
-            }
+        Card currentCard = getCardByName(cardName);
+        if (currentCard != null) {
+            billAmount = currentCard.getUnpaidBillAmount(date);
         }
         return billAmount;
     }
@@ -551,14 +589,9 @@ public class CardList {
     public double getPaidBillAmount(String cardName, YearMonth date) throws CardException {
         checkCardExists(cardName);
         double billAmount = 0;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                billAmount = currentCard.getPaidBillAmount(date);
-            }
+        Card currentCard = getCardByName(cardName);
+        if (currentCard != null) {
+            billAmount = currentCard.getPaidBillAmount(date);
         }
         return billAmount;
     }
@@ -573,14 +606,9 @@ public class CardList {
     public double getRebateAmount(String cardName) throws CardException {
         checkCardExists(cardName);
         double rebateAmount = 0;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                rebateAmount = currentCard.getRebate();
-            }
+        Card currentCard = getCardByName(cardName);
+        if (currentCard != null) {
+            rebateAmount = currentCard.getRebate();
         }
         return rebateAmount;
     }
@@ -595,14 +623,9 @@ public class CardList {
     public UUID getCardId(String cardName) throws CardException {
         checkCardExists(cardName);
         UUID id = null;
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
-            Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                id = cardLists.get(i).getId();
-            }
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
+            id = cardLists.get(i).getId();
         }
         return id;
     }
@@ -612,31 +635,25 @@ public class CardList {
      *
      * @param cardName The credit card of which the expenditures to transfer.
      * @param cardDate The YearMonth date of expenditures to transfer.
-     * @param type     Type of expenditure (card or bank).
      * @throws TransactionException If invalid transaction when deleting.
      */
-    public void transferExpUnpaidToPaid(String cardName, YearMonth cardDate, String type)
-            throws TransactionException {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+    public void transferExpUnpaidToPaid(String cardName, YearMonth cardDate) throws TransactionException {
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                currentCard.transferExpUnpaidToPaid(cardDate, type);
-                logger.info("Transferring expenditure from unpaid to paid for card.");
-                try {
-                    cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
-                    cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
-                    logger.info("Successfully store expenditure in unpaid and paid for card to storage.");
-                } catch (IOException exceptionMessage) {
-                    logger.warning("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    throw new TransactionException("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
+            currentCard.transferExpUnpaidToPaid(cardDate);
+            logger.info("Transferring expenditure from unpaid to paid for card.");
+            try {
+                cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
+                cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
+                logger.info("Successfully store expenditure in unpaid and paid for card to storage.");
+            } catch (IOException exceptionMessage) {
+                logger.warning("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                throw new TransactionException("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
         }
     }
@@ -646,35 +663,41 @@ public class CardList {
      *
      * @param cardName The credit card of which the expenditures to transfer.
      * @param cardDate The YearMonth date of expenditures to transfer.
-     * @param type     Type of expenditure (card or bank).
      * @throws TransactionException If invalid transaction when deleting.
      */
-    public void transferExpPaidToUnpaid(String cardName, YearMonth cardDate, String type)
-            throws TransactionException {
-        String capitalCardName = cardName.toUpperCase();
-        for (int i = ISZERO; i < getCardListSize(); i++) {
+    public void transferExpPaidToUnpaid(String cardName, YearMonth cardDate) throws TransactionException {
+        int i = getCardIndexByName(cardName);
+        if (i != OBJ_DOES_NOT_EXIST) {
             Card currentCard = cardLists.get(i);
-            String currentCardName = currentCard.getName();
-            String capitalCurrentCardName = currentCardName.toUpperCase();
-            if (capitalCardName.equals(capitalCurrentCardName)) {
-                currentCard.transferExpPaidToUnpaid(cardDate, type);
-                logger.info("Transferring expenditure from paid to unpaid for card.");
-                try {
-                    cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
-                    cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
-                    logger.info("Successfully store expenditure in paid and unpaid for card to storage.");
-                } catch (IOException exceptionMessage) {
-                    logger.warning("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                    throw new TransactionException("Error trying to save your card expenditure"
-                            + " to disk. Your data is at risk, but we will try again, "
-                            + "feel free to continue using the program.");
-                }
+            currentCard.transferExpPaidToUnpaid(cardDate);
+            logger.info("Transferring expenditure from paid to unpaid for card.");
+            try {
+                cardLists.get(i).exportCardPaidTransactionList(Integer.toString(i));
+                cardLists.get(i).exportCardUnpaidTransactionList(Integer.toString(i));
+                logger.info("Successfully store expenditure in paid and unpaid for card to storage.");
+            } catch (IOException exceptionMessage) {
+                logger.warning("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
+                throw new TransactionException("Error trying to save your card expenditure"
+                        + " to disk. Your data is at risk, but we will try again, "
+                        + "feel free to continue using the program.");
             }
         }
     }
 
+    /**
+     * Formats the rebate rate of a card as saved in the card list file.
+     *
+     * @param rebateRate the rebate rate of the card.
+     * @return the rebate rate cut to two decimal places, with no zero before the decimal point.
+     */
+    private static String formatExportRebate(double rebateRate) {
+        String formatted = BigDecimal.valueOf(rebateRate).setScale(REBATE_DECIMAL_PLACES, RoundingMode.DOWN)
+                .toPlainString();
+        return formatted.startsWith("0.") ? formatted.substring(1) : formatted;
+    }
+
     /**
      * Prepares the cardList for exporting of bank name and type of the bank account.
      *
@@ -682,15 +705,12 @@ public class CardList {
      */
     private ArrayList<String[]> prepareExportCardList() {
         ArrayList<String[]> exportArrayList = new ArrayList<>();
-        DecimalFormat decimalFormat = new DecimalFormat(".00");
-        decimalFormat.setRoundingMode(RoundingMode.DOWN);
         exportArrayList.add(new String[] {"cardName", "cardLimit", "rebateRate", "uuid"});
         for (int i = 0; i < cardLists.size(); i++) {
             String cardName = cardLists.get(i).getName();
-            double cardLimit = cardLists.get(i).getLimit();
-            String stringCardLimit = decimalFormat.format(cardLimit);
+            String stringCardLimit = Money.fromDouble(cardLists.get(i).getLimit()).toStorageString();
             double rebateRate = cardLists.get(i).getRebate();
-            String stringRebateRate = decimalFormat.format(rebateRate);
+            String stringRebateRate = formatExportRebate(rebateRate);
             UUID uuid = cardLists.get(i).getId();
             String stringUuid = uuid.toString();
             exportArrayList.add(new String[] {cardName, stringCardLimit, stringRebateRate, stringUuid});
@@ -707,7 +727,7 @@ public class CardList {
     private void exportCardList() throws IOException {
         ArrayList<String[]> inputData = prepareExportCardList();
         storage.writeFile(inputData, PROFILE_CARD_LIST_FILE_NAME);
-        logger.info("Successfully exported card list to " + PROFILE_CARD_LIST_FILE_NAME);
+        logger.info(() -> "Successfully exported card list to " + PROFILE_CARD_LIST_FILE_NAME);
     }
 
     /**
@@ -725,34 +745,6 @@ public class CardList {
             logger.warning("The maximum limit of 10 credit cards has been reached.");
             throw new CardException("The maximum limit of 10 credit cards has been reached.");
         }
-        cardLists.add(newCard);
-    }
-
-    /**
-     * Imports unpaid card expenditures from save file into the card's unpaid list.
-     *
-     * @param cardName       the name of the card to tie the expenditure to.
-     * @param newExpenditure an instance of expenditure to be imported.
-     */
-    public void cardListImportNewUnpaidCardExpenditure(String cardName, Transaction newExpenditure) {
-        for (int i = 0; i < cardLists.size(); i++) {
-            if (cardLists.get(i).getName().equals(cardName)) {
-                cardLists.get(i).importNewUnpaidExpenditure(newExpenditure);
-            }
-        }
-    }
-
-    /**
-     * Imports paid card expenditures from save file into card's paid list.
-     *
-     * @param cardName       the name of the card to tie the expenditure to.
-     * @param newExpenditure an instance of expenditure to be imported.
-     */
-    public void cardListImportNewPaidCardExpenditure(String cardName, Transaction newExpenditure) {
-        for (int i = 0; i < cardLists.size(); i++) {
-            if (cardLists.get(i).getName().equals(cardName)) {
-                cardLists.get(i).importNewPaidExpenditure(newExpenditure);
-            }
-        }
+        appendCard(newCard);
     }
 }
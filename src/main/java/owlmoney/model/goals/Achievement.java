@@ -2,6 +2,8 @@ package owlmoney.model.goals;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 
 /**
@@ -68,4 +70,13 @@ public class Achievement {
     public Date getAchievementDateInDateFormat() {
         return this.date;
     }
+
+    /**
+     * Gets date for achievement in LocalDate format.
+     *
+     * @return date for achievement in LocalDate format.
+     */
+    LocalDate getLocalDate() {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
 }
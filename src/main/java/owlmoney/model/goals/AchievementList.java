@@ -1,5 +1,6 @@
 package owlmoney.model.goals;
 
+import owlmoney.model.money.Money;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -93,8 +94,8 @@ public class AchievementList {
         if (!isMultiplePrinting) {
             ui.printAchievementHeader();
         }
-        ui.printAchievement(num, achievement.getName(), "$"
-                        + new DecimalFormat("0.00").format(achievement.getAmount()), achievement.getDate());
+        ui.printAchievement(num, achievement.getName(), Money.fromDouble(achievement.getAmount()),
+                achievement.getLocalDate());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -129,8 +130,7 @@ public class AchievementList {
      * @throws IOException when unable to write to file.
      */
     private void exportAchievementList() throws IOException {
-        ArrayList<String[]> inputData = prepareExportAchievementList();
-        storage.writeFile(inputData, PROFILE_ACHIEVEMENT_LIST_FILE_NAME);
+        storage.writeFile(this::prepareExportAchievementList, PROFILE_ACHIEVEMENT_LIST_FILE_NAME);
         logger.info("Successfully exported all achievements from the arraylist for export");
     }
 
@@ -5,6 +5,8 @@ import owlmoney.model.bank.Bank;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
@@ -98,6 +100,15 @@ public class Goals {
         return this.date;
     }
 
+    /**
+     * Gets the date of the Goal in LocalDate format.
+     *
+     * @return date of the Goal in LocalDate format.
+     */
+    LocalDate getGoalsLocalDate() {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
     /**
      * Gets the saving account name which is tied to Goal.
      *
@@ -115,6 +126,16 @@ public class Goals {
         return savingAccount == null;
     }
 
+    /**
+     * Checks if the goal is tracked by the saving account.
+     *
+     * @param bank The saving account to check.
+     * @return true if the goal is tied to the saving account.
+     */
+    boolean isTiedTo(Bank bank) {
+        return savingAccount != null && savingAccount == bank;
+    }
+
     /**
      * Gets the remaining amount to save to reach the Goal.
      *
@@ -137,11 +158,14 @@ public class Goals {
      * Marks if Goal is achieved.
      *
      * @param remainingAmount amount remaining to reach goal.
+     * @return true if the goal was only marked as achieved now.
      */
-    void isDone(Double remainingAmount) {
-        if (remainingAmount <= 0) {
+    boolean isDone(Double remainingAmount) {
+        if (remainingAmount <= 0 && !done) {
             done = true;
+            return true;
         }
+        return false;
     }
 
     /**
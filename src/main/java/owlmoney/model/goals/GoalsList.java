@@ -2,6 +2,7 @@ package owlmoney.model.goals;
 
 import owlmoney.model.bank.Bank;
 import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.money.Money;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
@@ -11,6 +12,7 @@ import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.logging.Logger;
 
 import static owlmoney.commons.log.LogsCenter.getLogger;
@@ -20,6 +22,7 @@ import static owlmoney.commons.log.LogsCenter.getLogger;
  */
 public class GoalsList {
     private ArrayList<Goals> goalList;
+    private LinkedHashSet<Goals> statusChangedGoals;
     private static final int ONE_INDEX = 1;
     private static final boolean ISMULTIPLE = true;
     private static final boolean ISSINGLE = false;
@@ -36,6 +39,7 @@ public class GoalsList {
      */
     public GoalsList(Storage storage) {
         goalList = new ArrayList<Goals>();
+        statusChangedGoals = new LinkedHashSet<Goals>();
         this.storage = storage;
     }
 
@@ -67,13 +71,6 @@ public class GoalsList {
             }
             ui.printGoalDivider();
             logger.info("Succeed in listing all goals in list");
-            try {
-                exportGoalList();
-            } catch (IOException e) {
-                ui.printError("Error trying to save your goals to disk. Your data is"
-                        + " at risk, but we will try again, feel free to continue using the program.");
-                logger.warning("Failed to save data during /list /goals");
-            }
         }
     }
 
@@ -127,6 +124,7 @@ public class GoalsList {
                 if (capitalGoalName.equals(capitalCurrentGoalName)) {
                     Goals temp = goalList.get(i);
                     goalList.remove(i);
+                    statusChangedGoals.remove(temp);
                     ui.printMessage("Details of the goal being removed:");
                     printOneGoal(ONE_INDEX, temp, ISSINGLE, ui);
                     logger.info("Successfully deleted goal : " + goalName);
@@ -262,6 +260,7 @@ public class GoalsList {
                 if (markDone) {
                     if (currentGoal.savingAccNotTied()) {
                         currentGoal.markDone();
+                        statusChangedGoals.add(currentGoal);
                     } else {
                         logger.warning("Tried to mark done a tracked goal");
                         throw new GoalsException("You cannot mark a goal that is linked to a saving account!");
@@ -297,12 +296,12 @@ public class GoalsList {
         if (!isMultiplePrinting) {
             ui.printGoalHeader();
         }
-        if (!goal.getSavingAccount().isBlank()) {
-            goal.isDone(Double.parseDouble(goal.getRemainingAmount()));
+        if (!goal.getSavingAccount().isBlank() && goal.isDone(Double.parseDouble(goal.getRemainingAmount()))) {
+            statusChangedGoals.add(goal);
         }
-        ui.printGoal(num, goal.getGoalsName(), "$"
-                        + new DecimalFormat("0.00").format(goal.getGoalsAmount()), goal.getSavingAccount(),
-                "$" + goal.getRemainingAmount(), goal.getGoalsDate(), goal.getStatus());
+        ui.printGoal(num, goal.getGoalsName(), Money.fromDouble(goal.getGoalsAmount()),
+                goal.savingAccNotTied() ? null : goal.getSavingAccount(), Money.parse(goal.getRemainingAmount()),
+                goal.getGoalsLocalDate(), goal.getRawStatus());
         if (!isMultiplePrinting) {
             ui.printGoalDivider();
         }
@@ -313,7 +312,26 @@ public class GoalsList {
      */
     public void updateGoals() {
         for (int i = 0; i < goalList.size(); i++) {
-            goalList.get(i).isDone(Double.parseDouble(goalList.get(i).getRemainingAmount()));
+            if (goalList.get(i).isDone(Double.parseDouble(goalList.get(i).getRemainingAmount()))) {
+                statusChangedGoals.add(goalList.get(i));
+            }
+        }
+    }
+
+    /**
+     * Re-evaluates the goals tracked by a saving account after the amount in it changed.
+     * Goals that became achieved are checked for achievements after the current command.
+     *
+     * @param bank The bank account whose amount changed.
+     */
+    public void balanceChanged(Bank bank) {
+        for (int i = ISZERO; i < goalList.size(); i++) {
+            Goals currentGoal = goalList.get(i);
+            if (currentGoal.isTiedTo(bank)
+                    && currentGoal.isDone(Double.parseDouble(currentGoal.getRemainingAmount()))) {
+                statusChangedGoals.add(currentGoal);
+                logger.info("Goal " + currentGoal.getGoalsName() + " reached after balance change");
+            }
         }
     }
 
@@ -384,8 +402,7 @@ public class GoalsList {
      * @throws IOException when unable to write to file.
      */
     private void exportGoalList() throws IOException {
-        ArrayList<String[]> inputData = prepareExportGoalList();
-        storage.writeFile(inputData, PROFILE_GOAL_LIST_FILE_NAME);
+        storage.writeFile(this::prepareExportGoalList, PROFILE_GOAL_LIST_FILE_NAME);
         logger.info("Successfully exported goals");
     }
 
@@ -396,6 +413,7 @@ public class GoalsList {
      */
     public void goalListImportNewGoal(Goals newGoal) {
         goalList.add(newGoal);
+        statusChangedGoals.add(newGoal);
         logger.info("Successfully imported goals");
     }
 
@@ -407,21 +425,63 @@ public class GoalsList {
      * @return Achievement object to create new achievement.
      */
     public Achievement checkForAchievement(int i, Ui ui) {
-        Goals checkAchievement = goalList.get(i);
+        Achievement unlocked = unlockAchievement(goalList.get(i));
+        if (unlocked != null) {
+            exportAchievementStatus(ui);
+        }
+        return unlocked;
+    }
+
+    /**
+     * Checks the goals whose status changed since the previous check for achievements.
+     * The goals are only saved if any of their status changed.
+     *
+     * @param ui Required for Printing.
+     * @return Achievement objects to create new achievements, in the order of the goals.
+     */
+    public ArrayList<Achievement> checkForAchievements(Ui ui) {
+        ArrayList<Achievement> unlockedAchievements = new ArrayList<>();
+        if (statusChangedGoals.isEmpty()) {
+            return unlockedAchievements;
+        }
+        for (int i = ISZERO; i < goalList.size(); i++) {
+            Goals currentGoal = goalList.get(i);
+            if (!statusChangedGoals.contains(currentGoal)) {
+                continue;
+            }
+            Achievement unlocked = unlockAchievement(currentGoal);
+            if (unlocked != null) {
+                unlockedAchievements.add(unlocked);
+            }
+        }
+        statusChangedGoals.clear();
+        exportAchievementStatus(ui);
+        return unlockedAchievements;
+    }
+
+    /**
+     * Unlocks the achievement of a goal if it was achieved before its date.
+     *
+     * @param checkAchievement The goal to check.
+     * @return Achievement object to create new achievement, or null if none is unlocked.
+     */
+    private Achievement unlockAchievement(Goals checkAchievement) {
         if (checkAchievement.getRawStatus() && checkAchievement.getGoalsDateInDateFormat().after(new Date())
                 && !checkAchievement.getGoalAchievementStatus()) {
             Achievement unlocked = new Achievement(checkAchievement.getGoalsName(), checkAchievement.getGoalsAmount(),
                     "[GOALS]", checkAchievement.getGoalsDateInDateFormat());
             checkAchievement.achieveGoal();
-            try {
-                exportGoalList();
-            } catch (IOException e) {
-                ui.printError("Error trying to save your goals to disk. Your data is"
-                        + " at risk, but we will try again, feel free to continue using the program.");
-                logger.warning("Error exporting achievement status");
-            }
             return unlocked;
         }
+        return null;
+    }
+
+    /**
+     * Saves the goals after the status of any of them changed.
+     *
+     * @param ui Required for Printing.
+     */
+    private void exportAchievementStatus(Ui ui) {
         try {
             exportGoalList();
         } catch (IOException e) {
@@ -429,7 +489,6 @@ public class GoalsList {
                     + " at risk, but we will try again, feel free to continue using the program.");
             logger.warning("Error exporting achievement status");
         }
-        return null;
     }
 
     /**
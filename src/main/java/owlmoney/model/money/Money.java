@@ -0,0 +1,243 @@
+package owlmoney.model.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money as a whole number of cents so that adding and subtracting amounts is exact.
+ * Amounts are immutable, and are formatted without creating a formatter for every amount.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENTS_IN_DOLLAR = 100;
+    private static final int DECIMAL_PLACES = 2;
+    private static final int TENS = 10;
+
+    private final long cents;
+
+    /**
+     * Creates an amount of money from a number of cents.
+     *
+     * @param cents The number of cents.
+     */
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Gets the amount of money for a number of cents.
+     *
+     * @param cents The number of cents.
+     * @return The amount of money.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Gets the amount of money closest to an amount in dollars, rounding half a cent up.
+     * The shortest decimal representation of the amount is rounded so that an amount such as 1.005
+     * is not rounded down because of its binary representation.
+     *
+     * @param dollars The amount in dollars.
+     * @return The amount of money.
+     */
+    public static Money fromDouble(double dollars) {
+        return ofCents(BigDecimal.valueOf(dollars).setScale(DECIMAL_PLACES, RoundingMode.HALF_UP)
+                .movePointRight(DECIMAL_PLACES).longValueExact());
+    }
+
+    /**
+     * Parses an amount of money in dollars with at most two decimal places, such as 12, 12.5 or .50.
+     *
+     * @param dollars The amount in dollars.
+     * @return The amount of money.
+     * @throws NumberFormatException If the amount is not a number with at most two decimal places.
+     */
+    public static Money parse(String dollars) {
+        String trimmed = dollars.trim();
+        boolean isNegative = trimmed.startsWith("-");
+        String digits = isNegative ? trimmed.substring(1) : trimmed;
+        int pointIndex = digits.indexOf('.');
+        String wholePart = pointIndex < 0 ? digits : digits.substring(0, pointIndex);
+        String fractionPart = pointIndex < 0 ? "" : digits.substring(pointIndex + 1);
+        if ((wholePart.isEmpty() && fractionPart.isEmpty()) || fractionPart.length() > DECIMAL_PLACES) {
+            throw new NumberFormatException("Invalid amount of money: " + dollars);
+        }
+        long total = 0;
+        for (int i = 0; i < wholePart.length(); i++) {
+            total = Math.addExact(Math.multiplyExact(total, TENS), toDigit(wholePart.charAt(i), dollars));
+        }
+        for (int i = 0; i < DECIMAL_PLACES; i++) {
+            int digit = i < fractionPart.length() ? toDigit(fractionPart.charAt(i), dollars) : 0;
+            total = Math.addExact(Math.multiplyExact(total, TENS), digit);
+        }
+        return ofCents(isNegative ? -total : total);
+    }
+
+    /**
+     * Converts a character of an amount to the digit it represents.
+     *
+     * @param character The character to convert.
+     * @param dollars   The whole amount, used in the error message.
+     * @return The digit.
+     * @throws NumberFormatException If the character is not a digit.
+     */
+    private static int toDigit(char character, String dollars) {
+        if (character < '0' || character > '9') {
+            throw new NumberFormatException("Invalid amount of money: " + dollars);
+        }
+        return character - '0';
+    }
+
+    /**
+     * Gets the number of cents in the amount.
+     *
+     * @return The number of cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Gets the amount in dollars.
+     *
+     * @return The amount in dollars.
+     */
+    public double toDouble() {
+        return (double) cents / CENTS_IN_DOLLAR;
+    }
+
+    /**
+     * Adds another amount to this amount.
+     *
+     * @param other The amount to add.
+     * @return The sum of the amounts.
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Subtracts another amount from this amount.
+     *
+     * @param other The amount to subtract.
+     * @return The difference of the amounts.
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Checks if this amount is more than another amount.
+     *
+     * @param other The amount to compare with.
+     * @return True if this amount is more than the other amount.
+     */
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    /**
+     * Checks if this amount is less than another amount.
+     *
+     * @param other The amount to compare with.
+     * @return True if this amount is less than the other amount.
+     */
+    public boolean isLessThan(Money other) {
+        return cents < other.cents;
+    }
+
+    /**
+     * Formats the amount with two decimal places, such as 0.50 or 1200.00, as shown to the user.
+     *
+     * @return The formatted amount.
+     */
+    @Override
+    public String toString() {
+        return format(true, true);
+    }
+
+    /**
+     * Formats the amount with two decimal places and no leading zero, such as .50 or 1200.00,
+     * as saved in the data files for accounts, cards and goals.
+     *
+     * @return The formatted amount.
+     */
+    public String toStorageString() {
+        return format(false, true);
+    }
+
+    /**
+     * Formats the amount with only as many decimal places as needed, such as 0.5 or 1200,
+     * as saved in the data files for transactions.
+     *
+     * @return The formatted amount.
+     */
+    public String toCompactString() {
+        return format(true, false);
+    }
+
+    /**
+     * Formats the amount in dollars.
+     *
+     * @param hasLeadingZero   Whether an amount below a dollar is written with a zero before the decimal point.
+     * @param hasTrailingZeros Whether the decimal places are always written, even if they are zero.
+     * @return The formatted amount.
+     */
+    private String format(boolean hasLeadingZero, boolean hasTrailingZeros) {
+        long absoluteCents = Math.abs(cents);
+        long wholeDollars = absoluteCents / CENTS_IN_DOLLAR;
+        int remainingCents = (int) (absoluteCents % CENTS_IN_DOLLAR);
+        StringBuilder formatted = new StringBuilder();
+        if (cents < 0) {
+            formatted.append('-');
+        }
+        if (wholeDollars != 0 || hasLeadingZero) {
+            formatted.append(wholeDollars);
+        }
+        if (hasTrailingZeros) {
+            formatted.append('.').append(remainingCents / TENS).append(remainingCents % TENS);
+        } else if (remainingCents != 0) {
+            formatted.append('.').append(remainingCents / TENS);
+            if (remainingCents % TENS != 0) {
+                formatted.append(remainingCents % TENS);
+            }
+        }
+        return formatted.toString();
+    }
+
+    /**
+     * Compares this amount with another amount.
+     *
+     * @param other The amount to compare with.
+     * @return A negative number, zero or a positive number if this amount is less than, equal to
+     *         or more than the other amount.
+     */
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Checks if another object is the same amount of money.
+     *
+     * @param other The object to compare with.
+     * @return True if the other object is the same amount of money.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && cents == ((Money) other).cents;
+    }
+
+    /**
+     * Gets the hash code of the amount.
+     *
+     * @return The hash code of the amount.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+}
@@ -0,0 +1,169 @@
+package owlmoney.model.profile;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Guards the bank accounts and cards of a profile so that several command streams can use one profile at once.
+ *
+ * <p>Each account name is mapped to one of a fixed number of read/write locks, so commands on different
+ * accounts run at the same time and commands that only read an account never wait for each other.
+ * Every account lock is taken while holding the structure lock for reading, and adding, renaming or deleting
+ * an account holds the structure lock for writing so that the accounts cannot change underneath a command.
+ * Locks are always taken in the order structure lock, then account locks by stripe, then the goals lock,
+ * so that two commands can never wait for each other.</p>
+ */
+final class AccountLocks {
+    private static final int STRIPE_COUNT = 16;
+
+    private final ReentrantReadWriteLock structureLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPE_COUNT];
+    private final Lock goalsLock = new ReentrantLock();
+
+    /**
+     * Creates the locks of a profile.
+     */
+    AccountLocks() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Locks a single account for reading.
+     *
+     * @param accountName The name of the bank account or card.
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks readAccount(String accountName) {
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(structureLock.readLock());
+        heldLocks.lock(stripes[getStripe(accountName)].readLock());
+        return heldLocks;
+    }
+
+    /**
+     * Locks a single account for writing.
+     *
+     * @param accountName The name of the bank account or card.
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks writeAccount(String accountName) {
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(structureLock.readLock());
+        heldLocks.lock(stripes[getStripe(accountName)].writeLock());
+        return heldLocks;
+    }
+
+    /**
+     * Locks two accounts for writing, taking the locks in stripe order whichever account is given first.
+     *
+     * @param firstAccountName  The name of one bank account or card.
+     * @param secondAccountName The name of the other bank account or card.
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks writeAccounts(String firstAccountName, String secondAccountName) {
+        int firstStripe = getStripe(firstAccountName);
+        int secondStripe = getStripe(secondAccountName);
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(structureLock.readLock());
+        heldLocks.lock(stripes[Math.min(firstStripe, secondStripe)].writeLock());
+        if (firstStripe != secondStripe) {
+            heldLocks.lock(stripes[Math.max(firstStripe, secondStripe)].writeLock());
+        }
+        return heldLocks;
+    }
+
+    /**
+     * Locks every account for reading, for commands that list or search across accounts.
+     *
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks readAllAccounts() {
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(structureLock.readLock());
+        for (ReentrantReadWriteLock stripe : stripes) {
+            heldLocks.lock(stripe.readLock());
+        }
+        return heldLocks;
+    }
+
+    /**
+     * Locks every account for reading together with the goals and achievements,
+     * which are checked against the amounts in the savings accounts.
+     *
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks readAllAccountsAndLockGoals() {
+        HeldLocks heldLocks = readAllAccounts();
+        heldLocks.lock(goalsLock);
+        return heldLocks;
+    }
+
+    /**
+     * Locks the goals and achievements only, for a savings account whose amount has just changed
+     * while its account lock is held.
+     *
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks lockGoals() {
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(goalsLock);
+        return heldLocks;
+    }
+
+    /**
+     * Locks the whole profile for writing, for commands that add, rename or delete accounts
+     * and for updates that change every account.
+     *
+     * @return The locks held, to be released by closing them.
+     */
+    HeldLocks writeProfile() {
+        HeldLocks heldLocks = new HeldLocks();
+        heldLocks.lock(structureLock.writeLock());
+        return heldLocks;
+    }
+
+    /**
+     * Gets the stripe that an account name maps to, ignoring case as account names do.
+     *
+     * @param accountName The name of the bank account or card.
+     * @return The index of the stripe.
+     */
+    private static int getStripe(String accountName) {
+        if (accountName == null) {
+            return 0;
+        }
+        return Math.floorMod(accountName.toUpperCase().hashCode(), STRIPE_COUNT);
+    }
+
+    /**
+     * Locks held by a command, which are released in the reverse order they were taken when closed.
+     */
+    static final class HeldLocks implements AutoCloseable {
+        private final Deque<Lock> locks = new ArrayDeque<>();
+
+        /**
+         * Takes a lock and remembers it so that it is released when closed.
+         *
+         * @param lock The lock to take.
+         */
+        private void lock(Lock lock) {
+            lock.lock();
+            locks.push(lock);
+        }
+
+        /**
+         * Releases all the locks held.
+         */
+        @Override
+        public void close() {
+            while (!locks.isEmpty()) {
+                locks.pop().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package owlmoney.model.profile;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import owlmoney.model.transaction.TransactionSearchResult;
+import owlmoney.model.transaction.TransactionSearchTask;
+import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.ui.Ui;
+
+/**
+ * Searches the transaction lists of every account in parallel and prints the matches once all searches are done.
+ */
+class AllAccountsTransactionSearch {
+    private static final Logger logger = getLogger(AllAccountsTransactionSearch.class);
+
+    private final List<TransactionSearchTask> searchTasks;
+
+    /**
+     * Creates a search over the transaction lists of the search tasks.
+     *
+     * @param searchTasks The searches of each transaction list, in the order the matches are printed.
+     */
+    AllAccountsTransactionSearch(List<TransactionSearchTask> searchTasks) {
+        this.searchTasks = searchTasks;
+    }
+
+    /**
+     * Runs every search on the common fork-join pool and collects the results in the order of the search tasks.
+     *
+     * @return The result of each search task.
+     * @throws TransactionException If parsing of date fails or the search is interrupted.
+     */
+    List<TransactionSearchResult> search() throws TransactionException {
+        List<Callable<TransactionSearchResult>> callables = new ArrayList<>();
+        for (TransactionSearchTask searchTask : searchTasks) {
+            callables.add(searchTask::search);
+        }
+        List<Future<TransactionSearchResult>> futures = ForkJoinPool.commonPool().invokeAll(callables);
+        List<TransactionSearchResult> results = new ArrayList<>();
+        try {
+            for (Future<TransactionSearchResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException exceptionMessage) {
+            Thread.currentThread().interrupt();
+            logger.warning("Search of all accounts was interrupted");
+            throw new TransactionException("Search of all accounts was interrupted");
+        } catch (ExecutionException exceptionMessage) {
+            if (exceptionMessage.getCause() instanceof TransactionException) {
+                throw (TransactionException) exceptionMessage.getCause();
+            }
+            logger.warning("Search of all accounts failed: " + exceptionMessage.getCause());
+            throw new TransactionException("Search of all accounts failed");
+        }
+        logger.info("Searched " + results.size() + " transaction lists");
+        return results;
+    }
+
+    /**
+     * Searches every transaction list and prints the matches grouped by the keyword they matched.
+     *
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @param ui          The object required for printing.
+     * @throws TransactionException If parsing of date fails or the search is interrupted.
+     */
+    void searchAndPrint(String fromDate, String toDate, String description, String category, Ui ui)
+            throws TransactionException {
+        List<TransactionSearchResult> results = search();
+        if (!(description == null || description.isBlank())) {
+            printMatches(results, TransactionSearchResult.FIND_DESCRIPTION,
+                    "No matches for the description keyword: " + description, ui);
+        }
+        if (!(category == null || category.isBlank())) {
+            printMatches(results, TransactionSearchResult.FIND_CATEGORY,
+                    "No matches for the category keyword: " + category, ui);
+        }
+        if (!(fromDate == null || fromDate.isBlank())) {
+            printMatches(results, TransactionSearchResult.FIND_DATE,
+                    "No matches for the date range specified: " + fromDate + " to " + toDate, ui);
+        }
+    }
+
+    /**
+     * Prints the matches of one type of keyword from every transaction list that has any.
+     *
+     * @param results          The results of every search task.
+     * @param findType         The type of keyword matched.
+     * @param noMatchesMessage The message to print if no transaction list has any matches.
+     * @param ui               The object required for printing.
+     */
+    private void printMatches(List<TransactionSearchResult> results, String findType, String noMatchesMessage,
+            Ui ui) {
+        boolean hasMatches = false;
+        for (TransactionSearchResult result : results) {
+            if (result.getNumbers(findType).isEmpty()) {
+                continue;
+            }
+            if (!hasMatches) {
+                ui.printMessage("Find by: " + findType);
+                hasMatches = true;
+            }
+            result.printMatches(findType, ui);
+        }
+        if (!hasMatches) {
+            logger.info(noMatchesMessage);
+            ui.printMessage(noMatchesMessage);
+        }
+    }
+}
@@ -19,8 +19,12 @@ import owlmoney.model.profile.exception.ProfileException;
 import owlmoney.model.transaction.Deposit;
 import owlmoney.model.transaction.Expenditure;
 import owlmoney.model.transaction.Transaction;
+import owlmoney.model.transaction.TransactionSearchTask;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.CsvRowReader;
 import owlmoney.storage.Storage;
+import owlmoney.storage.exception.LoadException;
+import owlmoney.storage.StorageTransaction;
 import owlmoney.ui.Ui;
 
 import java.io.IOException;
@@ -28,6 +32,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -37,6 +42,7 @@ import static owlmoney.commons.log.LogsCenter.getLogger;
 
 /**
  * Stores details of the user which includes bank accounts, cards, names.
+ * Every method locks the accounts it reads or changes, so several command streams can use a profile at once.
  */
 public class Profile {
     private String username;
@@ -46,17 +52,21 @@ public class Profile {
     private Storage storage;
     private Ui ui;
     private AchievementList achievementList;
+    private final AccountLocks accountLocks = new AccountLocks();
+    private volatile long nextUpdateTime = UNKNOWN_UPDATE_TIME;
 
+    private static final long UNKNOWN_UPDATE_TIME = Long.MIN_VALUE;
+    private static final long NO_UPDATE_TIME = Long.MAX_VALUE;
     private static final String BANK = "bank";
     private static final String SAVING = "saving";
     private static final String BONDS = "bonds";
     private static final String INVESTMENT = "investment";
     private static final String CARD = "card";
+    private static final String ALL = "all";
     private static final String ISBANK = "savings transfer";
     private static final String ISINVESTMENT = "investment transfer";
     private static final String TRANSFERCATEGORY = "Fund Transfer";
     private static final String DEPOSITCATEGORY = "Deposit";
-    private static final String FILE_PATH = "data/";
     private static final String PROFILE_BANK_LIST_FILE_NAME = "profile_banklist.csv";
     private static final String PROFILE_GOAL_LIST_FILE_NAME = "profile_goallist.csv";
     private static final String PROFILE_CARD_LIST_FILE_NAME = "profile_cardlist.csv";
@@ -80,17 +90,21 @@ public class Profile {
     DateTimeFormatter yearMonthFormatter = DateTimeFormatter.ofPattern("MM/yyyy");
 
     /**
-     * Creates a new instance of the user profile.
+     * Creates a new instance of the user profile that saves its data to the storage specified,
+     * so that several profiles can be kept in different data directories.
      *
      * @param newUserName The username that the user desires to use.
-     * @param ui required for printing.
+     * @param ui          required for printing.
+     * @param storage     The storage of the data directory of the profile.
      */
-    public Profile(String newUserName, Ui ui) {
-        storage = new Storage(FILE_PATH);
+    public Profile(String newUserName, Ui ui, Storage storage) {
+        this.storage = storage;
         this.username = newUserName;
         this.bankList = new BankList(storage);
         this.cardList = new CardList(storage);
         this.goalsList = new GoalsList(storage);
+        this.bankList.setBalanceListener(this::goalsBalanceChanged);
+        this.bankList.setDueDateListener(this::nextUpdateDateChanged);
         this.ui = ui;
         this.achievementList = new AchievementList(storage);
 
@@ -101,14 +115,6 @@ public class Profile {
             ui.printError("Error importing banks from persistent storage.");
             logger.warning(exceptionMessage.getMessage());
         }
-        try {
-            iterateBanksToAddTransaction();
-        } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
-                | BankException | ParseException exceptionMessage) {
-            ui.printError("Error importing transactions, recurring transactions and "
-                    + "bonds for bank accounts.");
-            logger.warning(exceptionMessage.getMessage());
-        }
         try {
             loadGoalsFromImportedData();
         } catch (IllegalArgumentException | NullPointerException | ParseException
@@ -123,13 +129,6 @@ public class Profile {
             ui.printError("Error importing cards from persistent storage.");
             logger.warning(exceptionMessage.getMessage());
         }
-        try {
-            iterateCardsToAddTransaction();
-        } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
-                | ParseException exceptionMessage) {
-            ui.printError("Error importing cards from persistent storage.");
-            logger.warning(exceptionMessage.getMessage());
-        }
         try {
             loadAchievementFromImportedData();
         } catch (IllegalArgumentException | NullPointerException | ParseException | GoalsException exceptionMessage) {
@@ -156,16 +155,21 @@ public class Profile {
      * @throws ProfileException if name don't match or change same name or name contain special character.
      */
     public void profileSetUsername(String name, String newName, Ui ui) throws ProfileException {
-        checkProfileName(name);
-        this.username = newName;
-        ui.printMessage("\nProfile name was: " + name);
-        ui.printMessage("Now changed to: " + newName);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
         try {
-            storage.writeProfileFile(new String[]{profileGetUsername()},PROFILE_FILE_NAME);
-        } catch (IOException ex) {
-            ui.printError("Unable to save profile now, your data is at risk, but we will"
-                    + " try saving again, feel free to continue using the program.");
-            logger.warning("Error exporting new profile name when /edit /profile");
+            checkProfileName(name);
+            this.username = newName;
+            ui.printMessage("\nProfile name was: " + name);
+            ui.printMessage("Now changed to: " + newName);
+            try {
+                storage.writeProfileFile(new String[]{profileGetUsername()},PROFILE_FILE_NAME);
+            } catch (IOException ex) {
+                ui.printError("Unable to save profile now, your data is at risk, but we will"
+                        + " try saving again, feel free to continue using the program.");
+                logger.warning("Error exporting new profile name when /edit /profile");
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -189,8 +193,13 @@ public class Profile {
      * @throws BankException If duplicated bank name found.
      */
     public void profileAddNewBank(Bank newBank, Ui ui) throws BankException {
-        bankList.bankListAddBank(newBank, ui);
-        logger.info("Successfully added new bank");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            bankList.bankListAddBank(newBank, ui);
+            logger.info("Successfully added new bank");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -201,11 +210,16 @@ public class Profile {
      * @throws BankException If bank account fails check criteria.
      */
     public void profileDeleteBank(String bankName, String bankType, Ui ui) throws BankException {
-        bankList.bankListDeleteBank(bankName, bankType, ui);
-        if (bankType.equals(SAVING)) {
-            goalsList.changeTiedAccountsToNull(bankName);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            bankList.bankListDeleteBank(bankName, bankType, ui);
+            if (bankType.equals(SAVING)) {
+                goalsList.changeTiedAccountsToNull(bankName);
+            }
+            logger.info("Successfully deleted bank");
+        } finally {
+            heldLocks.close();
         }
-        logger.info("Successfully deleted bank");
     }
 
     /**
@@ -215,8 +229,13 @@ public class Profile {
      * @throws BankException If there are no bank account of specified type.
      */
     public void profileListBanks(String bankType, Ui ui) throws BankException {
-        bankList.bankListListBankAccount(bankType, ui);
-        logger.info("Successfully listed banks");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccounts();
+        try {
+            bankList.bankListListBankAccount(bankType, ui);
+            logger.info("Successfully listed banks");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -231,16 +250,21 @@ public class Profile {
      */
     public void profileAddNewExpenditure(String accountName, Transaction expenditure, Ui ui, String type)
             throws BankException, CardException {
-        if (CARD.equals(type)) {
-            if (getCardPaidBillAmount(accountName, expenditure.getYearMonthDate()) != 0) {
-                logger.warning("You cannot add an expenditure with month that the card bill "
-                        + "has already been paid for!");
-                throw new CardException("You cannot add an expenditure with month that the card bill "
-                + "has already been paid for!");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            if (CARD.equals(type)) {
+                if (getCardPaidBillAmount(accountName, expenditure.getYearMonthDate()) != 0) {
+                    logger.warning("You cannot add an expenditure with month that the card bill "
+                            + "has already been paid for!");
+                    throw new CardException("You cannot add an expenditure with month that the card bill "
+                    + "has already been paid for!");
+                }
+                cardList.cardListAddExpenditure(accountName, expenditure, ui, type);
+            } else if (BANK.equals(type) || BONDS.equals(type)) {
+                bankList.bankListAddExpenditure(accountName, expenditure, ui, type);
             }
-            cardList.cardListAddExpenditure(accountName, expenditure, ui, type);
-        } else if (BANK.equals(type) || BONDS.equals(type)) {
-            bankList.bankListAddExpenditure(accountName, expenditure, ui, type);
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -257,10 +281,15 @@ public class Profile {
      */
     public void profileDeleteExpenditure(int expenditureIndex, String accountName, Ui ui,
             String type, boolean isCreditCardBill) throws BankException, TransactionException, CardException {
-        if (BANK.equals(type)) {
-            bankList.bankListDeleteExpenditure(expenditureIndex, accountName, ui, isCreditCardBill);
-        } else if (CARD.equals(type)) {
-            cardList.cardListDeleteExpenditure(expenditureIndex, accountName, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            if (BANK.equals(type)) {
+                bankList.bankListDeleteExpenditure(expenditureIndex, accountName, ui, isCreditCardBill);
+            } else if (CARD.equals(type)) {
+                cardList.cardListDeleteExpenditure(expenditureIndex, accountName, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -275,7 +304,12 @@ public class Profile {
      */
     public void profileListDeposit(String listedBank, Ui ui, int displayNum)
             throws BankException, TransactionException {
-        bankList.bankListListBankDeposit(listedBank, ui, displayNum);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(listedBank);
+        try {
+            bankList.bankListListBankDeposit(listedBank, ui, displayNum);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -291,10 +325,15 @@ public class Profile {
      */
     public void profileListExpenditure(String listedBankOrCard, Ui ui, int expendituresToDisplay, String type)
             throws BankException, TransactionException, CardException {
-        if (CARD.equals(type)) {
-            cardList.cardListListCardExpenditure(listedBankOrCard, ui, expendituresToDisplay);
-        } else if (BANK.equals(type)) {
-            bankList.bankListListBankExpenditure(listedBankOrCard, ui, expendituresToDisplay);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(listedBankOrCard);
+        try {
+            if (CARD.equals(type)) {
+                cardList.cardListListCardExpenditure(listedBankOrCard, ui, expendituresToDisplay);
+            } else if (BANK.equals(type)) {
+                bankList.bankListListBankExpenditure(listedBankOrCard, ui, expendituresToDisplay);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -314,12 +353,17 @@ public class Profile {
     public void profileEditExpenditure(int expenditureIndex, String editFromBank, String description,
             String amount, String date, String category, Ui ui, String type)
             throws BankException, TransactionException, CardException {
-        if (CARD.equals(type)) {
-            cardList.cardListEditExpenditure(expenditureIndex, editFromBank, description, amount, date,
-                    category, ui);
-        } else if (BANK.equals(type)) {
-            bankList.bankListEditExpenditure(expenditureIndex, editFromBank, description, amount, date,
-                    category, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(editFromBank);
+        try {
+            if (CARD.equals(type)) {
+                cardList.cardListEditExpenditure(expenditureIndex, editFromBank, description, amount, date,
+                        category, ui);
+            } else if (BANK.equals(type)) {
+                bankList.bankListEditExpenditure(expenditureIndex, editFromBank, description, amount, date,
+                        category, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -335,8 +379,13 @@ public class Profile {
      */
     public void profileEditSavingsAccount(String name, String newName, String amount, String income, Ui ui)
             throws BankException {
-        bankList.bankListEditSavings(name, newName, amount, income, ui);
-        logger.info("Successful editing of savings account");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            bankList.bankListEditSavings(name, newName, amount, income, ui);
+            logger.info("Successful editing of savings account");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -350,9 +399,14 @@ public class Profile {
      */
     public void profileEditInvestmentAccount(String name, String newName, String amount, Ui ui)
             throws BankException {
-        bankList.bankListEditInvestment(name, newName, amount, ui);
-        logger.info("Successful editing of investment account");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            bankList.bankListEditInvestment(name, newName, amount, ui);
+            logger.info("Successful editing of investment account");
 
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -367,7 +421,12 @@ public class Profile {
      */
     public void profileDeleteDeposit(int depositIndex, String bankName, Ui ui, boolean isCardBill)
             throws BankException, TransactionException {
-        bankList.bankListDeleteDeposit(bankName, depositIndex, ui, isCardBill);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(bankName);
+        try {
+            bankList.bankListDeleteDeposit(bankName, depositIndex, ui, isCardBill);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -381,7 +440,12 @@ public class Profile {
      */
     public void profileAddNewDeposit(String accountName, Transaction deposit, Ui ui, String bankType)
             throws BankException {
-        bankList.bankListAddDeposit(accountName, deposit, ui, bankType);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            bankList.bankListAddDeposit(accountName, deposit, ui, bankType);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -398,7 +462,12 @@ public class Profile {
      */
     public void profileEditDeposit(int expenditureIndex, String editFromBank, String description, String amount,
             String date, Ui ui) throws BankException, TransactionException {
-        bankList.bankListEditDeposit(expenditureIndex, editFromBank, description, amount, date, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(editFromBank);
+        try {
+            bankList.bankListEditDeposit(expenditureIndex, editFromBank, description, amount, date, ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -408,8 +477,13 @@ public class Profile {
      * @param ui      required for printing.
      */
     public void profileAddNewCard(Card newCard, Ui ui) throws CardException {
-        cardList.cardListAddCard(newCard, ui);
-        logger.info("Successful adding of card");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            cardList.cardListAddCard(newCard, ui);
+            logger.info("Successful adding of card");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -424,8 +498,13 @@ public class Profile {
      */
     public void profileEditCardDetails(String name, String newName, String limit, String rebate, Ui ui)
             throws CardException {
-        cardList.cardListEditCard(name, newName, limit, rebate, ui);
-        logger.info("Successful editing of card");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            cardList.cardListEditCard(name, newName, limit, rebate, ui);
+            logger.info("Successful editing of card");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -436,8 +515,13 @@ public class Profile {
      * @throws CardException If card does not exist.
      */
     public void profileDeleteCard(String name, Ui ui) throws CardException {
-        cardList.cardListDeleteCard(name, ui);
-        logger.info("Successful deleting of card");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            cardList.cardListDeleteCard(name, ui);
+            logger.info("Successful deleting of card");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -447,8 +531,13 @@ public class Profile {
      * @throws CardException If CardList is empty.
      */
     public void profileListCards(Ui ui) throws CardException {
-        cardList.cardListListCards(ui);
-        logger.info("Successful listing of card");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccounts();
+        try {
+            cardList.cardListListCards(ui);
+            logger.info("Successful listing of card");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -461,7 +550,12 @@ public class Profile {
      */
     public void profileDeleteBond(String bankName, String bondName, Ui ui)
             throws BankException, BondException {
-        bankList.bankListDeleteBond(bankName, bondName, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(bankName);
+        try {
+            bankList.bankListDeleteBond(bankName, bondName, ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -474,7 +568,12 @@ public class Profile {
      * @throws BondException if the bond does not exist.
      */
     public Bond profileGetBond(String bankName, String bondName) throws BankException, BondException {
-        return bankList.bankListGetBond(bankName, bondName);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(bankName);
+        try {
+            return bankList.bankListGetBond(bankName, bondName);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -486,7 +585,12 @@ public class Profile {
      * @throws BankException If bank account does not exist.
      */
     public void profileAddNewBond(String bankName, Bond newBond, Ui ui) throws BankException {
-        bankList.bankListAddBond(bankName, newBond, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(bankName);
+        try {
+            bankList.bankListAddBond(bankName, newBond, ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -498,8 +602,13 @@ public class Profile {
      * @throws BondException If duplicate bond name is found.
      */
     public void profileIsBondUnique(String bankName, Bond bond) throws BankException, BondException {
-        bankList.bankListIsBondExist(bankName, bond);
-        logger.info("Bond is unique");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(bankName);
+        try {
+            bankList.bankListIsBondExist(bankName, bond);
+            logger.info("Bond is unique");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -515,7 +624,12 @@ public class Profile {
      */
     public void profileEditBond(String bankName, String bondName, String year, String rate, Ui ui)
             throws BankException, BondException {
-        bankList.bankListEditBond(bankName, bondName, year, rate, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(bankName);
+        try {
+            bankList.bankListEditBond(bankName, bondName, year, rate, ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -529,7 +643,12 @@ public class Profile {
      */
     public void profileListBonds(String bankName, Ui ui, int displayNum)
             throws BankException, BondException {
-        bankList.bankListListBond(bankName, ui, displayNum);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(bankName);
+        try {
+            bankList.bankListListBond(bankName, ui, displayNum);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -538,7 +657,12 @@ public class Profile {
      * @param ui required for printing.
      */
     public void profileListGoals(Ui ui) {
-        goalsList.listGoals(ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            goalsList.listGoals(ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -549,8 +673,13 @@ public class Profile {
      * @throws GoalsException If invalid parameters / attempt to add the same goal name.
      */
     public void profileAddGoals(Goals goals, Ui ui) throws GoalsException {
-        goalsList.addToGoals(goals, ui);
-        logger.info("Successful adding of goal");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            goalsList.addToGoals(goals, ui);
+            logger.info("Successful adding of goal");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -561,8 +690,13 @@ public class Profile {
      * @throws GoalsException If goal does not exists.
      */
     public void profileDeleteGoals(String name, Ui ui) throws GoalsException {
-        goalsList.deleteFromGoalList(name, ui);
-        logger.info("Successful deleting of goal");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            goalsList.deleteFromGoalList(name, ui);
+            logger.info("Successful deleting of goal");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -579,8 +713,13 @@ public class Profile {
     public void profileEditGoals(String goalName, String amount, Date date, String newName, Bank savingName,
                                  boolean markDone, Ui ui)
             throws GoalsException {
-        goalsList.editGoals(goalName, amount, date, newName, savingName, markDone, ui);
-        logger.info("Successful editing of goal");
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            goalsList.editGoals(goalName, amount, date, newName, savingName, markDone, ui);
+            logger.info("Successful editing of goal");
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -591,7 +730,12 @@ public class Profile {
      * @throws BankException If no savingBankName is found.
      */
     public Bank profileGetSavingAccount(String savingBankName) throws BankException {
-        return bankList.bankListGetSavingAccount(savingBankName);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(savingBankName);
+        try {
+            return bankList.bankListGetSavingAccount(savingBankName);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -607,8 +751,13 @@ public class Profile {
     public void profileAddRecurringExpenditure(
             String accountName, Transaction newRecurringExpenditure, Ui ui, String type)
             throws BankException, TransactionException {
-        if (BANK.equals(type)) {
-            bankList.bankListAddRecurringExpenditure(accountName, newRecurringExpenditure, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            if (BANK.equals(type)) {
+                bankList.bankListAddRecurringExpenditure(accountName, newRecurringExpenditure, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -624,8 +773,13 @@ public class Profile {
      */
     public void profileDeleteRecurringExpenditure(String accountName, int index, Ui ui, String type)
             throws BankException, TransactionException {
-        if (BANK.equals(type)) {
-            bankList.bankListDeleteRecurringExpenditure(accountName, index, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            if (BANK.equals(type)) {
+                bankList.bankListDeleteRecurringExpenditure(accountName, index, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -640,8 +794,13 @@ public class Profile {
      */
     public void profileListRecurringExpenditure(String accountName, Ui ui, String type)
             throws BankException, TransactionException {
-        if (BANK.equals(type)) {
-            bankList.bankListListRecurringExpenditure(accountName, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(accountName);
+        try {
+            if (BANK.equals(type)) {
+                bankList.bankListListRecurringExpenditure(accountName, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -661,8 +820,13 @@ public class Profile {
     public void profileEditRecurringExpenditure(
             String accountName, int index, String description, String amount, String category, Ui ui, String type)
             throws BankException, TransactionException {
-        if (BANK.equals(type)) {
-            bankList.bankListEditRecurringExpenditure(accountName, index, description, amount, category, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccount(accountName);
+        try {
+            if (BANK.equals(type)) {
+                bankList.bankListEditRecurringExpenditure(accountName, index, description, amount, category, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -673,12 +837,59 @@ public class Profile {
      * @throws BankException If cannot add income.
      */
     public void profileUpdate(Ui ui) throws BankException {
-        ui.printMessage("Updating profile...");
-        bankList.bankListUpdateRecurringTransactions(ui);
-        goalsList.updateGoals();
-        profileAddAchievement();
-        logger.info("Profile checks done");
-        ui.printMessage("Update checks done");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeProfile();
+        try {
+            ui.printMessage("Updating profile...");
+            bankList.bankListUpdateRecurringTransactions(ui);
+            goalsList.updateGoals();
+            profileAddAchievement();
+            logger.info("Profile checks done");
+            ui.printMessage("Update checks done");
+        } finally {
+            heldLocks.close();
+        }
+    }
+
+    /**
+     * Gets the earliest date on which an outdated object in the profile has to be updated.
+     * The date is only looked up again after a recurring expenditure, income date or bond changes.
+     *
+     * @return The earliest due date, or null if there is nothing to update.
+     */
+    public Date getNextUpdateDate() {
+        long updateTime = nextUpdateTime;
+        if (updateTime == UNKNOWN_UPDATE_TIME) {
+            AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccounts();
+            try {
+                Date nextDueDate = bankList.getNextDueDate();
+                updateTime = nextDueDate == null ? NO_UPDATE_TIME : nextDueDate.getTime();
+                nextUpdateTime = updateTime;
+            } finally {
+                heldLocks.close();
+            }
+        }
+        return updateTime == NO_UPDATE_TIME ? null : new Date(updateTime);
+    }
+
+    /**
+     * Forgets the earliest update date of the profile, while the lock of the changed account is held.
+     */
+    private void nextUpdateDateChanged() {
+        nextUpdateTime = UNKNOWN_UPDATE_TIME;
+    }
+
+    /**
+     * Notifies the goals that the amount in a bank account changed, while the lock of that account is held.
+     *
+     * @param bank The bank account whose amount changed.
+     */
+    private void goalsBalanceChanged(Bank bank) {
+        AccountLocks.HeldLocks heldLocks = accountLocks.lockGoals();
+        try {
+            goalsList.balanceChanged(bank);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -694,19 +905,46 @@ public class Profile {
      */
     public void transferFund(String from, String to, double amount, Date date,
             Ui ui) throws BankException {
-        checkSameBankName(from, to);
-        String fromType = bankList.getTransferBankType(from, amount);
-        String descriptionTo = TRANSFERFUNDTO + to;
-        bankList.bankListCheckTransferExceed(to, amount);
-        String toType = bankList.getReceiveBankType(to);
-        Transaction newExpenditure = new Expenditure(descriptionTo, amount, date, TRANSFERCATEGORY);
-        bankList.bankListAddExpenditure(from, newExpenditure, ui, checkBankType(fromType));
-        logger.info("Successfully added expenditure for the sender");
-        String descriptionFrom = TRANSFERFUNDFROM + from;
-        Transaction newDeposit = new Deposit(descriptionFrom, amount, date, DEPOSITCATEGORY);
-        bankList.bankListAddDeposit(to, newDeposit, ui, checkBankType(toType));
-        logger.info("Successfully added deposit for the receiver");
-        logger.info("Fund successfully transferred");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccounts(from, to);
+        try {
+            StorageTransaction transaction = storage.beginTransaction();
+            try {
+                checkSameBankName(from, to);
+                String fromType = bankList.getTransferBankType(from, amount);
+                String descriptionTo = TRANSFERFUNDTO + to;
+                bankList.bankListCheckTransferExceed(to, amount);
+                String toType = bankList.getReceiveBankType(to);
+                Transaction newExpenditure = new Expenditure(descriptionTo, amount, date, TRANSFERCATEGORY);
+                bankList.bankListAddExpenditure(from, newExpenditure, ui, checkBankType(fromType));
+                logger.info("Successfully added expenditure for the sender");
+                String descriptionFrom = TRANSFERFUNDFROM + from;
+                Transaction newDeposit = new Deposit(descriptionFrom, amount, date, DEPOSITCATEGORY);
+                bankList.bankListAddDeposit(to, newDeposit, ui, checkBankType(toType));
+                logger.info("Successfully added deposit for the receiver");
+                logger.info("Fund successfully transferred");
+            } finally {
+                commitStorageTransaction(transaction, ui);
+            }
+        } finally {
+            heldLocks.close();
+        }
+    }
+
+    /**
+     * Saves every file changed by a command that changes several accounts together.
+     *
+     * @param transaction The transaction the command was made in.
+     * @param ui          The ui object required for printing.
+     */
+    private void commitStorageTransaction(StorageTransaction transaction, Ui ui) {
+        try {
+            transaction.commit();
+        } catch (IOException e) {
+            logger.warning("Error trying to save your changes to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+            ui.printError("Error trying to save your changes to disk. Your data is"
+                    + " at risk, but we will try again, feel free to continue using the program.");
+        }
     }
 
     /**
@@ -749,12 +987,17 @@ public class Profile {
      * @throws CardException If there is no matches for card object.
      */
     public void findBankOrCard(String name, String type, Ui ui) throws BankException, CardException {
-        if (SAVING.equals(type)) {
-            bankList.findBankAccount(name, type, ui);
-        } else if (INVESTMENT.equals(type)) {
-            bankList.findBankAccount(name, type, ui);
-        } else if (CARD.equals(type)) {
-            cardList.findCard(name, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccounts();
+        try {
+            if (SAVING.equals(type)) {
+                bankList.findBankAccount(name, type, ui);
+            } else if (INVESTMENT.equals(type)) {
+                bankList.findBankAccount(name, type, ui);
+            } else if (CARD.equals(type)) {
+                cardList.findCard(name, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -768,11 +1011,17 @@ public class Profile {
      * @throws BondException If no bonds could be found.
      */
     public void findBond(String bondName, String from, Ui ui) throws BankException, BondException {
-        bankList.checkInvestmentAccountExist(bondName, from, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(from);
+        try {
+            bankList.checkInvestmentAccountExist(bondName, from, ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
      * Finds the transactions in either bank or card object that matches with the keywords provided by user.
+     * If the type is all, every bank and card is searched instead.
      *
      * @param name        The bank or card name to be searched for.
      * @param fromDate    The date to search from.
@@ -786,13 +1035,39 @@ public class Profile {
      */
     public void findTransaction(String name, String fromDate, String toDate, String description, String category,
             String type, Ui ui) throws BankException, TransactionException, CardException {
-        if (type.equals(BANK)) {
-            bankList.bankListFindTransaction(name, fromDate, toDate, description, category, ui);
-        } else if (type.equals(CARD)) {
-            cardList.cardListFindTransaction(name, fromDate, toDate, description, category, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccounts();
+        try {
+            if (type.equals(BANK)) {
+                bankList.bankListFindTransaction(name, fromDate, toDate, description, category, ui);
+            } else if (type.equals(CARD)) {
+                cardList.cardListFindTransaction(name, fromDate, toDate, description, category, ui);
+            } else if (type.equals(ALL)) {
+                findTransactionInAllAccounts(fromDate, toDate, description, category, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
+    /**
+     * Finds the transactions in every bank and card that match with the keywords provided by user.
+     * The transaction lists are searched in parallel and the matches are printed in the order of the accounts.
+     *
+     * @param fromDate    The date to search from.
+     * @param toDate      The date to search until.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @param ui          The object required for printing.
+     * @throws TransactionException If parsing of date fails.
+     */
+    private void findTransactionInAllAccounts(String fromDate, String toDate, String description, String category,
+            Ui ui) throws TransactionException {
+        List<TransactionSearchTask> searchTasks = new ArrayList<>();
+        bankList.bankListAddSearchTasks(searchTasks, fromDate, toDate, description, category);
+        cardList.cardListAddSearchTasks(searchTasks, fromDate, toDate, description, category);
+        new AllAccountsTransactionSearch(searchTasks).searchAndPrint(fromDate, toDate, description, category, ui);
+    }
+
     /**
      * Finds recurring expenditure in the savings account that matches with the keywords provided by user.
      *
@@ -805,26 +1080,14 @@ public class Profile {
      */
     public void findRecurringExpenditure(String name, String description, String category,
             String type, Ui ui) throws BankException, TransactionException {
-        if (RECURRING.equals(type)) {
-            bankList.bankListFindRecurringExpenditure(name, description, category, ui);
-        }
-    }
-
-    /**
-     * Imports data generally for further processing based on file name specified.
-     *
-     * @param fileName the name of the file to be imported.
-     * @param ui required for printing.
-     * @return the imported data from the file formatted in List of String arrays.`
-     */
-    private List<String[]> importListDataFromStorage(String fileName,Ui ui) {
-        List<String[]> importData = null;
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(name);
         try {
-            importData = storage.readFile(fileName);
-        } catch (IOException | NullPointerException e) {
-            ui.printError("Unable to import data from persistent storage");
+            if (RECURRING.equals(type)) {
+                bankList.bankListFindRecurringExpenditure(name, description, category, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
-        return importData;
     }
 
     /**
@@ -834,126 +1097,179 @@ public class Profile {
      */
     private void loadBanksFromImportedData() throws BankException, ParseException {
         if (storage.isFileExist(PROFILE_BANK_LIST_FILE_NAME)) {
-            List<String[]> importData = importListDataFromStorage(PROFILE_BANK_LIST_FILE_NAME,ui);
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            for (String[] importDataRow : importData) {
-                String bankName = importDataRow[0];
-                String bankType = importDataRow[1];
-                String amount = importDataRow[2];
-                double doubleAmount = Double.parseDouble(amount);
-                String income = importDataRow[3];
-                double doubleIncome = Double.parseDouble(income);
-                if (bankType.equals(INVESTMENT)) {
-                    Bank newInvestment = new Investment(bankName, doubleAmount);
-                    profileImportNewBank(newInvestment);
-                } else if (bankType.equals(SAVING)) {
-                    String stringNextIncomeDate = importDataRow[4];
-                    Date nextIncomeDate = dateFormat.parse(stringNextIncomeDate);
-                    Bank newSaving = new Saving(bankName, doubleAmount, doubleIncome, nextIncomeDate);
-                    profileImportNewBank(newSaving);
-                } else {
-                    throw new BankException("Error importing banks, "
-                            + "data related to some bank accounts are not available");
+            try (CsvRowReader rowReader = storage.openFile(PROFILE_BANK_LIST_FILE_NAME)) {
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                String[] importDataRow;
+                int i = 0;
+                while ((importDataRow = rowReader.readRow()) != null) {
+                    String bankName = importDataRow[0];
+                    String bankType = importDataRow[1];
+                    String amount = importDataRow[2];
+                    double doubleAmount = Double.parseDouble(amount);
+                    String income = importDataRow[3];
+                    double doubleIncome = Double.parseDouble(income);
+                    if (bankType.equals(INVESTMENT)) {
+                        Investment newInvestment = new Investment(bankName, doubleAmount);
+                        setInvestmentLoaders(newInvestment, i);
+                        profileImportNewBank(newInvestment);
+                    } else if (bankType.equals(SAVING)) {
+                        String stringNextIncomeDate = importDataRow[4];
+                        Date nextIncomeDate = dateFormat.parse(stringNextIncomeDate);
+                        Saving newSaving = new Saving(bankName, doubleAmount, doubleIncome, nextIncomeDate);
+                        setSavingLoaders(newSaving, i);
+                        profileImportNewBank(newSaving);
+                    } else {
+                        throw new BankException("Error importing banks, "
+                                + "data related to some bank accounts are not available");
+                    }
+                    i++;
                 }
+            } catch (IOException exceptionMessage) {
+                ui.printError("Unable to import data from persistent storage");
+                logger.warning(exceptionMessage.getMessage());
             }
         }
     }
 
     /**
-     * Iterates the bank file line by line to add specific details tied to the bank account.
+     * Sets the loaders that import the bonds and transactions of an investment account the first time
+     * they are needed, instead of importing them when the profile starts.
      *
-     * @throws BankException if there are errors importing data.
-     * @throws ParseException if there are errors parsing date.
+     * @param investment the investment account imported.
+     * @param bankIndex the position of the investment account in the bank list file.
      */
-    private void iterateBanksToAddTransaction() throws ParseException, BankException {
-        if (storage.isFileExist(PROFILE_BANK_LIST_FILE_NAME)) {
-            List<String[]> importBankData = importListDataFromStorage(PROFILE_BANK_LIST_FILE_NAME, ui);
-            for (int i = 0; i < importBankData.size(); i++) {
-                String bankName = importBankData.get(i)[0];
-                String bankType = importBankData.get(i)[1];
-                if (bankType.equals(INVESTMENT)) {
-                    String transactionFileName = i + INVESTMENT_TRANSACTION_LIST_FILE_NAME;
-                    String bondsFileName = i + INVESTMENT_BOND_LIST_FILE_NAME;
-                    if (storage.isFileExist(bondsFileName)) {
-                        loadBondsForInvestmentBanks(bondsFileName, bankName);
-                    }
-                    if (storage.isFileExist(transactionFileName)) {
-                        loadTransactionsForBanks(transactionFileName, bankName, bankType);
-                    }
-                } else if (bankType.equals(SAVING)) {
-                    String transactionFileName = i + SAVING_TRANSACTION_LIST_FILE_NAME;
-                    String recurringTransactionFileName = i + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME;
-                    if (storage.isFileExist(transactionFileName)) {
-                        loadTransactionsForBanks(transactionFileName, bankName, bankType);
-                    }
-                    if (storage.isFileExist(recurringTransactionFileName)) {
-                        loadRecurringTransactionsForBanks(recurringTransactionFileName, bankName, bankType);
-                    }
+    private void setInvestmentLoaders(Investment investment, int bankIndex) {
+        String bondsFileName = bankIndex + INVESTMENT_BOND_LIST_FILE_NAME;
+        String transactionFileName = bankIndex + INVESTMENT_TRANSACTION_LIST_FILE_NAME;
+        if (storage.isFileExist(bondsFileName)) {
+            investment.setBondsLoader(() -> {
+                try {
+                    loadBondsForInvestmentBanks(bondsFileName, investment);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
+                        | ParseException exceptionMessage) {
+                    logger.warning(exceptionMessage.getMessage());
+                    throw new LoadException("Error importing bonds for " + investment.getAccountName() + ".");
                 }
-            }
+            });
+        }
+        if (storage.isFileExist(transactionFileName)) {
+            investment.setTransactionsLoader(createTransactionsLoader(transactionFileName, investment, INVESTMENT));
         }
     }
 
+    /**
+     * Sets the loaders that import the transactions and recurring transactions of a savings account
+     * the first time they are needed, instead of importing them when the profile starts.
+     *
+     * @param saving the savings account imported.
+     * @param bankIndex the position of the savings account in the bank list file.
+     */
+    private void setSavingLoaders(Saving saving, int bankIndex) {
+        String transactionFileName = bankIndex + SAVING_TRANSACTION_LIST_FILE_NAME;
+        String recurringTransactionFileName = bankIndex + SAVING_RECURRING_TRANSACTION_LIST_FILE_NAME;
+        if (storage.isFileExist(transactionFileName)) {
+            saving.setTransactionsLoader(createTransactionsLoader(transactionFileName, saving, SAVING));
+        }
+        if (storage.isFileExist(recurringTransactionFileName)) {
+            saving.setRecurringExpendituresLoader(() -> {
+                try {
+                    loadRecurringTransactionsForBanks(recurringTransactionFileName, saving);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
+                        | ParseException exceptionMessage) {
+                    logger.warning(exceptionMessage.getMessage());
+                    throw new LoadException("Error importing recurring transactions for "
+                            + saving.getAccountName() + ".");
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the loader that imports the transactions of a bank account.
+     *
+     * @param fileName the name of the file to obtain transactions from.
+     * @param bank the bank account the transactions are tied to.
+     * @param bankType the type of bank account.
+     * @return the loader that imports the transactions.
+     */
+    private Runnable createTransactionsLoader(String fileName, Bank bank, String bankType) {
+        return () -> {
+            try {
+                loadTransactionsForBanks(fileName, bank, bankType);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
+                    | BankException | ParseException exceptionMessage) {
+                logger.warning(exceptionMessage.getMessage());
+                throw new LoadException("Error importing transactions for " + bank.getAccountName() + ".");
+            }
+        };
+    }
+
     /**
      * Loads the transactions tied to the bank account.
      *
      * @param fileName the name of the file to obtain transactions from.
-     * @param bankName the name of the bank account.
+     * @param bank the bank account the transactions are tied to.
      * @param bankType the type of bank account.
      * @throws BankException if there are errors importing data.
      * @throws ParseException if there are errors parsing date.
      */
-    private void loadTransactionsForBanks(String fileName, String bankName, String bankType)
+    private void loadTransactionsForBanks(String fileName, Bank bank, String bankType)
             throws BankException, ParseException {
-        List<String[]> importData = importListDataFromStorage(fileName,ui);
-        for (String[] importDataRow : importData) {
-            String description = importDataRow[0];
-            String amount = importDataRow[1];
-            double doubleAmount = Double.parseDouble(amount);
-            String date = importDataRow[2];
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date dateInFormat = dateFormat.parse(date);
-            String category = importDataRow[3];
-            String hasSpent = importDataRow[4];
-            if (bankType.equals(INVESTMENT)) {
-                if (hasSpent.equals(HAS_SPENT)) {
-                    Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
-                    profileImportNewExpenditure(bankName, newExpenditure, BONDS);
-                } else if (hasSpent.equals(NOT_SPENT)) {
-                    Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
-                    profileImportNewDeposit(bankName, newDeposit, BONDS);
-                }
-            } else if (bankType.equals(SAVING)) {
-                String cardId = importDataRow[5];
-                String billDate = importDataRow[6];
-                UUID uuid = null;
-                if (!BLANK.equals(cardId)) {
-                    uuid = UUID.fromString(cardId);
-                }
-                YearMonth yearMonthBillDate = null;
-                if (!billDate.equals(BLANK)) {
-                    yearMonthBillDate = YearMonth.parse(billDate);
-                }
-                if (!cardId.equals(BLANK) && !billDate.equals(BLANK)) {
-                    if (hasSpent.equals(HAS_SPENT)) {
-                        Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat,
-                            uuid, yearMonthBillDate);
-                        profileImportNewExpenditure(bankName, newExpenditure, BANK);
-                    } else if (hasSpent.equals(NOT_SPENT)) {
-                        Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat,
-                            uuid, yearMonthBillDate);
-                        profileImportNewDeposit(bankName, newDeposit, BANK);
-                    }
-                } else {
+        try (CsvRowReader rowReader = storage.openFile(fileName)) {
+            String[] importDataRow;
+            while ((importDataRow = rowReader.readRow()) != null) {
+                String description = importDataRow[0];
+                String amount = importDataRow[1];
+                double doubleAmount = Double.parseDouble(amount);
+                String date = importDataRow[2];
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                Date dateInFormat = dateFormat.parse(date);
+                String category = importDataRow[3];
+                String hasSpent = importDataRow[4];
+                if (bankType.equals(INVESTMENT)) {
                     if (hasSpent.equals(HAS_SPENT)) {
                         Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
-                        profileImportNewExpenditure(bankName, newExpenditure, BANK);
+                        bank.importNewExpenditure(newExpenditure, BONDS);
                     } else if (hasSpent.equals(NOT_SPENT)) {
                         Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
-                        profileImportNewDeposit(bankName, newDeposit, BANK);
+                        bank.importNewDeposit(newDeposit, BONDS);
+                    }
+                } else if (bankType.equals(SAVING)) {
+                    String cardId = importDataRow[5];
+                    String billDate = importDataRow[6];
+                    UUID uuid = null;
+                    if (!BLANK.equals(cardId)) {
+                        uuid = UUID.fromString(cardId);
+                    }
+                    YearMonth yearMonthBillDate = null;
+                    if (!billDate.equals(BLANK)) {
+                        yearMonthBillDate = YearMonth.parse(billDate);
+                    }
+                    if (!cardId.equals(BLANK) && !billDate.equals(BLANK)) {
+                        if (hasSpent.equals(HAS_SPENT)) {
+                            Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat,
+                                uuid, yearMonthBillDate);
+                            bank.importNewExpenditure(newExpenditure, BANK);
+                        } else if (hasSpent.equals(NOT_SPENT)) {
+                            Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat,
+                                uuid, yearMonthBillDate);
+                            bank.importNewDeposit(newDeposit, BANK);
+                        }
+                    } else {
+                        if (hasSpent.equals(HAS_SPENT)) {
+                            Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat,
+                                    category);
+                            bank.importNewExpenditure(newExpenditure, BANK);
+                        } else if (hasSpent.equals(NOT_SPENT)) {
+                            Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
+                            bank.importNewDeposit(newDeposit, BANK);
+                        }
                     }
                 }
             }
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to import data from persistent storage");
+            logger.warning(exceptionMessage.getMessage());
         }
     }
 
@@ -961,32 +1277,32 @@ public class Profile {
      * Loads the recurring transactions tied to the bank account.
      *
      * @param fileName the name of the file to obtain transactions from.
-     * @param bankName the name of the bank account.
-     * @param bankType the type of bank account.
-     * @throws BankException if there are errors importing data.
+     * @param saving the savings account the recurring transactions are tied to.
      * @throws ParseException if there are errors parsing date.
      */
-    private void loadRecurringTransactionsForBanks(String fileName, String bankName, String bankType)
-            throws ParseException, BankException {
-        List<String[]> importData = importListDataFromStorage(fileName,ui);
-        for (String[] importDataRow : importData) {
-            String description = importDataRow[0];
-            String amount = importDataRow[1];
-            double doubleAmount = Double.parseDouble(amount);
-            String date = importDataRow[2];
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date dateInFormat = dateFormat.parse(date);
-            String category = importDataRow[3];
-            String hasSpent = importDataRow[4];
-            if (bankType.equals(SAVING)) {
+    private void loadRecurringTransactionsForBanks(String fileName, Saving saving) throws ParseException {
+        try (CsvRowReader rowReader = storage.openFile(fileName)) {
+            String[] importDataRow;
+            while ((importDataRow = rowReader.readRow()) != null) {
+                String description = importDataRow[0];
+                String amount = importDataRow[1];
+                double doubleAmount = Double.parseDouble(amount);
+                String date = importDataRow[2];
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                Date dateInFormat = dateFormat.parse(date);
+                String category = importDataRow[3];
+                String hasSpent = importDataRow[4];
                 if (hasSpent.equals(HAS_SPENT)) {
                     Transaction newExpenditure = new Expenditure(description, doubleAmount, dateInFormat, category);
-                    profileImportNewRecurringExpenditure(bankName, newExpenditure);
+                    saving.importNewRecurringExpenditure(newExpenditure);
                 } else if (hasSpent.equals(NOT_SPENT)) {
                     Transaction newDeposit = new Deposit(description, doubleAmount, dateInFormat, category);
-                    profileImportNewRecurringExpenditure(bankName, newDeposit);
+                    saving.importNewRecurringExpenditure(newDeposit);
                 }
             }
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to import data from persistent storage");
+            logger.warning(exceptionMessage.getMessage());
         }
     }
 
@@ -995,73 +1311,39 @@ public class Profile {
      * Loads the bonds tied to the investment bank account.
      *
      * @param fileName the name of the file to obtain transactions from.
-     * @param bankName the name of the bank account.
-     * @throws BankException if there are errors importing data.
+     * @param investment the investment account the bonds are tied to.
      * @throws ParseException if there are errors parsing date.
      */
-    private void loadBondsForInvestmentBanks(String fileName, String bankName)
-            throws ParseException, BankException {
-        List<String[]> importData = importListDataFromStorage(fileName,ui);
-        for (String[] importDataRow : importData) {
-            String bondName = importDataRow[0];
-            String amount = importDataRow[1];
-            double doubleAmount = Double.parseDouble(amount);
-            String rate = importDataRow[2];
-            double doubleRate = Double.parseDouble(rate);
-            String date = importDataRow[3];
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date dateInFormat = dateFormat.parse(date);
-            String year = importDataRow[4];
-            int integerYear = Integer.parseInt(year);
-            String stringNextDateToCreditInterest = importDataRow[5];
-            String bondMaturity = importDataRow[6];
-            Date nextDateToCreditInterestInFormat = dateFormat.parse(stringNextDateToCreditInterest);
-            Bond newBond = new Bond(bondName, doubleAmount, doubleRate, dateInFormat, integerYear,
-                    nextDateToCreditInterestInFormat);
-            if (IS_MATURE.equals(bondMaturity)) {
-                newBond.setMature();
+    private void loadBondsForInvestmentBanks(String fileName, Investment investment) throws ParseException {
+        try (CsvRowReader rowReader = storage.openFile(fileName)) {
+            String[] importDataRow;
+            while ((importDataRow = rowReader.readRow()) != null) {
+                String bondName = importDataRow[0];
+                String amount = importDataRow[1];
+                double doubleAmount = Double.parseDouble(amount);
+                String rate = importDataRow[2];
+                double doubleRate = Double.parseDouble(rate);
+                String date = importDataRow[3];
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                Date dateInFormat = dateFormat.parse(date);
+                String year = importDataRow[4];
+                int integerYear = Integer.parseInt(year);
+                String stringNextDateToCreditInterest = importDataRow[5];
+                String bondMaturity = importDataRow[6];
+                Date nextDateToCreditInterestInFormat = dateFormat.parse(stringNextDateToCreditInterest);
+                Bond newBond = new Bond(bondName, doubleAmount, doubleRate, dateInFormat, integerYear,
+                        nextDateToCreditInterestInFormat);
+                if (IS_MATURE.equals(bondMaturity)) {
+                    newBond.setMature();
+                }
+                investment.importNewBonds(newBond);
             }
-            profileImportNewBonds(bankName, newBond);
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to import data from persistent storage");
+            logger.warning(exceptionMessage.getMessage());
         }
     }
 
-    /**
-     * Imports one instance of bonds.
-     *
-     * @param bankName the name of the bank account.
-     * @param newBond an instance of the bond to be imported.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    private void profileImportNewBonds(String bankName, Bond newBond) throws BankException {
-        bankList.bankListImportNewBonds(bankName, newBond);
-    }
-
-    /**
-     * Imports one instance of deposit.
-     *
-     * @param bankName the name of the bank account.
-     * @param deposit an instance of the deposit.
-     * @param bankType the type of bank account.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    private void profileImportNewDeposit(String bankName, Transaction deposit, String bankType)
-            throws BankException {
-        bankList.bankListImportNewDeposit(bankName, deposit, bankType);
-    }
-
-    /**
-     * Imports one instance of an expenditure.
-     *
-     * @param bankName the name of the bank account.
-     * @param expenditure an instance of the expenditure.
-     * @param type the type of expenditure.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    private void profileImportNewExpenditure(String bankName, Transaction expenditure, String type)
-            throws BankException {
-        bankList.bankListImportNewExpenditure(bankName, expenditure, type);
-    }
-
     /**
      * Imports one instance of a bank account.
      *
@@ -1080,18 +1362,6 @@ public class Profile {
         cardList.cardListImportNewCard(newCard);
     }
 
-    /**
-     * Imports one instance of recurring expenditure.
-     *
-     * @param bankName the name of the bank account.
-     * @param newRecurringExpenditure an instance of the recurring expenditure.
-     * @throws BankException if the bank account does not support this feature.
-     */
-    private void profileImportNewRecurringExpenditure(String bankName, Transaction newRecurringExpenditure)
-            throws BankException {
-        bankList.bankListImportNewRecurringExpenditure(bankName, newRecurringExpenditure);
-    }
-
     /**
      * Checks if the bond list from the specified bank name is full.
      *
@@ -1100,7 +1370,12 @@ public class Profile {
      * @throws BankException If used on a savings account or if investment account does not exist.
      */
     public boolean profileIsBondListFull(String bankName) throws BankException {
-        return bankList.bankListIsBondListFull(bankName);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(bankName);
+        try {
+            return bankList.bankListIsBondListFull(bankName);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1111,31 +1386,36 @@ public class Profile {
      */
     private void loadGoalsFromImportedData() throws ParseException, BankException {
         if (storage.isFileExist(PROFILE_GOAL_LIST_FILE_NAME)) {
-            List<String[]> importData = importListDataFromStorage(PROFILE_GOAL_LIST_FILE_NAME,ui);
-            for (String[] importDataRow : importData) {
-                Goals newGoal;
-                String goalName = importDataRow[0];
-                String amount = importDataRow[1];
-                String date = importDataRow[2];
-                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-                Date dateInFormat = dateFormat.parse(date);
-                String savingsAccountName = importDataRow[3];
-                double doubleAmount = Double.parseDouble(amount);
-                if (BLANK.equals(savingsAccountName)) {
-                    newGoal = new Goals(goalName,doubleAmount,dateInFormat);
-                } else {
-                    newGoal = new Goals(goalName,doubleAmount,dateInFormat,
-                            bankList.bankListGetSavingAccount(savingsAccountName));
-                }
-                String doneStatus = importDataRow[4];
-                String achievementStatus = importDataRow[5];
-                if (("true").equals(doneStatus)) {
-                    newGoal.markDone();
-                }
-                if (("true").equals(achievementStatus)) {
-                    newGoal.achieveGoal();
+            try (CsvRowReader rowReader = storage.openFile(PROFILE_GOAL_LIST_FILE_NAME)) {
+                String[] importDataRow;
+                while ((importDataRow = rowReader.readRow()) != null) {
+                    Goals newGoal;
+                    String goalName = importDataRow[0];
+                    String amount = importDataRow[1];
+                    String date = importDataRow[2];
+                    SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                    Date dateInFormat = dateFormat.parse(date);
+                    String savingsAccountName = importDataRow[3];
+                    double doubleAmount = Double.parseDouble(amount);
+                    if (BLANK.equals(savingsAccountName)) {
+                        newGoal = new Goals(goalName,doubleAmount,dateInFormat);
+                    } else {
+                        newGoal = new Goals(goalName,doubleAmount,dateInFormat,
+                                bankList.bankListGetSavingAccount(savingsAccountName));
+                    }
+                    String doneStatus = importDataRow[4];
+                    String achievementStatus = importDataRow[5];
+                    if (("true").equals(doneStatus)) {
+                        newGoal.markDone();
+                    }
+                    if (("true").equals(achievementStatus)) {
+                        newGoal.achieveGoal();
+                    }
+                    profileImportNewGoals(newGoal);
                 }
-                profileImportNewGoals(newGoal);
+            } catch (IOException exceptionMessage) {
+                ui.printError("Unable to import data from persistent storage");
+                logger.warning(exceptionMessage.getMessage());
             }
         }
     }
@@ -1157,19 +1437,24 @@ public class Profile {
      */
     private void loadAchievementFromImportedData() throws ParseException, GoalsException {
         if (storage.isFileExist(PROFILE_ACHIEVEMENT_LIST_FILE_NAME)) {
-            List<String[]> importData = importListDataFromStorage(PROFILE_ACHIEVEMENT_LIST_FILE_NAME,ui);
-            for (String[] importDataRow : importData) {
-                Achievement newAchievement;
-                String achievementName = importDataRow[0];
-                String amount = importDataRow[1];
-                String category = importDataRow[2];
-                String date = importDataRow[3];
-                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-                Date dateInFormat = dateFormat.parse(date);
-                double doubleAmount = Double.parseDouble(amount);
-                newAchievement = new Achievement(achievementName, doubleAmount, category, dateInFormat);
-
-                profileImportNewAchievement(newAchievement);
+            try (CsvRowReader rowReader = storage.openFile(PROFILE_ACHIEVEMENT_LIST_FILE_NAME)) {
+                String[] importDataRow;
+                while ((importDataRow = rowReader.readRow()) != null) {
+                    Achievement newAchievement;
+                    String achievementName = importDataRow[0];
+                    String amount = importDataRow[1];
+                    String category = importDataRow[2];
+                    String date = importDataRow[3];
+                    SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                    Date dateInFormat = dateFormat.parse(date);
+                    double doubleAmount = Double.parseDouble(amount);
+                    newAchievement = new Achievement(achievementName, doubleAmount, category, dateInFormat);
+
+                    profileImportNewAchievement(newAchievement);
+                }
+            } catch (IOException exceptionMessage) {
+                ui.printError("Unable to import data from persistent storage");
+                logger.warning(exceptionMessage.getMessage());
             }
         }
     }
@@ -1190,7 +1475,12 @@ public class Profile {
      * @throws CardException    Throws exception if credit card does not exist.
      */
     public void checkCardExists(String card) throws CardException {
-        cardList.checkCardExists(card);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(card);
+        try {
+            cardList.checkCardExists(card);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1202,8 +1492,13 @@ public class Profile {
      * @throws CardException    If card does not exist.
      */
     public double getCardUnpaidBillAmount(String card, YearMonth date) throws CardException {
-        double cardBillAmount = cardList.getUnpaidBillAmount(card, date);
-        return cardBillAmount;
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(card);
+        try {
+            double cardBillAmount = cardList.getUnpaidBillAmount(card, date);
+            return cardBillAmount;
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1215,8 +1510,13 @@ public class Profile {
      * @throws CardException    If card does not exist.
      */
     public double getCardPaidBillAmount(String card, YearMonth date) throws CardException {
-        double cardBillAmount = cardList.getPaidBillAmount(card, date);
-        return cardBillAmount;
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(card);
+        try {
+            double cardBillAmount = cardList.getPaidBillAmount(card, date);
+            return cardBillAmount;
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1227,7 +1527,12 @@ public class Profile {
      * @throws CardException    If card does not exist.
      */
     public double getCardRebateAmount(String card) throws CardException {
-        return cardList.getRebateAmount(card);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(card);
+        try {
+            return cardList.getRebateAmount(card);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1238,7 +1543,12 @@ public class Profile {
      * @throws CardException    If card does not exist.
      */
     public UUID getCardId(String card) throws CardException {
-        return cardList.getCardId(card);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAccount(card);
+        try {
+            return cardList.getCardId(card);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1274,19 +1584,29 @@ public class Profile {
      */
     public void addCardBill(String card, String bank, Expenditure expenditure, Deposit deposit,
             YearMonth cardDate, Ui ui, String type) throws CardException, BankException {
-        bankList.bankListAddExpenditure(bank, expenditure, ui, type);
-        ui.printMessage("");
-        bankList.bankListAddDeposit(bank, deposit, ui, type);
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccounts(card, bank);
         try {
-            cardList.transferExpUnpaidToPaid(card, cardDate, type);
-            ui.printMessage("Credit Card bill for " + card + " for the month of "
-                    + cardDate.format(yearMonthFormatter) + " have been successfully paid!");
-            logger.info("Credit Card bill for " + card + " for the month of "
-                    + cardDate.format(yearMonthFormatter) + " have been successfully paid!");
-        } catch (TransactionException error) {
-            ui.printMessage(error.getMessage());
-            logger.warning("Paying of card bill failed! Your data may potentially be corrupted!");
-            throw new CardException("Paying of card bill failed! Your data may potentially be corrupted!");
+            StorageTransaction transaction = storage.beginTransaction();
+            try {
+                bankList.bankListAddExpenditure(bank, expenditure, ui, type);
+                ui.printMessage("");
+                bankList.bankListAddDeposit(bank, deposit, ui, type);
+                try {
+                    cardList.transferExpUnpaidToPaid(card, cardDate);
+                    ui.printMessage("Credit Card bill for " + card + " for the month of "
+                            + cardDate.format(yearMonthFormatter) + " have been successfully paid!");
+                    logger.info("Credit Card bill for " + card + " for the month of "
+                            + cardDate.format(yearMonthFormatter) + " have been successfully paid!");
+                } catch (TransactionException error) {
+                    ui.printMessage(error.getMessage());
+                    logger.warning("Paying of card bill failed! Your data may potentially be corrupted!");
+                    throw new CardException("Paying of card bill failed! Your data may potentially be corrupted!");
+                }
+            } finally {
+                commitStorageTransaction(transaction, ui);
+            }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -1303,19 +1623,29 @@ public class Profile {
      */
     public void deleteCardBill(String card, YearMonth cardDate, String bank, Ui ui, String type)
             throws TransactionException, CardException, BankException {
-        checkCardExists(card);
-        checkExpenditureAndDepositExistsInSavings(bank, getCardId(card), cardDate);
-        checkBillAmountNotZero(getCardPaidBillAmount(card, cardDate), card, cardDate);
-        int expenditureNumber = profileGetCardBillExpenditureId(bank,getCardId(card), cardDate) + ARRAY_INDEX;
-        profileDeleteExpenditure(expenditureNumber, bank, ui, type, true);
-        ui.printMessage("");
-        int depositNumber = profileGetCardBillDepositId(bank,getCardId(card), cardDate) + ARRAY_INDEX;
-        profileDeleteDeposit(depositNumber, bank, ui, true);
-        cardList.transferExpPaidToUnpaid(card, cardDate, type);
-        ui.printMessage("Credit Card bill for " + card + " for the month of "
-                + cardDate.format(yearMonthFormatter) + " have been successfully reverted!");
-        logger.info("Credit Card bill for " + card + " for the month of "
-                + cardDate.format(yearMonthFormatter) + " have been successfully reverted!");
+        AccountLocks.HeldLocks heldLocks = accountLocks.writeAccounts(card, bank);
+        try {
+            StorageTransaction transaction = storage.beginTransaction();
+            try {
+                checkCardExists(card);
+                checkExpenditureAndDepositExistsInSavings(bank, getCardId(card), cardDate);
+                checkBillAmountNotZero(getCardPaidBillAmount(card, cardDate), card, cardDate);
+                int expenditureNumber = profileGetCardBillExpenditureId(bank,getCardId(card), cardDate) + ARRAY_INDEX;
+                profileDeleteExpenditure(expenditureNumber, bank, ui, type, true);
+                ui.printMessage("");
+                int depositNumber = profileGetCardBillDepositId(bank,getCardId(card), cardDate) + ARRAY_INDEX;
+                profileDeleteDeposit(depositNumber, bank, ui, true);
+                cardList.transferExpPaidToUnpaid(card, cardDate);
+                ui.printMessage("Credit Card bill for " + card + " for the month of "
+                        + cardDate.format(yearMonthFormatter) + " have been successfully reverted!");
+                logger.info("Credit Card bill for " + card + " for the month of "
+                        + cardDate.format(yearMonthFormatter) + " have been successfully reverted!");
+            } finally {
+                commitStorageTransaction(transaction, ui);
+            }
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1387,11 +1717,14 @@ public class Profile {
      * Adds user achievement when goal achieved before specified date.
      */
     public void profileAddAchievement() {
-        for (int i = 0; i < goalsList.getGoalListSize(); i++) {
-            Achievement achievement = goalsList.checkForAchievement(i, ui);
-            if (achievement != null) {
-                achievementList.addAchievement(achievement, ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            ArrayList<Achievement> achievements = goalsList.checkForAchievements(ui);
+            for (int i = 0; i < achievements.size(); i++) {
+                achievementList.addAchievement(achievements.get(i), ui);
             }
+        } finally {
+            heldLocks.close();
         }
     }
 
@@ -1400,7 +1733,12 @@ public class Profile {
      * @param ui Required for printing.
      */
     public void profileListAchievement(Ui ui) {
-        achievementList.listAchievements(ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            achievementList.listAchievements(ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 
     /**
@@ -1411,97 +1749,113 @@ public class Profile {
      */
     private void loadCardsFromImportedData() throws NumberFormatException, CardException {
         if (storage.isFileExist(PROFILE_CARD_LIST_FILE_NAME)) {
-            List<String[]> importData = importListDataFromStorage(PROFILE_CARD_LIST_FILE_NAME,ui);
-            for (String[] importDataRow : importData) {
-                String cardName = importDataRow[0];
-                String stringCardLimit = importDataRow[1];
-                String stringRebateRate = importDataRow[2];
-                String stringUuid = importDataRow[3];
-                double doubleCardLimit = Double.parseDouble(stringCardLimit);
-                double doubleRebateRate = Double.parseDouble(stringRebateRate);
-                UUID uuid = UUID.fromString(stringUuid);
-                Card newCard = new Card(cardName,doubleCardLimit,doubleRebateRate,uuid);
-                profileImportNewCard(newCard);
-            }
-        }
-    }
-
-    /**
-     * Iterates the card file line by line to add specific transactions tied to the card.
-     *
-     * @throws ParseException if there are errors parsing date or double.
-     */
-    private void iterateCardsToAddTransaction() throws ParseException {
-        if (storage.isFileExist(PROFILE_CARD_LIST_FILE_NAME)) {
-            List<String[]> importCardData = importListDataFromStorage(PROFILE_CARD_LIST_FILE_NAME, ui);
-            for (int i = 0; i < importCardData.size(); i++) {
-                String cardName = importCardData.get(i)[0];
-                String unPaidTransactionFileName = i + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME;
-                String paidTransactionFileName = i + CARD_PAID_TRANSACTION_LIST_FILE_NAME;
-                if (storage.isFileExist(unPaidTransactionFileName)) {
-                    loadTransactionForCards(unPaidTransactionFileName, cardName,
-                        CARD_UNPAID_TRANSACTION_LIST_FILE_NAME);
-                }
-                if (storage.isFileExist(paidTransactionFileName)) {
-                    loadTransactionForCards(paidTransactionFileName, cardName, CARD_PAID_TRANSACTION_LIST_FILE_NAME);
+            try (CsvRowReader rowReader = storage.openFile(PROFILE_CARD_LIST_FILE_NAME)) {
+                String[] importDataRow;
+                int i = 0;
+                while ((importDataRow = rowReader.readRow()) != null) {
+                    String cardName = importDataRow[0];
+                    String stringCardLimit = importDataRow[1];
+                    String stringRebateRate = importDataRow[2];
+                    String stringUuid = importDataRow[3];
+                    double doubleCardLimit = Double.parseDouble(stringCardLimit);
+                    double doubleRebateRate = Double.parseDouble(stringRebateRate);
+                    UUID uuid = UUID.fromString(stringUuid);
+                    Card newCard = new Card(cardName,doubleCardLimit,doubleRebateRate,uuid);
+                    setCardLoaders(newCard, i);
+                    profileImportNewCard(newCard);
+                    i++;
                 }
+            } catch (IOException exceptionMessage) {
+                ui.printError("Unable to import data from persistent storage");
+                logger.warning(exceptionMessage.getMessage());
             }
         }
     }
 
     /**
-     * Imports transactions tied to each card.
+     * Sets the loaders that import the paid and unpaid expenditures of a card the first time they are needed,
+     * instead of importing them when the profile starts.
      *
-     * @param fileName the file name of the card
-     * @param cardName the card name for identification.
-     * @throws ParseException if there are errors parsing double or date.
+     * @param card the card imported.
+     * @param cardIndex the position of the card in the card list file.
      */
-    private void loadTransactionForCards(String fileName, String cardName, String paidType)
-            throws ParseException {
-        List<String[]> importData = importListDataFromStorage(fileName,ui);
-        for (String[] importDataRow : importData) {
-            String description = importDataRow[0];
-            String amount = importDataRow[1];
-            double doubleAmount = Double.parseDouble(amount);
-            String date = importDataRow[2];
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date dateInFormat = dateFormat.parse(date);
-            String category = importDataRow[3];
-            if (CARD_UNPAID_TRANSACTION_LIST_FILE_NAME.equals(paidType)) {
-                Transaction newExpenditure = new Expenditure(description,doubleAmount,dateInFormat,category);
-                profileImportNewUnpaidCardTransaction(cardName, newExpenditure);
-            } else if (CARD_PAID_TRANSACTION_LIST_FILE_NAME.equals(paidType)) {
-                Transaction newExpenditure = new Expenditure(description,doubleAmount,dateInFormat,category);
-                profileImportNewPaidCardTransaction(cardName, newExpenditure);
-            }
+    private void setCardLoaders(Card card, int cardIndex) {
+        String unPaidTransactionFileName = cardIndex + CARD_UNPAID_TRANSACTION_LIST_FILE_NAME;
+        String paidTransactionFileName = cardIndex + CARD_PAID_TRANSACTION_LIST_FILE_NAME;
+        if (storage.isFileExist(unPaidTransactionFileName)) {
+            card.setUnpaidExpendituresLoader(createCardTransactionsLoader(unPaidTransactionFileName, card,
+                    CARD_UNPAID_TRANSACTION_LIST_FILE_NAME));
+        }
+        if (storage.isFileExist(paidTransactionFileName)) {
+            card.setPaidExpendituresLoader(createCardTransactionsLoader(paidTransactionFileName, card,
+                    CARD_PAID_TRANSACTION_LIST_FILE_NAME));
         }
     }
 
     /**
-     * Imports unpaid card transactions.
+     * Creates the loader that imports the paid or unpaid expenditures of a card.
      *
-     * @param cardName the name of the card that the transactions are tied to.
-     * @param newExpenditure an instance of unpaid expenditures to import.
+     * @param fileName the file name of the card expenditures.
+     * @param card the card the expenditures are tied to.
+     * @param paidType the type of expenditures in the file.
+     * @return the loader that imports the expenditures.
      */
-    private void profileImportNewUnpaidCardTransaction(String cardName, Transaction newExpenditure) {
-        cardList.cardListImportNewUnpaidCardExpenditure(cardName, newExpenditure);
+    private Runnable createCardTransactionsLoader(String fileName, Card card, String paidType) {
+        return () -> {
+            try {
+                loadTransactionForCards(fileName, card, paidType);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | NullPointerException
+                    | ParseException exceptionMessage) {
+                logger.warning(exceptionMessage.getMessage());
+                throw new LoadException("Error importing card expenditures from persistent storage.");
+            }
+        };
     }
 
     /**
-     * Imports paid card transactions.
+     * Imports transactions tied to each card.
      *
-     * @param cardName the name of the card that the transactions are tied to.
-     * @param newExpenditure an instance of paid expenditures to import.
+     * @param fileName the file name of the card
+     * @param card the card the transactions are tied to.
+     * @param paidType the type of expenditures in the file.
+     * @throws ParseException if there are errors parsing double or date.
      */
-    private void profileImportNewPaidCardTransaction(String cardName, Transaction newExpenditure) {
-        cardList.cardListImportNewPaidCardExpenditure(cardName, newExpenditure);
+    private void loadTransactionForCards(String fileName, Card card, String paidType)
+            throws ParseException {
+        try (CsvRowReader rowReader = storage.openFile(fileName)) {
+            String[] importDataRow;
+            while ((importDataRow = rowReader.readRow()) != null) {
+                String description = importDataRow[0];
+                String amount = importDataRow[1];
+                double doubleAmount = Double.parseDouble(amount);
+                String date = importDataRow[2];
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                Date dateInFormat = dateFormat.parse(date);
+                String category = importDataRow[3];
+                if (CARD_UNPAID_TRANSACTION_LIST_FILE_NAME.equals(paidType)) {
+                    Transaction newExpenditure = new Expenditure(description,doubleAmount,dateInFormat,category);
+                    card.importNewUnpaidExpenditure(newExpenditure);
+                } else if (CARD_PAID_TRANSACTION_LIST_FILE_NAME.equals(paidType)) {
+                    Transaction newExpenditure = new Expenditure(description,doubleAmount,dateInFormat,category);
+                    card.importNewPaidExpenditure(newExpenditure);
+                }
+            }
+        } catch (IOException exceptionMessage) {
+            ui.printError("Unable to import data from persistent storage");
+            logger.warning(exceptionMessage.getMessage());
+        }
     }
 
     /**
      * Prints reminder for goals that is due in 10 days.
      */
     public void profileReminderForGoals() {
-        goalsList.overdueGoals(ui);
-        goalsList.reminderForGoals(ui);
+        AccountLocks.HeldLocks heldLocks = accountLocks.readAllAccountsAndLockGoals();
+        try {
+            goalsList.overdueGoals(ui);
+            goalsList.reminderForGoals(ui);
+        } finally {
+            heldLocks.close();
+        }
     }
 }
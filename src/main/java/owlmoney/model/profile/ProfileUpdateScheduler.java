@@ -0,0 +1,138 @@
+package owlmoney.model.profile;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import owlmoney.model.bank.exception.BankException;
+import owlmoney.storage.exception.LoadException;
+import owlmoney.ui.Ui;
+
+/**
+ * Updates the outdated objects of a profile on a background thread when incomes, recurring expenditures
+ * or bond interest fall due, so that commands do not have to wait for the updates.
+ * The thread sleeps until the start of the day of the earliest due date, and the profile locks every account
+ * while updating. Updates print into a buffer of their own, which is written once the update completes,
+ * so their output never lands in the middle of the output of a command or flushes it early.
+ */
+public class ProfileUpdateScheduler {
+    private static final Logger logger = getLogger(ProfileUpdateScheduler.class);
+    private static final int ONE_DAY = 1;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Profile profile;
+    private final Ui ui;
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduledUpdate;
+    private LocalDate lastUpdateDate;
+    private LocalDate dueDateLeftByLastUpdate;
+
+    /**
+     * Creates a scheduler for the updates of a profile that has just been updated.
+     *
+     * @param profile The profile to update.
+     * @param ui      Used for printing, whose output and output format the updates share.
+     */
+    public ProfileUpdateScheduler(Profile profile, Ui ui) {
+        this.profile = profile;
+        this.ui = ui.createSeparateBuffer();
+        this.lastUpdateDate = LocalDate.now();
+        this.dueDateLeftByLastUpdate = toLocalDate(profile.getNextUpdateDate());
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-update-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the next update of the profile based on its earliest due date, replacing any update
+     * scheduled before. Has to be called after every change to the profile so that a new earlier due date
+     * is picked up.
+     */
+    public synchronized void reschedule() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (scheduledUpdate != null) {
+            scheduledUpdate.cancel(false);
+            scheduledUpdate = null;
+        }
+        Date nextUpdateDate = profile.getNextUpdateDate();
+        if (nextUpdateDate == null) {
+            logger.info("No updates to schedule");
+            return;
+        }
+        LocalDate dueDate = toLocalDate(nextUpdateDate);
+        if (dueDate.equals(dueDateLeftByLastUpdate) && !dueDate.isAfter(lastUpdateDate)) {
+            dueDate = lastUpdateDate.plusDays(ONE_DAY);
+        }
+        long delay = Math.max(0, dueDate.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                - System.currentTimeMillis());
+        scheduledUpdate = executor.schedule(this::update, delay, TimeUnit.MILLISECONDS);
+        logger.info("Scheduled the next update of the profile in " + delay + " ms");
+    }
+
+    /**
+     * Updates the outdated objects of the profile and schedules the next update.
+     * A transaction that is still due afterwards, for example because there is not enough money in the bank,
+     * is only retried on the next day.
+     */
+    private void update() {
+        try {
+            LocalDate updateDate = LocalDate.now();
+            profile.profileUpdate(ui);
+            LocalDate dueDateLeft = toLocalDate(profile.getNextUpdateDate());
+            synchronized (this) {
+                lastUpdateDate = updateDate;
+                dueDateLeftByLastUpdate = dueDateLeft;
+            }
+        } catch (BankException | LoadException exceptionMessage) {
+            logger.warning("Error updating outdated recurring transactions: " + exceptionMessage.getMessage());
+            ui.printError("Error updating outdated recurring transactions");
+        } finally {
+            ui.flush();
+            reschedule();
+        }
+    }
+
+    /**
+     * Converts a due date to the day it falls on.
+     *
+     * @param date The due date, which may be null.
+     * @return The day of the due date, or null if there is no due date.
+     */
+    private static LocalDate toLocalDate(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Stops the scheduler, waiting for an update that is running to finish.
+     */
+    public void stop() {
+        synchronized (this) {
+            if (scheduledUpdate != null) {
+                scheduledUpdate.cancel(false);
+            }
+            executor.shutdown();
+        }
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("The profile update did not finish in time");
+            }
+        } catch (InterruptedException exceptionMessage) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the profile update to finish");
+        }
+    }
+}
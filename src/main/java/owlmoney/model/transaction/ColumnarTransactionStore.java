@@ -0,0 +1,553 @@
+package owlmoney.model.transaction;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+import owlmoney.model.money.Money;
+
+/**
+ * Stores the transactions of a transaction list column by column in primitive arrays instead of as objects.
+ * Dates are kept as days since the epoch, amounts as cents, the spent and card bill details as bit flags,
+ * categories as ids into a dictionary and descriptions as shared strings, so scanning a column does not
+ * follow any pointers. A shared description is dropped once no transaction in the store uses it.
+ * The arrays start small and double in size as the store fills up, up to the most transactions the list keeps.
+ * The arrays are used as a circular buffer so that both appending to the end and removing from the front
+ * take constant time, while removing from the middle shifts whichever side of the removed row is shorter.
+ * Transactions read from the store are new objects built from the columns, so changes to them only take effect
+ * once they are written back with {@link #set(int, Transaction)}.
+ */
+class ColumnarTransactionStore extends AbstractList<Transaction> implements RandomAccess {
+    private static final int MIN_CAPACITY = 16;
+    private static final byte SPENT_FLAG = 1;
+    private static final byte CARD_BILL_FLAG = 2;
+    private static final byte BILL_DATE_FLAG = 4;
+    private static final int NO_CATEGORY = -1;
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int FIRST_MONTH = 1;
+
+    private long[] sequences;
+    private long[] epochDays;
+    private long[] amountCents;
+    private byte[] flags;
+    private int[] categoryIds;
+    private String[] descriptions;
+    private long[] cardIdHighBits;
+    private long[] cardIdLowBits;
+    private int[] billMonths;
+    private int head;
+    private int size;
+
+    private final int maxCapacity;
+    private final ArrayList<String> categories;
+    private final HashMap<String, Integer> categoryIdsByName;
+    private final HashMap<String, SharedDescription> descriptionPool;
+
+    /**
+     * A description shared by the transactions in the store, with the number of transactions using it.
+     */
+    private static final class SharedDescription {
+        private final String text;
+        private int referenceCount;
+
+        private SharedDescription(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Creates an empty store whose arrays grow as transactions are added, up to the given capacity.
+     *
+     * @param maxCapacity the number of transactions the list keeps, which the arrays do not grow beyond
+     *                    unless the store holds more.
+     */
+    ColumnarTransactionStore(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        allocate(Math.min(MIN_CAPACITY, Math.max(maxCapacity, 1)));
+        categories = new ArrayList<>();
+        categoryIdsByName = new HashMap<>();
+        descriptionPool = new HashMap<>();
+    }
+
+    /**
+     * Appends a transaction to the end of the store.
+     *
+     * @param transaction the transaction to append.
+     * @param sequence the sequence number of the transaction in its list.
+     */
+    void add(Transaction transaction, long sequence) {
+        if (size == sequences.length) {
+            grow();
+        }
+        int arrayIndex = toArrayIndex(size);
+        sequences[arrayIndex] = sequence;
+        writeRow(arrayIndex, transaction);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Gets the transaction at the position in the store, built from the columns.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return a new transaction object with the stored details.
+     */
+    @Override
+    public Transaction get(int index) {
+        checkIndex(index);
+        int arrayIndex = toArrayIndex(index);
+        Date date = Date.from(LocalDate.ofEpochDay(epochDays[arrayIndex])
+                .atStartOfDay(ZoneId.systemDefault()).toInstant());
+        String description = descriptions[arrayIndex];
+        Money amount = Money.ofCents(amountCents[arrayIndex]);
+        String category = getCategory(index);
+        boolean isSpent = isSpent(index);
+        Transaction transaction;
+        if ((flags[arrayIndex] & CARD_BILL_FLAG) == 0) {
+            transaction = isSpent ? new Expenditure(description, 0, date, category)
+                    : new Deposit(description, 0, date, category);
+        } else {
+            UUID cardId = new UUID(cardIdHighBits[arrayIndex], cardIdLowBits[arrayIndex]);
+            YearMonth billDate = (flags[arrayIndex] & BILL_DATE_FLAG) == 0 ? null
+                    : toYearMonth(billMonths[arrayIndex]);
+            transaction = isSpent ? new Expenditure(description, 0, date, cardId, billDate)
+                    : new Deposit(description, 0, date, cardId, billDate);
+            transaction.setCategory(category);
+        }
+        transaction.setMoney(amount);
+        return transaction;
+    }
+
+    /**
+     * Replaces the details of the transaction at the position in the store, keeping its sequence number.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @param transaction the transaction with the new details.
+     * @return the transaction previously at the position.
+     */
+    @Override
+    public Transaction set(int index, Transaction transaction) {
+        Transaction previous = get(index);
+        writeRow(toArrayIndex(index), transaction);
+        return previous;
+    }
+
+    /**
+     * Gets the number of transactions in the store.
+     *
+     * @return the number of transactions.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the removed transaction.
+     */
+    @Override
+    public Transaction remove(int index) {
+        Transaction removed = get(index);
+        removeRow(index);
+        return removed;
+    }
+
+    /**
+     * Removes the transaction at the position in the store without building it from the columns.
+     *
+     * @param index the position of the transaction, starting from 0.
+     */
+    void removeRow(int index) {
+        checkIndex(index);
+        releaseDescription(descriptions[toArrayIndex(index)]);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                copyRow(toArrayIndex(i - 1), toArrayIndex(i));
+            }
+            descriptions[head] = null;
+            head = (head + 1) % sequences.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                copyRow(toArrayIndex(i + 1), toArrayIndex(i));
+            }
+            descriptions[toArrayIndex(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Removes the transactions at several positions in the store in a single pass,
+     * moving every later row down over the removed ones.
+     *
+     * @param indices the positions of the transactions in ascending order, starting from 0.
+     */
+    void removeRows(int[] indices) {
+        if (indices.length == 0) {
+            return;
+        }
+        checkIndex(indices[0]);
+        checkIndex(indices[indices.length - 1]);
+        for (int index : indices) {
+            releaseDescription(descriptions[toArrayIndex(index)]);
+        }
+        int writeIndex = indices[0];
+        int nextRemoved = 0;
+        for (int readIndex = indices[0]; readIndex < size; readIndex++) {
+            if (nextRemoved < indices.length && indices[nextRemoved] == readIndex) {
+                nextRemoved++;
+                continue;
+            }
+            copyRow(toArrayIndex(readIndex), toArrayIndex(writeIndex));
+            writeIndex++;
+        }
+        for (int i = writeIndex; i < size; i++) {
+            descriptions[toArrayIndex(i)] = null;
+        }
+        size = writeIndex;
+        modCount++;
+    }
+
+    /**
+     * Gets the sequence number of the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the sequence number of the transaction.
+     */
+    long getSequence(int index) {
+        checkIndex(index);
+        return sequences[toArrayIndex(index)];
+    }
+
+    /**
+     * Gets the position of a transaction in the store from its sequence number.
+     * Sequence numbers increase in the same order as the positions of the transactions.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @return the position of the transaction starting from 0, or a negative number if it is not in the store.
+     */
+    int indexOfSequence(long sequence) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequence = sequences[toArrayIndex(middle)];
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Gets whether the transaction at the position in the store deducts from the bank amount.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return true if the transaction is an expenditure.
+     */
+    boolean isSpent(int index) {
+        checkIndex(index);
+        return (flags[toArrayIndex(index)] & SPENT_FLAG) != 0;
+    }
+
+    /**
+     * Gets the amount of the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the amount of the transaction.
+     */
+    double getAmount(int index) {
+        return getMoney(index).toDouble();
+    }
+
+    /**
+     * Gets the amount of the transaction at the position in the store as an exact number of cents.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the amount of the transaction.
+     */
+    Money getMoney(int index) {
+        return Money.ofCents(getAmountCents(index));
+    }
+
+    /**
+     * Gets the amount of the transaction at the position in the store in cents, without creating any object.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the amount of the transaction in cents.
+     */
+    long getAmountCents(int index) {
+        checkIndex(index);
+        return amountCents[toArrayIndex(index)];
+    }
+
+    /**
+     * Gets the description of the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the description of the transaction.
+     */
+    String getDescription(int index) {
+        checkIndex(index);
+        return descriptions[toArrayIndex(index)];
+    }
+
+    /**
+     * Gets the category of the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the category of the transaction.
+     */
+    String getCategory(int index) {
+        checkIndex(index);
+        int categoryId = categoryIds[toArrayIndex(index)];
+        return categoryId == NO_CATEGORY ? null : categories.get(categoryId);
+    }
+
+    /**
+     * Gets the date of the transaction at the position in the store.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @return the number of days since the epoch of the transaction date.
+     */
+    long getEpochDay(int index) {
+        checkIndex(index);
+        return epochDays[toArrayIndex(index)];
+    }
+
+    /**
+     * Gets whether the transaction at the position in the store is a card bill of the card for the month,
+     * comparing the columns without creating any object.
+     *
+     * @param index the position of the transaction, starting from 0.
+     * @param cardId the id of the card.
+     * @param billDate the month of the card bill.
+     * @return true if the transaction is the card bill of the card for the month.
+     */
+    boolean isCardBill(int index, UUID cardId, YearMonth billDate) {
+        checkIndex(index);
+        int arrayIndex = toArrayIndex(index);
+        byte rowFlags = flags[arrayIndex];
+        return (rowFlags & CARD_BILL_FLAG) != 0 && (rowFlags & BILL_DATE_FLAG) != 0
+                && cardIdHighBits[arrayIndex] == cardId.getMostSignificantBits()
+                && cardIdLowBits[arrayIndex] == cardId.getLeastSignificantBits()
+                && billMonths[arrayIndex] == toBillMonth(billDate);
+    }
+
+    /**
+     * Writes the details of a transaction into a row of the columns.
+     *
+     * @param arrayIndex the position of the row in the arrays.
+     * @param transaction the transaction to write.
+     */
+    private void writeRow(int arrayIndex, Transaction transaction) {
+        epochDays[arrayIndex] = transaction.getLocalDate().toEpochDay();
+        amountCents[arrayIndex] = transaction.getMoney().getCents();
+        categoryIds[arrayIndex] = toCategoryId(transaction.getCategory());
+        String description = toSharedDescription(transaction.getDescription());
+        releaseDescription(descriptions[arrayIndex]);
+        descriptions[arrayIndex] = description;
+        byte rowFlags = transaction.getSpent() ? SPENT_FLAG : 0;
+        UUID cardId = transaction.getTransactionCardID();
+        if (cardId != null) {
+            rowFlags |= CARD_BILL_FLAG;
+            cardIdHighBits[arrayIndex] = cardId.getMostSignificantBits();
+            cardIdLowBits[arrayIndex] = cardId.getLeastSignificantBits();
+        }
+        YearMonth billDate = transaction.getTransactionCardBillDate();
+        if (billDate != null) {
+            rowFlags |= BILL_DATE_FLAG;
+            billMonths[arrayIndex] = toBillMonth(billDate);
+        }
+        flags[arrayIndex] = rowFlags;
+    }
+
+    /**
+     * Copies a row of the columns to another row.
+     *
+     * @param fromArrayIndex the position of the row to copy in the arrays.
+     * @param toArrayIndex the position of the row to overwrite in the arrays.
+     */
+    private void copyRow(int fromArrayIndex, int toArrayIndex) {
+        sequences[toArrayIndex] = sequences[fromArrayIndex];
+        epochDays[toArrayIndex] = epochDays[fromArrayIndex];
+        amountCents[toArrayIndex] = amountCents[fromArrayIndex];
+        flags[toArrayIndex] = flags[fromArrayIndex];
+        categoryIds[toArrayIndex] = categoryIds[fromArrayIndex];
+        descriptions[toArrayIndex] = descriptions[fromArrayIndex];
+        cardIdHighBits[toArrayIndex] = cardIdHighBits[fromArrayIndex];
+        cardIdLowBits[toArrayIndex] = cardIdLowBits[fromArrayIndex];
+        billMonths[toArrayIndex] = billMonths[fromArrayIndex];
+    }
+
+    /**
+     * Gets the id of a category in the dictionary, adding it if it is new.
+     *
+     * @param category the category.
+     * @return the id of the category.
+     */
+    private int toCategoryId(String category) {
+        if (category == null) {
+            return NO_CATEGORY;
+        }
+        Integer categoryId = categoryIdsByName.get(category);
+        if (categoryId == null) {
+            categoryId = categories.size();
+            categories.add(category);
+            categoryIdsByName.put(category, categoryId);
+        }
+        return categoryId;
+    }
+
+    /**
+     * Gets the copy of a description shared by every transaction with the same description,
+     * counting one more transaction using it.
+     *
+     * @param description the description.
+     * @return the shared copy of the description.
+     */
+    private String toSharedDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        SharedDescription sharedDescription = descriptionPool.computeIfAbsent(description, SharedDescription::new);
+        sharedDescription.referenceCount++;
+        return sharedDescription.text;
+    }
+
+    /**
+     * Counts one less transaction using a shared description, dropping it once no transaction uses it.
+     *
+     * @param description the shared copy of the description, or null if the row has no description.
+     */
+    private void releaseDescription(String description) {
+        if (description == null) {
+            return;
+        }
+        SharedDescription sharedDescription = descriptionPool.get(description);
+        if (sharedDescription != null && --sharedDescription.referenceCount == 0) {
+            descriptionPool.remove(description);
+        }
+    }
+
+    /**
+     * Gets the number of distinct descriptions shared by the transactions in the store.
+     *
+     * @return the number of distinct descriptions.
+     */
+    int getSharedDescriptionCount() {
+        return descriptionPool.size();
+    }
+
+    /**
+     * Gets the number of transactions the arrays can hold before they grow.
+     *
+     * @return the capacity of the arrays.
+     */
+    int getCapacity() {
+        return sequences.length;
+    }
+
+    /**
+     * Converts a month to a number of months since year 0.
+     *
+     * @param billDate the month.
+     * @return the number of months since year 0.
+     */
+    private static int toBillMonth(YearMonth billDate) {
+        return billDate.getYear() * MONTHS_IN_YEAR + billDate.getMonthValue() - FIRST_MONTH;
+    }
+
+    /**
+     * Converts a number of months since year 0 back to a month.
+     *
+     * @param billMonth the number of months since year 0.
+     * @return the month.
+     */
+    private static YearMonth toYearMonth(int billMonth) {
+        return YearMonth.of(Math.floorDiv(billMonth, MONTHS_IN_YEAR),
+                Math.floorMod(billMonth, MONTHS_IN_YEAR) + FIRST_MONTH);
+    }
+
+    /**
+     * Converts a position in the store to a position in the arrays.
+     *
+     * @param index the position in the store.
+     * @return the position in the arrays.
+     */
+    private int toArrayIndex(int index) {
+        return (head + index) % sequences.length;
+    }
+
+    /**
+     * Checks that the position is within the store.
+     *
+     * @param index the position to check.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Creates empty arrays for every column.
+     *
+     * @param capacity the number of rows of each array.
+     */
+    private void allocate(int capacity) {
+        sequences = new long[capacity];
+        epochDays = new long[capacity];
+        amountCents = new long[capacity];
+        flags = new byte[capacity];
+        categoryIds = new int[capacity];
+        descriptions = new String[capacity];
+        cardIdHighBits = new long[capacity];
+        cardIdLowBits = new long[capacity];
+        billMonths = new int[capacity];
+    }
+
+    /**
+     * Doubles the capacity of the arrays without going beyond the most transactions the list keeps,
+     * moving the rows to the start of the new arrays.
+     */
+    private void grow() {
+        long[] oldSequences = sequences;
+        long[] oldEpochDays = epochDays;
+        long[] oldAmountCents = amountCents;
+        byte[] oldFlags = flags;
+        int[] oldCategoryIds = categoryIds;
+        String[] oldDescriptions = descriptions;
+        long[] oldCardIdHighBits = cardIdHighBits;
+        long[] oldCardIdLowBits = cardIdLowBits;
+        int[] oldBillMonths = billMonths;
+        int capacity = Math.min(oldSequences.length * 2, maxCapacity);
+        allocate(capacity > oldSequences.length ? capacity : oldSequences.length * 2);
+        for (int i = 0; i < size; i++) {
+            int oldArrayIndex = (head + i) % oldSequences.length;
+            sequences[i] = oldSequences[oldArrayIndex];
+            epochDays[i] = oldEpochDays[oldArrayIndex];
+            amountCents[i] = oldAmountCents[oldArrayIndex];
+            flags[i] = oldFlags[oldArrayIndex];
+            categoryIds[i] = oldCategoryIds[oldArrayIndex];
+            descriptions[i] = oldDescriptions[oldArrayIndex];
+            cardIdHighBits[i] = oldCardIdHighBits[oldArrayIndex];
+            cardIdLowBits[i] = oldCardIdLowBits[oldArrayIndex];
+            billMonths[i] = oldBillMonths[oldArrayIndex];
+        }
+        head = 0;
+    }
+}
@@ -2,8 +2,9 @@ package owlmoney.model.transaction;
 
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 
 import owlmoney.model.transaction.exception.TransactionException;
@@ -14,6 +15,10 @@ import owlmoney.ui.Ui;
  */
 public class RecurringExpenditureList {
     private ArrayList<Transaction> recurringExpenditures;
+    private ArrayList<Long> sequences;
+    private TransactionTextIndex descriptionIndex;
+    private TransactionTextIndex categoryIndex;
+    private long nextSequence;
     private static final int MAX_LIST_SIZE = 100;
     private static final String RECURTRANSTYPE = "recurTransaction";
     private static final String RECURITEMTYPE = "recurItem";
@@ -32,6 +37,38 @@ public class RecurringExpenditureList {
      */
     public RecurringExpenditureList() {
         recurringExpenditures = new ArrayList<Transaction>();
+        sequences = new ArrayList<Long>();
+        descriptionIndex = new TransactionTextIndex(recurringExpenditures::size, sequences::get,
+                index -> recurringExpenditures.get(index).getDescription());
+        categoryIndex = new TransactionTextIndex(recurringExpenditures::size, sequences::get,
+                index -> recurringExpenditures.get(index).getCategory());
+    }
+
+    /**
+     * Appends a recurring expenditure to the end of the list and indexes its description and category.
+     *
+     * @param expenditure the recurring expenditure to append.
+     */
+    private void appendRecurringExpenditure(Transaction expenditure) {
+        long sequence = nextSequence++;
+        recurringExpenditures.add(expenditure);
+        sequences.add(sequence);
+        descriptionIndex.add(sequence, expenditure.getDescription());
+        categoryIndex.add(sequence, expenditure.getCategory());
+    }
+
+    /**
+     * Removes a recurring expenditure from the list and its indexes.
+     *
+     * @param index the position of the recurring expenditure in the list, starting from 0.
+     */
+    private void removeRecurringExpenditure(int index) {
+        Transaction expenditure = recurringExpenditures.get(index);
+        long sequence = sequences.get(index);
+        descriptionIndex.remove(sequence, expenditure.getDescription());
+        categoryIndex.remove(sequence, expenditure.getCategory());
+        recurringExpenditures.remove(index);
+        sequences.remove(index);
     }
 
     /**
@@ -47,7 +84,7 @@ public class RecurringExpenditureList {
             logger.warning("The list has reach a mix size of " + MAX_LIST_SIZE);
             throw new TransactionException("The list has reach a max size of " + MAX_LIST_SIZE);
         }
-        recurringExpenditures.add(newExpenditure);
+        appendRecurringExpenditure(newExpenditure);
         ui.printMessage("Added expenditure with the following details:");
         printOneTransaction(1, newExpenditure, ISSINGLE, ui);
         logger.info("Added recurring expenditure entry");
@@ -70,7 +107,7 @@ public class RecurringExpenditureList {
             throw new TransactionException("Index is out of transaction list range");
         }
         Transaction temp = recurringExpenditures.get(index - 1);
-        recurringExpenditures.remove(index - 1);
+        removeRecurringExpenditure(index - 1);
         ui.printMessage("Deleted expenditure with the following details:");
         printOneTransaction(1, temp, ISSINGLE, ui);
         logger.info("Deleted recurring expenditure entry");
@@ -116,12 +153,16 @@ public class RecurringExpenditureList {
             throw new TransactionException("Index is out of transaction list range");
         }
         if (!description.isBlank()) {
+            descriptionIndex.update(sequences.get(index - 1),
+                    recurringExpenditures.get(index - 1).getDescription(), description);
             recurringExpenditures.get(index - 1).setDescription(description);
         }
         if (!amount.isBlank()) {
             recurringExpenditures.get(index - 1).setAmount(Double.parseDouble(amount));
         }
         if (!category.isBlank()) {
+            categoryIndex.update(sequences.get(index - 1), recurringExpenditures.get(index - 1).getCategory(),
+                    category);
             recurringExpenditures.get(index - 1).setCategory(category);
         }
         ui.printMessage("Edited details of the specified expenditure:");
@@ -161,9 +202,8 @@ public class RecurringExpenditureList {
         if (!isMultiplePrinting) {
             ui.printTransactionHeader(RECURITEMTYPE);
         }
-        ui.printTransaction(num, transaction.getDescription(),
-                (transaction.checkDebitCredit() + new DecimalFormat("0.00")
-                        .format(transaction.getAmount())), transaction.getDate(), transaction.getCategory());
+        ui.printTransaction(num, transaction.getDescription(), transaction.getMoney(), transaction.getSpent(),
+                transaction.getLocalDate(), transaction.getCategory());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -194,9 +234,9 @@ public class RecurringExpenditureList {
      */
     public void importRecurringExpenditureToList(Transaction expenditure) {
         if (recurringExpenditures.size() >= MAX_LIST_SIZE) {
-            recurringExpenditures.remove(0);
+            removeRecurringExpenditure(0);
         }
-        recurringExpenditures.add(expenditure);
+        appendRecurringExpenditure(expenditure);
     }
 
     /**
@@ -228,21 +268,16 @@ public class RecurringExpenditureList {
      * @param ui      The object required for printing.
      */
     private void findByDescription(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
         int printCounter = ISZERO;
-        for (int i = ISZERO; i < recurringExpenditures.size(); i++) {
-            Transaction currentExpenditure = recurringExpenditures.get(i);
-            String currentExpenditureDescription = currentExpenditure.getDescription();
-            String capitalCurrentDescription = currentExpenditureDescription.toUpperCase();
-            if (capitalCurrentDescription.contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDDESCRIPTION, ui);
-                printOneTransaction((i + ONE_INDEX), recurringExpenditures.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
+        for (long sequence : descriptionIndex.findSequences(keyword)) {
+            int i = Collections.binarySearch(sequences, sequence);
+            printOneHeaderForFind(printCounter, FINDDESCRIPTION, ui);
+            printOneTransaction((i + ONE_INDEX), recurringExpenditures.get(i), ISMULTIPLE, ui);
+            printCounter++;
         }
         logger.info("Search for recurring expenditure based on description completed");
         if (printCounter == ISZERO) {
-            logger.info("No matches for the description keyword: " + keyword);
+            logger.info(() -> "No matches for the description keyword: " + keyword);
             ui.printMessage("No matches for the description keyword: " + keyword);
         } else {
             ui.printDivider();
@@ -257,21 +292,16 @@ public class RecurringExpenditureList {
      * @param ui      The object required for printing.
      */
     private void findByCategory(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
         int printCounter = ISZERO;
-        for (int i = ISZERO; i < recurringExpenditures.size(); i++) {
-            Transaction currentExpenditure = recurringExpenditures.get(i);
-            String currentExpenditureCategory = currentExpenditure.getCategory();
-            String capitalcurrentCategory = currentExpenditureCategory.toUpperCase();
-            if (capitalcurrentCategory.contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDCATEGORY, ui);
-                printOneTransaction((i + ONE_INDEX), recurringExpenditures.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
+        for (long sequence : categoryIndex.findSequences(keyword)) {
+            int i = Collections.binarySearch(sequences, sequence);
+            printOneHeaderForFind(printCounter, FINDCATEGORY, ui);
+            printOneTransaction((i + ONE_INDEX), recurringExpenditures.get(i), ISMULTIPLE, ui);
+            printCounter++;
         }
         logger.info("Search for recurring expenditure based on category completed");
         if (printCounter == ISZERO) {
-            logger.info("No matches for the category keyword: " + keyword);
+            logger.info(() -> "No matches for the category keyword: " + keyword);
             ui.printMessage("No matches for the category keyword: " + keyword);
         } else {
             ui.printDivider();
@@ -279,6 +309,41 @@ public class RecurringExpenditureList {
         }
     }
 
+    /**
+     * Searches for the recurring expenditures that match with the keywords without printing them.
+     * Only reads the list, so searches of different lists can run on different threads.
+     *
+     * @param sourceName  The name of this recurring expenditure list to show with the matches.
+     * @param description The description keyword to match against.
+     * @param category    The category keyword to match against.
+     * @return The matching recurring expenditures grouped by the keyword they matched.
+     */
+    public TransactionSearchResult searchMatchingRecurringExpenditure(String sourceName, String description,
+            String category) {
+        TransactionSearchResult result = new TransactionSearchResult(sourceName, RECURTRANSTYPE);
+        if (!(description == null || description.isBlank())) {
+            addMatches(result, TransactionSearchResult.FIND_DESCRIPTION, descriptionIndex.findSequences(description));
+        }
+        if (!(category == null || category.isBlank())) {
+            addMatches(result, TransactionSearchResult.FIND_CATEGORY, categoryIndex.findSequences(category));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the recurring expenditures with the sequence numbers to the search result.
+     *
+     * @param result            The search result to add to.
+     * @param findType          The type of keyword matched.
+     * @param matchingSequences The sequence numbers of the matching recurring expenditures.
+     */
+    private void addMatches(TransactionSearchResult result, String findType, List<Long> matchingSequences) {
+        for (long sequence : matchingSequences) {
+            int i = Collections.binarySearch(sequences, sequence);
+            result.addMatch(findType, i + ONE_INDEX, recurringExpenditures.get(i));
+        }
+    }
+
     /**
      * Prints the header to list the found recurring expenditures.
      *
@@ -7,15 +7,18 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Objects;
 import java.util.UUID;
 
+import owlmoney.model.money.Money;
+
 /**
  * Contains the details of a transaction.
  */
 public abstract class Transaction {
 
     private String description;
-    private double amount;
+    private Money amount;
     private Date date;
     private String category;
     private boolean spent;
@@ -32,7 +35,7 @@ public abstract class Transaction {
      */
     public Transaction(String description, double amount, Date date, String category) {
         this.description = description;
-        this.amount = amount;
+        this.amount = Money.fromDouble(amount);
         this.date = date;
         this.category = category;
     }
@@ -48,7 +51,7 @@ public abstract class Transaction {
      */
     public Transaction(String description, double amount, Date date, UUID cardId, YearMonth billDate) {
         this.description = description;
-        this.amount = amount;
+        this.amount = Money.fromDouble(amount);
         this.date = date;
         this.category = "Credit Card";
         this.cardID = cardId;
@@ -79,6 +82,15 @@ public abstract class Transaction {
      * @return The amount of money spent in this transaction.
      */
     public double getAmount() {
+        return this.amount.toDouble();
+    }
+
+    /**
+     * Gets the amount of money spent in this transaction as an exact number of cents.
+     *
+     * @return The amount of money spent in this transaction.
+     */
+    public Money getMoney() {
         return this.amount;
     }
 
@@ -177,6 +189,15 @@ public abstract class Transaction {
      * @param newAmount New amount for the transaction.
      */
     void setAmount(double newAmount) {
+        this.amount = Money.fromDouble(newAmount);
+    }
+
+    /**
+     * Sets the new amount for the transaction as an exact number of cents.
+     *
+     * @param newAmount New amount for the transaction.
+     */
+    void setMoney(Money newAmount) {
         this.amount = newAmount;
     }
 
@@ -224,4 +245,37 @@ public abstract class Transaction {
     public boolean isCardBillTransaction() {
         return getTransactionCardID() != null;
     }
+
+    /**
+     * Checks if another object is a transaction of the same type with the same details.
+     * Transaction lists return a new object every time a transaction is read, so transactions are compared
+     * by their details instead of by identity.
+     *
+     * @param other The object to compare with.
+     * @return True if the other object is a transaction of the same type with the same details.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Transaction transaction = (Transaction) other;
+        return amount.equals(transaction.amount) && spent == transaction.spent
+                && Objects.equals(description, transaction.description) && Objects.equals(date, transaction.date)
+                && Objects.equals(category, transaction.category) && Objects.equals(cardID, transaction.cardID)
+                && Objects.equals(billDate, transaction.billDate);
+    }
+
+    /**
+     * Gets the hash code of the details of the transaction.
+     *
+     * @return The hash code of the transaction.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(description, amount, date, category, spent, cardID, billDate);
+    }
 }
@@ -0,0 +1,131 @@
+package owlmoney.model.transaction;
+
+import java.util.Arrays;
+
+/**
+ * Indexes the transactions of a transaction list by date so that date ranges are found by binary search.
+ * Transactions are identified by the sequence number given when they were added to the list,
+ * which increases in the same order as their position in the list.
+ * The index keeps the days and sequence numbers in two primitive arrays sorted by day and then by sequence
+ * number, so transactions added in date order are appended to the end without shifting any entries.
+ */
+class TransactionDateIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] epochDays;
+    private long[] sequences;
+    private int size;
+
+    /**
+     * Creates an empty date index.
+     */
+    TransactionDateIndex() {
+        epochDays = new long[MIN_CAPACITY];
+        sequences = new long[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds a transaction to the index.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param epochDay the date of the transaction in days since the epoch.
+     */
+    void add(long sequence, long epochDay) {
+        int position = findPosition(epochDay, sequence);
+        if (position >= 0) {
+            return;
+        }
+        position = -(position + 1);
+        if (size == epochDays.length) {
+            epochDays = Arrays.copyOf(epochDays, size * 2);
+            sequences = Arrays.copyOf(sequences, size * 2);
+        }
+        System.arraycopy(epochDays, position, epochDays, position + 1, size - position);
+        System.arraycopy(sequences, position, sequences, position + 1, size - position);
+        epochDays[position] = epochDay;
+        sequences[position] = sequence;
+        size++;
+    }
+
+    /**
+     * Removes a transaction from the index.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param epochDay the date the transaction was indexed under in days since the epoch.
+     */
+    void remove(long sequence, long epochDay) {
+        int position = findPosition(epochDay, sequence);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(epochDays, position + 1, epochDays, position, size - position - 1);
+        System.arraycopy(sequences, position + 1, sequences, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Moves a transaction to a new date in the index.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param previousEpochDay the date the transaction was indexed under in days since the epoch.
+     * @param epochDay the new date of the transaction in days since the epoch.
+     */
+    void update(long sequence, long previousEpochDay, long epochDay) {
+        remove(sequence, previousEpochDay);
+        add(sequence, epochDay);
+    }
+
+    /**
+     * Finds the transactions dated within the range, in the order of their position in the list.
+     *
+     * @param fromDay the first day of the range in days since the epoch.
+     * @param toDay the last day of the range in days since the epoch.
+     * @return the sequence numbers of the transactions in ascending order.
+     */
+    long[] findSequences(long fromDay, long toDay) {
+        if (fromDay > toDay) {
+            return new long[0];
+        }
+        int from = -(findPosition(fromDay, Long.MIN_VALUE) + 1);
+        int to = -(findPosition(toDay, Long.MAX_VALUE) + 1);
+        long[] matches = Arrays.copyOfRange(sequences, from, to);
+        Arrays.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Gets the number of transactions in the index.
+     *
+     * @return the number of transactions.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds an entry in the sorted arrays by binary search.
+     * The sequence numbers Long.MIN_VALUE and Long.MAX_VALUE are never stored,
+     * so they find the first and the past-the-last position of a day.
+     *
+     * @param epochDay the day of the entry in days since the epoch.
+     * @param sequence the sequence number of the entry.
+     * @return the position of the entry, or -(insertion position + 1) if it is not in the index.
+     */
+    private int findPosition(long epochDay, long sequence) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = epochDays[middle] != epochDay ? Long.compare(epochDays[middle], epochDay)
+                    : Long.compare(sequences[middle], sequence);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
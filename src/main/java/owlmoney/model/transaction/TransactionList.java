@@ -3,16 +3,23 @@ package owlmoney.model.transaction;
 import static owlmoney.commons.log.LogsCenter.getLogger;
 
 import java.text.DateFormat;
-import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
+import owlmoney.model.money.Money;
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.FileSplice;
 import owlmoney.ui.Ui;
 
 /**
@@ -20,7 +27,15 @@ import owlmoney.ui.Ui;
  */
 public class TransactionList {
 
-    private ArrayList<Transaction> transactionLists;
+    private ColumnarTransactionStore transactionLists;
+    private TransactionDateIndex dateIndex;
+    private TransactionMonthlyTotals monthlyTotals;
+    private TransactionTextIndex descriptionIndex;
+    private TransactionTextIndex categoryIndex;
+    private long nextSequence;
+    private final ArrayList<RowChange> pendingChanges = new ArrayList<>();
+    private String exportedFileName;
+    private boolean isChangedSinceSizeRecorded;
     private static final int ONE_INDEX = 1;
     private static final String TRANSTYPE = "transaction";
     private static final String ITEMTYPE = "item";
@@ -28,18 +43,213 @@ public class TransactionList {
     private static final boolean ISSINGLE = false;
     private static final int MAX_LIST_SIZE = 2000;
     private static final int ISZERO = 0;
+    private static final int NOT_FOUND = -1;
     private static final String FINDDESCRIPTION = "description";
     private static final String FINDCATEGORY = "category";
     private static final String FINDDATE = "date range";
-    private static final int OBJ_DOES_NOT_EXIST = -1;
     private static final Logger logger = getLogger(TransactionList.class);
+    private static final Histogram LIST_SIZE = MetricsCenter.getHistogram("transactionList.size", "rows");
     private static final String CREDIT_CARD_BILL = "Credit Card";
+    private static final int HEADER_ROWS = 1;
+    private static final int MAX_PENDING_CHANGES = 100;
 
     /**
-     * Creates an instance of Transaction list that contains an ArrayList of expenditures and deposits.
+     * Describes rows of the list deleted at a position and the transactions inserted in their place.
+     */
+    private static final class RowChange {
+        private final int position;
+        private int deleteCount;
+        private final ArrayList<Transaction> insertedTransactions = new ArrayList<>();
+
+        /**
+         * Creates a change that deletes rows at a position.
+         *
+         * @param position the position of the first row changed, starting from 0.
+         * @param deleteCount the number of rows deleted.
+         */
+        private RowChange(int position, int deleteCount) {
+            this.position = position;
+            this.deleteCount = deleteCount;
+        }
+    }
+
+    /**
+     * Creates an instance of Transaction list that stores expenditures and deposits column by column.
      */
     public TransactionList() {
-        transactionLists = new ArrayList<Transaction>();
+        transactionLists = new ColumnarTransactionStore(MAX_LIST_SIZE);
+        dateIndex = new TransactionDateIndex();
+        monthlyTotals = new TransactionMonthlyTotals();
+        descriptionIndex = new TransactionTextIndex(transactionLists::size, transactionLists::getSequence,
+                transactionLists::getDescription);
+        categoryIndex = new TransactionTextIndex(transactionLists::size, transactionLists::getSequence,
+                transactionLists::getCategory);
+    }
+
+    /**
+     * Appends a transaction to the end of the list, indexes its date, description and category,
+     * and adds it to the monthly totals.
+     *
+     * @param transaction the transaction to append.
+     */
+    private void appendTransaction(Transaction transaction) {
+        long sequence = nextSequence++;
+        transactionLists.add(transaction, sequence);
+        dateIndex.add(sequence, transaction.getLocalDate().toEpochDay());
+        monthlyTotals.add(transaction);
+        descriptionIndex.add(sequence, transaction.getDescription());
+        categoryIndex.add(sequence, transaction.getCategory());
+        recordChange(transactionLists.size() - ONE_INDEX, ISZERO, true);
+    }
+
+    /**
+     * Removes a transaction from the list, its indexes and the monthly totals.
+     *
+     * @param index the position of the transaction in the list, starting from 0.
+     */
+    private void removeTransaction(int index) {
+        unindexTransaction(index);
+        transactionLists.removeRow(index);
+        recordChange(index, ONE_INDEX, false);
+    }
+
+    /**
+     * Removes several transactions from the list, their indexes and the monthly totals in a single pass.
+     *
+     * @param indices the positions of the transactions in ascending order, starting from 0.
+     */
+    private void removeTransactions(int[] indices) {
+        for (int i = ISZERO; i < indices.length; i++) {
+            unindexTransaction(indices[i]);
+            recordChange(indices[i] - i, ONE_INDEX, false);
+        }
+        transactionLists.removeRows(indices);
+    }
+
+    /**
+     * Removes a transaction still in the list from its indexes and the monthly totals,
+     * reading its details straight from the columns.
+     *
+     * @param index the position of the transaction in the list, starting from 0.
+     */
+    private void unindexTransaction(int index) {
+        long sequence = transactionLists.getSequence(index);
+        long epochDay = transactionLists.getEpochDay(index);
+        descriptionIndex.remove(sequence, transactionLists.getDescription(index));
+        categoryIndex.remove(sequence, transactionLists.getCategory(index));
+        monthlyTotals.remove(epochDay, transactionLists.isSpent(index), transactionLists.getAmountCents(index));
+        dateIndex.remove(sequence, epochDay);
+    }
+
+    /**
+     * Records a change to the rows of the list so that only the changed rows are exported.
+     * Consecutive insertions and consecutive deletions at the same position are merged into one change.
+     * Changes are only recorded while the list is known to match its exported file, and once too many
+     * changes are pending the whole list is exported instead.
+     *
+     * @param index the position of the first row changed, starting from 0.
+     * @param deleteCount the number of rows deleted.
+     * @param isInserted true if the transaction now at the position was inserted after the deleted rows.
+     */
+    private void recordChange(int index, int deleteCount, boolean isInserted) {
+        isChangedSinceSizeRecorded = true;
+        if (exportedFileName == null) {
+            return;
+        }
+        RowChange lastChange = pendingChanges.isEmpty() ? null : pendingChanges.get(pendingChanges.size() - 1);
+        boolean isMerged = lastChange != null && (isInserted
+                ? deleteCount == ISZERO && lastChange.position + lastChange.insertedTransactions.size() == index
+                : lastChange.insertedTransactions.isEmpty() && lastChange.position == index);
+        if (!isMerged) {
+            if (pendingChanges.size() >= MAX_PENDING_CHANGES) {
+                pendingChanges.clear();
+                exportedFileName = null;
+                return;
+            }
+            lastChange = new RowChange(index, ISZERO);
+            pendingChanges.add(lastChange);
+        }
+        lastChange.deleteCount += deleteCount;
+        if (isInserted) {
+            lastChange.insertedTransactions.add(transactionLists.get(index));
+        }
+    }
+
+    /**
+     * Gets the changes to the rows of the exported file of the list since it was last exported.
+     *
+     * @param fileName name of the file the list is exported to.
+     * @param rowExporter prepares the row of the file for a transaction.
+     * @return the changes in the order they were made, or null if the whole list must be exported
+     *     because the file does not match the list as last exported.
+     */
+    public List<FileSplice> getExportChanges(String fileName, Function<Transaction, String[]> rowExporter) {
+        if (!fileName.equals(exportedFileName)) {
+            return null;
+        }
+        List<FileSplice> splices = new ArrayList<>(pendingChanges.size());
+        for (RowChange change : pendingChanges) {
+            List<String[]> insertedRows = new ArrayList<>(change.insertedTransactions.size());
+            for (Transaction transaction : change.insertedTransactions) {
+                insertedRows.add(rowExporter.apply(transaction));
+            }
+            splices.add(new FileSplice(change.position + HEADER_ROWS, change.deleteCount, insertedRows));
+        }
+        return splices;
+    }
+
+    /**
+     * Records that the list has been exported to the file, so that only later changes are exported next time.
+     *
+     * @param fileName name of the file the list was exported to.
+     */
+    public void setExported(String fileName) {
+        pendingChanges.clear();
+        exportedFileName = fileName;
+        recordSize();
+    }
+
+    /**
+     * Records the number of transactions in the list in the list size metric, if the list changed since
+     * its size was last recorded. Called once the list has been imported and whenever the list is exported
+     * after a command, so that each list is sampled once rather than once per transaction added.
+     */
+    public void recordSize() {
+        if (!isChangedSinceSizeRecorded) {
+            return;
+        }
+        LIST_SIZE.record(transactionLists.size());
+        isChangedSinceSizeRecorded = false;
+    }
+
+    /**
+     * Updates the date index after the date of a transaction has been edited.
+     *
+     * @param index the position of the transaction in the list, starting from 0.
+     * @param previousEpochDay the date of the transaction before the edit in days since the epoch.
+     */
+    private void reindexTransactionDate(int index, long previousEpochDay) {
+        dateIndex.update(transactionLists.getSequence(index), previousEpochDay, transactionLists.getEpochDay(index));
+    }
+
+    /**
+     * Gets the position of a transaction in the list from its sequence number.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @return the position of the transaction in the list, starting from 0.
+     */
+    private int getPositionOfSequence(long sequence) {
+        return transactionLists.indexOfSequence(sequence);
+    }
+
+    /**
+     * Converts a date to days since the epoch in the same time zone used for transaction dates.
+     *
+     * @param date the date to convert.
+     * @return the number of days since the epoch.
+     */
+    private long toEpochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
     }
 
     /**
@@ -56,7 +266,7 @@ public class TransactionList {
             int counter = expendituresToDisplay;
             boolean expenditureExist = false;
             for (int i = transactionLists.size() - ONE_INDEX; i >= ISZERO; i--) {
-                if (transactionLists.get(i).getSpent()) {
+                if (transactionLists.isSpent(i)) {
                     printOneHeader(counter, expendituresToDisplay, ui);
                     printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
                     counter--;
@@ -91,7 +301,7 @@ public class TransactionList {
             int counter = depositsToDisplay;
             boolean depositExist = false;
             for (int i = transactionLists.size() - ONE_INDEX; i >= ISZERO; i--) {
-                if (!transactionLists.get(i).getSpent()) {
+                if (!transactionLists.isSpent(i)) {
                     printOneHeader(counter, depositsToDisplay, ui);
                     printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
                     counter--;
@@ -120,10 +330,10 @@ public class TransactionList {
      */
     public void addExpenditureToList(Transaction newExpenditure, Ui ui, String type) {
         if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+            removeTransaction(0);
             logger.info("Max limit of 2000 transactions hit. Deleted earliest transaction");
         }
-        transactionLists.add(newExpenditure);
+        appendTransaction(newExpenditure);
         if (!"bonds".equals(type)) {
             ui.printMessage("Added expenditure with the following details:");
             printOneTransaction(ONE_INDEX, newExpenditure, ISSINGLE, ui);
@@ -133,19 +343,41 @@ public class TransactionList {
 
     /**
      * Adds an expenditure to the TransactionList and do not print UI.
-     * Called by Card transferExpUnpaidToPaid() only.
      *
      * @param expenditure an instance of an expenditure.
      */
     public void addExpenditureToList(Transaction expenditure, String type) {
         if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+            removeTransaction(0);
             logger.info("Max limit of 2000 transactions hit. Deleted earliest transaction");
         }
-        transactionLists.add(expenditure);
+        appendTransaction(expenditure);
         logger.info("Expenditure added");
     }
 
+    /**
+     * Adds transactions generated for missed periods to the TransactionList at once without printing them.
+     * Transactions that would be evicted by the later ones to stay within the size limit are never added.
+     *
+     * @param newTransactions the transactions to add, from the earliest.
+     */
+    public void addTransactionsToList(List<Transaction> newTransactions) {
+        int firstKept = Math.max(ISZERO, newTransactions.size() - MAX_LIST_SIZE);
+        int numberEvicted = Math.max(ISZERO, transactionLists.size() + newTransactions.size() - firstKept
+                - MAX_LIST_SIZE);
+        for (int i = ISZERO; i < numberEvicted; i++) {
+            removeTransaction(ISZERO);
+        }
+        for (int i = firstKept; i < newTransactions.size(); i++) {
+            appendTransaction(newTransactions.get(i));
+        }
+        if (numberEvicted > ISZERO) {
+            logger.info(() -> "Max limit of 2000 transactions hit. Deleted " + numberEvicted
+                    + " earliest transactions");
+        }
+        logger.info(() -> "Added " + (newTransactions.size() - firstKept) + " transactions");
+    }
+
     /**
      * Adds a deposit to the TransactionList.
      *
@@ -154,10 +386,10 @@ public class TransactionList {
      */
     public void addDepositToList(Transaction newDeposit, Ui ui, String bankType) {
         if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+            removeTransaction(0);
             logger.info("Max limit of 2000 transactions hit. Deleted earliest transaction");
         }
-        transactionLists.add(newDeposit);
+        appendTransaction(newDeposit);
         if ("bank".equals(bankType) || "savings transfer".equals(bankType)
                 || "investment transfer".equals(bankType)) {
             ui.printMessage("Added deposit with the following details:");
@@ -180,22 +412,22 @@ public class TransactionList {
             throw new TransactionException("There are no transactions in this bank account");
         }
         if ((index - ONE_INDEX) >= ISZERO && (index - ONE_INDEX) < transactionLists.size()) {
-            if (!transactionLists.get(index - 1).getSpent()) {
+            if (!transactionLists.isSpent(index - 1)) {
                 logger.warning("The transaction is a deposit");
                 throw new TransactionException("The transaction is a deposit");
-            } else if (isCardBill && !CREDIT_CARD_BILL.equals(transactionLists.get(index - 1).getCategory())) {
+            } else if (isCardBill && !CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - 1))) {
                 logger.warning("The transaction is not a credit card bill expenditure. Please use"
                         + " the /delete /bankexpenditure function");
                 throw new TransactionException("The transaction is not a credit card bill expenditure. Please use"
                         + "the /delete /bankexpenditure function");
-            } else if (!isCardBill && CREDIT_CARD_BILL.equals(transactionLists.get(index - 1).getCategory())) {
+            } else if (!isCardBill && CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - 1))) {
                 logger.warning("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
                 throw new TransactionException("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
             } else {
                 Transaction temp = transactionLists.get(index - ONE_INDEX);
-                transactionLists.remove(index - ONE_INDEX);
+                removeTransaction(index - ONE_INDEX);
                 ui.printMessage("Details of deleted Expenditure:");
                 printOneTransaction(ONE_INDEX, temp, ISSINGLE, ui);
                 logger.info("Deleted expenditure");
@@ -209,7 +441,6 @@ public class TransactionList {
 
     /**
      * Deletes an expenditure to the TransactionList and do not print UI.
-     * Called by Card transferExpUnpaidToPaid() only.
      *
      * @param index index of the expenditure in the TransactionList.
      * @throws TransactionException If invalid transaction.
@@ -220,12 +451,12 @@ public class TransactionList {
             throw new TransactionException("There are no transactions in this bank account");
         }
         if ((index - ONE_INDEX) >= ISZERO && (index - ONE_INDEX) < transactionLists.size()) {
-            if (!transactionLists.get(index - 1).getSpent()) {
+            if (!transactionLists.isSpent(index - 1)) {
                 logger.warning("The transaction is a deposit");
                 throw new TransactionException("The transaction is a deposit");
             } else {
                 Transaction temp = transactionLists.get(index - ONE_INDEX);
-                transactionLists.remove(index - ONE_INDEX);
+                removeTransaction(index - ONE_INDEX);
                 logger.info("Expenditure deleted");
                 return temp.getAmount();
             }
@@ -250,29 +481,47 @@ public class TransactionList {
     public double editExpenditure(
             int expenditureIndex, String description, String amount, String date, String category, Ui ui)
             throws TransactionException {
-        if (!(description == null || description.isBlank())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setDescription(description);
-        }
-        if (!(amount == null || amount.isBlank())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
-        }
-        if (!(date == null || date.isBlank())) {
-            DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
-            try {
-                transactionLists.get(expenditureIndex - ONE_INDEX).setDate(temp.parse(date));
-            } catch (ParseException e) {
-                //check handled in ParseEditExpenditure
-                logger.warning("Error converting date");
-                throw new TransactionException(e.toString());
+        Transaction expenditure = transactionLists.get(expenditureIndex - ONE_INDEX);
+        long previousEpochDay = transactionLists.getEpochDay(expenditureIndex - ONE_INDEX);
+        monthlyTotals.remove(expenditure);
+        boolean isDateEdited = false;
+        try {
+            if (!(description == null || description.isBlank())) {
+                expenditure.setDescription(description);
+                descriptionIndex.update(transactionLists.getSequence(expenditureIndex - ONE_INDEX),
+                        transactionLists.getDescription(expenditureIndex - ONE_INDEX), description);
             }
-        }
-        if (!(category == null || category.isBlank())) {
-            transactionLists.get(expenditureIndex - ONE_INDEX).setCategory(category);
+            if (!(amount == null || amount.isBlank())) {
+                expenditure.setAmount(Double.parseDouble(amount));
+            }
+            if (!(date == null || date.isBlank())) {
+                DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+                try {
+                    expenditure.setDate(temp.parse(date));
+                    isDateEdited = true;
+                } catch (ParseException e) {
+                    //check handled in ParseEditExpenditure
+                    logger.warning("Error converting date");
+                    throw new TransactionException(e.toString());
+                }
+            }
+            if (!(category == null || category.isBlank())) {
+                expenditure.setCategory(category);
+                categoryIndex.update(transactionLists.getSequence(expenditureIndex - ONE_INDEX),
+                        transactionLists.getCategory(expenditureIndex - ONE_INDEX), category);
+            }
+        } finally {
+            transactionLists.set(expenditureIndex - ONE_INDEX, expenditure);
+            if (isDateEdited) {
+                reindexTransactionDate(expenditureIndex - ONE_INDEX, previousEpochDay);
+            }
+            recordChange(expenditureIndex - ONE_INDEX, ONE_INDEX, true);
+            monthlyTotals.add(expenditure);
         }
         logger.info("Expenditure edited");
         ui.printMessage("Edited details of the specified expenditure:");
         printOneTransaction(ONE_INDEX, transactionLists.get(expenditureIndex - ONE_INDEX), ISSINGLE, ui);
-        return transactionLists.get(expenditureIndex - ONE_INDEX).getAmount();
+        return transactionLists.getAmount(expenditureIndex - ONE_INDEX);
     }
 
     /**
@@ -288,26 +537,42 @@ public class TransactionList {
      */
     public double editDeposit(int depositIndex, String description, String amount, String date, Ui ui)
             throws TransactionException {
-        if (!(description == null || description.isBlank())) {
-            transactionLists.get(depositIndex - ONE_INDEX).setDescription(description);
-        }
-        if (!(amount == null || amount.isBlank())) {
-            transactionLists.get(depositIndex - ONE_INDEX).setAmount(Double.parseDouble(amount));
-        }
-        if (!(date == null || date.isBlank())) {
-            DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
-            try {
-                transactionLists.get(depositIndex - ONE_INDEX).setDate(temp.parse(date));
-            } catch (ParseException e) {
-                //check handled in ParseEditExpenditure
-                logger.warning("Error converting date");
-                throw new TransactionException(e.toString());
+        Transaction deposit = transactionLists.get(depositIndex - ONE_INDEX);
+        long previousEpochDay = transactionLists.getEpochDay(depositIndex - ONE_INDEX);
+        monthlyTotals.remove(deposit);
+        boolean isDateEdited = false;
+        try {
+            if (!(description == null || description.isBlank())) {
+                deposit.setDescription(description);
+                descriptionIndex.update(transactionLists.getSequence(depositIndex - ONE_INDEX),
+                        transactionLists.getDescription(depositIndex - ONE_INDEX), description);
+            }
+            if (!(amount == null || amount.isBlank())) {
+                deposit.setAmount(Double.parseDouble(amount));
             }
+            if (!(date == null || date.isBlank())) {
+                DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+                try {
+                    deposit.setDate(temp.parse(date));
+                    isDateEdited = true;
+                } catch (ParseException e) {
+                    //check handled in ParseEditExpenditure
+                    logger.warning("Error converting date");
+                    throw new TransactionException(e.toString());
+                }
+            }
+        } finally {
+            transactionLists.set(depositIndex - ONE_INDEX, deposit);
+            if (isDateEdited) {
+                reindexTransactionDate(depositIndex - ONE_INDEX, previousEpochDay);
+            }
+            recordChange(depositIndex - ONE_INDEX, ONE_INDEX, true);
+            monthlyTotals.add(deposit);
         }
         logger.info("Deposit edited");
         ui.printMessage("Edited details of the specified deposits:");
         printOneTransaction(ONE_INDEX, transactionLists.get(depositIndex - ONE_INDEX), ISSINGLE, ui);
-        return transactionLists.get(depositIndex - ONE_INDEX).getAmount();
+        return transactionLists.getAmount(depositIndex - ONE_INDEX);
     }
 
     /**
@@ -323,22 +588,22 @@ public class TransactionList {
             throw new TransactionException("There are no transactions in this bank account");
         }
         if ((index - ONE_INDEX) >= ISZERO && (index - ONE_INDEX) < transactionLists.size()) {
-            if (!transactionLists.get(index - ONE_INDEX).getSpent()) {
+            if (!transactionLists.isSpent(index - ONE_INDEX)) {
                 logger.warning("The transaction is a deposit");
                 throw new TransactionException("The transaction is a deposit");
-            } else if (CREDIT_CARD_BILL.equals(transactionLists.get(index - ONE_INDEX).getCategory())
+            } else if (CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - ONE_INDEX))
                     && !isCardBill) {
                 logger.warning("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
                 throw new TransactionException("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
-            } else if (!CREDIT_CARD_BILL.equals(transactionLists.get(index - ONE_INDEX).getCategory())
+            } else if (!CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - ONE_INDEX))
                     && isCardBill) {
                 logger.warning("The transaction is not a credit card bill");
                 throw new TransactionException("The transaction is not a credit card bill");
             } else {
                 logger.info("Obtained expenditure amount");
-                return transactionLists.get(index - ONE_INDEX).getAmount();
+                return transactionLists.getAmount(index - ONE_INDEX);
             }
         } else {
             logger.info("Index is out of transaction list range");
@@ -355,7 +620,7 @@ public class TransactionList {
      */
     public double deleteDepositFromList(int index, Ui ui) {
         Transaction temp = transactionLists.get(index - ONE_INDEX);
-        transactionLists.remove(index - ONE_INDEX);
+        removeTransaction(index - ONE_INDEX);
         ui.printMessage("Details of deleted deposit:");
         printOneTransaction(ONE_INDEX, temp, ISSINGLE, ui);
         logger.info("Deposit deleted");
@@ -376,20 +641,20 @@ public class TransactionList {
             throw new TransactionException("There are no transactions in this bank account");
         }
         if ((index - ONE_INDEX) >= ISZERO && (index - ONE_INDEX) < transactionLists.size()) {
-            if (transactionLists.get(index - ONE_INDEX).getSpent()) {
+            if (transactionLists.isSpent(index - ONE_INDEX)) {
                 logger.warning("The transaction is not a deposit");
                 throw new TransactionException("The transaction is not a deposit");
-            } else if (isCardBill && !CREDIT_CARD_BILL.equals(transactionLists.get(index - ONE_INDEX).getCategory())) {
+            } else if (isCardBill && !CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - ONE_INDEX))) {
                 logger.warning("The transaction is not a credit card bill expenditure.");
                 throw new TransactionException("The transaction is not a credit card bill expenditure.");
-            } else if (!isCardBill && CREDIT_CARD_BILL.equals(transactionLists.get(index - ONE_INDEX).getCategory())) {
+            } else if (!isCardBill && CREDIT_CARD_BILL.equals(transactionLists.getCategory(index - ONE_INDEX))) {
                 logger.warning("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
                 throw new TransactionException("The transaction is a credit card bill. Please use the "
                         + "/delete /cardbill function to revert credit card payment");
             } else {
                 logger.info("Obtained deposit value");
-                return transactionLists.get(index - ONE_INDEX).getAmount();
+                return transactionLists.getAmount(index - ONE_INDEX);
             }
         } else {
             logger.warning("Index is out of transaction list range");
@@ -410,9 +675,8 @@ public class TransactionList {
         if (!isMultiplePrinting) {
             ui.printTransactionHeader(ITEMTYPE);
         }
-        ui.printTransaction(num, transaction.getDescription(),
-                (transaction.checkDebitCredit() + new DecimalFormat("0.00")
-                        .format(transaction.getAmount())), transaction.getDate(), transaction.getCategory());
+        ui.printTransaction(num, transaction.getDescription(), transaction.getMoney(), transaction.getSpent(),
+                transaction.getLocalDate(), transaction.getCategory());
         if (!isMultiplePrinting) {
             ui.printDivider();
         }
@@ -439,15 +703,17 @@ public class TransactionList {
      * @return Total amount spent in the particular month of the year.
      */
     public double getMonthAmountSpent(int month, int year) {
-        double totalAmount = 0;
-        for (int i = 0; i < transactionLists.size(); i++) {
-            LocalDate date = transactionLists.get(i).getLocalDate();
-            int expenditureMonth = date.getMonthValue();
-            int expenditureYear = date.getYear();
-            if (expenditureMonth == month && expenditureYear == year) {
-                totalAmount += transactionLists.get(i).getAmount();
-            }
-        }
+        return getMonthMoneySpent(YearMonth.of(year, month)).toDouble();
+    }
+
+    /**
+     * Returns the exact total amount spent in a particular month of a year.
+     *
+     * @param yearMonth Month to check total amount spent.
+     * @return Total amount spent in the particular month of the year.
+     */
+    public Money getMonthMoneySpent(YearMonth yearMonth) {
+        Money totalAmount = monthlyTotals.getSpent(yearMonth);
         logger.info("Obtained month amount spent");
         return totalAmount;
     }
@@ -459,7 +725,7 @@ public class TransactionList {
      * @return Transaction month.
      */
     public int getTransactionMonthByIndex(int expenditureNumber) {
-        return transactionLists.get(expenditureNumber - 1).getLocalDate().getMonthValue();
+        return LocalDate.ofEpochDay(transactionLists.getEpochDay(expenditureNumber - 1)).getMonthValue();
     }
 
     /**
@@ -469,7 +735,7 @@ public class TransactionList {
      * @return Transaction year.
      */
     public int getTransactionYearByIndex(int expenditureNumber) {
-        return transactionLists.get(expenditureNumber - 1).getLocalDate().getYear();
+        return LocalDate.ofEpochDay(transactionLists.getEpochDay(expenditureNumber - 1)).getYear();
     }
 
     /**
@@ -515,21 +781,16 @@ public class TransactionList {
      * @param ui The object required for printing.
      */
     private void findByDescription(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
         int printCounter = 0;
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            Transaction currentExpenditure = transactionLists.get(i);
-            String currentExpenditureDescription = currentExpenditure.getDescription();
-            String capitalcurrentDescription = currentExpenditureDescription.toUpperCase();
-            if (capitalcurrentDescription.contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDDESCRIPTION, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
+        for (long sequence : descriptionIndex.findSequences(keyword)) {
+            int i = getPositionOfSequence(sequence);
+            printOneHeaderForFind(printCounter, FINDDESCRIPTION, ui);
+            printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
+            printCounter++;
         }
         logger.info("Search for transaction based on description completed");
         if (printCounter == 0) {
-            logger.info("No matches for the description keyword: " + keyword);
+            logger.info(() -> "No matches for the description keyword: " + keyword);
             ui.printMessage("No matches for the description keyword: " + keyword);
         } else {
             ui.printDivider();
@@ -544,21 +805,16 @@ public class TransactionList {
      * @param ui The object required for printing.
      */
     private void findByCategory(String keyword, Ui ui) {
-        String matchingKeyword = keyword.toUpperCase();
         int printCounter = 0;
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            Transaction currentExpenditure = transactionLists.get(i);
-            String currentExpenditureCategory = currentExpenditure.getCategory();
-            String capitalcurrentCategory = currentExpenditureCategory.toUpperCase();
-            if (capitalcurrentCategory.contains(matchingKeyword)) {
-                printOneHeaderForFind(printCounter, FINDCATEGORY, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
+        for (long sequence : categoryIndex.findSequences(keyword)) {
+            int i = getPositionOfSequence(sequence);
+            printOneHeaderForFind(printCounter, FINDCATEGORY, ui);
+            printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
+            printCounter++;
         }
         logger.info("Search for transaction based on category completed");
         if (printCounter == 0) {
-            logger.info("No matches for the category keyword: " + keyword);
+            logger.info(() -> "No matches for the category keyword: " + keyword);
             ui.printMessage("No matches for the category keyword: " + keyword);
         } else {
             ui.printDivider();
@@ -577,6 +833,31 @@ public class TransactionList {
      */
     private void findByDate(String fromDate, String toDate, Ui ui) throws TransactionException {
         int printCounter = 0;
+        for (long sequence : findSequencesByDate(fromDate, toDate)) {
+            int i = getPositionOfSequence(sequence);
+            printOneHeaderForFind(printCounter, FINDDATE, ui);
+            printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
+            printCounter++;
+        }
+        logger.info("Search for transaction based on date range completed");
+        if (printCounter == 0) {
+            logger.info(() -> "No matches for the date range specified: " + fromDate + " to " + toDate);
+            ui.printMessage("No matches for the date range specified: " + fromDate + " to " + toDate);
+        } else {
+            ui.printDivider();
+            logger.info("Successfully found matching transaction based on date range");
+        }
+    }
+
+    /**
+     * Finds the sequence numbers of the transactions that fall within the date range.
+     *
+     * @param fromDate The date to search from.
+     * @param toDate The date to search until.
+     * @return The sequence numbers of the matching transactions in list order.
+     * @throws TransactionException If parsing of date fails.
+     */
+    private long[] findSequencesByDate(String fromDate, String toDate) throws TransactionException {
         Date from;
         Date to;
         DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
@@ -587,27 +868,74 @@ public class TransactionList {
             logger.warning(error.toString());
             throw new TransactionException(error.toString());
         }
-        for (int i = ISZERO; i < transactionLists.size(); i++) {
-            Date beforeFromDate = transactionLists.get(i).getDateInDateFormat();
-            boolean isBeforeFromDate = beforeFromDate.before(from);
-            Date afterToDate = transactionLists.get(i).getDateInDateFormat();
-            boolean isAfterToDate = afterToDate.after(to);
-            if (!isBeforeFromDate && !isAfterToDate) {
-                printOneHeaderForFind(printCounter, FINDDATE, ui);
-                printOneTransaction((i + ONE_INDEX), transactionLists.get(i), ISMULTIPLE, ui);
-                printCounter++;
-            }
+        return dateIndex.findSequences(toEpochDay(from), toEpochDay(to));
+    }
+
+    /**
+     * Searches for the transactions that match with the keywords without printing them.
+     * Only reads the list, so searches of different lists can run on different threads.
+     *
+     * @param sourceName The name of this transaction list to show with the matches.
+     * @param fromDate The date to search from.
+     * @param toDate The date to search until.
+     * @param description The description keyword to match against.
+     * @param category The category keyword to match against.
+     * @return The matching transactions grouped by the keyword they matched.
+     * @throws TransactionException If parsing of date fails.
+     */
+    public TransactionSearchResult searchMatchingTransaction(String sourceName, String fromDate, String toDate,
+            String description, String category) throws TransactionException {
+        TransactionSearchResult result = new TransactionSearchResult(sourceName, TRANSTYPE);
+        if (!(description == null || description.isBlank())) {
+            addMatches(result, TransactionSearchResult.FIND_DESCRIPTION, descriptionIndex.findSequences(description));
         }
-        logger.info("Search for transaction based on date range completed");
-        if (printCounter == 0) {
-            logger.info("No matches for the date range specified: " + fromDate + " to " + toDate);
-            ui.printMessage("No matches for the date range specified: " + fromDate + " to " + toDate);
-        } else {
-            ui.printDivider();
-            logger.info("Successfully found matching transaction based on date range");
+        if (!(category == null || category.isBlank())) {
+            addMatches(result, TransactionSearchResult.FIND_CATEGORY, categoryIndex.findSequences(category));
+        }
+        if (!(fromDate == null || fromDate.isBlank())) {
+            addMatches(result, TransactionSearchResult.FIND_DATE, findSequencesByDate(fromDate, toDate));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the transactions with the sequence numbers to the search result.
+     *
+     * @param result The search result to add to.
+     * @param findType The type of keyword matched.
+     * @param matchingSequences The sequence numbers of the matching transactions.
+     */
+    private void addMatches(TransactionSearchResult result, String findType, List<Long> matchingSequences) {
+        for (long sequence : matchingSequences) {
+            addMatch(result, findType, sequence);
         }
     }
 
+    /**
+     * Adds the transactions with the sequence numbers to the search result.
+     *
+     * @param result The search result to add to.
+     * @param findType The type of keyword matched.
+     * @param matchingSequences The sequence numbers of the matching transactions.
+     */
+    private void addMatches(TransactionSearchResult result, String findType, long[] matchingSequences) {
+        for (long sequence : matchingSequences) {
+            addMatch(result, findType, sequence);
+        }
+    }
+
+    /**
+     * Adds the transaction with the sequence number to the search result.
+     *
+     * @param result The search result to add to.
+     * @param findType The type of keyword matched.
+     * @param sequence The sequence number of the matching transaction.
+     */
+    private void addMatch(TransactionSearchResult result, String findType, long sequence) {
+        int i = getPositionOfSequence(sequence);
+        result.addMatch(findType, i + ONE_INDEX, transactionLists.get(i));
+    }
+
     /**
      * Prints the header to list the found transactions.
      *
@@ -639,6 +967,23 @@ public class TransactionList {
         return transactionLists.get(transactionIndex);
     }
 
+    /**
+     * Finds the card bill expenditure or deposit of the card for the month by scanning the columns of the list.
+     *
+     * @param cardId The id of the card.
+     * @param billDate The month of the card bill.
+     * @param isSpent Whether to find the bill expenditure rather than the rebate deposit.
+     * @return The position of the first matching transaction starting from 0, or -1 if there is none.
+     */
+    public int findCardBillTransaction(UUID cardId, YearMonth billDate, boolean isSpent) {
+        for (int i = ISZERO; i < transactionLists.size(); i++) {
+            if (transactionLists.isSpent(i) == isSpent && transactionLists.isCardBill(i, cardId, billDate)) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
     /**
      * Adds an expenditure to the TransactionList.
      *
@@ -646,9 +991,9 @@ public class TransactionList {
      */
     public void importExpenditureToList(Transaction expenditure) {
         if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+            removeTransaction(0);
         }
-        transactionLists.add(expenditure);
+        appendTransaction(expenditure);
     }
 
     /**
@@ -658,38 +1003,38 @@ public class TransactionList {
      */
     public void importDepositToList(Transaction deposit) {
         if (transactionLists.size() >= MAX_LIST_SIZE) {
-            transactionLists.remove(0);
+            removeTransaction(0);
         }
-        transactionLists.add(deposit);
+        appendTransaction(deposit);
     }
 
     /**
-     * Gets the expenditure id of an expenditure that matches the YearMonth date.
+     * Moves every expenditure dated within the month to the end of another transaction list in a single pass,
+     * keeping the order of both the moved expenditures and the transactions left behind.
+     * Used to pay a card bill, and with the lists swapped to revert it.
      *
-     * @param yearMonth The date that will be used to search for expenditures.
-     * @return  The expenditure id if found. Else, return -1.
+     * @param yearMonth The month of the expenditures to move.
+     * @param destination The transaction list to move the expenditures to.
+     * @return The number of expenditures moved.
+     * @throws TransactionException If a transaction dated within the month is a deposit.
      */
-    public int getExpenditureIdByYearMonth(YearMonth yearMonth) {
-        for (int i = 0; i < transactionLists.size(); i++) {
-            LocalDate transactionDate = transactionLists.get(i).getLocalDate();
-            int transactionMonth = transactionDate.getMonthValue();
-            int transactionYear = transactionDate.getYear();
-            int requiredMonth = yearMonth.getMonthValue();
-            int requiredYear = yearMonth.getYear();
-            if ((transactionMonth == requiredMonth) && (transactionYear == requiredYear)) {
-                return i;
+    public int moveExpendituresByYearMonth(YearMonth yearMonth, TransactionList destination)
+            throws TransactionException {
+        long[] sequences = dateIndex.findSequences(yearMonth.atDay(ONE_INDEX).toEpochDay(),
+                yearMonth.atEndOfMonth().toEpochDay());
+        int[] indices = new int[sequences.length];
+        List<Transaction> expenditures = new ArrayList<>(sequences.length);
+        for (int i = ISZERO; i < indices.length; i++) {
+            indices[i] = getPositionOfSequence(sequences[i]);
+            if (!transactionLists.isSpent(indices[i])) {
+                logger.warning("The transaction is a deposit");
+                throw new TransactionException("The transaction is a deposit");
             }
+            expenditures.add(transactionLists.get(indices[i]));
         }
-        return OBJ_DOES_NOT_EXIST;
-    }
-
-    /**
-     * Returns an expenditure object from transaction list for the specified YearMonth date.
-     *
-     * @param index Transaction number of the expenditure.
-     * @return an expenditure object from transaction list for the specified YearMonth date.
-     */
-    public Transaction getExpenditureObjectByYearMonth(int index) {
-        return transactionLists.get(index);
+        removeTransactions(indices);
+        destination.addTransactionsToList(expenditures);
+        logger.info(() -> "Moved " + expenditures.size() + " expenditures");
+        return expenditures.size();
     }
 }
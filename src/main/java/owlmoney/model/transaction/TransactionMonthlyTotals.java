@@ -0,0 +1,129 @@
+package owlmoney.model.transaction;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+
+import owlmoney.model.money.Money;
+
+/**
+ * Keeps a running total of the amounts spent in a transaction list for each month.
+ * Totals are kept in cents so that adding and removing transactions does not accumulate rounding errors.
+ */
+class TransactionMonthlyTotals {
+    private static final int ISZERO = 0;
+
+    private final HashMap<YearMonth, MonthTotal> totalsByMonth;
+
+    /**
+     * Creates empty monthly totals.
+     */
+    TransactionMonthlyTotals() {
+        totalsByMonth = new HashMap<>();
+    }
+
+    /**
+     * Adds a transaction to the totals of its month.
+     *
+     * @param transaction the transaction to add.
+     */
+    void add(Transaction transaction) {
+        MonthTotal monthTotal =
+                totalsByMonth.computeIfAbsent(transaction.getYearMonthDate(), month -> new MonthTotal());
+        monthTotal.add(transaction.getSpent(), transaction.getMoney().getCents());
+    }
+
+    /**
+     * Removes a transaction from the totals of its month.
+     * Must be called before any detail of the transaction is changed.
+     *
+     * @param transaction the transaction to remove.
+     */
+    void remove(Transaction transaction) {
+        remove(transaction.getYearMonthDate(), transaction.getSpent(), transaction.getMoney().getCents());
+    }
+
+    /**
+     * Removes a transaction from the totals of its month using the columns of its row in the store,
+     * so that the transaction does not have to be built.
+     *
+     * @param epochDay the date of the transaction in days since the epoch.
+     * @param isSpent whether the transaction was spent or deposited.
+     * @param cents the amount of the transaction in cents.
+     */
+    void remove(long epochDay, boolean isSpent, long cents) {
+        remove(YearMonth.from(LocalDate.ofEpochDay(epochDay)), isSpent, cents);
+    }
+
+    /**
+     * Removes an amount from the totals of a month.
+     *
+     * @param yearMonth the month of the amount.
+     * @param isSpent whether the amount was spent or deposited.
+     * @param cents the amount in cents.
+     */
+    private void remove(YearMonth yearMonth, boolean isSpent, long cents) {
+        MonthTotal monthTotal = totalsByMonth.get(yearMonth);
+        if (monthTotal == null) {
+            return;
+        }
+        monthTotal.remove(isSpent, cents);
+        if (monthTotal.isEmpty()) {
+            totalsByMonth.remove(yearMonth);
+        }
+    }
+
+    /**
+     * Gets the total amount spent in the month.
+     *
+     * @param yearMonth the month to get the total of.
+     * @return the total amount spent.
+     */
+    Money getSpent(YearMonth yearMonth) {
+        MonthTotal monthTotal = totalsByMonth.get(yearMonth);
+        return monthTotal == null ? Money.ZERO : Money.ofCents(monthTotal.spentCents);
+    }
+
+    /**
+     * Running totals of the transactions of a single month.
+     */
+    private static class MonthTotal {
+        private int transactionCount;
+        private long spentCents;
+
+        /**
+         * Adds an amount to the totals.
+         *
+         * @param isSpent whether the amount was spent or deposited.
+         * @param cents the amount in cents.
+         */
+        void add(boolean isSpent, long cents) {
+            transactionCount++;
+            if (isSpent) {
+                spentCents += cents;
+            }
+        }
+
+        /**
+         * Removes an amount from the totals.
+         *
+         * @param isSpent whether the amount was spent or deposited.
+         * @param cents the amount in cents.
+         */
+        void remove(boolean isSpent, long cents) {
+            transactionCount--;
+            if (isSpent) {
+                spentCents -= cents;
+            }
+        }
+
+        /**
+         * Checks if no transactions are left in the month.
+         *
+         * @return true if the month has no transactions.
+         */
+        boolean isEmpty() {
+            return transactionCount <= ISZERO;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package owlmoney.model.transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import owlmoney.ui.Ui;
+
+/**
+ * Contains the transactions of a single transaction list that matched a search, grouped by the keyword they matched.
+ */
+public class TransactionSearchResult {
+    public static final String FIND_DESCRIPTION = "description";
+    public static final String FIND_CATEGORY = "category";
+    public static final String FIND_DATE = "date range";
+
+    private final String sourceName;
+    private final String transactionType;
+    private final HashMap<String, ArrayList<Integer>> numbersByFindType;
+    private final HashMap<String, ArrayList<Transaction>> transactionsByFindType;
+
+    /**
+     * Creates an empty search result for a transaction list.
+     *
+     * @param sourceName      The name of the transaction list that was searched.
+     * @param transactionType The type of transaction header used when printing the matches.
+     */
+    TransactionSearchResult(String sourceName, String transactionType) {
+        this.sourceName = sourceName;
+        this.transactionType = transactionType;
+        this.numbersByFindType = new HashMap<>();
+        this.transactionsByFindType = new HashMap<>();
+    }
+
+    /**
+     * Adds a matching transaction to the result.
+     *
+     * @param findType    The type of keyword matched such as description or category.
+     * @param number      The transaction number in the list.
+     * @param transaction The matching transaction.
+     */
+    void addMatch(String findType, int number, Transaction transaction) {
+        numbersByFindType.computeIfAbsent(findType, key -> new ArrayList<>()).add(number);
+        transactionsByFindType.computeIfAbsent(findType, key -> new ArrayList<>()).add(transaction);
+    }
+
+    /**
+     * Gets the name of the transaction list that was searched.
+     *
+     * @return The name of the transaction list.
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * Gets the type of transaction header used when printing the matches.
+     *
+     * @return The type of transaction header.
+     */
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    /**
+     * Gets the transaction numbers that matched a type of keyword, in list order.
+     *
+     * @param findType The type of keyword matched such as description or category.
+     * @return The matching transaction numbers.
+     */
+    public List<Integer> getNumbers(String findType) {
+        return numbersByFindType.getOrDefault(findType, new ArrayList<>());
+    }
+
+    /**
+     * Gets the transactions that matched a type of keyword, in list order.
+     *
+     * @param findType The type of keyword matched such as description or category.
+     * @return The matching transactions.
+     */
+    public List<Transaction> getTransactions(String findType) {
+        return transactionsByFindType.getOrDefault(findType, new ArrayList<>());
+    }
+
+    /**
+     * Prints the transactions that matched a type of keyword under the name of the transaction list.
+     *
+     * @param findType The type of keyword matched such as description or category.
+     * @param ui       The object required for printing.
+     */
+    public void printMatches(String findType, Ui ui) {
+        List<Integer> numbers = getNumbers(findType);
+        List<Transaction> transactions = getTransactions(findType);
+        ui.printMessage("Searching through: " + sourceName);
+        ui.printTransactionHeader(transactionType);
+        for (int i = 0; i < numbers.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            ui.printTransaction(numbers.get(i), transaction.getDescription(), transaction.getMoney(),
+                    transaction.getSpent(), transaction.getLocalDate(), transaction.getCategory());
+        }
+        ui.printDivider();
+    }
+}
@@ -0,0 +1,18 @@
+package owlmoney.model.transaction;
+
+import owlmoney.model.transaction.exception.TransactionException;
+
+/**
+ * Represents a search of a single transaction list that can be run on any thread.
+ */
+@FunctionalInterface
+public interface TransactionSearchTask {
+
+    /**
+     * Searches the transaction list.
+     *
+     * @return The transactions that matched the search.
+     * @throws TransactionException If parsing of date fails.
+     */
+    TransactionSearchResult search() throws TransactionException;
+}
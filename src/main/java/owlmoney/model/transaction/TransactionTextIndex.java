@@ -0,0 +1,230 @@
+package owlmoney.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Indexes a text field of the transactions in a list so that keyword searches do not scan the whole list.
+ * Every three-character substring of the upper-cased text is mapped to a sorted array of the transactions
+ * containing it, and the text itself is read from the list rather than copied into the index.
+ * The index is only built by the first search of the list, so lists that are never searched do not pay for it,
+ * and is kept up to date afterwards. Keywords shorter than three characters are matched by scanning the list.
+ * Transactions are identified by the sequence number given when they were added to the list,
+ * which increases in the same order as their position in the list.
+ */
+class TransactionTextIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_POSTINGS_CAPACITY = 4;
+    private static final int ISZERO = 0;
+
+    private final IntSupplier size;
+    private final IntToLongFunction sequenceAt;
+    private final IntFunction<String> textAt;
+    private HashMap<String, Postings> postingsByGram;
+
+    /**
+     * Sequence numbers of the transactions containing a three-character substring, in ascending order.
+     */
+    private static final class Postings {
+        private long[] sequences = new long[INITIAL_POSTINGS_CAPACITY];
+        private int count;
+
+        /**
+         * Adds a sequence number, keeping the sequence numbers in ascending order.
+         *
+         * @param sequence the sequence number to add.
+         */
+        private void add(long sequence) {
+            int position = Arrays.binarySearch(sequences, ISZERO, count, sequence);
+            if (position >= ISZERO) {
+                return;
+            }
+            position = -(position + 1);
+            if (count == sequences.length) {
+                sequences = Arrays.copyOf(sequences, count * 2);
+            }
+            System.arraycopy(sequences, position, sequences, position + 1, count - position);
+            sequences[position] = sequence;
+            count++;
+        }
+
+        /**
+         * Removes a sequence number if it is present.
+         *
+         * @param sequence the sequence number to remove.
+         */
+        private void remove(long sequence) {
+            int position = Arrays.binarySearch(sequences, ISZERO, count, sequence);
+            if (position < ISZERO) {
+                return;
+            }
+            System.arraycopy(sequences, position + 1, sequences, position, count - position - 1);
+            count--;
+        }
+    }
+
+    /**
+     * Creates an index of the text of the transactions in a list, read through the functions given.
+     *
+     * @param size gets the number of transactions in the list.
+     * @param sequenceAt gets the sequence number of the transaction at a position in the list.
+     * @param textAt gets the text of the transaction at a position in the list.
+     */
+    TransactionTextIndex(IntSupplier size, IntToLongFunction sequenceAt, IntFunction<String> textAt) {
+        this.size = size;
+        this.sequenceAt = sequenceAt;
+        this.textAt = textAt;
+    }
+
+    /**
+     * Adds the text of a transaction to the index if it has been built.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param text the text to index.
+     */
+    synchronized void add(long sequence, String text) {
+        if (postingsByGram == null) {
+            return;
+        }
+        for (String gram : getGrams(normalise(text))) {
+            postingsByGram.computeIfAbsent(gram, key -> new Postings()).add(sequence);
+        }
+    }
+
+    /**
+     * Removes the text of a transaction from the index if it has been built.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param text the text that was indexed for the transaction.
+     */
+    synchronized void remove(long sequence, String text) {
+        if (postingsByGram == null) {
+            return;
+        }
+        for (String gram : getGrams(normalise(text))) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(sequence);
+            if (postings.count == ISZERO) {
+                postingsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed text of a transaction.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @param oldText the text that was indexed for the transaction.
+     * @param newText the new text to index.
+     */
+    synchronized void update(long sequence, String oldText, String newText) {
+        remove(sequence, oldText);
+        add(sequence, newText);
+    }
+
+    /**
+     * Finds the transactions whose text contains the keyword, ignoring case.
+     *
+     * @param keyword the keyword to match against.
+     * @return the sequence numbers of the matching transactions in ascending order.
+     */
+    synchronized List<Long> findSequences(String keyword) {
+        String normalisedKeyword = normalise(keyword);
+        List<Long> matches = new ArrayList<>();
+        if (normalisedKeyword.length() < GRAM_LENGTH) {
+            for (int i = ISZERO; i < size.getAsInt(); i++) {
+                if (normalise(textAt.apply(i)).contains(normalisedKeyword)) {
+                    matches.add(sequenceAt.applyAsLong(i));
+                }
+            }
+            return matches;
+        }
+        if (postingsByGram == null) {
+            build();
+        }
+        Postings candidates = null;
+        for (String gram : getGrams(normalisedKeyword)) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return matches;
+            }
+            if (candidates == null || postings.count < candidates.count) {
+                candidates = postings;
+            }
+        }
+        for (int i = ISZERO; i < candidates.count; i++) {
+            long sequence = candidates.sequences[i];
+            int position = indexOfSequence(sequence);
+            if (position >= ISZERO && normalise(textAt.apply(position)).contains(normalisedKeyword)) {
+                matches.add(sequence);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Builds the index from the text of every transaction currently in the list.
+     */
+    private void build() {
+        postingsByGram = new HashMap<>();
+        for (int i = ISZERO; i < size.getAsInt(); i++) {
+            add(sequenceAt.applyAsLong(i), textAt.apply(i));
+        }
+    }
+
+    /**
+     * Gets the position of a transaction in the list from its sequence number.
+     *
+     * @param sequence the sequence number of the transaction.
+     * @return the position of the transaction starting from 0, or a negative number if it is not in the list.
+     */
+    private int indexOfSequence(long sequence) {
+        int low = ISZERO;
+        int high = size.getAsInt() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequence = sequenceAt.applyAsLong(middle);
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Normalises text for case-insensitive matching.
+     *
+     * @param text the text to normalise.
+     * @return the upper-cased text.
+     */
+    private static String normalise(String text) {
+        return text == null ? "" : text.toUpperCase();
+    }
+
+    /**
+     * Gets every distinct three-character substring of the text.
+     *
+     * @param text the normalised text.
+     * @return the distinct substrings.
+     */
+    private static HashSet<String> getGrams(String text) {
+        HashSet<String> grams = new HashSet<>();
+        for (int start = ISZERO; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(text.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
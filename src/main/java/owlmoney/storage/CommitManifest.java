@@ -0,0 +1,158 @@
+package owlmoney.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.opencsv.CSVWriter;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+/**
+ * Publishes the files written together by one command all at once, for storage directories that are not journaled.
+ *
+ * <p>The files are first written to temporary files. A manifest listing them and the generation number
+ * of the commit is then moved into place, which is the point at which the commit takes effect.
+ * The temporary files are moved over the files only afterwards, and the generation number is saved
+ * before the manifest is removed. If the program stops midway, the manifest left behind is finished
+ * the next time the directory is used, so either all the files of a commit are published or none.</p>
+ */
+final class CommitManifest {
+    private static final Map<String, CommitManifest> manifests = new HashMap<>();
+    private static final Logger logger = getLogger(CommitManifest.class);
+    private static final String MANIFEST_FILE_NAME = "commit.manifest";
+    private static final String GENERATION_FILE_NAME = "commit.generation";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String GENERATION_RECORD = "G";
+    private static final String WRITE_RECORD = "W";
+    private static final String DELETE_RECORD = "D";
+    private static final String RECORD_SEPARATOR = ",";
+
+    private final String path;
+    private long generation;
+
+    /**
+     * Creates the manifest of the storage directory specified.
+     *
+     * @param path the storage directory the manifest is for.
+     */
+    private CommitManifest(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets the manifest of the storage directory, finishing any commit left by a previous session
+     * the first time the directory is used.
+     *
+     * @param path the storage directory.
+     * @return the manifest of the directory.
+     * @throws IOException when unable to finish the commit left by a previous session.
+     */
+    static synchronized CommitManifest forPath(String path) throws IOException {
+        CommitManifest manifest = manifests.get(path);
+        if (manifest == null) {
+            manifest = new CommitManifest(path);
+            manifest.recover();
+            manifests.put(path, manifest);
+        }
+        return manifest;
+    }
+
+    /**
+     * Publishes the writes and deletions of several files as one commit of the next generation.
+     *
+     * @param writes the lines of each file written, or null for each file deleted.
+     * @throws IOException when unable to publish the files.
+     */
+    synchronized void publish(Map<String, List<String>> writes) throws IOException {
+        long nextGeneration = generation + 1;
+        List<String> entries = new ArrayList<>();
+        entries.add(GENERATION_RECORD + RECORD_SEPARATOR + nextGeneration);
+        for (Map.Entry<String, List<String>> write : writes.entrySet()) {
+            String fileName = write.getKey();
+            if (write.getValue() == null) {
+                entries.add(DELETE_RECORD + RECORD_SEPARATOR + fileName);
+            } else {
+                writeLines(Paths.get(path + fileName + TEMP_SUFFIX), write.getValue());
+                entries.add(WRITE_RECORD + RECORD_SEPARATOR + fileName);
+            }
+        }
+        Path manifestTempPath = Paths.get(path + MANIFEST_FILE_NAME + TEMP_SUFFIX);
+        writeLines(manifestTempPath, entries);
+        Storage.moveIntoPlace(manifestTempPath, Paths.get(path + MANIFEST_FILE_NAME));
+        finishCommit(entries);
+    }
+
+    /**
+     * Moves the files of a committed manifest into place, saves its generation number and removes the manifest.
+     * Files already moved by an earlier attempt are skipped, so a commit can be finished more than once.
+     *
+     * @param entries the entries of the manifest.
+     * @throws IOException when unable to move the files.
+     */
+    private void finishCommit(List<String> entries) throws IOException {
+        long committedGeneration = generation;
+        for (String entry : entries) {
+            String[] fields = entry.split(RECORD_SEPARATOR, 2);
+            if (GENERATION_RECORD.equals(fields[0])) {
+                committedGeneration = Long.parseLong(fields[1]);
+            } else if (DELETE_RECORD.equals(fields[0])) {
+                Files.deleteIfExists(Paths.get(path + fields[1]));
+            } else if (Files.exists(Paths.get(path + fields[1] + TEMP_SUFFIX))) {
+                Storage.moveIntoPlace(Paths.get(path + fields[1] + TEMP_SUFFIX), Paths.get(path + fields[1]));
+            }
+        }
+        Path generationTempPath = Paths.get(path + GENERATION_FILE_NAME + TEMP_SUFFIX);
+        writeLines(generationTempPath, List.of(Long.toString(committedGeneration)));
+        Storage.moveIntoPlace(generationTempPath, Paths.get(path + GENERATION_FILE_NAME));
+        generation = committedGeneration;
+        Files.deleteIfExists(Paths.get(path + MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Finishes the commit left by a previous session, if any, and reads the generation number of the last commit.
+     * A manifest that was not moved into place never took effect, so it is discarded.
+     *
+     * @throws IOException when unable to finish the commit.
+     */
+    private void recover() throws IOException {
+        Path generationPath = Paths.get(path + GENERATION_FILE_NAME);
+        if (Files.exists(generationPath)) {
+            List<String> lines = Files.readAllLines(generationPath);
+            try {
+                generation = lines.isEmpty() ? 0 : Long.parseLong(lines.get(0).trim());
+            } catch (NumberFormatException exceptionMessage) {
+                logger.warning("Ignoring malformed commit generation in " + path);
+            }
+        }
+        Files.deleteIfExists(Paths.get(path + MANIFEST_FILE_NAME + TEMP_SUFFIX));
+        Path manifestPath = Paths.get(path + MANIFEST_FILE_NAME);
+        if (Files.exists(manifestPath)) {
+            finishCommit(Files.readAllLines(manifestPath));
+            logger.info("Finished commit " + generation + " left in " + path);
+        }
+    }
+
+    /**
+     * Writes lines to a file with the same line endings as the CSV writer.
+     *
+     * @param filePath the file to write.
+     * @param lines the lines to write.
+     * @throws IOException when unable to write the file.
+     */
+    private static void writeLines(Path filePath, List<String> lines) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write(CSVWriter.DEFAULT_LINE_END);
+            }
+        }
+    }
+}
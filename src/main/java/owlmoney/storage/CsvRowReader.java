@@ -0,0 +1,60 @@
+package owlmoney.storage;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+
+import owlmoney.commons.metrics.Histogram;
+
+/**
+ * Reads the rows of a CSV file one at a time without holding the whole file in memory.
+ * The time from opening the file to closing it is recorded when it is closed, which for a file imported
+ * while it is read includes the time taken to import every row.
+ */
+public class CsvRowReader implements AutoCloseable {
+    private final Reader reader;
+    private final CSVReader csvReader;
+    private final Histogram readTime;
+    private final long startTime;
+
+    /**
+     * Creates a row reader that skips the header of the file.
+     *
+     * @param reader the reader of the file content.
+     * @param readTime the histogram to record the time the file was open in.
+     * @param startTime the time the file started to be opened, from {@link System#nanoTime()}.
+     */
+    CsvRowReader(Reader reader, Histogram readTime, long startTime) {
+        this.reader = reader;
+        this.csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build();
+        this.readTime = readTime;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Reads the next row of the file.
+     *
+     * @return the next row, or null when the end of the file is reached.
+     * @throws IOException when unable to read the file.
+     */
+    public String[] readRow() throws IOException {
+        return csvReader.readNext();
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException when unable to close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            csvReader.close();
+            reader.close();
+        } finally {
+            readTime.recordSince(startTime);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package owlmoney.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes a change to the rows of a file as rows deleted at a position and rows inserted in their place,
+ * so that a file can be saved by applying only the rows that changed.
+ */
+public class FileSplice {
+    private final int position;
+    private final int deleteCount;
+    private final List<String[]> insertedRows;
+
+    /**
+     * Creates a change that deletes rows at a position and inserts new rows in their place.
+     *
+     * @param position the position of the first row changed, counting the header as row 0.
+     * @param deleteCount the number of rows deleted.
+     * @param insertedRows the rows inserted at the position.
+     */
+    public FileSplice(int position, int deleteCount, List<String[]> insertedRows) {
+        this.position = position;
+        this.deleteCount = deleteCount;
+        this.insertedRows = new ArrayList<>(insertedRows);
+    }
+
+    /**
+     * Gets the position of the first row changed.
+     *
+     * @return the position of the first row changed, counting the header as row 0.
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the number of rows deleted.
+     *
+     * @return the number of rows deleted.
+     */
+    int getDeleteCount() {
+        return deleteCount;
+    }
+
+    /**
+     * Gets the rows inserted at the position.
+     *
+     * @return the rows inserted.
+     */
+    List<String[]> getInsertedRows() {
+        return insertedRows;
+    }
+
+    /**
+     * Checks that every change applies within the rows of a file, one after the other.
+     *
+     * @param splices the changes in the order they were made.
+     * @param rowCount the number of rows in the file before the changes, including its header.
+     * @return true if every change deletes only rows that exist at that point.
+     */
+    static boolean isApplicable(List<FileSplice> splices, int rowCount) {
+        int currentRowCount = rowCount;
+        for (FileSplice splice : splices) {
+            if (splice.position < 0 || splice.deleteCount < 0
+                    || splice.position + splice.deleteCount > currentRowCount) {
+                return false;
+            }
+            currentRowCount += splice.insertedRows.size() - splice.deleteCount;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the change to the rows or rendered lines of a file.
+     *
+     * @param rows the rows of the file, changed in place.
+     * @param inserted the rows inserted, in the same form as the rows of the file.
+     * @param <T> the form of the rows.
+     */
+    <T> void applyTo(List<T> rows, List<T> inserted) {
+        rows.subList(position, position + deleteCount).clear();
+        rows.addAll(position, inserted);
+    }
+}
@@ -0,0 +1,96 @@
+package owlmoney.storage;
+
+import java.io.IOException;
+
+import owlmoney.storage.exception.LoadException;
+
+/**
+ * Holds data that is only loaded from persistent storage the first time it is needed.
+ * The data is loaded at most once even if several threads need it at the same time.
+ * If the loader fails, the data is never handed out, as it may only be partly loaded.
+ *
+ * @param <T> the type of data held.
+ */
+public class LazyHandle<T> {
+    private final T data;
+    private Runnable loader;
+    private boolean isLoading;
+    private LoadException loadFailure;
+    private volatile boolean isLoaded = true;
+
+    /**
+     * Creates a handle to the data, which is treated as loaded until a loader is set.
+     *
+     * @param data the data to hold.
+     */
+    public LazyHandle(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Sets the loader that fills the data from persistent storage the first time it is needed.
+     *
+     * @param loader the loader to run once on first access.
+     */
+    public synchronized void setLoader(Runnable loader) {
+        this.loader = loader;
+        this.loadFailure = null;
+        this.isLoaded = loader == null;
+    }
+
+    /**
+     * Checks if the data has been loaded.
+     *
+     * @return true if there is no pending loader or the loader has finished.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Gets the data, loading it first if it has not been loaded.
+     * While the loader runs, it can access the data through this handle.
+     * The loader is only cleared once it succeeds, and its failure is thrown again on every later access.
+     *
+     * @return the loaded data.
+     * @throws LoadException if the loader failed to load the data.
+     */
+    public T get() {
+        if (!isLoaded) {
+            synchronized (this) {
+                if (loadFailure != null) {
+                    throw loadFailure;
+                }
+                if (loader != null && !isLoading) {
+                    isLoading = true;
+                    try {
+                        loader.run();
+                        loader = null;
+                        isLoaded = true;
+                    } catch (LoadException exceptionMessage) {
+                        loadFailure = exceptionMessage;
+                        throw exceptionMessage;
+                    } finally {
+                        isLoading = false;
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Gets the data to save it, loading it first if it has not been loaded.
+     * Data that failed to load is never saved, so that the file it was loaded from is not overwritten.
+     *
+     * @return the loaded data.
+     * @throws IOException if the loader failed to load the data.
+     */
+    public T getToSave() throws IOException {
+        try {
+            return get();
+        } catch (LoadException exceptionMessage) {
+            throw new IOException("Not saving data that failed to load: " + exceptionMessage.getMessage());
+        }
+    }
+}
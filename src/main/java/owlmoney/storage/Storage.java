@@ -3,24 +3,64 @@ package owlmoney.storage;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
 import com.opencsv.CSVWriter;
 
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
 /**
  * Handles reading and writing data to and from disk.
  */
 public class Storage {
+    private static final Logger logger = getLogger(Storage.class);
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern FILE_INDEX_PREFIX = Pattern.compile("^(\\d+_)+");
+    private static final String READ_METRIC_PREFIX = "storage.readFile.";
+    static final Histogram PERSIST_TIME = MetricsCenter.getTimer("storage.persist");
+    private static final Histogram ENQUEUE_TIME = MetricsCenter.getTimer("storage.writeFile.enqueue");
+    private static final Histogram WRITE_SIZE = MetricsCenter.getHistogram("storage.writeFile.bytes", "bytes");
+    private static final Histogram READ_SIZE = MetricsCenter.getHistogram("storage.readFile.bytes", "bytes");
+
     private final String path;
 
+    /**
+     * Creates the storage of a data directory, finishing any commit left unfinished in it by a previous session.
+     *
+     * @param path the path of the data directory.
+     */
     public Storage(String path) {
         this.path = path;
+        try {
+            CommitManifest.forPath(path);
+        } catch (IOException exceptionMessage) {
+            logger.warning("Unable to finish the commit left in " + path + ": " + exceptionMessage.getMessage());
+        }
+    }
+
+    /**
+     * Gets the storage directory.
+     *
+     * @return the path of the storage directory.
+     */
+    String getPath() {
+        return path;
     }
 
     /**
@@ -29,6 +69,27 @@ public class Storage {
      * @return the result of whether the file exists.
      */
     public boolean isFileExist(String fileName) {
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null) {
+            Boolean isStaged = transaction.isFileExist(fileName);
+            if (isStaged != null) {
+                return isStaged;
+            }
+        }
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            Boolean isPending = storageWriter.isFileExist(fileName);
+            if (isPending != null) {
+                return isPending;
+            }
+        }
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            Boolean isTracked = journal.isFileExist(fileName);
+            if (isTracked != null) {
+                return isTracked;
+            }
+        }
         return Files.exists(Paths.get(path + fileName));
     }
 
@@ -46,16 +107,77 @@ public class Storage {
         return result;
     }
 
+    /**
+     * Begins a transaction on the storage directory for the current thread, or joins the one already active.
+     * Files written until it is committed are saved together.
+     *
+     * @return the active transaction.
+     */
+    public StorageTransaction beginTransaction() {
+        return StorageTransaction.begin(this);
+    }
+
     /**
      * Writes files dynamically based on parameters specified.
+     * If a transaction is active, the file is only staged until it is committed.
+     * If the storage writer is open, the file is only written later on its background thread.
      *
      * @param inputData input data in ArrayList of String Arrays.
      * @param fileName name of file when exported
      * @throws IOException when unable to write data to file.
      */
     public void writeFile(ArrayList<String[]> inputData, String fileName) throws IOException {
+        long startTime = System.nanoTime();
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null) {
+            List<String[]> stagedData = new ArrayList<>(inputData);
+            transaction.stageWrite(fileName, () -> stagedData);
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            storageWriter.recordWrite(fileName, inputData);
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        writeFileNow(inputData, fileName);
+    }
+
+    /**
+     * Writes a file now, to the storage journal if it is open or else to a temporary file
+     * that then replaces the file, so that the file is never left half written.
+     * The time taken is recorded as the time to persist, which the journal records itself when it appends.
+     *
+     * @param inputData input data in List of String Arrays.
+     * @param fileName name of file when exported
+     * @throws IOException when unable to write data to file.
+     */
+    void writeFileNow(List<String[]> inputData, String fileName) throws IOException {
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            journal.recordWrite(fileName, inputData);
+            return;
+        }
+        long startTime = System.nanoTime();
+        try {
+            writeCsvFile(inputData, fileName);
+        } finally {
+            PERSIST_TIME.recordSince(startTime);
+        }
+    }
+
+    /**
+     * Writes a CSV file to a temporary file that then replaces the file.
+     *
+     * @param inputData input data in List of String Arrays.
+     * @param fileName name of file when exported
+     * @throws IOException when unable to write data to file.
+     */
+    private void writeCsvFile(List<String[]> inputData, String fileName) throws IOException {
+        Path tempFilePath = Paths.get(path + fileName + TEMP_SUFFIX);
         try (
-                Writer writer = Files.newBufferedWriter(Paths.get(path + fileName));
+                Writer writer = Files.newBufferedWriter(tempFilePath);
                 CSVWriter csvWriter = new CSVWriter(writer,
                         CSVWriter.DEFAULT_SEPARATOR,
                         CSVWriter.NO_QUOTE_CHARACTER,
@@ -68,6 +190,211 @@ public class Storage {
         } catch (IOException exceptionMessage) {
             throw new IOException(exceptionMessage);
         }
+        Path filePath = Paths.get(path + fileName);
+        moveIntoPlace(tempFilePath, filePath);
+        WRITE_SIZE.record(Files.size(filePath));
+    }
+
+    /**
+     * Replaces a file with a temporary file, atomically if the file system supports it.
+     *
+     * @param tempFilePath the temporary file.
+     * @param filePath the file to replace.
+     * @throws IOException when unable to move the file.
+     */
+    static void moveIntoPlace(Path tempFilePath, Path filePath) throws IOException {
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exceptionMessage) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes a file whose content is prepared only when it is written.
+     * If a transaction is active, the content is prepared when it is committed.
+     * If the storage journal is deferring writes, only the latest content of the file is ever prepared.
+     * If the storage writer is open, the content is prepared now and written later in the background.
+     *
+     * @param inputDataSupplier prepares the input data in ArrayList of String Arrays.
+     * @param fileName name of file when exported
+     * @throws IOException when unable to write data to file.
+     */
+    public void writeFile(Supplier<ArrayList<String[]>> inputDataSupplier, String fileName) throws IOException {
+        long startTime = System.nanoTime();
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null) {
+            transaction.stageWrite(fileName, inputDataSupplier);
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            storageWriter.recordWrite(fileName, inputDataSupplier.get());
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            journal.recordWrite(fileName, inputDataSupplier);
+            return;
+        }
+        writeFileNow(inputDataSupplier.get(), fileName);
+    }
+
+    /**
+     * Writes only the rows of a file that changed when the storage journal is open and the file exists,
+     * so that the cost of saving a change does not grow with the size of the file.
+     * The whole file is written instead if the changes are unknown, a transaction is active,
+     * or the file can only be saved by rewriting it.
+     *
+     * @param splices the changes to the rows of the file in the order they were made,
+     *     or null if they are unknown.
+     * @param inputDataSupplier prepares the full content of the file in ArrayList of String Arrays.
+     * @param fileName name of file when exported
+     * @throws IOException when unable to write data to file.
+     */
+    public void writeFile(List<FileSplice> splices, Supplier<ArrayList<String[]>> inputDataSupplier,
+            String fileName) throws IOException {
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (splices == null || journal == null || StorageTransaction.getActive(path) != null
+                || !isFileExist(fileName)) {
+            writeFile(inputDataSupplier, fileName);
+            return;
+        }
+        if (splices.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            storageWriter.recordSplices(fileName, splices);
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        journal.recordSplices(fileName, splices, inputDataSupplier);
+    }
+
+    /**
+     * Saves several files together, so that either all of them are saved or none of them.
+     * If the storage writer is open, the files are saved together later on its background thread.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @throws IOException when unable to save the files.
+     */
+    void commitFiles(Map<String, ? extends Supplier<? extends List<String[]>>> writes) throws IOException {
+        long startTime = System.nanoTime();
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            storageWriter.recordCommit(writes);
+            ENQUEUE_TIME.recordSince(startTime);
+            return;
+        }
+        commitFilesNow(writes);
+    }
+
+    /**
+     * Saves several files together now, as one commit in the storage journal if it is open
+     * or else by publishing them with a commit manifest.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @throws IOException when unable to save the files.
+     */
+    void commitFilesNow(Map<String, ? extends Supplier<? extends List<String[]>>> writes) throws IOException {
+        commitFilesNow(writes, Map.of());
+    }
+
+    /**
+     * Saves several files and the changed rows of others together now, as one commit in the storage journal.
+     * Changed rows can only be saved while the journal is open.
+     * The time taken is recorded as the time to persist, which the journal records itself when it appends.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @param splices the changes to the rows of each file whose rows changed.
+     * @throws IOException when unable to save the files.
+     */
+    void commitFilesNow(Map<String, ? extends Supplier<? extends List<String[]>>> writes,
+            Map<String, List<FileSplice>> splices) throws IOException {
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            journal.recordCommit(writes, splices);
+            return;
+        }
+        if (!splices.isEmpty()) {
+            throw new IOException("Changed rows of " + splices.keySet() + " cannot be saved without the journal");
+        }
+        long startTime = System.nanoTime();
+        try {
+            if (writes.size() == 1) {
+                Map.Entry<String, ? extends Supplier<? extends List<String[]>>> write =
+                        writes.entrySet().iterator().next();
+                if (write.getValue() == null) {
+                    Files.deleteIfExists(Paths.get(path + write.getKey()));
+                } else {
+                    writeCsvFile(write.getValue().get(), write.getKey());
+                }
+                return;
+            }
+            Map<String, List<String>> committedLines = new LinkedHashMap<>();
+            for (Map.Entry<String, ? extends Supplier<? extends List<String[]>>> write : writes.entrySet()) {
+                committedLines.put(write.getKey(),
+                        write.getValue() == null ? null : StorageJournal.renderLines(write.getValue().get()));
+            }
+            CommitManifest.forPath(path).publish(committedLines);
+        } finally {
+            PERSIST_TIME.recordSince(startTime);
+        }
+    }
+
+    /**
+     * Prepares the content of every deferred or staged write of the storage directory now.
+     * Data files named after the position of an account must be captured before the positions shift.
+     */
+    public void captureDeferredWrites() {
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null) {
+            transaction.captureStagedWrites();
+        }
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            journal.captureDeferredWrites();
+        }
+    }
+
+    /**
+     * Deletes the specified file if it exists.
+     * If a transaction is active, the deletion is only staged until it is committed.
+     *
+     * @param fileName name of the file to delete.
+     * @throws IOException when unable to delete the file.
+     */
+    public void deleteFile(String fileName) throws IOException {
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null) {
+            transaction.stageDelete(fileName);
+            return;
+        }
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null) {
+            storageWriter.recordDelete(fileName);
+            return;
+        }
+        deleteFileNow(fileName);
+    }
+
+    /**
+     * Deletes the specified file now, in the storage journal if it is open.
+     *
+     * @param fileName name of the file to delete.
+     * @throws IOException when unable to delete the file.
+     */
+    void deleteFileNow(String fileName) throws IOException {
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        if (journal != null) {
+            journal.recordDelete(fileName);
+            return;
+        }
+        Files.deleteIfExists(Paths.get(path + fileName));
     }
 
     /**
@@ -78,20 +405,11 @@ public class Storage {
      * @throws IOException when unable to write data to file.
      */
     public void writeProfileFile(String[] inputData, String fileName) throws IOException {
-        try (
-                Writer writer = Files.newBufferedWriter(Paths.get(path + fileName));
-                CSVWriter csvWriter = new CSVWriter(writer,
-                        CSVWriter.DEFAULT_SEPARATOR,
-                        CSVWriter.NO_QUOTE_CHARACTER,
-                        CSVWriter.DEFAULT_ESCAPE_CHARACTER,
-                        CSVWriter.DEFAULT_LINE_END);
-        ) {
-            String[] headerRecord = {"Name"};
-            csvWriter.writeNext(headerRecord);
-            csvWriter.writeNext(inputData);
-        } catch (IOException e) {
-            throw new IOException(e);
-        }
+        ArrayList<String[]> profileData = new ArrayList<>();
+        String[] headerRecord = {"Name"};
+        profileData.add(headerRecord);
+        profileData.add(inputData);
+        writeFile(profileData, fileName);
     }
 
     /**
@@ -102,17 +420,80 @@ public class Storage {
      * @throws IOException when unable to read the file.
      */
     public List<String[]> readFile(String fileName) throws IOException {
-        try (
-                Reader reader = Files.newBufferedReader(Paths.get(path + fileName));
-                CSVReader csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build();
-        ) {
+        try (CsvRowReader rowReader = openFile(fileName)) {
             List<String[]> list = new ArrayList<>();
-            list = csvReader.readAll();
-            reader.close();
-            csvReader.close();
+            String[] row;
+            while ((row = rowReader.readRow()) != null) {
+                list.add(row);
+            }
             return list;
-        } catch (IOException e) {
-            throw new IOException(e);
         }
     }
+
+    /**
+     * Opens the input file to be read one row at a time, skipping its header.
+     * Changed rows of the file still pending in the storage writer are written first.
+     *
+     * @param fileName the name of the input file to read from.
+     * @return the reader of the rows in the file.
+     * @throws IOException when unable to open the file.
+     */
+    public CsvRowReader openFile(String fileName) throws IOException {
+        long startTime = System.nanoTime();
+        StorageTransaction transaction = StorageTransaction.getActive(path);
+        if (transaction != null && transaction.isFileExist(fileName) != null) {
+            List<String> stagedLines = transaction.getStagedLines(fileName);
+            if (stagedLines == null) {
+                throw new IOException("File " + fileName + " has been deleted");
+            }
+            return createRowReader(fileName, String.join(CSVWriter.DEFAULT_LINE_END, stagedLines), startTime);
+        }
+        StorageWriter storageWriter = StorageWriter.getOpenWriter(path);
+        if (storageWriter != null && storageWriter.hasPendingSplices(fileName)) {
+            storageWriter.flush();
+        }
+        if (storageWriter != null && !storageWriter.hasPendingSplices(fileName)
+                && storageWriter.isFileExist(fileName) != null) {
+            List<String> pendingLines = storageWriter.getPendingLines(fileName);
+            if (pendingLines == null) {
+                throw new IOException("File " + fileName + " has been deleted");
+            }
+            return createRowReader(fileName, String.join(CSVWriter.DEFAULT_LINE_END, pendingLines), startTime);
+        }
+        StorageJournal journal = StorageJournal.getOpenJournal(path);
+        List<String> trackedLines = journal == null ? null : journal.getTrackedLines(fileName);
+        if (journal != null && Boolean.FALSE.equals(journal.isFileExist(fileName))) {
+            throw new IOException("File " + fileName + " has been deleted");
+        }
+        if (trackedLines != null) {
+            return createRowReader(fileName, String.join(CSVWriter.DEFAULT_LINE_END, trackedLines), startTime);
+        }
+        Path filePath = Paths.get(path + fileName);
+        READ_SIZE.record(Files.size(filePath));
+        return new CsvRowReader(Files.newBufferedReader(filePath), getReadTimer(fileName), startTime);
+    }
+
+    /**
+     * Creates the reader of the rows of content that is not on disk yet.
+     *
+     * @param fileName the name of the file the content is for.
+     * @param content the content of the file.
+     * @param startTime the time the file started to be opened, from {@link System#nanoTime()}.
+     * @return the reader of the rows in the content.
+     */
+    private static CsvRowReader createRowReader(String fileName, String content, long startTime) {
+        READ_SIZE.record(content.length());
+        return new CsvRowReader(new StringReader(content), getReadTimer(fileName), startTime);
+    }
+
+    /**
+     * Gets the histogram of the time taken to read files of the same kind as the file specified,
+     * which are named alike apart from the position of their account.
+     *
+     * @param fileName the name of the file.
+     * @return the histogram of the time taken to read the file.
+     */
+    private static Histogram getReadTimer(String fileName) {
+        return MetricsCenter.getTimer(READ_METRIC_PREFIX + FILE_INDEX_PREFIX.matcher(fileName).replaceFirst(""));
+    }
 }
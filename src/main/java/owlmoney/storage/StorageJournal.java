@@ -0,0 +1,985 @@
+package owlmoney.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.opencsv.CSVWriter;
+
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+/**
+ * Append-only write-ahead journal that records changes to the CSV files of a storage directory.
+ *
+ * <p>Each write only appends the rows that changed, either as reported by the data that changed them
+ * or as found by comparing the full content with the previous write of that file,
+ * and the full CSV snapshots are compacted from the journal on a background thread.
+ * Writes to several files committed together are enclosed in begin and commit records numbered by generation,
+ * so that a commit cut short by the program stopping midway is ignored as a whole.</p>
+ */
+public class StorageJournal {
+    private static final Map<String, StorageJournal> openJournals = new HashMap<>();
+    private static final Logger logger = getLogger(StorageJournal.class);
+    private static final Histogram APPEND_TIME = MetricsCenter.getTimer("storage.journal.append");
+    private static final Histogram APPEND_SIZE = MetricsCenter.getHistogram("storage.journal.bytes", "bytes");
+    private static final String JOURNAL_FILE_NAME = "journal.log";
+    private static final String OLD_JOURNAL_FILE_NAME = "journal.old";
+    private static final String COMMIT_FILE_NAME = "journal.commit";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SPLICE_RECORD = "S";
+    private static final String DELETE_RECORD = "D";
+    private static final String JOURNAL_RECORD = "J";
+    private static final String BEGIN_RECORD = "B";
+    private static final String END_RECORD = "C";
+    private static final String RECORD_SEPARATOR = ",";
+    private static final int SPLICE_FIELD_COUNT = 5;
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final int RESYNC_WINDOW = 8;
+    private static final int ISZERO = 0;
+
+    private final String path;
+    private final Map<String, List<String>> files = new HashMap<>();
+    private final Map<String, Boolean> dirtyFiles = new LinkedHashMap<>();
+    private final Map<String, Supplier<? extends List<String[]>>> deferredWrites = new LinkedHashMap<>();
+    private final ExecutorService compactor;
+    private BufferedWriter journalWriter;
+    private int recordCount;
+    private long generation;
+    private boolean isCompactionQueued;
+    private boolean isDeferringWrites;
+
+    /**
+     * Creates a journal for the storage directory specified.
+     *
+     * @param path the storage directory the journal is for.
+     */
+    private StorageJournal(String path) {
+        this.path = path;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the journal of the storage directory, recovering any changes and commits left by a previous session.
+     * All Storage instances of the directory will write to the journal until it is closed.
+     *
+     * @param path the storage directory to journal.
+     * @return the opened journal.
+     * @throws IOException when unable to recover or open the journal.
+     */
+    public static synchronized StorageJournal open(String path) throws IOException {
+        StorageJournal journal = openJournals.get(path);
+        if (journal != null) {
+            return journal;
+        }
+        Files.createDirectories(Paths.get(path));
+        CommitManifest.forPath(path);
+        journal = new StorageJournal(path);
+        journal.recover();
+        journal.openJournalWriter();
+        openJournals.put(path, journal);
+        logger.info("Opened storage journal for " + path);
+        return journal;
+    }
+
+    /**
+     * Gets the journal currently opened for the storage directory.
+     *
+     * @param path the storage directory.
+     * @return the opened journal, or null if the directory is not journaled.
+     */
+    static synchronized StorageJournal getOpenJournal(String path) {
+        return openJournals.get(path);
+    }
+
+    /**
+     * Records the full content of a file, appending only the rows that changed to the journal.
+     *
+     * @param fileName name of the file written.
+     * @param inputData the full content of the file, including its header.
+     * @throws IOException when unable to append to the journal.
+     */
+    synchronized void recordWrite(String fileName, List<String[]> inputData) throws IOException {
+        List<String[]> writtenData = new ArrayList<>(inputData);
+        recordWrite(fileName, () -> writtenData);
+    }
+
+    /**
+     * Records the full content of a file that is only prepared when it is journaled.
+     * While writes are deferred, only the latest content of the file is prepared, once the writes are applied.
+     *
+     * @param fileName name of the file written.
+     * @param inputDataSupplier prepares the full content of the file, including its header.
+     * @throws IOException when unable to append to the journal.
+     */
+    synchronized void recordWrite(String fileName, Supplier<? extends List<String[]>> inputDataSupplier)
+            throws IOException {
+        if (isDeferringWrites) {
+            deferredWrites.remove(fileName);
+            deferredWrites.put(fileName, inputDataSupplier);
+            return;
+        }
+        appendWrite(fileName, inputDataSupplier.get());
+    }
+
+    /**
+     * Records the rows of a file that changed, appending only those rows to the journal.
+     * While writes are deferred, the full content of the file is deferred instead.
+     *
+     * @param fileName name of the file written.
+     * @param splices the changes to the rows of the file in the order they were made.
+     * @param inputDataSupplier prepares the full content of the file, including its header.
+     * @throws IOException when unable to append to the journal or the changes do not fit the file.
+     */
+    synchronized void recordSplices(String fileName, List<FileSplice> splices,
+            Supplier<? extends List<String[]>> inputDataSupplier) throws IOException {
+        if (isDeferringWrites) {
+            recordWrite(fileName, inputDataSupplier);
+            return;
+        }
+        appendCommit(Map.of(), Map.of(fileName, splices));
+    }
+
+    /**
+     * Records the writes and deletions of several files that must all be applied or none of them.
+     * While writes are deferred, they are only kept until the deferred writes are applied together.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @throws IOException when unable to append to the journal.
+     */
+    synchronized void recordCommit(Map<String, ? extends Supplier<? extends List<String[]>>> writes)
+            throws IOException {
+        recordCommit(writes, Map.of());
+    }
+
+    /**
+     * Records the writes and deletions of several files and the changed rows of others,
+     * all of which must be applied or none of them.
+     * While writes are deferred, the writes are kept until the deferred writes are applied,
+     * and the changed rows are appended after every deferred write has been applied.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @param splices the changes to the rows of each file whose rows changed.
+     * @throws IOException when unable to append to the journal or the changes do not fit a file.
+     */
+    synchronized void recordCommit(Map<String, ? extends Supplier<? extends List<String[]>>> writes,
+            Map<String, List<FileSplice>> splices) throws IOException {
+        if (isDeferringWrites) {
+            for (Map.Entry<String, ? extends Supplier<? extends List<String[]>>> write : writes.entrySet()) {
+                deferredWrites.remove(write.getKey());
+                deferredWrites.put(write.getKey(), write.getValue());
+            }
+            if (!splices.isEmpty()) {
+                applyDeferredWrites();
+                appendCommit(Map.of(), splices);
+            }
+            return;
+        }
+        appendCommit(writes, splices);
+    }
+
+    /**
+     * Appends the rows of a file that changed since its previous write to the journal.
+     *
+     * @param fileName name of the file written.
+     * @param inputData the full content of the file, including its header.
+     * @throws IOException when unable to append to the journal.
+     */
+    private void appendWrite(String fileName, List<String[]> inputData) throws IOException {
+        StringBuilder records = new StringBuilder();
+        Map<String, List<String>> changedLines = new HashMap<>();
+        if (diffWrite(records, changedLines, fileName, inputData)) {
+            appendRecords(records);
+            dirtyFiles.put(fileName, true);
+        }
+        files.putAll(changedLines);
+    }
+
+    /**
+     * Appends the records of the rows of a file that changed since its previous write.
+     * The new content is only kept in the changed lines, to replace the content of the file
+     * once the records have been appended.
+     *
+     * @param records the records to append to.
+     * @param changedLines the new content of each file changed, to add the file to.
+     * @param fileName name of the file written.
+     * @param inputData the full content of the file, including its header.
+     * @return true if the file changed.
+     * @throws IOException when unable to read the current content of the file.
+     */
+    private boolean diffWrite(StringBuilder records, Map<String, List<String>> changedLines, String fileName,
+            List<String[]> inputData) throws IOException {
+        List<String> newLines = renderLines(inputData);
+        List<String> oldLines = getCurrentLines(fileName);
+        int recordsStart = records.length();
+        if (oldLines == null) {
+            appendSplice(records, fileName, ISZERO, ISZERO, newLines, ISZERO, newLines.size());
+        } else {
+            appendDifference(records, fileName, oldLines, newLines);
+        }
+        changedLines.put(fileName, newLines);
+        return records.length() > recordsStart;
+    }
+
+    /**
+     * Records the deletion of a file.
+     *
+     * @param fileName name of the file deleted.
+     * @throws IOException when unable to append to the journal.
+     */
+    synchronized void recordDelete(String fileName) throws IOException {
+        if (isDeferringWrites) {
+            deferredWrites.remove(fileName);
+            deferredWrites.put(fileName, null);
+            return;
+        }
+        appendDelete(fileName);
+    }
+
+    /**
+     * Appends the deletion of a file to the journal.
+     *
+     * @param fileName name of the file deleted.
+     * @throws IOException when unable to append to the journal.
+     */
+    private void appendDelete(String fileName) throws IOException {
+        StringBuilder records = new StringBuilder();
+        Map<String, List<String>> changedLines = new HashMap<>();
+        if (diffDelete(records, changedLines, fileName)) {
+            appendRecords(records);
+            dirtyFiles.put(fileName, true);
+        }
+        files.putAll(changedLines);
+    }
+
+    /**
+     * Appends the record of the deletion of a file if the file exists.
+     * The file is only marked as deleted in the changed lines, to be removed once the record has been appended.
+     *
+     * @param records the records to append to.
+     * @param changedLines the new content of each file changed, to add the file to.
+     * @param fileName name of the file deleted.
+     * @return true if the file existed.
+     * @throws IOException when unable to read the current content of the file.
+     */
+    private boolean diffDelete(StringBuilder records, Map<String, List<String>> changedLines, String fileName)
+            throws IOException {
+        List<String> oldLines = getCurrentLines(fileName);
+        changedLines.put(fileName, null);
+        if (oldLines == null) {
+            return false;
+        }
+        records.append(DELETE_RECORD).append(RECORD_SEPARATOR).append(fileName).append('\n');
+        return true;
+    }
+
+    /**
+     * Appends the writes and deletions of several files and the changed rows of others to the journal at once.
+     * If more than one file changed, the records are enclosed in begin and commit records of a new generation.
+     * Written files and changed rows are only applied to the content of their file once they have been appended,
+     * so that they can be recorded again if appending fails.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     * @param splices the changes to the rows of each file whose rows changed.
+     * @throws IOException when unable to append to the journal or the changes do not fit a file.
+     */
+    private void appendCommit(Map<String, ? extends Supplier<? extends List<String[]>>> writes,
+            Map<String, List<FileSplice>> splices) throws IOException {
+        StringBuilder records = new StringBuilder();
+        List<String> changedFiles = new ArrayList<>();
+        Map<String, List<String>> changedLines = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends Supplier<? extends List<String[]>>> write : writes.entrySet()) {
+            String fileName = write.getKey();
+            boolean isChanged = write.getValue() == null
+                    ? diffDelete(records, changedLines, fileName)
+                    : diffWrite(records, changedLines, fileName, write.getValue().get());
+            if (isChanged) {
+                changedFiles.add(fileName);
+            }
+        }
+        Map<String, List<List<String>>> insertedLines = new LinkedHashMap<>();
+        for (Map.Entry<String, List<FileSplice>> fileSplices : splices.entrySet()) {
+            String fileName = fileSplices.getKey();
+            List<List<String>> fileInsertedLines = spliceWrite(records, fileName, fileSplices.getValue());
+            if (!fileInsertedLines.isEmpty()) {
+                insertedLines.put(fileName, fileInsertedLines);
+                changedFiles.add(fileName);
+            }
+        }
+        if (changedFiles.isEmpty()) {
+            files.putAll(changedLines);
+            return;
+        }
+        if (changedFiles.size() > 1) {
+            generation++;
+            records.insert(ISZERO, BEGIN_RECORD + RECORD_SEPARATOR + generation + "\n");
+            records.append(END_RECORD).append(RECORD_SEPARATOR).append(generation).append('\n');
+        }
+        appendRecords(records);
+        files.putAll(changedLines);
+        for (Map.Entry<String, List<List<String>>> fileInsertedLines : insertedLines.entrySet()) {
+            List<String> lines = files.get(fileInsertedLines.getKey());
+            List<FileSplice> fileSplices = splices.get(fileInsertedLines.getKey());
+            for (int i = ISZERO; i < fileSplices.size(); i++) {
+                fileSplices.get(i).applyTo(lines, fileInsertedLines.getValue().get(i));
+            }
+        }
+        for (String fileName : changedFiles) {
+            dirtyFiles.put(fileName, true);
+        }
+    }
+
+    /**
+     * Appends the records of the rows of a file that changed, without reading or rendering the other rows.
+     *
+     * @param records the records to append to.
+     * @param fileName name of the file written.
+     * @param splices the changes to the rows of the file in the order they were made.
+     * @return the rendered lines inserted by each change, or an empty list if there are no changes.
+     * @throws IOException when unable to read the current content of the file or the changes do not fit it.
+     */
+    private List<List<String>> spliceWrite(StringBuilder records, String fileName, List<FileSplice> splices)
+            throws IOException {
+        List<String> oldLines = getCurrentLines(fileName);
+        if (oldLines == null || !FileSplice.isApplicable(splices, oldLines.size())) {
+            throw new IOException("Changed rows do not fit the saved content of " + fileName);
+        }
+        List<List<String>> insertedLines = new ArrayList<>();
+        for (FileSplice splice : splices) {
+            List<String> newLines = renderLines(splice.getInsertedRows());
+            appendSplice(records, fileName, splice.getPosition(), splice.getDeleteCount(),
+                    newLines, ISZERO, newLines.size());
+            insertedLines.add(newLines);
+        }
+        return insertedLines;
+    }
+
+    /**
+     * Checks whether the journal knows the file and whether it currently exists.
+     *
+     * @param fileName name of the file.
+     * @return true or false if the journal tracks the file, null if it has to be checked on disk.
+     */
+    synchronized Boolean isFileExist(String fileName) {
+        if (deferredWrites.containsKey(fileName)) {
+            return deferredWrites.get(fileName) != null;
+        }
+        if (!files.containsKey(fileName)) {
+            return null;
+        }
+        return files.get(fileName) != null;
+    }
+
+    /**
+     * Gets the current content of a file known to the journal.
+     *
+     * @param fileName name of the file.
+     * @return the lines of the file, or null if it has to be read from disk.
+     * @throws IOException when unable to render a deferred write of the file.
+     */
+    synchronized List<String> getTrackedLines(String fileName) throws IOException {
+        if (deferredWrites.containsKey(fileName)) {
+            Supplier<? extends List<String[]>> deferredData = deferredWrites.get(fileName);
+            return deferredData == null ? null : renderLines(deferredData.get());
+        }
+        List<String> lines = files.get(fileName);
+        return lines == null ? null : new ArrayList<>(lines);
+    }
+
+    /**
+     * Keeps only the latest content of each file written until the deferred writes are applied,
+     * so that a file written by many commands in a row is diffed and journaled once.
+     */
+    public synchronized void deferWrites() {
+        isDeferringWrites = true;
+        logger.info("Deferring writes to storage journal for " + path);
+    }
+
+    /**
+     * Appends the latest content of every file written since the writes were deferred to the journal
+     * as one commit, so that the writes of a batch are applied together or not at all.
+     * Writes made afterwards are still deferred until {@link #stopDeferringWrites()} is called.
+     *
+     * @throws IOException when unable to append to the journal.
+     */
+    public synchronized void applyDeferredWrites() throws IOException {
+        if (deferredWrites.isEmpty()) {
+            return;
+        }
+        Map<String, Supplier<? extends List<String[]>>> writes = new LinkedHashMap<>(deferredWrites);
+        deferredWrites.clear();
+        appendCommit(writes, Map.of());
+    }
+
+    /**
+     * Prepares the content of every deferred write now, so that later changes to the data do not affect them.
+     * Used before data files are renamed by their position shifting, such as when an account is deleted.
+     */
+    synchronized void captureDeferredWrites() {
+        for (Map.Entry<String, Supplier<? extends List<String[]>>> deferredWrite : deferredWrites.entrySet()) {
+            if (deferredWrite.getValue() != null) {
+                List<String[]> capturedData = deferredWrite.getValue().get();
+                deferredWrite.setValue(() -> capturedData);
+            }
+        }
+    }
+
+    /**
+     * Applies the deferred writes and journals every later write as soon as it is made.
+     *
+     * @throws IOException when unable to append to the journal.
+     */
+    public synchronized void stopDeferringWrites() throws IOException {
+        isDeferringWrites = false;
+        applyDeferredWrites();
+        logger.info("Stopped deferring writes to storage journal for " + path);
+    }
+
+    /**
+     * Compacts all pending changes into the CSV snapshots and waits for it to complete.
+     *
+     * @throws IOException when unable to write the snapshots.
+     */
+    public void flush() throws IOException {
+        applyDeferredWrites();
+        Future<?> compaction = compactor.submit(this::compactQuietly);
+        try {
+            compaction.get();
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        synchronized (this) {
+            if (!dirtyFiles.isEmpty()) {
+                throw new IOException("Unable to compact storage journal");
+            }
+        }
+    }
+
+    /**
+     * Compacts all pending changes and closes the journal, writing directly to CSV files afterwards.
+     *
+     * @throws IOException when unable to write the snapshots.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (StorageJournal.class) {
+                openJournals.remove(path);
+            }
+            compactor.shutdown();
+            try {
+                compactor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                if (journalWriter != null) {
+                    journalWriter.close();
+                }
+            }
+            logger.info("Closed storage journal for " + path);
+        }
+    }
+
+    /**
+     * Renders rows exactly as they are written to the CSV files.
+     *
+     * @param inputData the rows to render.
+     * @return the rendered lines without line endings.
+     * @throws IOException when unable to render the rows.
+     */
+    static List<String> renderLines(List<String[]> inputData) throws IOException {
+        List<String> lines = new ArrayList<>(inputData.size());
+        StringWriter writer = new StringWriter();
+        try (
+                CSVWriter csvWriter = new CSVWriter(writer,
+                        CSVWriter.DEFAULT_SEPARATOR,
+                        CSVWriter.NO_QUOTE_CHARACTER,
+                        CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                        "");
+        ) {
+            for (String[] line : inputData) {
+                csvWriter.writeNext(line);
+                csvWriter.flush();
+                lines.add(writer.toString());
+                writer.getBuffer().setLength(ISZERO);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Gets the current content of a file, reading it from disk the first time it is needed.
+     *
+     * @param fileName name of the file.
+     * @return the lines of the file, or null if the file does not exist.
+     * @throws IOException when unable to read the file.
+     */
+    private List<String> getCurrentLines(String fileName) throws IOException {
+        if (!files.containsKey(fileName)) {
+            Path filePath = Paths.get(path + fileName);
+            files.put(fileName, Files.exists(filePath) ? new ArrayList<>(Files.readAllLines(filePath)) : null);
+        }
+        return files.get(fileName);
+    }
+
+    /**
+     * Appends the splices needed to turn the old lines into the new lines.
+     * Matching lines are skipped and the scan resynchronises within a small window after each change,
+     * so an appended, edited or deleted row and the eviction of the oldest row each cost only a few lines.
+     *
+     * @param records the records to append to.
+     * @param fileName name of the file.
+     * @param oldLines lines currently in the file.
+     * @param newLines lines the file should contain.
+     */
+    private void appendDifference(StringBuilder records, String fileName, List<String> oldLines,
+            List<String> newLines) {
+        int oldIndex = ISZERO;
+        int newIndex = ISZERO;
+        int oldSize = oldLines.size();
+        int newSize = newLines.size();
+        while (oldIndex < oldSize && newIndex < newSize) {
+            if (oldLines.get(oldIndex).equals(newLines.get(newIndex))) {
+                oldIndex++;
+                newIndex++;
+                continue;
+            }
+            int[] resync = findResync(oldLines, oldIndex, newLines, newIndex);
+            if (resync == null) {
+                int suffix = ISZERO;
+                while (suffix < oldSize - oldIndex && suffix < newSize - newIndex
+                        && oldLines.get(oldSize - 1 - suffix).equals(newLines.get(newSize - 1 - suffix))) {
+                    suffix++;
+                }
+                appendSplice(records, fileName, newIndex, oldSize - oldIndex - suffix,
+                        newLines, newIndex, newSize - suffix);
+                return;
+            }
+            appendSplice(records, fileName, newIndex, resync[0], newLines, newIndex, newIndex + resync[1]);
+            oldIndex += resync[0];
+            newIndex += resync[1];
+        }
+        if (oldIndex < oldSize || newIndex < newSize) {
+            appendSplice(records, fileName, newIndex, oldSize - oldIndex, newLines, newIndex, newSize);
+        }
+    }
+
+    /**
+     * Finds the smallest number of old and new lines to skip before both lists match again.
+     *
+     * @param oldLines lines currently in the file.
+     * @param oldIndex position of the first mismatching old line.
+     * @param newLines lines the file should contain.
+     * @param newIndex position of the first mismatching new line.
+     * @return the number of old lines to delete and new lines to insert, or null if none within the window.
+     */
+    private int[] findResync(List<String> oldLines, int oldIndex, List<String> newLines, int newIndex) {
+        for (int distance = 1; distance <= RESYNC_WINDOW; distance++) {
+            for (int deleted = ISZERO; deleted <= distance; deleted++) {
+                int inserted = distance - deleted;
+                int oldPosition = oldIndex + deleted;
+                int newPosition = newIndex + inserted;
+                if (oldPosition < oldLines.size() && newPosition < newLines.size()
+                        && oldLines.get(oldPosition).equals(newLines.get(newPosition))) {
+                    return new int[]{deleted, inserted};
+                }
+                if (oldPosition == oldLines.size() && newPosition == newLines.size()) {
+                    return new int[]{deleted, inserted};
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Appends a splice record that deletes lines at a position and inserts new lines in their place.
+     *
+     * @param records the records to append to.
+     * @param fileName name of the file.
+     * @param position line position of the splice.
+     * @param deleteCount number of lines deleted.
+     * @param newLines lines the file should contain.
+     * @param insertStart first inserted line in newLines.
+     * @param insertEnd position after the last inserted line in newLines.
+     */
+    private void appendSplice(StringBuilder records, String fileName, int position, int deleteCount,
+            List<String> newLines, int insertStart, int insertEnd) {
+        records.append(SPLICE_RECORD).append(RECORD_SEPARATOR).append(fileName)
+                .append(RECORD_SEPARATOR).append(position)
+                .append(RECORD_SEPARATOR).append(deleteCount)
+                .append(RECORD_SEPARATOR).append(insertEnd - insertStart).append('\n');
+        for (int i = insertStart; i < insertEnd; i++) {
+            records.append(newLines.get(i)).append('\n');
+        }
+    }
+
+    /**
+     * Appends records to the journal and queues a compaction once enough records have accumulated.
+     *
+     * @param records the records to append.
+     * @throws IOException when unable to append to the journal.
+     */
+    private void appendRecords(StringBuilder records) throws IOException {
+        if (journalWriter == null) {
+            queueCompaction();
+            throw new IOException("Storage journal is closed until its last compaction is finished");
+        }
+        long startTime = System.nanoTime();
+        journalWriter.write(records.toString());
+        journalWriter.flush();
+        APPEND_TIME.recordSince(startTime);
+        Storage.PERSIST_TIME.recordSince(startTime);
+        APPEND_SIZE.record(records.length());
+        recordCount++;
+        if (recordCount >= COMPACTION_THRESHOLD) {
+            queueCompaction();
+        }
+    }
+
+    /**
+     * Queues a compaction on the background thread unless one is already queued.
+     */
+    private void queueCompaction() {
+        if (!isCompactionQueued) {
+            isCompactionQueued = true;
+            compactor.submit(this::compactQuietly);
+        }
+    }
+
+    /**
+     * Compacts pending changes, logging instead of throwing so the background thread keeps running.
+     */
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Error compacting storage journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the snapshots of all files changed since the last compaction and discards their journal.
+     * The journal is rotated under the lock so that writers only wait for in-memory copies,
+     * and a commit file makes the rename of the snapshots recoverable if the program stops midway.
+     * The journal is never rotated over an old journal left by a failed compaction, as its records
+     * would be lost; the old journal is compacted together with the current one instead.
+     *
+     * @throws IOException when unable to write the snapshots.
+     */
+    private void compact() throws IOException {
+        Map<String, List<String>> snapshots = new LinkedHashMap<>();
+        synchronized (this) {
+            isCompactionQueued = false;
+            finishPendingCommit();
+            if (dirtyFiles.isEmpty()) {
+                return;
+            }
+            if (Files.exists(Paths.get(path + OLD_JOURNAL_FILE_NAME))) {
+                compactBothJournals();
+                return;
+            }
+            for (String fileName : dirtyFiles.keySet()) {
+                List<String> lines = files.get(fileName);
+                snapshots.put(fileName, lines == null ? null : new ArrayList<>(lines));
+            }
+            journalWriter.close();
+            Files.move(Paths.get(path + JOURNAL_FILE_NAME), Paths.get(path + OLD_JOURNAL_FILE_NAME));
+            openJournalWriter();
+            dirtyFiles.clear();
+            recordCount = ISZERO;
+        }
+        try {
+            writeSnapshots(snapshots, List.of(OLD_JOURNAL_FILE_NAME));
+        } catch (IOException e) {
+            synchronized (this) {
+                for (String fileName : snapshots.keySet()) {
+                    dirtyFiles.put(fileName, true);
+                }
+            }
+            throw e;
+        }
+        logger.info("Compacted storage journal into " + snapshots.size() + " files");
+    }
+
+    /**
+     * Finishes a commit whose snapshots were committed but not all moved into place by a failed compaction,
+     * and reopens the journal if it was left closed because the commit removes it.
+     *
+     * @throws IOException when unable to move the snapshots.
+     */
+    private void finishPendingCommit() throws IOException {
+        Path commitPath = Paths.get(path + COMMIT_FILE_NAME);
+        if (Files.exists(commitPath)) {
+            finishCommit(Files.readAllLines(commitPath));
+        }
+        if (journalWriter == null) {
+            openJournalWriter();
+        }
+    }
+
+    /**
+     * Writes the snapshots of all changed files and discards both the old journal left by a failed compaction
+     * and the current journal. Writers wait until it completes, as the current journal cannot be appended to
+     * while its records are being compacted. If the commit is written but cannot be finished, the journal is
+     * left closed so that no record is appended to a journal the commit removes.
+     *
+     * @throws IOException when unable to write the snapshots.
+     */
+    private void compactBothJournals() throws IOException {
+        Map<String, List<String>> snapshots = new LinkedHashMap<>();
+        for (String fileName : dirtyFiles.keySet()) {
+            List<String> lines = files.get(fileName);
+            snapshots.put(fileName, lines == null ? null : new ArrayList<>(lines));
+        }
+        journalWriter.close();
+        journalWriter = null;
+        try {
+            writeSnapshots(snapshots, List.of(OLD_JOURNAL_FILE_NAME, JOURNAL_FILE_NAME));
+            dirtyFiles.clear();
+            recordCount = ISZERO;
+        } finally {
+            if (!Files.exists(Paths.get(path + COMMIT_FILE_NAME))) {
+                openJournalWriter();
+            }
+        }
+        logger.info("Compacted old and current storage journals into " + snapshots.size() + " files");
+    }
+
+    /**
+     * Writes snapshots to temporary files, commits them and removes the journals they were compacted from.
+     *
+     * @param snapshots the content of each file, or null for deleted files.
+     * @param journalFileNames the journals whose records are contained in the snapshots.
+     * @throws IOException when unable to write the snapshots.
+     */
+    private void writeSnapshots(Map<String, List<String>> snapshots, List<String> journalFileNames)
+            throws IOException {
+        List<String> committedFiles = new ArrayList<>();
+        for (Map.Entry<String, List<String>> snapshot : snapshots.entrySet()) {
+            String fileName = snapshot.getKey();
+            List<String> lines = snapshot.getValue();
+            if (lines == null) {
+                committedFiles.add(DELETE_RECORD + RECORD_SEPARATOR + fileName);
+            } else {
+                writeLines(Paths.get(path + fileName + TEMP_SUFFIX), lines);
+                committedFiles.add(SPLICE_RECORD + RECORD_SEPARATOR + fileName);
+            }
+        }
+        for (String journalFileName : journalFileNames) {
+            committedFiles.add(JOURNAL_RECORD + RECORD_SEPARATOR + journalFileName);
+        }
+        Path tempCommitPath = Paths.get(path + COMMIT_FILE_NAME + TEMP_SUFFIX);
+        writeLines(tempCommitPath, committedFiles);
+        Storage.moveIntoPlace(tempCommitPath, Paths.get(path + COMMIT_FILE_NAME));
+        finishCommit(committedFiles);
+    }
+
+    /**
+     * Writes lines to a file with the same line endings as the CSV writer.
+     *
+     * @param filePath the file to write.
+     * @param lines the lines to write.
+     * @throws IOException when unable to write the file.
+     */
+    private void writeLines(Path filePath, List<String> lines) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write(CSVWriter.DEFAULT_LINE_END);
+            }
+        }
+    }
+
+    /**
+     * Moves committed snapshots into place and removes the compacted journals and commit file.
+     *
+     * @param committedFiles the committed entries as written in the commit file.
+     * @throws IOException when unable to move the snapshots.
+     */
+    private void finishCommit(List<String> committedFiles) throws IOException {
+        for (String committedFile : committedFiles) {
+            String fileName = committedFile.substring(committedFile.indexOf(RECORD_SEPARATOR) + 1);
+            Path filePath = Paths.get(path + fileName);
+            Path tempPath = Paths.get(path + fileName + TEMP_SUFFIX);
+            if (committedFile.startsWith(JOURNAL_RECORD) || committedFile.startsWith(DELETE_RECORD)) {
+                Files.deleteIfExists(filePath);
+            } else if (Files.exists(tempPath)) {
+                Storage.moveIntoPlace(tempPath, filePath);
+            }
+        }
+        Files.deleteIfExists(Paths.get(path + COMMIT_FILE_NAME));
+    }
+
+    /**
+     * Recovers changes left by a previous session into the CSV snapshots.
+     * A commit file is only trusted once it has been moved into place whole,
+     * so a commit file left half written is discarded and the old journal replayed instead.
+     *
+     * @throws IOException when unable to recover the changes.
+     */
+    private void recover() throws IOException {
+        Files.deleteIfExists(Paths.get(path + COMMIT_FILE_NAME + TEMP_SUFFIX));
+        Path commitPath = Paths.get(path + COMMIT_FILE_NAME);
+        if (Files.exists(commitPath)) {
+            finishCommit(Files.readAllLines(commitPath));
+        } else {
+            replayJournal(Paths.get(path + OLD_JOURNAL_FILE_NAME));
+        }
+        replayJournal(Paths.get(path + JOURNAL_FILE_NAME));
+        if (!dirtyFiles.isEmpty()) {
+            Map<String, List<String>> snapshots = new LinkedHashMap<>();
+            for (String fileName : dirtyFiles.keySet()) {
+                snapshots.put(fileName, files.get(fileName));
+            }
+            writeSnapshots(snapshots, List.of(OLD_JOURNAL_FILE_NAME, JOURNAL_FILE_NAME));
+            dirtyFiles.clear();
+            logger.info("Recovered " + snapshots.size() + " files from storage journal");
+        }
+    }
+
+    /**
+     * Applies the records of a journal file on top of the current content of the files.
+     * A record or commit cut short by the previous session stopping midway is ignored.
+     *
+     * @param journalPath the journal file to replay.
+     * @throws IOException when unable to read the journal or the files it changes.
+     */
+    private void replayJournal(Path journalPath) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath)) {
+            String header;
+            while ((header = reader.readLine()) != null) {
+                List<String[]> records = new ArrayList<>();
+                boolean isComplete = header.startsWith(BEGIN_RECORD + RECORD_SEPARATOR)
+                        ? readCommit(reader, header, records)
+                        : readRecord(reader, header, records);
+                if (!isComplete) {
+                    return;
+                }
+                for (String[] record : records) {
+                    applyRecord(record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a commit up to its commit record.
+     *
+     * @param reader the reader of the journal, positioned after the begin record.
+     * @param beginRecord the begin record of the commit.
+     * @param records the list to add the records read to.
+     * @return true if the whole commit was read, false if it was cut short.
+     * @throws IOException when unable to read the journal.
+     */
+    private boolean readCommit(BufferedReader reader, String beginRecord, List<String[]> records)
+            throws IOException {
+        String endRecord = END_RECORD + beginRecord.substring(BEGIN_RECORD.length());
+        String header;
+        while ((header = reader.readLine()) != null) {
+            if (header.equals(endRecord)) {
+                return true;
+            }
+            if (!readRecord(reader, header, records)) {
+                return false;
+            }
+        }
+        logger.warning("Ignoring incomplete storage journal commit: " + beginRecord);
+        return false;
+    }
+
+    /**
+     * Reads a single record of the journal, together with the lines it inserts.
+     * A record is read as its fields followed by the inserted lines, or as its fields alone for a deletion.
+     *
+     * @param reader the reader of the journal, positioned after the header of the record.
+     * @param header the first line of the record.
+     * @param records the list to add the record read to.
+     * @return true if the record was read, false if it is malformed or was cut short.
+     * @throws IOException when unable to read the journal.
+     */
+    private boolean readRecord(BufferedReader reader, String header, List<String[]> records) throws IOException {
+        String[] fields = header.split(RECORD_SEPARATOR);
+        if (DELETE_RECORD.equals(fields[0]) && fields.length == 2) {
+            records.add(fields);
+            return true;
+        }
+        if (!SPLICE_RECORD.equals(fields[0]) || fields.length != SPLICE_FIELD_COUNT) {
+            logger.warning("Ignoring malformed storage journal record: " + header);
+            return false;
+        }
+        int insertCount = Integer.parseInt(fields[4]);
+        String[] record = new String[fields.length + insertCount];
+        System.arraycopy(fields, ISZERO, record, ISZERO, fields.length);
+        for (int i = ISZERO; i < insertCount; i++) {
+            String line = reader.readLine();
+            if (line == null) {
+                logger.warning("Ignoring incomplete storage journal record for " + fields[1]);
+                return false;
+            }
+            record[fields.length + i] = line;
+        }
+        records.add(record);
+        return true;
+    }
+
+    /**
+     * Applies a record read from the journal to the current content of the file it changes.
+     *
+     * @param record the fields of the record followed by the lines it inserts.
+     * @throws IOException when unable to read the file it changes.
+     */
+    private void applyRecord(String[] record) throws IOException {
+        String fileName = record[1];
+        dirtyFiles.put(fileName, true);
+        if (DELETE_RECORD.equals(record[0])) {
+            files.put(fileName, null);
+            return;
+        }
+        List<String> lines = getCurrentLines(fileName);
+        if (lines == null) {
+            lines = new ArrayList<>();
+            files.put(fileName, lines);
+        }
+        int position = Integer.parseInt(record[2]);
+        lines.subList(position, position + Integer.parseInt(record[3])).clear();
+        lines.addAll(position, Arrays.asList(record).subList(SPLICE_FIELD_COUNT, record.length));
+    }
+
+    /**
+     * Opens the journal file for appending.
+     *
+     * @throws IOException when unable to open the journal file.
+     */
+    private void openJournalWriter() throws IOException {
+        journalWriter = Files.newBufferedWriter(Paths.get(path + JOURNAL_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
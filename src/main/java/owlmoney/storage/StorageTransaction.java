@@ -0,0 +1,133 @@
+package owlmoney.storage;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Stages every file written by one command to a storage directory so that they are saved together.
+ *
+ * <p>A transaction belongs to the thread that began it. Until it is committed, the writes and deletions
+ * made through any Storage instance of the directory on that thread are only staged, and reads on that thread
+ * see the staged content. Committing publishes all the staged files at once, so a command that changes
+ * several accounts never leaves only some of their files saved. Beginning a transaction while one is already
+ * active joins it, and only the outermost commit publishes the files.</p>
+ */
+public class StorageTransaction {
+    private static final ThreadLocal<Map<String, StorageTransaction>> activeTransactions =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private final Storage storage;
+    private final Map<String, Supplier<? extends List<String[]>>> stagedWrites = new LinkedHashMap<>();
+    private int depth;
+
+    /**
+     * Creates a transaction on the storage directory specified.
+     *
+     * @param storage the storage of the directory.
+     */
+    private StorageTransaction(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Begins a transaction on the storage directory for the current thread, or joins the one already active.
+     *
+     * @param storage the storage of the directory.
+     * @return the active transaction.
+     */
+    static StorageTransaction begin(Storage storage) {
+        StorageTransaction transaction = activeTransactions.get().computeIfAbsent(storage.getPath(),
+            path -> new StorageTransaction(storage));
+        transaction.depth++;
+        return transaction;
+    }
+
+    /**
+     * Gets the transaction active on the storage directory for the current thread.
+     *
+     * @param path the storage directory.
+     * @return the active transaction, or null if writes to the directory are not staged.
+     */
+    static StorageTransaction getActive(String path) {
+        return activeTransactions.get().get(path);
+    }
+
+    /**
+     * Stages the write of a file whose content is prepared when the transaction is committed.
+     *
+     * @param fileName name of the file written.
+     * @param inputDataSupplier prepares the full content of the file, including its header.
+     */
+    void stageWrite(String fileName, Supplier<? extends List<String[]>> inputDataSupplier) {
+        stagedWrites.remove(fileName);
+        stagedWrites.put(fileName, inputDataSupplier);
+    }
+
+    /**
+     * Stages the deletion of a file.
+     *
+     * @param fileName name of the file deleted.
+     */
+    void stageDelete(String fileName) {
+        stagedWrites.remove(fileName);
+        stagedWrites.put(fileName, null);
+    }
+
+    /**
+     * Checks whether a file is staged and whether it will exist once the transaction is committed.
+     *
+     * @param fileName name of the file.
+     * @return true or false if the file is staged, null if it has to be checked in storage.
+     */
+    Boolean isFileExist(String fileName) {
+        if (!stagedWrites.containsKey(fileName)) {
+            return null;
+        }
+        return stagedWrites.get(fileName) != null;
+    }
+
+    /**
+     * Gets the staged content of a file.
+     *
+     * @param fileName name of the file.
+     * @return the lines of the file, or null if it is not staged or is staged for deletion.
+     * @throws IOException when unable to render the content of the file.
+     */
+    List<String> getStagedLines(String fileName) throws IOException {
+        Supplier<? extends List<String[]>> inputDataSupplier = stagedWrites.get(fileName);
+        return inputDataSupplier == null ? null : StorageJournal.renderLines(inputDataSupplier.get());
+    }
+
+    /**
+     * Prepares the content of every staged write now, so that later changes to the data do not affect them.
+     */
+    void captureStagedWrites() {
+        for (Map.Entry<String, Supplier<? extends List<String[]>>> stagedWrite : stagedWrites.entrySet()) {
+            if (stagedWrite.getValue() != null) {
+                List<String[]> capturedData = stagedWrite.getValue().get();
+                stagedWrite.setValue(() -> capturedData);
+            }
+        }
+    }
+
+    /**
+     * Ends the transaction, publishing every staged file together if this is the outermost commit.
+     * The transaction ends even if the files cannot be published, and later writes are made as usual.
+     *
+     * @throws IOException when unable to publish the staged files.
+     */
+    public void commit() throws IOException {
+        depth--;
+        if (depth > 0) {
+            return;
+        }
+        activeTransactions.get().remove(storage.getPath());
+        if (!stagedWrites.isEmpty()) {
+            storage.commitFiles(stagedWrites);
+        }
+    }
+}
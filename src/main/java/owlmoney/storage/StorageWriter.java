@@ -0,0 +1,291 @@
+package owlmoney.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static owlmoney.commons.log.LogsCenter.getLogger;
+
+/**
+ * Saves the files of a storage directory on a background thread so that commands do not wait for the disk.
+ *
+ * <p>A command only records the latest content of the files it changed. The writes are made once the
+ * coalescing window has passed, so a file changed several times in a row is only written once.
+ * All the pending writes are saved together as one commit, so files changed by one command are never
+ * saved apart. Writes that fail are kept and retried later, and reads of a file that has not been written yet
+ * return its latest content. A command that only changed some rows of a file records just those rows,
+ * which are applied to the content of a pending write of the file or else kept in order to be journaled.</p>
+ */
+public class StorageWriter {
+    private static final Map<String, StorageWriter> openWriters = new HashMap<>();
+    private static final Logger logger = getLogger(StorageWriter.class);
+    private static final long COALESCE_WINDOW_MILLIS = 50;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final ScheduledExecutorService writerThread = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final Storage storage;
+    private final Map<String, List<String[]>> pendingWrites = new LinkedHashMap<>();
+    private final Map<String, List<FileSplice>> pendingSplices = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a writer for the storage directory specified.
+     *
+     * @param path the storage directory the writer is for.
+     */
+    private StorageWriter(String path) {
+        this.storage = new Storage(path);
+    }
+
+    /**
+     * Opens the writer of the storage directory.
+     * All Storage instances of the directory will record their writes to it until it is closed.
+     *
+     * @param path the storage directory to write in the background.
+     * @return the opened writer.
+     */
+    public static synchronized StorageWriter open(String path) {
+        StorageWriter writer = openWriters.get(path);
+        if (writer == null) {
+            writer = new StorageWriter(path);
+            openWriters.put(path, writer);
+            logger.info("Opened storage writer for " + path);
+        }
+        return writer;
+    }
+
+    /**
+     * Gets the writer currently opened for the storage directory.
+     *
+     * @param path the storage directory.
+     * @return the opened writer, or null if files of the directory are written by the command that changed them.
+     */
+    static synchronized StorageWriter getOpenWriter(String path) {
+        return openWriters.get(path);
+    }
+
+    /**
+     * Records the latest content of a file to be written in the background.
+     *
+     * @param fileName name of the file written.
+     * @param inputData the full content of the file, including its header.
+     */
+    synchronized void recordWrite(String fileName, List<String[]> inputData) {
+        pendingSplices.remove(fileName);
+        pendingWrites.remove(fileName);
+        pendingWrites.put(fileName, new ArrayList<>(inputData));
+        scheduleWrite(COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * Records the deletion of a file to be made in the background.
+     *
+     * @param fileName name of the file deleted.
+     */
+    synchronized void recordDelete(String fileName) {
+        pendingSplices.remove(fileName);
+        pendingWrites.remove(fileName);
+        pendingWrites.put(fileName, null);
+        scheduleWrite(COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * Records the writes and deletions of several files to be saved together in the background.
+     * The content of the files is prepared now.
+     *
+     * @param writes prepares the full content of each file written, or null for each file deleted.
+     */
+    synchronized void recordCommit(Map<String, ? extends Supplier<? extends List<String[]>>> writes) {
+        for (Map.Entry<String, ? extends Supplier<? extends List<String[]>>> write : writes.entrySet()) {
+            List<String[]> inputData = write.getValue() == null ? null : new ArrayList<>(write.getValue().get());
+            pendingSplices.remove(write.getKey());
+            pendingWrites.remove(write.getKey());
+            pendingWrites.put(write.getKey(), inputData);
+        }
+        scheduleWrite(COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * Records the rows of an existing file that changed, to be written in the background.
+     * If the full content of the file is pending, the changes are applied to a copy of it instead.
+     *
+     * @param fileName name of the file written.
+     * @param splices the changes to the rows of the file in the order they were made.
+     */
+    synchronized void recordSplices(String fileName, List<FileSplice> splices) {
+        List<String[]> pendingData = pendingWrites.get(fileName);
+        if (pendingData != null) {
+            List<String[]> inputData = new ArrayList<>(pendingData);
+            for (FileSplice splice : splices) {
+                splice.applyTo(inputData, splice.getInsertedRows());
+            }
+            pendingWrites.put(fileName, inputData);
+        } else {
+            pendingSplices.computeIfAbsent(fileName, key -> new ArrayList<>()).addAll(splices);
+        }
+        scheduleWrite(COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * Checks whether a file has a pending write and whether it will exist afterwards.
+     *
+     * @param fileName name of the file.
+     * @return true or false if the file has a pending write, null if it has to be checked in storage.
+     */
+    synchronized Boolean isFileExist(String fileName) {
+        if (pendingSplices.containsKey(fileName)) {
+            return true;
+        }
+        if (!pendingWrites.containsKey(fileName)) {
+            return null;
+        }
+        return pendingWrites.get(fileName) != null;
+    }
+
+    /**
+     * Checks whether only some rows of a file are pending, so its content can only be read once they are written.
+     *
+     * @param fileName name of the file.
+     * @return true if the file has pending changed rows.
+     */
+    synchronized boolean hasPendingSplices(String fileName) {
+        return pendingSplices.containsKey(fileName);
+    }
+
+    /**
+     * Gets the content of a file that has a pending write.
+     *
+     * @param fileName name of the file.
+     * @return the lines of the file, or null if it has no pending write or is pending deletion.
+     * @throws IOException when unable to render the content of the file.
+     */
+    synchronized List<String> getPendingLines(String fileName) throws IOException {
+        List<String[]> inputData = pendingWrites.get(fileName);
+        return inputData == null ? null : StorageJournal.renderLines(inputData);
+    }
+
+    /**
+     * Schedules the pending writes to be made after a delay unless they are already scheduled.
+     *
+     * @param delayMillis the delay before the writes are made.
+     */
+    private void scheduleWrite(long delayMillis) {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writerThread.schedule(this::writePendingQuietly, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Makes the pending writes, logging instead of throwing and retrying later if any of them fails.
+     */
+    private void writePendingQuietly() {
+        try {
+            writePending();
+        } catch (IOException exceptionMessage) {
+            logger.warning("Error writing to storage, will try again: " + exceptionMessage.getMessage());
+            synchronized (this) {
+                scheduleWrite(RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Makes every pending write together as one commit. A write stays pending until it is made,
+     * and is only removed afterwards if the file was not changed again in the meantime.
+     *
+     * @throws IOException when unable to write the files.
+     */
+    private void writePending() throws IOException {
+        Map<String, List<String[]>> writes;
+        Map<String, List<FileSplice>> splices = new LinkedHashMap<>();
+        Map<String, List<FileSplice>> splicesWritten = new LinkedHashMap<>();
+        synchronized (this) {
+            isWriteScheduled = false;
+            writes = new LinkedHashMap<>(pendingWrites);
+            for (Map.Entry<String, List<FileSplice>> fileSplices : pendingSplices.entrySet()) {
+                splices.put(fileSplices.getKey(), new ArrayList<>(fileSplices.getValue()));
+                splicesWritten.put(fileSplices.getKey(), fileSplices.getValue());
+            }
+        }
+        if (writes.isEmpty() && splices.isEmpty()) {
+            return;
+        }
+        Map<String, Supplier<List<String[]>>> commit = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String[]>> write : writes.entrySet()) {
+            List<String[]> inputData = write.getValue();
+            commit.put(write.getKey(), inputData == null ? null : () -> inputData);
+        }
+        storage.commitFilesNow(commit, splices);
+        synchronized (this) {
+            for (Map.Entry<String, List<String[]>> write : writes.entrySet()) {
+                String fileName = write.getKey();
+                if (pendingWrites.containsKey(fileName) && pendingWrites.get(fileName) == write.getValue()) {
+                    pendingWrites.remove(fileName);
+                }
+            }
+            for (Map.Entry<String, List<FileSplice>> fileSplices : splicesWritten.entrySet()) {
+                String fileName = fileSplices.getKey();
+                List<FileSplice> pendingFileSplices = fileSplices.getValue();
+                if (pendingSplices.get(fileName) == pendingFileSplices) {
+                    pendingFileSplices.subList(0, splices.get(fileName).size()).clear();
+                    if (pendingFileSplices.isEmpty()) {
+                        pendingSplices.remove(fileName);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes every pending write now and waits for them to complete.
+     *
+     * @throws IOException when unable to write a file.
+     */
+    public void flush() throws IOException {
+        Future<?> writes = writerThread.submit(() -> {
+            writePending();
+            return null;
+        });
+        try {
+            writes.get();
+        } catch (InterruptedException exceptionMessage) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing to storage");
+        } catch (ExecutionException exceptionMessage) {
+            synchronized (this) {
+                scheduleWrite(RETRY_DELAY_MILLIS);
+            }
+            throw new IOException(exceptionMessage.getCause());
+        }
+    }
+
+    /**
+     * Makes every pending write and closes the writer, so that later writes are made by the command itself.
+     * The writer stays open if a write fails, so that the write is retried.
+     *
+     * @throws IOException when unable to write a file.
+     */
+    public void close() throws IOException {
+        synchronized (StorageWriter.class) {
+            flush();
+            openWriters.remove(storage.getPath());
+        }
+        logger.info("Closed storage writer for " + storage.getPath());
+    }
+}
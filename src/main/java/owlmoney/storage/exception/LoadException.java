@@ -0,0 +1,24 @@
+package owlmoney.storage.exception;
+
+public class LoadException extends RuntimeException {
+    private String message;
+
+    /**
+     * Creates a new LoadException object.
+     *
+     * @param message The exception message.
+     */
+    public LoadException(String message) {
+        super(message);
+        this.message = message;
+    }
+
+    /**
+     * Converts any exception messages to string format.
+     *
+     * @return The corresponding message in string format.
+     */
+    public String toString() {
+        return this.message;
+    }
+}
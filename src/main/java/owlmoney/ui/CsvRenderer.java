@@ -0,0 +1,79 @@
+package owlmoney.ui;
+
+import java.math.BigDecimal;
+
+/**
+ * Renders tables as comma-separated values, for spreadsheets and programs reading the output.
+ * Every header is written as a line of the table name and column keys, every row starts with its table name,
+ * and messages are written as comment lines starting with {@code #}. Dividers are left out.
+ * Fields hold the raw values of the rows, such as amounts without a dollar sign and dates in ISO format.
+ */
+class CsvRenderer implements ResultRenderer {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String COMMENT_PREFIX = "# ";
+    private static final String TABLE_KEY = "table";
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    @Override
+    public void renderMessage(StringBuilder buffer, String message) {
+        for (String line : message.split("\\R", -1)) {
+            buffer.append(COMMENT_PREFIX).append(line).append(NEWLINE);
+        }
+    }
+
+    @Override
+    public void renderHeader(StringBuilder buffer, ResultTable table, Object... labels) {
+        buffer.append(TABLE_KEY);
+        for (String columnKey : table.getColumnKeys()) {
+            buffer.append(SEPARATOR);
+            appendField(buffer, columnKey);
+        }
+        buffer.append(NEWLINE);
+    }
+
+    @Override
+    public void renderRow(StringBuilder buffer, ResultTable table, Object... values) {
+        appendField(buffer, table.getName());
+        for (int i = 0; i < table.getColumnKeys().length; i++) {
+            buffer.append(SEPARATOR);
+            appendField(buffer, values[i]);
+        }
+        buffer.append(NEWLINE);
+    }
+
+    @Override
+    public void renderDivider(StringBuilder buffer, String divider) {
+    }
+
+    /**
+     * Appends a field, quoting it if it contains a separator, a quote or a line break, and leaving it empty if null.
+     *
+     * @param buffer The buffer to append to.
+     * @param value  The value of the field.
+     */
+    private static void appendField(StringBuilder buffer, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Double ? BigDecimal.valueOf((Double) value).toPlainString() : value.toString();
+        boolean isQuoted = false;
+        for (int i = 0; i < text.length() && !isQuoted; i++) {
+            char character = text.charAt(i);
+            isQuoted = character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r';
+        }
+        if (!isQuoted) {
+            buffer.append(text);
+            return;
+        }
+        buffer.append(QUOTE);
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == QUOTE) {
+                buffer.append(QUOTE);
+            }
+            buffer.append(character);
+        }
+        buffer.append(QUOTE);
+    }
+}
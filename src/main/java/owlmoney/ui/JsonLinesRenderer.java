@@ -0,0 +1,88 @@
+package owlmoney.ui;
+
+import java.math.BigDecimal;
+
+import owlmoney.model.money.Money;
+
+/**
+ * Renders every message and table row as one JSON object per line, for programs reading the output.
+ * Rows are keyed by the column keys of their table, and headers and dividers are left out.
+ * Amounts of money and other numbers are written as JSON numbers, flags as booleans and dates in ISO format.
+ */
+class JsonLinesRenderer implements ResultRenderer {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String HEX_DIGITS = "0123456789abcdef";
+    private static final char FIRST_PRINTABLE = ' ';
+
+    @Override
+    public void renderMessage(StringBuilder buffer, String message) {
+        buffer.append("{\"message\":");
+        appendValue(buffer, message);
+        buffer.append('}').append(NEWLINE);
+    }
+
+    @Override
+    public void renderHeader(StringBuilder buffer, ResultTable table, Object... labels) {
+    }
+
+    @Override
+    public void renderRow(StringBuilder buffer, ResultTable table, Object... values) {
+        String[] columnKeys = table.getColumnKeys();
+        buffer.append("{\"table\":");
+        appendValue(buffer, table.getName());
+        for (int i = 0; i < columnKeys.length; i++) {
+            buffer.append(',');
+            appendValue(buffer, columnKeys[i]);
+            buffer.append(':');
+            appendValue(buffer, values[i]);
+        }
+        buffer.append('}').append(NEWLINE);
+    }
+
+    @Override
+    public void renderDivider(StringBuilder buffer, String divider) {
+    }
+
+    /**
+     * Appends a value as JSON: numbers, amounts of money and flags as they are, null as null
+     * and everything else, including dates, as a string.
+     *
+     * @param buffer The buffer to append to.
+     * @param value  The value.
+     */
+    private static void appendValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            buffer.append("null");
+            return;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Money
+                || value instanceof Boolean) {
+            buffer.append(value);
+            return;
+        }
+        if (value instanceof Double) {
+            buffer.append(BigDecimal.valueOf((Double) value).toPlainString());
+            return;
+        }
+        String text = value.toString();
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '"' || character == '\\') {
+                buffer.append('\\').append(character);
+            } else if (character == '\n') {
+                buffer.append("\\n");
+            } else if (character == '\r') {
+                buffer.append("\\r");
+            } else if (character == '\t') {
+                buffer.append("\\t");
+            } else if (character < FIRST_PRINTABLE) {
+                buffer.append("\\u00").append(HEX_DIGITS.charAt(character >> 4))
+                        .append(HEX_DIGITS.charAt(character & 0xF));
+            } else {
+                buffer.append(character);
+            }
+        }
+        buffer.append('"');
+    }
+}
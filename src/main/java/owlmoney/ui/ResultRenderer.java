@@ -0,0 +1,41 @@
+package owlmoney.ui;
+
+/**
+ * Renders what the Ui prints into its buffer in one output format.
+ * Messages and table rows are passed with their structure, so each format decides what to write for them.
+ */
+interface ResultRenderer {
+    /**
+     * Renders a message to the user.
+     *
+     * @param buffer  The buffer to render into.
+     * @param message The message.
+     */
+    void renderMessage(StringBuilder buffer, String message);
+
+    /**
+     * Renders the header of a table.
+     *
+     * @param buffer  The buffer to render into.
+     * @param table   The kind of table.
+     * @param labels  The label of each column shown to the user.
+     */
+    void renderHeader(StringBuilder buffer, ResultTable table, Object... labels);
+
+    /**
+     * Renders a row of a table.
+     *
+     * @param buffer The buffer to render into.
+     * @param table  The kind of table.
+     * @param values The value of each column.
+     */
+    void renderRow(StringBuilder buffer, ResultTable table, Object... values);
+
+    /**
+     * Renders a divider that separates sections of the output.
+     *
+     * @param buffer  The buffer to render into.
+     * @param divider The divider line.
+     */
+    void renderDivider(StringBuilder buffer, String divider);
+}
@@ -0,0 +1,67 @@
+package owlmoney.ui;
+
+/**
+ * Describes a kind of table printed by the Ui: its name, the widths of its columns when printed as text
+ * and the keys that identify its columns in machine-readable output.
+ * Rows hold one raw value per column key, which the text format may combine into fewer columns.
+ */
+final class ResultTable {
+    static final ResultTable TRANSACTION = new ResultTable("transaction", new TableRowFormat(20, 55, 20, 20, 20),
+            "number", "description", "amount", "spent", "date", "category");
+    static final ResultTable CARD = new ResultTable("card", new TableRowFormat(20, 35, 15, 20, 15),
+            "number", "name", "monthlyLimit", "remainingLimit", "rebate");
+    static final ResultTable BANK = new ResultTable("bank", new TableRowFormat(20, 35, 15, 15, 15),
+            "number", "name", "type", "amount", "income");
+    static final ResultTable GOAL = new ResultTable("goal", new TableRowFormat(9, 22, 20, 30, 20, 20, 20),
+            "number", "name", "amount", "savingAccount", "progress", "date", "achieved");
+    static final ResultTable ACHIEVEMENT = new ResultTable("achievement", new TableRowFormat(9, 22, 20, 20),
+            "number", "name", "amount", "date");
+    static final ResultTable BOND = new ResultTable("bond", new TableRowFormat(20, 30, 15, 10, 20, 10),
+            "number", "name", "amount", "rate", "date", "years");
+    static final ResultTable METRIC = new ResultTable("metric", new TableRowFormat(55, 5, 10, 12, 12, 12, 12),
+            "name", "unit", "count", "mean", "p50", "p99", "max");
+
+    private final String name;
+    private final TableRowFormat rowFormat;
+    private final String[] columnKeys;
+
+    /**
+     * Creates the description of a kind of table.
+     *
+     * @param name       The name of the table in machine-readable output.
+     * @param rowFormat  The format of the rows when printed as text.
+     * @param columnKeys The key of each column in machine-readable output.
+     */
+    private ResultTable(String name, TableRowFormat rowFormat, String... columnKeys) {
+        this.name = name;
+        this.rowFormat = rowFormat;
+        this.columnKeys = columnKeys;
+    }
+
+    /**
+     * Gets the name of the table.
+     *
+     * @return The name of the table.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the format of the rows when printed as text.
+     *
+     * @return The format of the rows.
+     */
+    TableRowFormat getRowFormat() {
+        return rowFormat;
+    }
+
+    /**
+     * Gets the keys of the columns.
+     *
+     * @return The key of each column.
+     */
+    String[] getColumnKeys() {
+        return columnKeys;
+    }
+}
@@ -0,0 +1,120 @@
+package owlmoney.ui;
+
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import owlmoney.model.money.Money;
+
+/**
+ * Renders messages as lines of text and tables as fixed-width columns, for people reading the output.
+ * Raw values of the rows are decorated here: amounts of money get a dollar sign and transactions a sign
+ * showing whether they were spent, dates are written out with the month name and flags as Y or N.
+ */
+class TableRenderer implements ResultRenderer {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String DOLLAR_SIGN = "$";
+    private static final String SPENT_PREFIX = "[-] $";
+    private static final String RECEIVED_PREFIX = "[+] $";
+    private static final String PERCENT_SIGN = "%";
+    private static final String NOT_APPLICABLE = "Not Applicable";
+    private static final String NOT_TIED = "-NOT TIED-";
+    private static final String YES = "Y";
+    private static final String NO = "N";
+    private static final String RATE_PATTERN = "0.00";
+    private static final String METRIC_VALUE_FORMAT = "%.3f";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMMM yyyy");
+
+    @Override
+    public void renderMessage(StringBuilder buffer, String message) {
+        buffer.append(message).append(NEWLINE);
+    }
+
+    @Override
+    public void renderHeader(StringBuilder buffer, ResultTable table, Object... labels) {
+        table.getRowFormat().appendRow(buffer, labels);
+    }
+
+    @Override
+    public void renderRow(StringBuilder buffer, ResultTable table, Object... values) {
+        table.getRowFormat().appendRow(buffer, toDisplayValues(table, values));
+    }
+
+    @Override
+    public void renderDivider(StringBuilder buffer, String divider) {
+        buffer.append(divider).append(NEWLINE);
+    }
+
+    /**
+     * Converts the raw values of a row to the text shown in each column of its table.
+     *
+     * @param table  The kind of table.
+     * @param values The raw value of each column key of the table.
+     * @return The text of each column shown.
+     */
+    private static Object[] toDisplayValues(ResultTable table, Object[] values) {
+        if (table == ResultTable.TRANSACTION) {
+            String prefix = Boolean.TRUE.equals(values[3]) ? SPENT_PREFIX : RECEIVED_PREFIX;
+            return new Object[] {values[0], values[1], prefix + values[2], formatDate(values[4]), values[5]};
+        } else if (table == ResultTable.CARD) {
+            return new Object[] {values[0], values[1], formatMoney(values[2]), formatMoney(values[3]),
+                formatRate(values[4]) + PERCENT_SIGN};
+        } else if (table == ResultTable.BANK) {
+            return new Object[] {values[0], values[1], values[2], formatMoney(values[3]),
+                values[4] == null ? NOT_APPLICABLE : formatMoney(values[4])};
+        } else if (table == ResultTable.GOAL) {
+            return new Object[] {values[0], values[1], formatMoney(values[2]),
+                values[3] == null ? NOT_TIED : values[3], formatMoney(values[4]), formatDate(values[5]),
+                Boolean.TRUE.equals(values[6]) ? YES : NO};
+        } else if (table == ResultTable.ACHIEVEMENT) {
+            return new Object[] {values[0], values[1], formatMoney(values[2]), formatDate(values[3])};
+        } else if (table == ResultTable.BOND) {
+            return new Object[] {values[0], values[1], formatMoney(values[2]), formatRate(values[3]),
+                formatDate(values[4]), values[5]};
+        } else if (table == ResultTable.METRIC) {
+            return new Object[] {values[0], values[1], values[2], formatMetricValue(values[3]),
+                formatMetricValue(values[4]), formatMetricValue(values[5]), formatMetricValue(values[6])};
+        }
+        return values;
+    }
+
+    /**
+     * Formats an amount of money with a dollar sign, leaving any other value as it is.
+     *
+     * @param value The amount of money.
+     * @return The formatted amount.
+     */
+    private static Object formatMoney(Object value) {
+        return value instanceof Money ? DOLLAR_SIGN + value : value;
+    }
+
+    /**
+     * Formats a date with the full month name, leaving any other value as it is.
+     *
+     * @param value The date.
+     * @return The formatted date.
+     */
+    private static Object formatDate(Object value) {
+        return value instanceof LocalDate ? DATE_FORMAT.format((LocalDate) value) : value;
+    }
+
+    /**
+     * Formats a rate with two decimal places, leaving any other value as it is.
+     *
+     * @param value The rate.
+     * @return The formatted rate.
+     */
+    private static Object formatRate(Object value) {
+        return value instanceof Double ? new DecimalFormat(RATE_PATTERN).format(value) : value;
+    }
+
+    /**
+     * Formats a statistic of a metric with three decimal places, leaving any other value as it is.
+     *
+     * @param value The statistic.
+     * @return The formatted statistic.
+     */
+    private static Object formatMetricValue(Object value) {
+        return value instanceof Double ? String.format(METRIC_VALUE_FORMAT, value) : value;
+    }
+}
@@ -0,0 +1,40 @@
+package owlmoney.ui;
+
+/**
+ * Formats the rows of a table with left-justified columns of fixed minimum widths separated by a space,
+ * producing the same text as a printf format of {@code %-Ns} columns ending with {@code " %n"}.
+ * Rows are appended to a buffer instead of going through a formatter, so the format is never parsed again.
+ */
+class TableRowFormat {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final char PADDING = ' ';
+
+    private final int[] columnWidths;
+
+    /**
+     * Creates the format of a table with the column widths specified.
+     *
+     * @param columnWidths The minimum width of each column.
+     */
+    TableRowFormat(int... columnWidths) {
+        this.columnWidths = columnWidths;
+    }
+
+    /**
+     * Appends a row of the table. Values longer than their column are written in full, as printf does.
+     *
+     * @param buffer The buffer to append the row to.
+     * @param values The value of each column, written as {@link String#valueOf(Object)} would.
+     */
+    void appendRow(StringBuilder buffer, Object... values) {
+        for (int i = 0; i < columnWidths.length; i++) {
+            String value = String.valueOf(values[i]);
+            buffer.append(value);
+            for (int padding = value.length(); padding < columnWidths[i]; padding++) {
+                buffer.append(PADDING);
+            }
+            buffer.append(PADDING);
+        }
+        buffer.append(NEWLINE);
+    }
+}
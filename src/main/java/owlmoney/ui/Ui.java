@@ -1,11 +1,25 @@
 package owlmoney.ui;
 
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import owlmoney.commons.metrics.Histogram;
+import owlmoney.commons.metrics.MetricsCenter;
+import owlmoney.model.money.Money;
+
 /**
  * Ui handles messages shown to the user of this application.
  * It does not need to be instantiated with any tasks; these are passed
- * as arguments to its methods.
+ * as arguments to its methods. Messages are printed to standard output unless another output is given.
+ * Messages and table rows are rendered into a buffer in the output format of the session, which is
+ * fixed-width tables by default, and once buffering is started the output is only written when it is flushed,
+ * usually once per command. Table rows are given as raw values, such as amounts of money and dates,
+ * which only the fixed-width tables decorate for people reading them.
  */
 public class Ui {
+    public static final String TABLE_FORMAT = "table";
+    public static final String JSON_FORMAT = "json";
+    public static final String CSV_FORMAT = "csv";
 
     private static final String ITEMNO = "Item No.";
     private static final String DESCRIPTION = "Description";
@@ -39,7 +53,188 @@ public class Ui {
     private static final String ACHIEVEMENT_NAME = "Achievement Name";
     private static final String ACHIEVEMENT_AMOUNT = "Amount saved";
     private static final String ACHIEVEMENT_DATE = "Date set to achieve";
+    private static final String METRIC_NAME = "Metric";
+    private static final String METRIC_UNIT = "Unit";
+    private static final String METRIC_COUNT = "Count";
+    private static final String METRIC_MEAN = "Mean";
+    private static final String METRIC_MEDIAN = "Median";
+    private static final String METRIC_NINETY_NINTH_PERCENTILE = "99th";
+    private static final String METRIC_MAX = "Max";
     private static final String NEWLINE = System.lineSeparator();
+    private static final Histogram FLUSH_TIME = MetricsCenter.getTimer("ui.flush");
+    private static final String DIVIDER =
+            "-----------------------------------------------------------------------------"
+            + "----------------------------------------------------------------";
+    private static final String GOAL_DIVIDER =
+            "-----------------------------------------------------------------------------"
+            + "---------------------------------------------------------------";
+
+    private final PrintStream output;
+    private final Object outputLock;
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean isBuffering;
+    private String outputFormat = TABLE_FORMAT;
+    private ResultRenderer renderer = new TableRenderer();
+
+    /**
+     * Creates a Ui that prints to standard output.
+     */
+    public Ui() {
+        this.output = null;
+        this.outputLock = new Object();
+    }
+
+    /**
+     * Creates a Ui that prints to the output specified, such as the connection of a session.
+     *
+     * @param output The output to print to.
+     */
+    public Ui(PrintStream output) {
+        this.output = output;
+        this.outputLock = new Object();
+    }
+
+    /**
+     * Creates a Ui that prints to the same output as another Ui with a buffer of its own.
+     *
+     * @param ui The Ui whose output is shared.
+     */
+    private Ui(Ui ui) {
+        this.output = ui.output;
+        this.outputLock = ui.outputLock;
+    }
+
+    /**
+     * Creates a Ui that prints to the same output in the same output format, but renders into a buffer
+     * of its own that is only written when it is flushed. Messages printed on another thread, such as
+     * by scheduled updates, are then written between the outputs of commands instead of in the middle of one.
+     *
+     * @return The Ui with its own buffer.
+     */
+    public synchronized Ui createSeparateBuffer() {
+        Ui separateUi = new Ui(this);
+        separateUi.setOutputFormat(outputFormat);
+        separateUi.startBuffering();
+        return separateUi;
+    }
+
+    /**
+     * Gets the output to print to, which is standard output at the time of printing unless another was given.
+     *
+     * @return The output to print to.
+     */
+    private PrintStream getOutput() {
+        return output == null ? System.out : output;
+    }
+
+    /**
+     * Checks whether the name given is an output format supported by the Ui.
+     *
+     * @param format The name of the output format.
+     * @return true if the output format is supported.
+     */
+    public static boolean isOutputFormat(String format) {
+        return TABLE_FORMAT.equals(format) || JSON_FORMAT.equals(format) || CSV_FORMAT.equals(format);
+    }
+
+    /**
+     * Renders everything printed afterwards in the output format specified.
+     *
+     * @param format The name of the output format, one of {@link #TABLE_FORMAT}, {@link #JSON_FORMAT}
+     *               and {@link #CSV_FORMAT}.
+     * @throws IllegalArgumentException if the output format is not supported.
+     */
+    public synchronized void setOutputFormat(String format) {
+        if (TABLE_FORMAT.equals(format)) {
+            renderer = new TableRenderer();
+        } else if (JSON_FORMAT.equals(format)) {
+            renderer = new JsonLinesRenderer();
+        } else if (CSV_FORMAT.equals(format)) {
+            renderer = new CsvRenderer();
+        } else {
+            throw new IllegalArgumentException("Unsupported output format: " + format);
+        }
+        outputFormat = format;
+    }
+
+    /**
+     * Holds everything printed afterwards until {@link #flush()} is called, instead of writing every line.
+     */
+    public synchronized void startBuffering() {
+        isBuffering = true;
+    }
+
+    /**
+     * Writes everything printed since the previous flush to the output at once,
+     * without interleaving with the flush of another Ui sharing the output.
+     */
+    public synchronized void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        synchronized (outputLock) {
+            PrintStream currentOutput = getOutput();
+            currentOutput.append(buffer);
+            currentOutput.flush();
+        }
+        buffer.setLength(0);
+        FLUSH_TIME.recordSince(startTime);
+    }
+
+    /**
+     * Renders a message to the buffer, flushing it right away unless buffering was started.
+     *
+     * @param msg The message to print.
+     */
+    private synchronized void printLine(String msg) {
+        renderer.renderMessage(buffer, msg);
+        flushUnlessBuffering();
+    }
+
+    /**
+     * Renders the header of a table to the buffer followed by a divider, flushing it right away
+     * unless buffering was started.
+     *
+     * @param table   The kind of table.
+     * @param divider The divider printed below the header.
+     * @param labels  The label of each column.
+     */
+    private synchronized void printHeader(ResultTable table, String divider, Object... labels) {
+        renderer.renderHeader(buffer, table, labels);
+        renderer.renderDivider(buffer, divider);
+        flushUnlessBuffering();
+    }
+
+    /**
+     * Renders a row of a table to the buffer, flushing it right away unless buffering was started.
+     *
+     * @param table  The kind of table.
+     * @param values The value of each column of the row.
+     */
+    private synchronized void printRow(ResultTable table, Object... values) {
+        renderer.renderRow(buffer, table, values);
+        flushUnlessBuffering();
+    }
+
+    /**
+     * Renders a divider to the buffer, flushing it right away unless buffering was started.
+     *
+     * @param divider The divider line.
+     */
+    private synchronized void printDividerLine(String divider) {
+        renderer.renderDivider(buffer, divider);
+        flushUnlessBuffering();
+    }
+
+    /**
+     * Writes the buffer to the output if buffering was not started.
+     */
+    private void flushUnlessBuffering() {
+        if (!isBuffering) {
+            flush();
+        }
+    }
 
     /**
      * Prints a message line to the user.
@@ -47,7 +242,7 @@ public class Ui {
      * @param msg The message to print.
      */
     public void printMessage(String msg) {
-        System.out.println(msg);
+        printLine(msg);
     }
 
     /**
@@ -55,21 +250,17 @@ public class Ui {
      */
     public void printTransactionHeader(String type) {
         if (ITEM_TYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-20s %-20s %-20s %n", ITEMNO, DESCRIPTION,
-                    AMOUNT, DATE, CATEGORY);
+            printHeader(ResultTable.TRANSACTION, DIVIDER, ITEMNO, DESCRIPTION, AMOUNT, DATE, CATEGORY);
         } else if (TRANSACTION_TYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-20s %-20s %-20s %n", TRANSACTION_NUMBER,
-                    DESCRIPTION, AMOUNT, DATE, CATEGORY);
+            printHeader(ResultTable.TRANSACTION, DIVIDER, TRANSACTION_NUMBER, DESCRIPTION, AMOUNT, DATE, CATEGORY);
         } else if (RECURRING_ITEM_TYPE.equals(type)) {
-            System.out.printf("%-20s %-55s %-20s %-20s %-20s %n", ITEMNO, DESCRIPTION,
-                    AMOUNT, NEXT_EXPENSE_DATE, CATEGORY);
+            printHeader(ResultTable.TRANSACTION, DIVIDER, ITEMNO, DESCRIPTION, AMOUNT, NEXT_EXPENSE_DATE, CATEGORY);
         } else if (RECURRING_TRANSACTION_TYPE.equals(type)) {
-            System.out.printf(
-                    "%-20s %-55s %-20s %-20s %-20s %n", TRANSACTION_NUMBER, DESCRIPTION,
-                    AMOUNT, NEXT_EXPENSE_DATE, CATEGORY);
+            printHeader(ResultTable.TRANSACTION, DIVIDER, TRANSACTION_NUMBER, DESCRIPTION, AMOUNT,
+                    NEXT_EXPENSE_DATE, CATEGORY);
+        } else {
+            printDividerLine(DIVIDER);
         }
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
     }
 
     /**
@@ -78,23 +269,20 @@ public class Ui {
      * @param num         Represents the numbering of the transaction.
      * @param description Describes the listed transaction.
      * @param amount      Represents the amount spent for the listed transaction.
+     * @param isSpent     Represents whether the listed transaction deducts from the account.
      * @param date        Represents the date entered for the listed transaction.
      * @param category    Represents the category which the listed transaction falls under.
      */
-    public void printTransaction(int num, String description, String amount, String date,
+    public void printTransaction(int num, String description, Money amount, boolean isSpent, LocalDate date,
             String category) {
-        System.out.printf("%-20s %-55s %-20s %-20s %-20s %n", num, description, amount, date, category);
+        printRow(ResultTable.TRANSACTION, num, description, amount, isSpent, date, category);
     }
 
     /**
      * Prints the card header.
      */
     public void printCardHeader() {
-        System.out.printf("%-20s %-35s %-15s %-20s %-15s %n", ITEMNO, CARD_NAME, MONTHLY_LIMIT,
-                REMAINING_LIMIT, REBATE_RATE);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
+        printHeader(ResultTable.CARD, DIVIDER, ITEMNO, CARD_NAME, MONTHLY_LIMIT, REMAINING_LIMIT, REBATE_RATE);
     }
 
     /**
@@ -106,19 +294,15 @@ public class Ui {
      * @param remLimit Represents the remaining card limit left for the card.
      * @param rebate   Represents the card rebate in percentage.
      */
-    public void printCard(int num, String name, String monLimit, String remLimit, String rebate) {
-        System.out.printf("%-20s %-35s %-15s %-20s %-15s %n", num, name, monLimit, remLimit, rebate);
+    public void printCard(int num, String name, Money monLimit, Money remLimit, double rebate) {
+        printRow(ResultTable.CARD, num, name, monLimit, remLimit, rebate);
     }
 
     /**
      * Prints the bank header.
      */
     public void printBankHeader() {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", ITEMNO, ACCOUNT_NAME, ACCOUNT_TYPE,
-                CURRENT_AMOUNT, INCOME);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
+        printHeader(ResultTable.BANK, DIVIDER, ITEMNO, ACCOUNT_NAME, ACCOUNT_TYPE, CURRENT_AMOUNT, INCOME);
     }
 
     /**
@@ -129,8 +313,8 @@ public class Ui {
      * @param type   Represents the account type.
      * @param amount Represents the current amount in the listed investment account.
      */
-    public void printInvestment(int num, String name, String type, String amount) {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", num, name, type, amount, "Not Applicable");
+    public void printInvestment(int num, String name, String type, Money amount) {
+        printRow(ResultTable.BANK, num, name, type, amount, null);
     }
 
     /**
@@ -142,44 +326,39 @@ public class Ui {
      * @param amount Represents the current amount in the listed saving account.
      * @param income Represents the income in the listed saving account.
      */
-    public void printSaving(int num, String name, String type, String amount, String income) {
-        System.out.printf("%-20s %-35s %-15s %-15s %-15s %n", num, name, type, amount, income);
+    public void printSaving(int num, String name, String type, Money amount, Money income) {
+        printRow(ResultTable.BANK, num, name, type, amount, income);
     }
 
     /**
      * Prints the goal header.
      */
     public void printGoalHeader() {
-        System.out.printf("%-9s %-22s %-20s %-30s %-20s %-20s %-20s %n", ITEMNO, GOAL_NAME, GOAL_AMOUNT, GOAL_BANK_NAME,
-                GOAL_PROGRESS, GOAL_DATE, GOAL_ACHIEVED);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "---------------------------------------------------------------");
+        printHeader(ResultTable.GOAL, GOAL_DIVIDER, ITEMNO, GOAL_NAME, GOAL_AMOUNT, GOAL_BANK_NAME, GOAL_PROGRESS,
+                GOAL_DATE, GOAL_ACHIEVED);
     }
 
     /**
      * Prints the goal details being specified.
      *
-     * @param num    Represents the numbering of the goal.
-     * @param name   Represents the goal name.
-     * @param amount Represents the amount to save up in the goal.
-     * @param date   Represents the date to accomplish the goal.
+     * @param num        Represents the numbering of the goal.
+     * @param name       Represents the goal name.
+     * @param amount     Represents the amount to save up in the goal.
+     * @param bankName   Represents the saving account tied to the goal, or null if it is not tied to one.
+     * @param progress   Represents the amount left to save.
+     * @param date       Represents the date to accomplish the goal.
+     * @param isAchieved Represents whether the goal has been achieved.
      */
-    public void printGoal(int num, String name, String amount, String bankName, String progress, String date,
-            String achieved) {
-        System.out.printf("%-9s %-22s %-20s %-30s %-20s %-20s %-20s %n", num, name, amount, bankName, progress,
-                date, achieved);
+    public void printGoal(int num, String name, Money amount, String bankName, Money progress, LocalDate date,
+            boolean isAchieved) {
+        printRow(ResultTable.GOAL, num, name, amount, bankName, progress, date, isAchieved);
     }
 
     /**
      * Prints the achievement header.
      */
     public void printAchievementHeader() {
-        System.out.printf("%-9s %-22s %-20s %-20s %n", ITEMNO, ACHIEVEMENT_NAME,
-                ACHIEVEMENT_AMOUNT, ACHIEVEMENT_DATE);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
+        printHeader(ResultTable.ACHIEVEMENT, DIVIDER, ITEMNO, ACHIEVEMENT_NAME, ACHIEVEMENT_AMOUNT, ACHIEVEMENT_DATE);
     }
 
     /**
@@ -190,20 +369,15 @@ public class Ui {
      * @param amount Represents the amount to save up in the goal.
      * @param date   Represents the date to accomplish the goal.
      */
-    public void printAchievement(int num, String name, String amount, String date) {
-        System.out.printf("%-9s %-22s %-20s %-20s %n", num, name, amount, date);
+    public void printAchievement(int num, String name, Money amount, LocalDate date) {
+        printRow(ResultTable.ACHIEVEMENT, num, name, amount, date);
     }
 
     /**
      * Prints the bond header.
      */
     public void printBondHeader() {
-        System.out.printf("%-20s %-30s %-15s %-10s %-20s %-10s %n", ITEMNO, BOND_NAME, AMOUNT,
-                BOND_RATE, BOND_DATE,
-                BOND_YEAR);
-
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
+        printHeader(ResultTable.BOND, DIVIDER, ITEMNO, BOND_NAME, AMOUNT, BOND_RATE, BOND_DATE, BOND_YEAR);
     }
 
     /**
@@ -216,24 +390,46 @@ public class Ui {
      * @param date   Represents the date of purchase for the bond.
      * @param year   Represents the year for the bond.
      */
-    public void printBond(int num, String name, String amount, String rate, String date, int year) {
-        System.out.printf("%-20s %-30s %-15s %-10s %-20s %-10s %n", num, name, amount, rate, date, year);
+    public void printBond(int num, String name, Money amount, double rate, LocalDate date, int year) {
+        printRow(ResultTable.BOND, num, name, amount, rate, date, year);
     }
 
     /**
      * Prints the divider to separate the section of the output.
      */
     public void printDivider() {
-        System.out.println("-----------------------------------------------------------------------------"
-                + "----------------------------------------------------------------");
+        printDividerLine(DIVIDER);
+    }
+
+    /**
+     * Prints the metric header.
+     */
+    public void printMetricHeader() {
+        printHeader(ResultTable.METRIC, DIVIDER, METRIC_NAME, METRIC_UNIT, METRIC_COUNT, METRIC_MEAN, METRIC_MEDIAN,
+                METRIC_NINETY_NINTH_PERCENTILE, METRIC_MAX);
+    }
+
+    /**
+     * Prints the statistics of a metric.
+     *
+     * @param name   Name of the metric.
+     * @param unit   Unit of the statistics.
+     * @param count  Number of values recorded.
+     * @param mean   Mean of the values recorded.
+     * @param median Estimated median of the values recorded.
+     * @param p99    Estimated 99th percentile of the values recorded.
+     * @param max    Largest value recorded.
+     */
+    public void printMetric(String name, String unit, long count, double mean, double median, double p99,
+            double max) {
+        printRow(ResultTable.METRIC, name, unit, count, mean, median, p99, max);
     }
 
     /**
      * Prints the divider to separate the section for Goals output.
      */
     public void printGoalDivider() {
-        System.out.println("-----------------------------------------------------------------------------"
-                + "---------------------------------------------------------------");
+        printDividerLine(GOAL_DIVIDER);
     }
 
     /**
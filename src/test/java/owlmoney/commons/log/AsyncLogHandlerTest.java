@@ -0,0 +1,89 @@
+package owlmoney.commons.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncLogHandlerTest {
+    /**
+     * Keeps the messages of the records published to it, optionally waiting before publishing the first one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch isStarted = new CountDownLatch(1);
+        private final CountDownLatch canPublish;
+
+        RecordingHandler(CountDownLatch canPublish) {
+            this.canPublish = canPublish;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            isStarted.countDown();
+            try {
+                canPublish.await();
+            } catch (InterruptedException exceptionMessage) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+
+    @Test
+    void flush_recordsLogged_publishedInOrder() {
+        RecordingHandler target = new RecordingHandler(new CountDownLatch(0));
+        AsyncLogHandler handler = new AsyncLogHandler(target, 2, true);
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.flush();
+        List<String> messages = target.getMessages();
+        assertEquals(10, messages.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("record " + i, messages.get(i));
+        }
+        handler.close();
+    }
+
+    @Test
+    void publish_bufferFullAndDropping_dropsAndReportsRecords() throws InterruptedException {
+        CountDownLatch canPublish = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(canPublish);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 2, false);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.isStarted.await();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+        canPublish.countDown();
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals(List.of("first", "record 0", "record 1"), messages.subList(0, 3));
+        assertTrue(messages.get(3).startsWith("Dropped 3 log records"));
+    }
+}
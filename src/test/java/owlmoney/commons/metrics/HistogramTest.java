@@ -0,0 +1,29 @@
+package owlmoney.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+    @Test
+    void getPercentile_valuesRecorded_boundedByBucketAndMax() {
+        Histogram histogram = new Histogram("test", "rows", 1);
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(63.0, histogram.getPercentile(0.5));
+        assertEquals(100.0, histogram.getPercentile(0.99));
+        assertEquals(100.0, histogram.getMax());
+    }
+
+    @Test
+    void getPercentile_negativeOrNoValues_returnsZero() {
+        Histogram histogram = new Histogram("test", "ms", 1000000);
+        histogram.record(-5);
+        assertEquals(0.0, histogram.getPercentile(0.5));
+        assertEquals(0.0, histogram.getMax());
+        assertEquals(0.0, new Histogram("empty", "ms", 1000000).getPercentile(0.99));
+    }
+}
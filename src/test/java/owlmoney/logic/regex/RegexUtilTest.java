@@ -0,0 +1,72 @@
+package owlmoney.logic.regex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RegexUtilTest {
+    private static final String MONEY_REGEX = "^\\s*(?=.*[1-9])\\d{1,9}(\\.\\d{1,2})?$";
+    private static final String BANK_AMOUNT_REGEX = "^\\s*(?=.*[0-9])\\d{1,9}(\\.\\d{1,2})?$";
+    private static final String RATE_REGEX = "^\\s*(?=.*[1-9])\\d{1,2}(\\.\\d{1,2})?$";
+    private static final String LIST_NUMBER_REGEX = "^[0-9]\\d{0,8}$";
+    private static final String BOND_YEAR_REGEX = "^[1-9]\\d{0,1}$";
+    private static final String DAY_REGEX = "^(?:[1-9]\\d?|[12]\\d{2}|3[0-5]\\d|36[0-5])$";
+    private static final String[] EDGE_CASES = {"", " ", "0", "00", "0.00", ".5", "5.", "1", "01", "010", "9", "10",
+        "11", "20", "20.00", "20.01", "99.99", "100", "365", "366", "999999999", "1000000000", "999999999.99",
+        "1.001", " 12.5", "\t3", "\n\r\f\u000B7", "1 ", "-1", "1e3", "+1", "1.5.5", "\u0661", "0.01", "000000001"};
+    private static final String RANDOM_CHARACTERS = "0123456789.  \t-a";
+    private static final int RANDOM_INPUT_COUNT = 20000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+    private static final int MAX_WHOLE_NUMBER = 1000;
+
+    private static List<String> createInputs() {
+        List<String> inputs = new ArrayList<>(List.of(EDGE_CASES));
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_INPUT_COUNT; i++) {
+            int length = random.nextInt(MAX_RANDOM_LENGTH);
+            StringBuilder input = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                input.append(RANDOM_CHARACTERS.charAt(random.nextInt(RANDOM_CHARACTERS.length())));
+            }
+            inputs.add(input.toString());
+        }
+        for (int i = 0; i <= MAX_WHOLE_NUMBER; i++) {
+            inputs.add(Integer.toString(i));
+        }
+        return inputs;
+    }
+
+    @Test
+    void regexCheckMoney_variousInputs_matchesRegex() {
+        for (String input : createInputs()) {
+            assertEquals(input.matches(MONEY_REGEX), RegexUtil.regexCheckMoney(input), input);
+            assertEquals(input.matches(BANK_AMOUNT_REGEX), RegexUtil.regexCheckBankAmount(input), input);
+        }
+    }
+
+    @Test
+    void regexCheckRate_variousInputs_matchesRegex() {
+        for (String input : createInputs()) {
+            boolean isRate = input.matches(RATE_REGEX);
+            assertEquals(isRate && Double.parseDouble(input) < 100.00,
+                    RegexUtil.regexCheckInterestRate(input), input);
+            assertEquals(isRate && Double.parseDouble(input) <= 20.00,
+                    RegexUtil.regexCheckCashbackRate(input), input);
+        }
+    }
+
+    @Test
+    void regexCheckWholeNumbers_variousInputs_matchesRegex() {
+        for (String input : createInputs()) {
+            assertEquals(input.matches(LIST_NUMBER_REGEX) && Integer.parseInt(input) > 0,
+                    RegexUtil.regexCheckListNumber(input), input);
+            assertEquals(input.matches(BOND_YEAR_REGEX) && Integer.parseInt(input) <= 10,
+                    RegexUtil.regexCheckBondYear(input), input);
+            assertEquals(input.matches(DAY_REGEX), RegexUtil.regexCheckDay(input), input);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package owlmoney.model.bank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+class CatchUpScheduleTest {
+    private static Date toDate(int year, int month, int day) {
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    void catchUpSchedule_firstDateAtMonthEnd_staysOnShorterMonthEnd() {
+        CatchUpSchedule schedule = new CatchUpSchedule(toDate(2019, 1, 31), 1, LocalDate.of(2019, 3, 31));
+        assertEquals(3, schedule.getNumberOfDueDates());
+        assertEquals(toDate(2019, 1, 31), schedule.getDueDate(0));
+        assertEquals(toDate(2019, 2, 28), schedule.getDueDate(1));
+        assertEquals(toDate(2019, 3, 28), schedule.getDueDate(2));
+        assertEquals(toDate(2019, 4, 28), schedule.getDateAfter(2));
+    }
+
+    @Test
+    void catchUpSchedule_firstDateAfterToday_nothingDue() {
+        CatchUpSchedule schedule = new CatchUpSchedule(toDate(2019, 11, 1), 1, LocalDate.of(2019, 10, 31));
+        assertEquals(0, schedule.getNumberOfDueDates());
+    }
+
+    @Test
+    void getDateAfter_lastDueIndex_returnsNextOccurrenceNotYetDue() {
+        CatchUpSchedule schedule = new CatchUpSchedule(toDate(2019, 1, 15), 3, LocalDate.of(2019, 5, 1));
+        assertEquals(2, schedule.getNumberOfDueDates());
+        assertEquals(toDate(2019, 4, 15), schedule.getDateAfter(0));
+        assertEquals(toDate(2019, 7, 15), schedule.getDateAfter(1));
+    }
+}
@@ -154,6 +154,34 @@ class CardListTest {
                 thrown.getMessage());
     }
 
+    @Test
+    void cardListEditCard_afterRenameAndDelete_findsCardsByCurrentName() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        CardList cardListTemp = new CardList(storage);
+        Card firstCard = new Card("First Card", 1000, 1.5);
+        Card secondCard = new Card("Second Card", 1050, 2.5);
+        Ui uiTest = new Ui();
+
+        try {
+            cardListTemp.cardListAddCard(firstCard, uiTest);
+            cardListTemp.cardListAddCard(secondCard, uiTest);
+            cardListTemp.cardListEditCard("second card", "Renamed Card", "", "", uiTest);
+            cardListTemp.cardListDeleteCard("First Card", uiTest);
+            cardListTemp.cardListEditCard("RENAMED CARD", "", "", "3.0", uiTest);
+        } catch (CardException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(1, cardListTemp.getCardListSize());
+        assertEquals(3.0, secondCard.getRebate());
+        outContent.reset();
+
+        CardException thrown = assertThrows(CardException.class, () ->
+                        cardListTemp.cardListEditCard("Second Card", "", "", "1.0", uiTest),
+                "Expected cardListEditCard to throw, but it didn't");
+        assertEquals("Card could not be found for editing card details.", thrown.getMessage());
+    }
+
     @Test
     void cardListEditCard_editCardLimitWithUnpaidExpenditure_throwsException() {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
@@ -129,10 +129,24 @@ class CardTest {
                         testCard.addInExpenditure(newExpenditure2, testUi, "card"),
                "Expected addInExpenditure to throw CardException because "
                         + "exceeded remaining monthly limit, but it did not throw");
-        assertEquals("Expenditure to be added cannot exceed remaining limit of $200.0",
+        assertEquals("Expenditure to be added cannot exceed remaining limit of $200.00",
                 exception.toString());
     }
 
+    @Test
+    void addInExpenditure_expenditureExactlyFillsLimit_success() throws ParseException, CardException {
+        Card testCard = new Card("Test Card", 0.3, 0.05);
+        Ui testUi = new Ui(new PrintStream(new ByteArrayOutputStream()));
+        testCard.addInExpenditure(new Expenditure("Sweets", 0.1, dateFormat.parse("05/06/2019"), "Food"),
+                testUi, "card");
+        testCard.addInExpenditure(new Expenditure("Candy", 0.2, dateFormat.parse("06/06/2019"), "Food"),
+                testUi, "card");
+        CardException exception = assertThrows(CardException.class, () ->
+                testCard.addInExpenditure(new Expenditure("Gum", 0.01, dateFormat.parse("07/06/2019"), "Food"),
+                        testUi, "card"));
+        assertEquals("Expenditure to be added cannot exceed remaining limit of $0.00", exception.toString());
+    }
+
     @Test
     void listAllExpenditure_listMoreTransactionsThanExpected_printAllExpenditures()
             throws ParseException, TransactionException {
@@ -313,7 +327,7 @@ class CardTest {
                                 "08/06/2019", "Grab Food", testUi),
                 "Expected editExpenditureDetails to throw CardException"
                         + "because edited expenditure exceeds monthly limit, but it did not throw");
-        assertEquals("Edited expenditure cannot exceed $300.0", exception.toString());
+        assertEquals("Edited expenditure cannot exceed $300.00", exception.toString());
     }
 
     @Test
@@ -511,7 +525,7 @@ class CardTest {
             testCard.addInExpenditure(newExpenditure2, testUi, "card");
             testCard.addInExpenditure(newExpenditure3, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpUnpaidToPaid(YearMonth.parse("2019-06"), "bank");
+            testCard.transferExpUnpaidToPaid(YearMonth.parse("2019-06"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
@@ -545,7 +559,7 @@ class CardTest {
             testCard.addInExpenditure(newExpenditure1, testUi, "card");
             testCard.addInExpenditure(newExpenditure2, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpUnpaidToPaid(YearMonth.parse("2019-10"), "bank");
+            testCard.transferExpUnpaidToPaid(YearMonth.parse("2019-10"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
@@ -578,7 +592,7 @@ class CardTest {
             testCard.addInPaidExpenditure(newExpenditure1, testUi, "card");
             testCard.addInPaidExpenditure(newExpenditure2, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"), "bank");
+            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
@@ -612,7 +626,7 @@ class CardTest {
             testCard.addInPaidExpenditure(newExpenditure1, testUi, "card");
             testCard.addInPaidExpenditure(newExpenditure2, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-06"), "bank");
+            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-06"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
@@ -646,7 +660,7 @@ class CardTest {
             testCard.addInPaidExpenditure(newExpenditure1, testUi, "card");
             testCard.addInPaidExpenditure(newExpenditure2, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"), "bank");
+            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
@@ -680,7 +694,7 @@ class CardTest {
             testCard.addInExpenditure(newExpenditure1, testUi, "card");
             testCard.addInExpenditure(newExpenditure2, testUi, "card");
             System.setOut(new PrintStream(outContent));
-            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"), "bank");
+            testCard.transferExpPaidToUnpaid(YearMonth.parse("2019-10"));
             testCard.listAllExpenditure(testUi, 10);
         } catch (CardException | TransactionException error) {
             System.out.println("Expected no exceptions, but exception thrown: " + error.getMessage());
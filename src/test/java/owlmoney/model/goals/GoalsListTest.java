@@ -1,13 +1,18 @@
 package owlmoney.model.goals;
 
 import org.junit.jupiter.api.Test;
+import owlmoney.model.bank.BankList;
 import owlmoney.model.bank.Saving;
+import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.goals.exception.GoalsException;
+import owlmoney.model.transaction.Deposit;
 import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -429,4 +434,31 @@ public class GoalsListTest {
         testGoals.overdueGoals(testUi);
         assertEquals("NO OVERDUE FOR GOALS" + NEWLINE, outContent.toString());
     }
+
+    @Test
+    void goalsList_depositReachesTiedGoal_achievementUnlockedOnce() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        GoalsList testGoals = new GoalsList(storage);
+        BankList testBanks = new BankList(storage);
+        testBanks.setBalanceListener(testGoals::balanceChanged);
+        Ui testUi = new Ui();
+        Saving testSaving = new Saving("test saving", 100, 10);
+        Calendar goalDate = Calendar.getInstance();
+        goalDate.add(Calendar.YEAR, 1);
+
+        try {
+            testBanks.bankListAddBank(testSaving, testUi);
+            testGoals.addToGoals(new Goals("test1", 150, goalDate.getTime(), testSaving), testUi);
+            assertEquals(0, testGoals.checkForAchievements(testUi).size());
+            testBanks.bankListAddDeposit("test saving", new Deposit("pay", 60, new Date(), "deposit"),
+                    testUi, "bank");
+        } catch (BankException | GoalsException e) {
+            System.out.println("Expects success but error was thrown.");
+        }
+        ArrayList<Achievement> unlocked = testGoals.checkForAchievements(testUi);
+        assertEquals(1, unlocked.size());
+        assertEquals("test1", unlocked.get(0).getName());
+        assertEquals(0, testGoals.checkForAchievements(testUi).size());
+    }
 }
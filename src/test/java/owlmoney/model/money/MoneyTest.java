@@ -0,0 +1,53 @@
+package owlmoney.model.money;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+    @Test
+    void plus_manyTenCentAmounts_sumIsExact() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 1000000; i++) {
+            total = total.plus(Money.fromDouble(0.1));
+        }
+        assertEquals(Money.ofCents(10000000), total);
+        assertEquals("100000.00", total.toString());
+    }
+
+    @Test
+    void fromDouble_halfCent_roundsUp() {
+        assertEquals(101, Money.fromDouble(1.005).getCents());
+        assertEquals(503, Money.fromDouble(5.025).getCents());
+    }
+
+    @Test
+    void parse_validAmounts_returnsCents() {
+        assertEquals(1200, Money.parse("12").getCents());
+        assertEquals(1250, Money.parse(" 12.5").getCents());
+        assertEquals(50, Money.parse(".50").getCents());
+        assertEquals(99999999999L, Money.parse("999999999.99").getCents());
+    }
+
+    @Test
+    void parse_tooManyDecimalPlaces_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.005"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.0a"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("."));
+    }
+
+    @Test
+    void format_variousAmounts_matchesDecimalFormatPatterns() {
+        assertEquals("0.50", Money.ofCents(50).toString());
+        assertEquals(".50", Money.ofCents(50).toStorageString());
+        assertEquals("0.5", Money.ofCents(50).toCompactString());
+        assertEquals("5000.00", Money.ofCents(500000).toStorageString());
+        assertEquals("5000", Money.ofCents(500000).toCompactString());
+        assertEquals("62.9", Money.ofCents(6290).toCompactString());
+        assertEquals("0.05", Money.ofCents(5).toCompactString());
+        assertEquals(".00", Money.ZERO.toStorageString());
+        assertEquals("0", Money.ZERO.toCompactString());
+        assertEquals("-1.25", Money.ofCents(-125).toString());
+    }
+}
@@ -7,21 +7,37 @@ import owlmoney.model.bank.Saving;
 import owlmoney.model.bank.exception.BankException;
 import owlmoney.model.bond.Bond;
 import owlmoney.model.bond.exception.BondException;
+import owlmoney.storage.Storage;
 import owlmoney.ui.Ui;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ProfileTest {
     private static final String NEWLINE = System.lineSeparator();
     private static final DateFormat temp = new SimpleDateFormat("dd/MM/yyyy");
+    private static final int CONCURRENT_TRANSFERS = 100;
+    private static final long JOIN_TIMEOUT_MILLIS = 30000;
+
+    private static Profile createProfile(Ui ui) {
+        try {
+            return new Profile("Test User", ui, new Storage(Files.createTempDirectory("owlmoney") + "/"));
+        } catch (IOException exceptionMessage) {
+            throw new UncheckedIOException(exceptionMessage);
+        }
+    }
 
     //Tests function for transfer feature.
     @Test
@@ -29,7 +45,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newSavingAccount = new Saving("Test Saving Account", 1000, 2000);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Date newDate = new Date();
@@ -57,7 +73,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newSavingAccount = new Saving("Test Saving Account", 1000, 2000);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Date newDate = new Date();
@@ -90,7 +106,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newSavingAccount = new Saving("Test Saving Account", 1000, 2000);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Date newDate = new Date();
@@ -123,7 +139,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newSavingAccount = new Saving("Test Saving Account", 1000, 2000);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Date newDate = new Date();
@@ -156,7 +172,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Date newDate = new Date();
         try {
@@ -184,7 +200,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newInvestmentAccount = new Investment("Test Investment Account 2", 1000);
         Bond testBondOne = new Bond("TEST BOND 1",1000,1.8,new Date("1/3/2019"),
                 3);
@@ -231,7 +247,7 @@ class ProfileTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
         Ui uiTest = new Ui();
-        Profile profileTest = new Profile("Test User", uiTest);
+        Profile profileTest = createProfile(uiTest);
         Bank newInvestmentAccount = new Investment("Test Investment Account", 1000);
         Bond testBondOne = new Bond("TEST BOND 1",1000,1.8,new Date("1/3/2019"),
                 3);
@@ -262,4 +278,58 @@ class ProfileTest {
         assertEquals("Bond with the following keyword could not be found: No Such Bond",
                 thrown.getMessage());
     }
+
+    //Tests function for transfer feature.
+    @Test
+    void transferFund_concurrentTransfersInOppositeDirections_noDeadlockAndTotalKept()
+            throws InterruptedException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui uiTest = new Ui();
+        Profile profileTest = createProfile(uiTest);
+        Bank firstSavingAccount = new Saving("Test First Account", 1000, 2000);
+        Bank secondSavingAccount = new Saving("Test Second Account", 1000, 2000);
+        try {
+            profileTest.profileAddNewBank(firstSavingAccount, uiTest);
+            profileTest.profileAddNewBank(secondSavingAccount, uiTest);
+        } catch (BankException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        Date newDate = new Date();
+        Thread firstToSecond = new Thread(() -> transferRepeatedly(profileTest, "Test First Account",
+                "Test Second Account", newDate, uiTest));
+        Thread secondToFirst = new Thread(() -> transferRepeatedly(profileTest, "Test Second Account",
+                "Test First Account", newDate, uiTest));
+        firstToSecond.start();
+        secondToFirst.start();
+        firstToSecond.join(JOIN_TIMEOUT_MILLIS);
+        secondToFirst.join(JOIN_TIMEOUT_MILLIS);
+        assertFalse(firstToSecond.isAlive());
+        assertFalse(secondToFirst.isAlive());
+        assertEquals(1000, firstSavingAccount.getCurrentAmount());
+        assertEquals(1000, secondSavingAccount.getCurrentAmount());
+        outContent.reset();
+    }
+
+    @Test
+    void getNextUpdateDate_bankAddedAfterEmptyProfileChecked_returnsIncomeDate() throws BankException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui uiTest = new Ui();
+        Profile profileTest = createProfile(uiTest);
+        assertNull(profileTest.getNextUpdateDate());
+        profileTest.profileAddNewBank(new Saving("Test Saving Account", 1000, 2000), uiTest);
+        assertFalse(profileTest.getNextUpdateDate() == null);
+        outContent.reset();
+    }
+
+    private static void transferRepeatedly(Profile profile, String from, String to, Date date, Ui ui) {
+        for (int i = 0; i < CONCURRENT_TRANSFERS; i++) {
+            try {
+                profile.transferFund(from, to, 1, date, ui);
+            } catch (BankException error) {
+                System.out.println("Expected no throw, but error thrown");
+            }
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package owlmoney.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class ColumnarTransactionStoreTest {
+    private static final Date DATE = new Date("10/26/2019");
+
+    private static Transaction createTransaction(long number) {
+        return new Expenditure("item " + number, number, DATE, "test");
+    }
+
+    private static void addTransactions(ColumnarTransactionStore store, long first, long last) {
+        for (long number = first; number <= last; number++) {
+            store.add(createTransaction(number), number);
+        }
+    }
+
+    private static List<Long> getSequences(ColumnarTransactionStore store) {
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < store.size(); i++) {
+            sequences.add(store.getSequence(i));
+            assertEquals("item " + store.getSequence(i), store.getDescription(i));
+            assertEquals(store.getSequence(i) * 100, store.getMoney(i).getCents());
+        }
+        return sequences;
+    }
+
+    /**
+     * Creates a full store of 16 rows whose first row is not at the start of the arrays,
+     * so that its last rows wrap around to the start of the arrays.
+     */
+    private static ColumnarTransactionStore createWrappedStore() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore(2000);
+        addTransactions(store, 0, 15);
+        store.remove(0);
+        store.remove(0);
+        addTransactions(store, 16, 17);
+        assertEquals(16, store.getCapacity());
+        return store;
+    }
+
+    @Test
+    void constructor_largeListSize_startsAtMinimumCapacity() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore(2000);
+        assertEquals(16, store.getCapacity());
+    }
+
+    @Test
+    void add_storeFull_doublesCapacityUpToListSize() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore(40);
+        addTransactions(store, 0, 16);
+        assertEquals(32, store.getCapacity());
+        addTransactions(store, 17, 32);
+        assertEquals(40, store.getCapacity());
+        addTransactions(store, 33, 39);
+        assertEquals(40, store.getCapacity());
+    }
+
+    @Test
+    void add_growWhileWrapped_keepsRowsInOrder() {
+        ColumnarTransactionStore store = createWrappedStore();
+        addTransactions(store, 18, 18);
+        assertEquals(32, store.getCapacity());
+        List<Long> expected = new ArrayList<>();
+        for (long number = 2; number <= 18; number++) {
+            expected.add(number);
+        }
+        assertEquals(expected, getSequences(store));
+    }
+
+    @Test
+    void remove_frontHalfOfWrappedStore_shiftsFrontRows() {
+        ColumnarTransactionStore store = createWrappedStore();
+        assertEquals("item 4", store.remove(2).getDescription());
+        assertEquals(List.of(2L, 3L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L),
+                getSequences(store));
+    }
+
+    @Test
+    void remove_backHalfOfWrappedStore_shiftsWrappedRows() {
+        ColumnarTransactionStore store = createWrappedStore();
+        assertEquals("item 15", store.remove(13).getDescription());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 16L, 17L),
+                getSequences(store));
+        addTransactions(store, 18, 18);
+        assertEquals(17, store.getSequence(14));
+        assertEquals(18, store.getSequence(15));
+    }
+
+    @Test
+    void removeRows_rowsOnBothSidesOfWrap_removesOnlyThoseRows() {
+        ColumnarTransactionStore store = createWrappedStore();
+        store.removeRows(new int[]{0, 5, 14, 15});
+        assertEquals(List.of(3L, 4L, 5L, 6L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L), getSequences(store));
+    }
+
+    @Test
+    void indexOfSequence_wrappedStore_findsPositionOrInsertionPoint() {
+        ColumnarTransactionStore store = createWrappedStore();
+        store.remove(5);
+        assertEquals(0, store.indexOfSequence(2));
+        assertEquals(4, store.indexOfSequence(6));
+        assertEquals(14, store.indexOfSequence(17));
+        assertEquals(-6, store.indexOfSequence(7));
+        assertEquals(-1, store.indexOfSequence(1));
+        assertEquals(-16, store.indexOfSequence(18));
+    }
+
+    @Test
+    void remove_lastTransactionWithDescription_dropsSharedDescription() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore(2000);
+        store.add(new Expenditure("lunch", 1, DATE, "food"), 0);
+        store.add(new Expenditure("lunch", 2, DATE, "food"), 1);
+        store.add(new Expenditure("bus", 3, DATE, "transport"), 2);
+        assertEquals(2, store.getSharedDescriptionCount());
+        store.remove(0);
+        assertEquals(2, store.getSharedDescriptionCount());
+        store.set(0, new Expenditure("dinner", 2, DATE, "food"));
+        assertEquals(2, store.getSharedDescriptionCount());
+        store.removeRows(new int[]{0, 1});
+        assertEquals(0, store.getSharedDescriptionCount());
+    }
+
+    @Test
+    void isCardBill_cardBillRows_matchesOnlySameCardAndMonth() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore(2000);
+        UUID cardId = UUID.randomUUID();
+        YearMonth billDate = YearMonth.of(2019, 10);
+        store.add(new Expenditure("lunch", 1, DATE, "food"), 0);
+        store.add(new Expenditure("bill", 2, DATE, cardId, billDate), 1);
+        store.add(new Expenditure("bill", 3, DATE, UUID.randomUUID(), billDate), 2);
+        assertFalse(store.isCardBill(0, cardId, billDate));
+        assertTrue(store.isCardBill(1, cardId, billDate));
+        assertFalse(store.isCardBill(1, cardId, YearMonth.of(2019, 9)));
+        assertFalse(store.isCardBill(2, cardId, billDate));
+        assertEquals(200, store.getAmountCents(1));
+        store.removeRow(0);
+        assertTrue(store.isCardBill(0, cardId, billDate));
+        assertEquals(List.of(1L, 2L), List.of(store.getSequence(0), store.getSequence(1)));
+    }
+}
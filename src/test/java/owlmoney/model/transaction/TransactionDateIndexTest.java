@@ -0,0 +1,38 @@
+package owlmoney.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionDateIndexTest {
+    private final TransactionDateIndex index = new TransactionDateIndex();
+
+    @Test
+    void findSequences_transactionsAddedOutOfDateOrder_matchesInSequenceOrder() {
+        index.add(0, 20);
+        index.add(1, 10);
+        index.add(2, 15);
+        index.add(3, 10);
+        index.add(4, 30);
+        assertArrayEquals(new long[]{1, 2, 3}, index.findSequences(10, 15));
+        assertArrayEquals(new long[]{0, 1, 2, 3, 4}, index.findSequences(0, 100));
+        assertArrayEquals(new long[]{}, index.findSequences(21, 29));
+        assertArrayEquals(new long[]{}, index.findSequences(30, 20));
+    }
+
+    @Test
+    void removeAndUpdate_indexedTransactions_movedOutOfOldDate() {
+        for (long sequence = 0; sequence < 40; sequence++) {
+            index.add(sequence, sequence % 4);
+        }
+        index.remove(5, 1);
+        index.update(9, 1, 3);
+        index.remove(9, 1);
+        assertEquals(39, index.size());
+        assertArrayEquals(new long[]{1, 13, 17, 21, 25, 29, 33, 37}, index.findSequences(1, 1));
+        assertArrayEquals(new long[]{3, 7, 9, 11}, Arrays.copyOf(index.findSequences(3, 3), 4));
+    }
+}
@@ -3,16 +3,29 @@ package owlmoney.model.transaction;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import owlmoney.model.transaction.exception.TransactionException;
+import owlmoney.storage.FileSplice;
+import owlmoney.storage.Storage;
+import owlmoney.storage.StorageJournal;
 import owlmoney.ui.Ui;
 
 class TransactionListTest {
@@ -837,4 +850,162 @@ class TransactionListTest {
         assertEquals(expectedOutput, thrown.toString());
     }
 
+    @Test
+    void getMonthAmountSpent_expenditureDateEdited_amountMovedToNewMonth() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        testList.addExpenditureToList(new Expenditure("test", 1, new Date("10/26/2019"), "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 2, new Date("10/31/2019"), "test"), testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("test", 4, new Date("11/01/2019"), "test"), testUi, "bank");
+        try {
+            testList.editExpenditure(1, null, null, "05/11/2019", null, testUi);
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(2, testList.getMonthAmountSpent(10, 2019));
+        assertEquals(5, testList.getMonthAmountSpent(11, 2019));
+        assertEquals(0, testList.getMonthAmountSpent(12, 2019));
+    }
+
+    @Test
+    void findMatchingTransaction_descriptionEdited_matchesNewDescriptionOnly() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        Ui uiTest = new Ui();
+        TransactionList transactionListTemp = new TransactionList();
+        try {
+            Transaction expenditureTest = new Expenditure("Chicken Rice", 15,
+                    (temp.parse("10/6/2019")), "Food");
+            transactionListTemp.addExpenditureToList(expenditureTest, uiTest, "saving");
+            transactionListTemp.editExpenditure(1, "Bubble Tea", "", "", "", uiTest);
+        } catch (ParseException | TransactionException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+
+        try {
+            outContent.reset();
+            transactionListTemp.findMatchingTransaction("",
+                    "", "chicken", "", uiTest);
+            String expectedOutput = "No matches for the description keyword: chicken" + NEWLINE;
+            assertEquals(expectedOutput, outContent.toString());
+            outContent.reset();
+            transactionListTemp.findMatchingTransaction("",
+                    "", "ble t", "", uiTest);
+            assertEquals(true, outContent.toString().contains("Bubble Tea"));
+        } catch (TransactionException error) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+    }
+
+    @Test
+    void searchMatchingTransaction_descriptionAndCategory_matchesGroupedByKeyword() {
+        TransactionList testList = new TransactionList();
+        Ui testUi = new Ui();
+        testList.addExpenditureToList(new Expenditure("Chicken Rice", 5, new Date("10/26/2019"), "Food"),
+                testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("Bubble Tea", 3, new Date("10/27/2019"), "Drinks"),
+                testUi, "bank");
+        testList.addExpenditureToList(new Expenditure("Fried Rice", 6, new Date("10/28/2019"), "Food"),
+                testUi, "bank");
+        TransactionSearchResult result = null;
+        try {
+            result = testList.searchMatchingTransaction("test", "", "", "rice", "drink");
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(List.of(1, 3), result.getNumbers(TransactionSearchResult.FIND_DESCRIPTION));
+        assertEquals(List.of(2), result.getNumbers(TransactionSearchResult.FIND_CATEGORY));
+        assertEquals(List.of(), result.getNumbers(TransactionSearchResult.FIND_DATE));
+    }
+
+    @Test
+    void deleteExpenditureFromList_afterEviction_keepsOneBasedOrder() {
+        TransactionList testList = new TransactionList();
+        for (int i = 0; i < 2005; i++) {
+            Transaction testExpenditure = new Expenditure("test" + i, i, new Date(), "test");
+            testList.addExpenditureToList(testExpenditure, "bank");
+        }
+        double deletedAmount = -1;
+        try {
+            deletedAmount = testList.deleteExpenditureFromList(1500);
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(1504, deletedAmount);
+        assertEquals(1999, testList.getSize());
+        assertEquals("test5", testList.get(0).getDescription());
+        assertEquals("test1503", testList.get(1498).getDescription());
+        assertEquals("test1505", testList.get(1499).getDescription());
+        assertEquals("test2004", testList.get(1998).getDescription());
+    }
+
+    @Test
+    void moveExpendituresByYearMonth_mixedMonths_movesMatchingInOrder() {
+        TransactionList unpaidList = new TransactionList();
+        TransactionList paidList = new TransactionList();
+        for (int i = 0; i < 300; i++) {
+            String date = (i % 3 == 0) ? "09/15/2019" : "10/15/2019";
+            unpaidList.addExpenditureToList(new Expenditure("test" + i, i + 1, new Date(date), "test"), "card");
+        }
+        paidList.addExpenditureToList(new Expenditure("paid", 1, new Date("08/15/2019"), "test"), "card");
+        int movedCount = -1;
+        try {
+            movedCount = unpaidList.moveExpendituresByYearMonth(YearMonth.of(2019, 9), paidList);
+        } catch (TransactionException errorMessage) {
+            System.out.println("Expected no throw, but error thrown");
+        }
+        assertEquals(100, movedCount);
+        assertEquals(200, unpaidList.getSize());
+        assertEquals(101, paidList.getSize());
+        assertEquals("test1", unpaidList.get(0).getDescription());
+        assertEquals("test299", unpaidList.get(199).getDescription());
+        assertEquals("paid", paidList.get(0).getDescription());
+        assertEquals("test0", paidList.get(1).getDescription());
+        assertEquals("test297", paidList.get(100).getDescription());
+        assertEquals(0.0, unpaidList.getMonthAmountSpent(9, 2019));
+        assertEquals(14950.0, paidList.getMonthAmountSpent(9, 2019));
+    }
+
+    @Test
+    void getExportChanges_changesJournaled_fileMatchesFullExport() throws IOException, TransactionException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        StorageJournal journal = StorageJournal.open(directory + "/");
+        Storage storage = new Storage(directory + "/");
+        TransactionList testList = new TransactionList();
+        Function<Transaction, String[]> rowExporter = transaction -> new String[]{transaction.getDescription(),
+            transaction.getMoney().toCompactString()};
+        Supplier<ArrayList<String[]>> fullExport = () -> {
+            ArrayList<String[]> rows = new ArrayList<>();
+            rows.add(new String[]{"description", "amount"});
+            for (int i = 0; i < testList.getSize(); i++) {
+                rows.add(rowExporter.apply(testList.get(i)));
+            }
+            return rows;
+        };
+        for (int i = 0; i < 1998; i++) {
+            testList.addExpenditureToList(new Expenditure("test" + i, i + 1, new Date("10/15/2019"), "test"), "card");
+        }
+        assertNull(testList.getExportChanges("0_list.csv", rowExporter));
+        storage.writeFile(testList.getExportChanges("0_list.csv", rowExporter), fullExport, "0_list.csv");
+        testList.setExported("0_list.csv");
+
+        for (int i = 1998; i < 2003; i++) {
+            testList.addExpenditureToList(new Expenditure("test" + i, i + 1, new Date("10/15/2019"), "test"), "card");
+        }
+        testList.deleteExpenditureFromList(10);
+        testList.editExpenditure(3, "edited", "7", "", "", new Ui());
+        List<FileSplice> changes = testList.getExportChanges("0_list.csv", rowExporter);
+        assertTrue(changes.size() < 20);
+        storage.writeFile(changes, fullExport, "0_list.csv");
+        testList.setExported("0_list.csv");
+        assertNull(testList.getExportChanges("1_list.csv", rowExporter));
+        journal.close();
+
+        List<String> expectedLines = new ArrayList<>();
+        for (String[] row : fullExport.get()) {
+            expectedLines.add(String.join(",", row));
+        }
+        assertEquals(expectedLines, Files.readAllLines(directory.resolve("0_list.csv")));
+        assertEquals("edited", testList.get(2).getDescription());
+    }
 }
@@ -0,0 +1,61 @@
+package owlmoney.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionTextIndexTest {
+    private final List<Long> sequences = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final TransactionTextIndex index = new TransactionTextIndex(sequences::size, sequences::get, texts::get);
+
+    private void add(long sequence, String text) {
+        sequences.add(sequence);
+        texts.add(text);
+        index.add(sequence, text);
+    }
+
+    private void remove(int position) {
+        index.remove(sequences.get(position), texts.get(position));
+        sequences.remove(position);
+        texts.remove(position);
+    }
+
+    private void update(int position, String text) {
+        index.update(sequences.get(position), texts.get(position), text);
+        texts.set(position, text);
+    }
+
+    @Test
+    void findSequences_keywordInText_matchesIgnoringCaseInOrder() {
+        add(0, "Chicken rice");
+        add(1, "Bus fare");
+        add(2, "fried RICE");
+        assertEquals(List.of(0L, 2L), index.findSequences("rice"));
+        assertEquals(List.of(1L), index.findSequences("us"));
+        assertEquals(List.of(), index.findSequences("noodles"));
+    }
+
+    @Test
+    void findSequences_changedAfterFirstSearch_matchesCurrentText() {
+        add(0, "Chicken rice");
+        add(1, "Bus fare");
+        assertEquals(List.of(0L), index.findSequences("rice"));
+        add(2, "Rice cooker");
+        update(1, "Riced cauliflower");
+        remove(0);
+        assertEquals(List.of(1L, 2L), index.findSequences("rice"));
+        assertEquals(List.of(), index.findSequences("bus"));
+    }
+
+    @Test
+    void findSequences_keywordRepeatsGram_checksWholeKeyword() {
+        add(0, "aaab");
+        add(1, "ab aaa");
+        assertEquals(List.of(0L), index.findSequences("aaab"));
+        assertEquals(List.of(0L, 1L), index.findSequences("aaa"));
+    }
+}
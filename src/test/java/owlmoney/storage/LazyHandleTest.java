@@ -0,0 +1,41 @@
+package owlmoney.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import owlmoney.storage.exception.LoadException;
+
+class LazyHandleTest {
+    @Test
+    void get_loaderUsesHandle_loadsOnce() {
+        List<String> data = new ArrayList<>();
+        LazyHandle<List<String>> handle = new LazyHandle<>(data);
+        handle.setLoader(() -> handle.get().add("loaded"));
+        assertFalse(handle.isLoaded());
+        assertEquals(List.of("loaded"), handle.get());
+        assertEquals(List.of("loaded"), handle.get());
+        assertTrue(handle.isLoaded());
+    }
+
+    @Test
+    void get_loaderFailedPartway_failureThrownOnEveryAccessAndNotSaved() {
+        List<String> data = new ArrayList<>();
+        LazyHandle<List<String>> handle = new LazyHandle<>(data);
+        handle.setLoader(() -> {
+            data.add("first");
+            throw new LoadException("Error importing transactions for test.");
+        });
+        assertThrows(LoadException.class, handle::get);
+        assertThrows(LoadException.class, handle::get);
+        assertThrows(IOException.class, handle::getToSave);
+        assertFalse(handle.isLoaded());
+    }
+}
@@ -0,0 +1,106 @@
+package owlmoney.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StorageJournalTest {
+    private static List<String[]> createRows(String... values) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Header"});
+        for (String value : values) {
+            rows.add(new String[]{value});
+        }
+        return rows;
+    }
+
+    private static Path copyFiles(Path directory) throws IOException {
+        Path copy = Files.createTempDirectory("owlmoney");
+        for (Path file : Files.newDirectoryStream(directory)) {
+            if (Files.isRegularFile(file)) {
+                Files.copy(file, copy.resolve(file.getFileName()));
+            }
+        }
+        return copy;
+    }
+
+    @Test
+    void open_oldAndCurrentJournalsLeft_replaysBothInOrder() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("journal.old"), List.of("S,0_transactionList.csv,0,0,2", "Header", "first"));
+        Files.write(directory.resolve("journal.log"), List.of("S,0_transactionList.csv,2,0,1", "second"));
+        StorageJournal.open(directory + "/").close();
+        assertEquals(List.of("Header", "first", "second"),
+                Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("journal.old")));
+        assertEquals(List.of(), Files.readAllLines(directory.resolve("journal.log")));
+    }
+
+    @Test
+    void open_finalRecordCutShort_ignoresFinalRecord() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("journal.log"), List.of("S,0_transactionList.csv,0,0,2", "Header", "first",
+                "S,0_transactionList.csv,2,0,2", "second"));
+        StorageJournal.open(directory + "/").close();
+        assertEquals(List.of("Header", "first"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+    }
+
+    @Test
+    void open_commitLeftByPreviousSession_finishesCommitWithoutReplayingOldJournal() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("0_transactionList.csv"), List.of("Header", "old"));
+        Files.write(directory.resolve("0_transactionList.csv.tmp"), List.of("Header", "compacted"));
+        Files.write(directory.resolve("journal.old"), List.of("S,0_transactionList.csv,1,1,1", "stale"));
+        Files.write(directory.resolve("journal.commit"), List.of("S,0_transactionList.csv", "J,journal.old"));
+        StorageJournal.open(directory + "/").close();
+        assertEquals(List.of("Header", "compacted"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("journal.old")));
+        assertFalse(Files.exists(directory.resolve("journal.commit")));
+    }
+
+    @Test
+    void open_commitNotMovedIntoPlace_replaysOldJournalInstead() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("0_transactionList.csv"), List.of("Header", "old"));
+        Files.write(directory.resolve("0_transactionList.csv.tmp"), List.of("Header"));
+        Files.write(directory.resolve("journal.old"), List.of("S,0_transactionList.csv,1,1,1", "new"));
+        Files.write(directory.resolve("journal.commit.tmp"), List.of("S,0_transactionList.csv"));
+        StorageJournal.open(directory + "/").close();
+        assertEquals(List.of("Header", "new"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("journal.commit.tmp")));
+    }
+
+    @Test
+    void flush_compactionFailedTwice_oldJournalKeptUntilCompacted() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Path blockedSnapshot = Files.createDirectory(directory.resolve("0_transactionList.csv.tmp"));
+        StorageJournal journal = StorageJournal.open(directory + "/");
+        journal.recordWrite("0_transactionList.csv", createRows("first"));
+        assertThrows(IOException.class, journal::flush);
+        assertTrue(Files.exists(directory.resolve("journal.old")));
+
+        journal.recordWrite("1_transactionList.csv", createRows("second"));
+        assertThrows(IOException.class, journal::flush);
+        Path recovered = copyFiles(directory);
+        StorageJournal.open(recovered + "/").close();
+        assertEquals(List.of("Header", "first"), Files.readAllLines(recovered.resolve("0_transactionList.csv")));
+        assertEquals(List.of("Header", "second"), Files.readAllLines(recovered.resolve("1_transactionList.csv")));
+
+        Files.delete(blockedSnapshot);
+        journal.recordWrite("1_transactionList.csv", createRows("second", "third"));
+        journal.close();
+        assertEquals(List.of("Header", "first"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertEquals(List.of("Header", "second", "third"),
+                Files.readAllLines(directory.resolve("1_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("journal.old")));
+    }
+}
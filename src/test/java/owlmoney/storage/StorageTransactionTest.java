@@ -0,0 +1,64 @@
+package owlmoney.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StorageTransactionTest {
+    private static ArrayList<String[]> createRows(String value) {
+        ArrayList<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Header"});
+        rows.add(new String[]{value});
+        return rows;
+    }
+
+    @Test
+    void commit_twoFilesWritten_bothPublishedWithGeneration() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Storage storage = new Storage(directory + "/");
+        StorageTransaction transaction = storage.beginTransaction();
+        storage.writeFile(createRows("sender"), "0_transactionList.csv");
+        storage.writeFile(createRows("receiver"), "1_transactionList.csv");
+        assertTrue(storage.isFileExist("0_transactionList.csv"));
+        assertFalse(Files.exists(directory.resolve("0_transactionList.csv")));
+        transaction.commit();
+        assertEquals(List.of("Header", "sender"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertEquals(List.of("Header", "receiver"), Files.readAllLines(directory.resolve("1_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("commit.manifest")));
+        assertEquals(List.of("1"), Files.readAllLines(directory.resolve("commit.generation")));
+    }
+
+    @Test
+    void newStorage_manifestLeftByPreviousSession_finishesCommit() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("0_transactionList.csv"), List.of("Header", "old"));
+        Files.write(directory.resolve("0_transactionList.csv.tmp"), List.of("Header", "new"));
+        Files.write(directory.resolve("1_transactionList.csv"), List.of("Header", "deleted"));
+        Files.write(directory.resolve("commit.manifest"), List.of("G,7", "W,0_transactionList.csv",
+                "D,1_transactionList.csv"));
+        new Storage(directory + "/");
+        assertEquals(List.of("Header", "new"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("1_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("commit.manifest")));
+        assertEquals(List.of("7"), Files.readAllLines(directory.resolve("commit.generation")));
+    }
+
+    @Test
+    void newStorage_manifestNotMovedIntoPlace_discardsCommit() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        Files.write(directory.resolve("0_transactionList.csv"), List.of("Header", "old"));
+        Files.write(directory.resolve("0_transactionList.csv.tmp"), List.of("Header", "new"));
+        Files.write(directory.resolve("commit.manifest.tmp"), List.of("G,1", "W,0_transactionList.csv"));
+        new Storage(directory + "/");
+        assertEquals(List.of("Header", "old"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertFalse(Files.exists(directory.resolve("commit.manifest.tmp")));
+    }
+}
@@ -0,0 +1,86 @@
+package owlmoney.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StorageWriterTest {
+    private static ArrayList<String[]> createRows(String value) {
+        ArrayList<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Header"});
+        rows.add(new String[]{value});
+        return rows;
+    }
+
+    @Test
+    void writeFile_repeatedWithinCoalescingWindow_writtenOnceWithLatestContent() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        String path = directory + "/";
+        Storage storage = new Storage(path);
+        StorageWriter writer = StorageWriter.open(path);
+        try {
+            // Holding the writer keeps its background thread from writing before every write is recorded.
+            synchronized (writer) {
+                for (int i = 0; i < 3; i++) {
+                    storage.writeFile(createRows("sender " + i), "0_transactionList.csv");
+                    storage.writeFile(createRows("receiver " + i), "1_transactionList.csv");
+                }
+                assertFalse(Files.exists(directory.resolve("0_transactionList.csv")));
+            }
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+        assertEquals(List.of("Header", "sender 2"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertEquals(List.of("Header", "receiver 2"),
+                Files.readAllLines(directory.resolve("1_transactionList.csv")));
+        assertEquals(List.of("1"), Files.readAllLines(directory.resolve("commit.generation")));
+    }
+
+    @Test
+    void flush_pendingWritesAndDeletion_allPersisted() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        String path = directory + "/";
+        Files.write(directory.resolve("2_transactionList.csv"), List.of("Header", "deleted"));
+        Storage storage = new Storage(path);
+        StorageWriter writer = StorageWriter.open(path);
+        try {
+            storage.writeFile(createRows("sender"), "0_transactionList.csv");
+            storage.writeFile(createRows("receiver"), "1_transactionList.csv");
+            storage.deleteFile("2_transactionList.csv");
+            assertFalse(storage.isFileExist("2_transactionList.csv"));
+            writer.flush();
+            assertEquals(List.of("Header", "sender"),
+                    Files.readAllLines(directory.resolve("0_transactionList.csv")));
+            assertEquals(List.of("Header", "receiver"),
+                    Files.readAllLines(directory.resolve("1_transactionList.csv")));
+            assertFalse(Files.exists(directory.resolve("2_transactionList.csv")));
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void close_pendingWrites_persistedAndLaterWritesMadeDirectly() throws IOException {
+        Path directory = Files.createTempDirectory("owlmoney");
+        String path = directory + "/";
+        Storage storage = new Storage(path);
+        StorageWriter writer = StorageWriter.open(path);
+        storage.writeFile(createRows("sender"), "0_transactionList.csv");
+        storage.writeFile(createRows("receiver"), "1_transactionList.csv");
+        writer.close();
+        assertEquals(List.of("Header", "sender"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+        assertEquals(List.of("Header", "receiver"), Files.readAllLines(directory.resolve("1_transactionList.csv")));
+        assertNull(StorageWriter.getOpenWriter(path));
+        storage.writeFile(createRows("later"), "0_transactionList.csv");
+        assertEquals(List.of("Header", "later"), Files.readAllLines(directory.resolve("0_transactionList.csv")));
+    }
+}
@@ -0,0 +1,62 @@
+package owlmoney.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import owlmoney.model.money.Money;
+
+class ResultRendererTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void renderRow_jsonLines_numbersUnquotedAndStringsEscaped() {
+        StringBuilder buffer = new StringBuilder();
+        new JsonLinesRenderer().renderRow(buffer, ResultTable.ACHIEVEMENT, 1, "say \"hi\"\\",
+                Money.ofCents(1000), null);
+        assertEquals("{\"table\":\"achievement\",\"number\":1,\"name\":\"say \\\"hi\\\"\\\\\","
+                + "\"amount\":10.00,\"date\":null}" + NEWLINE, buffer.toString());
+    }
+
+    @Test
+    void renderMessage_jsonLines_lineBreaksEscaped() {
+        StringBuilder buffer = new StringBuilder();
+        new JsonLinesRenderer().renderMessage(buffer, "first\nsecond");
+        assertEquals("{\"message\":\"first\\nsecond\"}" + NEWLINE, buffer.toString());
+    }
+
+    @Test
+    void renderRow_csv_fieldsWithSeparatorsQuoted() {
+        StringBuilder buffer = new StringBuilder();
+        CsvRenderer renderer = new CsvRenderer();
+        renderer.renderHeader(buffer, ResultTable.ACHIEVEMENT, "Item No.", "Achievement Name", "Amount saved",
+                "Date set to achieve");
+        renderer.renderRow(buffer, ResultTable.ACHIEVEMENT, 1, "car, \"new\"", Money.ofCents(1000),
+                LocalDate.of(2019, 10, 1));
+        renderer.renderDivider(buffer, "-----");
+        assertEquals("table,number,name,amount,date" + NEWLINE
+                + "achievement,1,\"car, \"\"new\"\"\",10.00,2019-10-01" + NEWLINE, buffer.toString());
+    }
+
+    @Test
+    void printTransaction_eachFormat_onlyTableDecoratesRawValues() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(outContent));
+        String[] formats = {Ui.JSON_FORMAT, Ui.CSV_FORMAT, Ui.TABLE_FORMAT};
+        for (String format : formats) {
+            ui.setOutputFormat(format);
+            ui.printTransaction(1, "lunch", Money.ofCents(1050), true, LocalDate.of(2019, 10, 1), "food");
+        }
+        String output = outContent.toString();
+        assertTrue(output.startsWith("{\"table\":\"transaction\",\"number\":1,\"description\":\"lunch\","
+                + "\"amount\":10.50,\"spent\":true,\"date\":\"2019-10-01\",\"category\":\"food\"}" + NEWLINE
+                + "transaction,1,lunch,10.50,true,2019-10-01,food" + NEWLINE));
+        assertTrue(output.contains("[-] $10.50"));
+        assertTrue(output.contains("01 October 2019"));
+    }
+}
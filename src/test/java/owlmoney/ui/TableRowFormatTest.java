@@ -0,0 +1,24 @@
+package owlmoney.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TableRowFormatTest {
+    private static final String BOND_FORMAT = "%-20s %-30s %-15s %-10s %-20s %-10s %n";
+
+    @Test
+    void appendRow_variousValues_matchesPrintfFormat() {
+        TableRowFormat bondRow = new TableRowFormat(20, 30, 15, 10, 20, 10);
+        Object[][] rows = {
+            {1, "Bond", "$1000.00", "1.5%", "01 October 2019", 3},
+            {"Item No.", "Bond Name", "Amount", "Rate", "Date of Purchase", "Number of Years"},
+            {2000, "a name that is much longer than thirty characters", "", null, "", -1},
+        };
+        for (Object[] row : rows) {
+            StringBuilder buffer = new StringBuilder();
+            bondRow.appendRow(buffer, row);
+            assertEquals(String.format(BOND_FORMAT, row), buffer.toString());
+        }
+    }
+}
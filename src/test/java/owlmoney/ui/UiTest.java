@@ -0,0 +1,31 @@
+package owlmoney.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.Test;
+
+class UiTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    void createSeparateBuffer_flushedDuringCommand_commandOutputNotFlushedEarly() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        Ui commandUi = new Ui(new PrintStream(outContent));
+        commandUi.setOutputFormat(Ui.JSON_FORMAT);
+        commandUi.startBuffering();
+        Ui updateUi = commandUi.createSeparateBuffer();
+
+        commandUi.printMessage("command started");
+        updateUi.printMessage("update");
+        assertEquals("", outContent.toString());
+        updateUi.flush();
+        assertEquals("{\"message\":\"update\"}" + NEWLINE, outContent.toString());
+        commandUi.printMessage("command finished");
+        commandUi.flush();
+        assertEquals("{\"message\":\"update\"}" + NEWLINE + "{\"message\":\"command started\"}" + NEWLINE
+                + "{\"message\":\"command finished\"}" + NEWLINE, outContent.toString());
+    }
+}